@@ -2,6 +2,7 @@ dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
     implementation(project(":modules:redis"))
+    implementation(project(":modules:kafka"))
     implementation(project(":supports:jackson"))
     implementation(project(":supports:logging"))
     implementation(project(":supports:monitoring"))
@@ -30,3 +31,9 @@ dependencies {
     // wiremock
     testImplementation("org.springframework.cloud:spring-cloud-contract-wiremock")
 }
+
+// benchmarks 모듈이 도메인 클래스를 참조할 수 있도록 bootJar와 별개로 plain jar를 만든다.
+tasks.named<Jar>("jar") {
+    enabled = true
+    archiveClassifier = "plain"
+}
@@ -1,8 +1,12 @@
 package com.loopers.application.coupon;
 
+import com.loopers.config.monitoring.LockWaitTimed;
+import com.loopers.domain.coupon.CouponIssueAdmission;
 import com.loopers.domain.coupon.CouponIssueModel;
+import com.loopers.domain.coupon.CouponIssueQueue;
 import com.loopers.domain.coupon.CouponIssueRepository;
 import com.loopers.domain.coupon.CouponModel;
+import com.loopers.domain.coupon.CouponSnapshot;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -19,12 +23,16 @@ import java.util.List;
 public class CouponIssueService {
 
     private final CouponIssueRepository couponIssueRepository;
+    private final CouponIssueQueue couponIssueQueue;
 
     @Transactional
     public CouponIssueModel issue(CouponModel coupon, Long userId) {
         if (coupon.isExpired()) {
             throw new CoreException(ErrorType.BAD_REQUEST, "만료된 쿠폰은 발급할 수 없습니다.");
         }
+        if (coupon.isFirstCome()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "선착순 쿠폰은 발급 요청으로만 받을 수 있습니다.");
+        }
 
         couponIssueRepository.findByUserIdAndCouponId(userId, coupon.getId())
             .ifPresent(existing -> {
@@ -39,12 +47,32 @@ public class CouponIssueService {
         }
     }
 
+    /**
+     * 선착순 쿠폰 발급 요청. 캐시된 쿠폰 스냅샷과 Redis 대기열만으로 수량/중복을 판정하고 DB는 거치지 않는다.
+     * 접수된 건은 CouponIssueWriter가 묶어서 저장하므로, 발급 내역 조회에는 잠시 뒤에 나타난다.
+     */
+    public CouponIssueAdmission requestIssue(CouponSnapshot coupon, Long userId) {
+        if (!coupon.isFirstCome()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "선착순 쿠폰이 아닙니다.");
+        }
+        if (coupon.isExpired()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "만료된 쿠폰은 발급할 수 없습니다.");
+        }
+        return couponIssueQueue.admit(coupon, userId);
+    }
+
+    @Transactional
+    public int saveAllIgnoringDuplicates(List<CouponIssueModel> couponIssues) {
+        return couponIssueRepository.saveAllIgnoringDuplicates(couponIssues);
+    }
+
     @Transactional(readOnly = true)
     public CouponIssueModel getCouponIssue(Long couponIssueId) {
         return couponIssueRepository.findById(couponIssueId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "발급된 쿠폰을 찾을 수 없습니다."));
     }
 
+    @LockWaitTimed("coupon_issue")
     public CouponIssueModel getCouponIssueForUpdate(Long couponIssueId) {
         return couponIssueRepository.findByIdForUpdate(couponIssueId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "발급된 쿠폰을 찾을 수 없습니다."));
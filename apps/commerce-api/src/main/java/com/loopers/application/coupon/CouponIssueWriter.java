@@ -0,0 +1,114 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponIssueDrain;
+import com.loopers.domain.coupon.CouponIssueModel;
+import com.loopers.domain.coupon.CouponIssueQueue;
+import com.loopers.domain.coupon.CouponIssueRequest;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.support.error.CoreException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class CouponIssueWriter {
+
+    private final CouponIssueQueue couponIssueQueue;
+    private final CouponIssueService couponIssueService;
+    private final CouponService couponService;
+    private final int batchSize;
+
+    public CouponIssueWriter(
+        CouponIssueQueue couponIssueQueue,
+        CouponIssueService couponIssueService,
+        CouponService couponService,
+        @Value("${coupon-issue.batch-size:500}") int batchSize
+    ) {
+        this.couponIssueQueue = couponIssueQueue;
+        this.couponIssueService = couponIssueService;
+        this.couponService = couponService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 접수된 선착순 발급 건을 batchSize 단위로 묶어 coupon_issue에 일괄 저장한다.
+     * 저장에 실패하면 대기열을 그대로 두고 다음 주기에 같은 건부터 다시 저장한다.
+     * 쿠폰을 찾을 수 없는 건(삭제 등)과 해석할 수 없는 항목은 재시도해도 실패하므로 dead letter로 옮겨, 뒤따르는 건의 저장을 막지 않게 한다.
+     *
+     * @return 대기열에서 처리한 건수
+     */
+    @Scheduled(
+        fixedDelayString = "${coupon-issue.write-interval-ms:200}",
+        initialDelayString = "${coupon-issue.write-interval-ms:200}"
+    )
+    public int write() {
+        CouponIssueDrain drain;
+        try {
+            drain = couponIssueQueue.beginDrain(batchSize);
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 대기열 조회 실패 - 다음 주기에 재시도합니다. error: {}", e.getMessage());
+            return 0;
+        }
+        if (drain.isEmpty()) {
+            return 0;
+        }
+
+        List<CouponIssueRequest> requests = drain.requests();
+        List<CouponIssueRequest> deadLetters;
+        try {
+            Map<Long, CouponSnapshot> coupons = findCoupons(requests);
+            deadLetters = requests.stream()
+                .filter(request -> !coupons.containsKey(request.couponId()))
+                .toList();
+            List<CouponIssueModel> issues = requests.stream()
+                .filter(request -> coupons.containsKey(request.couponId()))
+                .map(request -> {
+                    CouponSnapshot coupon = coupons.get(request.couponId());
+                    return new CouponIssueModel(coupon.id(), request.userId(), coupon.expiredAt());
+                })
+                .toList();
+
+            int saved = issues.isEmpty() ? 0 : couponIssueService.saveAllIgnoringDuplicates(issues);
+            if (saved < issues.size()) {
+                log.info("이미 저장된 쿠폰 발급 건을 건너뛰었습니다. 대상: {}건, 저장: {}건", issues.size(), saved);
+            }
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 일괄 저장 실패 - 다음 주기에 재시도합니다. 대상: {}건, error: {}", requests.size(), e.getMessage());
+            couponIssueQueue.abortDrain();
+            return 0;
+        }
+
+        if (!deadLetters.isEmpty()) {
+            log.error("저장할 수 없는 쿠폰 발급 건을 dead letter로 옮깁니다. 대상: {}", deadLetters);
+        }
+        if (!drain.malformed().isEmpty()) {
+            log.error("형식이 맞지 않는 쿠폰 발급 항목을 dead letter로 옮깁니다. 대상: {}", drain.malformed());
+        }
+        if (!couponIssueQueue.completeDrain(drain, deadLetters)) {
+            log.warn("쿠폰 발급 대기열 락을 잃어 처리한 건을 제거하지 않았습니다. 락을 가진 노드가 같은 건을 다시 저장합니다.");
+        }
+        return drain.size();
+    }
+
+    /**
+     * 대상 쿠폰을 한 번씩만 조회한다. 찾을 수 없는 쿠폰(CoreException)은 결과에서 빠지고,
+     * 그 외 예외(DB 장애 등)는 그대로 던져 배치 전체를 다음 주기에 재시도한다.
+     */
+    private Map<Long, CouponSnapshot> findCoupons(List<CouponIssueRequest> requests) {
+        Map<Long, CouponSnapshot> coupons = new HashMap<>();
+        requests.stream().map(CouponIssueRequest::couponId).distinct().forEach(couponId -> {
+            try {
+                coupons.put(couponId, couponService.getCouponSnapshot(couponId));
+            } catch (CoreException e) {
+                log.error("쿠폰을 찾을 수 없어 발급 건을 저장하지 못했습니다. couponId: {}, error: {}", couponId, e.getMessage());
+            }
+        });
+        return coupons;
+    }
+}
@@ -2,6 +2,8 @@ package com.loopers.application.coupon;
 
 import com.loopers.domain.coupon.CouponModel;
 import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.domain.coupon.CouponSnapshotCache;
 import com.loopers.domain.coupon.CouponType;
 import com.loopers.domain.product.Money;
 import com.loopers.support.error.CoreException;
@@ -11,6 +13,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 
@@ -19,10 +23,16 @@ import java.time.LocalDateTime;
 public class CouponService {
 
     private final CouponRepository couponRepository;
+    private final CouponSnapshotCache couponSnapshotCache;
 
     @Transactional
     public CouponModel create(String name, CouponType type, int value, Money minOrderAmount, LocalDateTime expiredAt) {
-        CouponModel coupon = new CouponModel(name, type, value, minOrderAmount, expiredAt);
+        return create(name, type, value, minOrderAmount, expiredAt, null);
+    }
+
+    @Transactional
+    public CouponModel create(String name, CouponType type, int value, Money minOrderAmount, LocalDateTime expiredAt, Integer totalQuantity) {
+        CouponModel coupon = new CouponModel(name, type, value, minOrderAmount, expiredAt, totalQuantity);
         return couponRepository.save(coupon);
     }
 
@@ -32,6 +42,18 @@ public class CouponService {
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "쿠폰을 찾을 수 없습니다."));
     }
 
+    /**
+     * 쿠폰 정의 스냅샷을 캐시에서 읽고, 없으면 DB에서 읽어 채운다. (read-through)
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 걸지 않는다.
+     */
+    public CouponSnapshot getCouponSnapshot(Long couponId) {
+        return couponSnapshotCache.find(couponId).orElseGet(() -> {
+            CouponSnapshot snapshot = CouponSnapshot.from(getCoupon(couponId));
+            couponSnapshotCache.put(snapshot);
+            return snapshot;
+        });
+    }
+
     @Transactional(readOnly = true)
     public Page<CouponModel> getAllCoupons(Pageable pageable) {
         return couponRepository.findAll(pageable);
@@ -40,6 +62,7 @@ public class CouponService {
     @Transactional
     public CouponModel update(Long couponId, String name, CouponType type, int value, Money minOrderAmount, LocalDateTime expiredAt) {
         CouponModel coupon = getCoupon(couponId);
+        invalidateSnapshot(coupon);
         coupon.update(name, type, value, minOrderAmount, expiredAt);
         return coupon;
     }
@@ -47,6 +70,28 @@ public class CouponService {
     @Transactional
     public void delete(Long couponId) {
         CouponModel coupon = getCoupon(couponId);
+        invalidateSnapshot(coupon);
         coupon.delete();
     }
+
+    /**
+     * 변경 전에 스냅샷을 즉시 비우고, 커밋 이후에는 커밋된 버전(flush 시 갱신된 updated_at)을 기록하며 한 번 더 비운다.
+     * 커밋 전에 시작된 조회가 이전 정의로 캐시를 다시 채우는 경우를 막기 위함이다.
+     */
+    private void invalidateSnapshot(CouponModel coupon) {
+        Long couponId = coupon.getId();
+        couponSnapshotCache.invalidate(couponId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        couponSnapshotCache.invalidate(couponId, CouponSnapshot.versionOf(coupon));
+                    } else {
+                        couponSnapshotCache.invalidate(couponId);
+                    }
+                }
+            });
+        }
+    }
 }
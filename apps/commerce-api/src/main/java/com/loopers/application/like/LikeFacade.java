@@ -1,21 +1,24 @@
 package com.loopers.application.like;
 
 import com.loopers.domain.like.LikeModel;
-import com.loopers.domain.product.ProductModel;
-import com.loopers.application.product.ProductService;
+import com.loopers.domain.like.UserLikeSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 @RequiredArgsConstructor
 @Component
 public class LikeFacade {
 
     private final LikeService likeService;
-    private final ProductService productService;
     private final LikeTransactionService likeTransactionService;
+    private final UserLikeSet userLikeSet;
 
     public void like(Long userId, Long productId) {
         likeTransactionService.doLike(userId, productId);
@@ -30,18 +33,42 @@ public class LikeFacade {
         return likeService.getMyLikes(userId, pageable);
     }
 
+    /**
+     * 주어진 상품 중 사용자가 좋아요한 상품 ID. 목록 한 페이지를 Redis 조회 한 번으로 판별한다.
+     * 사용자 집합이 아직 없으면 DB에서 좋아요 상품 ID를 한 번 읽어 집합을 만든다.
+     */
+    public Set<Long> getLikedProductIds(Long userId, Collection<Long> productIds) {
+        if (userId == null || productIds.isEmpty()) {
+            return Set.of();
+        }
+        return userLikeSet.findLiked(userId, productIds).orElseGet(() -> loadLikedProductIds(userId, productIds));
+    }
+
+    /**
+     * 버전을 DB 조회 전에 받아 두므로, 그 사이 좋아요/취소가 반영되면 재생성은 거절되고 다음 조회에서 다시 만든다.
+     * 버전을 확인할 수 없으면 재생성하지 않고 DB 결과만 반환한다.
+     */
+    private Set<Long> loadLikedProductIds(Long userId, Collection<Long> productIds) {
+        Long version;
+        try {
+            version = userLikeSet.version(userId);
+        } catch (RuntimeException e) {
+            version = null;
+        }
+        Set<Long> allLiked = new HashSet<>(likeService.getLikedProductIds(userId));
+        if (version != null) {
+            userLikeSet.rebuild(userId, allLiked, version);
+        }
+        allLiked.retainAll(productIds);
+        return allLiked;
+    }
+
+    /**
+     * 좋아요와 상품을 조인한 프로젝션으로 조회해, 페이지 크기와 무관하게 쿼리 수가 일정하다. (목록 1 + count 1)
+     * 조회 도중 삭제된 상품은 조인 조건에서 빠지므로 예외 없이 목록에서 제외된다.
+     */
     @Transactional(readOnly = true)
     public Page<LikeWithProduct> getMyLikesWithProducts(Long userId, Pageable pageable) {
-        Page<LikeModel> likes = likeService.getMyLikes(userId, pageable);
-        return likes.map(like -> {
-            ProductModel product = productService.getById(like.productId());
-            return new LikeWithProduct(
-                like.getId(),
-                product.getId(),
-                product.getName(),
-                product.getPrice().value(),
-                like.getCreatedAt()
-            );
-        });
+        return likeService.getMyLikedProducts(userId, pageable).map(LikeWithProduct::from);
     }
 }
@@ -2,11 +2,14 @@ package com.loopers.application.like;
 
 import com.loopers.domain.like.LikeModel;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikeUpsertResult;
+import com.loopers.domain.like.LikedProduct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -23,6 +26,10 @@ public class LikeService {
         return likeRepository.findByUserIdAndProductId(userId, productId);
     }
 
+    public LikeUpsertResult activate(Long userId, Long productId) {
+        return likeRepository.upsertActive(userId, productId);
+    }
+
     public Optional<LikeModel> findActiveLike(Long userId, Long productId) {
         return likeRepository.findByUserIdAndProductIdAndDeletedAtIsNull(userId, productId);
     }
@@ -30,4 +37,12 @@ public class LikeService {
     public Page<LikeModel> getMyLikes(Long userId, Pageable pageable) {
         return likeRepository.findActiveLikesWithActiveProduct(userId, pageable);
     }
+
+    public Page<LikedProduct> getMyLikedProducts(Long userId, Pageable pageable) {
+        return likeRepository.findActiveLikedProducts(userId, pageable);
+    }
+
+    public List<Long> getLikedProductIds(Long userId) {
+        return likeRepository.findActiveProductIdsByUserId(userId);
+    }
 }
@@ -1,35 +1,44 @@
 package com.loopers.application.like;
 
-import com.loopers.domain.like.LikeResult;
+import com.loopers.application.outbox.OutboxEventWriter;
+import com.loopers.domain.like.LikeCountChangedEvent;
 import com.loopers.domain.like.LikeModel;
 import com.loopers.domain.like.LikeToggleService;
-import com.loopers.application.product.ProductService;
+import com.loopers.domain.like.LikeUpsertResult;
+import com.loopers.domain.like.ProductLikeEvent;
+import com.loopers.domain.outbox.OutboxTopic;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+/**
+ * 좋아요 row 변경만 트랜잭션 안에서 처리한다.
+ * 상품 좋아요 수는 커밋 이후 이벤트로 write-behind 버퍼에 누적되므로, 인기 상품 row에 락 경합이 생기지 않는다.
+ * 집계용 좋아요 이벤트는 같은 트랜잭션에 outbox로 기록된다.
+ * 좋아요 등록은 기존 row를 읽지 않고 upsert 한 문장으로 처리해, 동시 요청이 유니크 키 충돌로 실패하지 않는다.
+ * 사용자별 좋아요 집합(목록의 liked 표시용)도 같은 커밋 이후 이벤트로 갱신된다. (UserLikeSetEventListener)
+ */
 @RequiredArgsConstructor
 @Component
 public class LikeTransactionService {
 
     private final LikeService likeService;
-    private final ProductService productService;
     private final LikeToggleService likeToggleService;
-    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventWriter outboxEventWriter;
 
     @Transactional
     public void doLike(Long userId, Long productId) {
-        Optional<LikeModel> existing = likeService.findByUserIdAndProductId(userId, productId);
+        LikeUpsertResult result = likeService.activate(userId, productId);
 
-        LikeResult result = likeToggleService.like(existing, userId, productId);
-        result.newLike().ifPresent(likeService::save);
-
-        if (result.countChanged()) {
-            productService.incrementLikeCount(productId);
-            evictProductDetailCache(productId);
+        if (likeToggleService.countChanged(result)) {
+            eventPublisher.publishEvent(LikeCountChangedEvent.liked(userId, productId));
+            outboxEventWriter.append(
+                OutboxTopic.CATALOG_EVENTS, productId, ProductLikeEvent.LIKED, new ProductLikeEvent(productId, userId)
+            );
         }
     }
 
@@ -39,14 +48,9 @@ public class LikeTransactionService {
         if (activeLike.isEmpty()) return;
 
         likeToggleService.unlike(activeLike.get());
-        productService.decrementLikeCount(activeLike.get().productId());
-        evictProductDetailCache(productId);
-    }
-
-    private void evictProductDetailCache(Long productId) {
-        var cache = cacheManager.getCache("productDetail");
-        if (cache != null) {
-            cache.evict(productId);
-        }
+        eventPublisher.publishEvent(LikeCountChangedEvent.unliked(userId, activeLike.get().productId()));
+        outboxEventWriter.append(
+            OutboxTopic.CATALOG_EVENTS, productId, ProductLikeEvent.UNLIKED, new ProductLikeEvent(productId, userId)
+        );
     }
 }
@@ -1,5 +1,7 @@
 package com.loopers.application.like;
 
+import com.loopers.domain.like.LikedProduct;
+
 import java.time.ZonedDateTime;
 
 public record LikeWithProduct(
@@ -8,4 +10,15 @@ public record LikeWithProduct(
     String productName,
     int productPrice,
     ZonedDateTime likedAt
-) {}
+) {
+
+    public static LikeWithProduct from(LikedProduct likedProduct) {
+        return new LikeWithProduct(
+            likedProduct.likeId(),
+            likedProduct.productId(),
+            likedProduct.productName(),
+            likedProduct.productPrice(),
+            likedProduct.likedAt()
+        );
+    }
+}
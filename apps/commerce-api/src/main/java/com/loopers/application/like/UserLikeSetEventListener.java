@@ -0,0 +1,27 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeCountChangedEvent;
+import com.loopers.domain.like.UserLikeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class UserLikeSetEventListener {
+
+    private final UserLikeSet userLikeSet;
+
+    /**
+     * 좋아요 트랜잭션이 커밋된 뒤에만 사용자 좋아요 집합을 갱신한다. 갱신 실패는 다음 TTL 만료 후 재생성 시 DB 기준으로 맞춰진다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeCountChangedEvent event) {
+        if (event.isLiked()) {
+            userLikeSet.add(event.userId(), event.productId());
+        } else {
+            userLikeSet.remove(event.userId(), event.productId());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.loopers.application.member;
 
+import com.loopers.domain.member.AuthenticatedMember;
+import com.loopers.domain.member.MemberAuthCache;
 import com.loopers.domain.member.MemberModel;
 import com.loopers.domain.member.MemberRepository;
 import com.loopers.support.error.CoreException;
@@ -7,23 +9,36 @@ import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 요청 헤더의 자격 증명을 검증한다.
+ * 한 번 검증된 자격 증명은 {@link MemberAuthCache}에 보관해, 캐시가 유효한 동안에는 DB 조회와 BCrypt 비교를 생략한다.
+ * 캐시에는 엔티티가 아닌 불변 스냅샷({@link AuthenticatedMember})을 보관하므로, 요청 간에 영속 상태가 공유되지 않는다.
+ * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 걸지 않는다 (조회는 리포지토리의 읽기 전용 트랜잭션으로 충분하다).
+ */
 @RequiredArgsConstructor
 @Component
 public class MemberAuthService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberAuthCache memberAuthCache;
 
-    @Transactional(readOnly = true)
-    public MemberModel authenticate(String loginId, String password) {
+    public AuthenticatedMember authenticate(String loginId, String password) {
+        return memberAuthCache.find(loginId, password)
+            .orElseGet(() -> verify(loginId, password));
+    }
+
+    private AuthenticatedMember verify(String loginId, String password) {
+        long generation = memberAuthCache.generation();
         MemberModel member = memberRepository.findByLoginId(loginId)
             .orElseThrow(() -> new CoreException(ErrorType.MEMBER_NOT_FOUND));
 
         if (!member.matchesPassword(password, passwordEncoder)) {
             throw new CoreException(ErrorType.AUTHENTICATION_FAILED);
         }
-        return member;
+        AuthenticatedMember authenticated = AuthenticatedMember.from(member);
+        memberAuthCache.put(loginId, password, authenticated, generation);
+        return authenticated;
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.application.member;
 
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.domain.member.MemberModel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -20,15 +21,15 @@ public class MemberFacade {
         return MemberInfo.from(member);
     }
 
-    public MemberModel authenticate(String loginId, String password) {
+    public AuthenticatedMember authenticate(String loginId, String password) {
         return memberAuthService.authenticate(loginId, password);
     }
 
-    public MemberInfo getMyInfo(MemberModel member) {
+    public MemberInfo getMyInfo(AuthenticatedMember member) {
         return MemberInfo.fromWithMaskedName(member);
     }
 
-    public void changePassword(MemberModel member, String currentPassword, String newPassword) {
-        memberPasswordService.changePassword(member, currentPassword, newPassword);
+    public void changePassword(AuthenticatedMember member, String currentPassword, String newPassword) {
+        memberPasswordService.changePassword(member.loginId(), currentPassword, newPassword);
     }
 }
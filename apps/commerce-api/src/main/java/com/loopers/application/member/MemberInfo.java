@@ -1,6 +1,8 @@
 package com.loopers.application.member;
 
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.MemberName;
 
 import java.time.LocalDate;
 
@@ -15,12 +17,12 @@ public record MemberInfo(String loginId, String name, LocalDate birthDate, Strin
         );
     }
 
-    public static MemberInfo fromWithMaskedName(MemberModel model) {
+    public static MemberInfo fromWithMaskedName(AuthenticatedMember member) {
         return new MemberInfo(
-            model.loginId().value(),
-            model.name().masked(),
-            model.birthDate(),
-            model.email() != null ? model.email().value() : null
+            member.loginId(),
+            new MemberName(member.name()).masked(),
+            member.birthDate(),
+            member.email()
         );
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.application.member;
 
+import com.loopers.domain.member.MemberAuthCache;
 import com.loopers.domain.member.MemberModel;
 import com.loopers.domain.member.MemberRepository;
 import com.loopers.domain.member.Password;
@@ -9,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @RequiredArgsConstructor
 @Component
@@ -16,6 +19,17 @@ public class MemberPasswordService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberAuthCache memberAuthCache;
+
+    /**
+     * 인증 스냅샷은 캐시에서 공유되는 값이므로, 변경은 트랜잭션 안에서 다시 조회한 엔티티에 적용한다.
+     */
+    @Transactional
+    public void changePassword(String loginId, String currentPassword, String newRawPassword) {
+        MemberModel member = memberRepository.findByLoginId(loginId)
+            .orElseThrow(() -> new CoreException(ErrorType.MEMBER_NOT_FOUND));
+        changePassword(member, currentPassword, newRawPassword);
+    }
 
     @Transactional
     public void changePassword(MemberModel member, String currentPassword, String newRawPassword) {
@@ -30,7 +44,24 @@ public class MemberPasswordService {
         }
         newPassword.validateAgainst(member.birthDate());
 
+        invalidateAuthCache(member.loginId().value());
         member.changePassword(passwordEncoder.encode(newRawPassword));
         memberRepository.save(member);
     }
+
+    /**
+     * 인증 캐시를 변경하기 전에 즉시 비우고, 커밋 이후에도 한 번 더 비운다.
+     * 커밋 전 다른 요청이 이전 비밀번호로 인증에 성공해 캐시를 다시 채우는 경우를 막기 위함이다.
+     */
+    private void invalidateAuthCache(String loginId) {
+        memberAuthCache.invalidate(loginId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    memberAuthCache.invalidate(loginId);
+                }
+            });
+        }
+    }
 }
@@ -16,6 +16,7 @@ public class MemberSignupService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberAuthCache memberAuthCache;
 
     @Transactional
     public MemberModel signup(String loginId, String rawPassword, String name,
@@ -31,6 +32,9 @@ public class MemberSignupService {
 
         String encodedPassword = passwordEncoder.encode(rawPassword);
         MemberModel member = new MemberModel(loginIdVo, encodedPassword, nameVo, birthDate, emailVo);
-        return memberRepository.save(member);
+        MemberModel saved = memberRepository.save(member);
+        // 같은 loginId로 남아 있을 수 있는 이전 회원의 인증 스냅샷을 비운다.
+        memberAuthCache.invalidate(loginId);
+        return saved;
     }
 }
@@ -0,0 +1,34 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderExportRow;
+import com.loopers.domain.order.OrderItemExportRow;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public record OrderExportInfo(
+    Long orderId,
+    Long userId,
+    String status,
+    int totalAmount,
+    int discountAmount,
+    int finalAmount,
+    ZonedDateTime createdAt,
+    List<ItemInfo> items
+) {
+
+    public record ItemInfo(Long productId, String productName, int productPrice, int quantity) {
+
+        public static ItemInfo from(OrderItemExportRow row) {
+            return new ItemInfo(row.productId(), row.productName(), row.productPrice(), row.quantity());
+        }
+    }
+
+    public static OrderExportInfo of(OrderExportRow order, List<OrderItemExportRow> items) {
+        return new OrderExportInfo(
+            order.orderId(), order.userId(), order.status().name(),
+            order.totalAmount(), order.discountAmount(), order.finalAmount(), order.createdAt(),
+            items.stream().map(ItemInfo::from).toList()
+        );
+    }
+}
@@ -2,15 +2,26 @@ package com.loopers.application.order;
 
 import com.loopers.application.coupon.CouponIssueService;
 import com.loopers.application.coupon.CouponService;
+import com.loopers.application.outbox.OutboxEventWriter;
 import com.loopers.domain.coupon.CouponIssueModel;
-import com.loopers.domain.coupon.CouponModel;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.domain.order.OrderCursor;
+import com.loopers.domain.order.OrderExportRow;
+import com.loopers.domain.order.OrderItemExportRow;
 import com.loopers.domain.order.OrderItemModel;
+import com.loopers.domain.order.OrderItemSummary;
 import com.loopers.domain.order.OrderModel;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.outbox.OutboxTopic;
 import com.loopers.domain.product.Money;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.application.product.ProductService;
+import com.loopers.application.stock.StockReservationService;
 import com.loopers.application.stock.StockService;
 import com.loopers.domain.stock.StockModel;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,30 +31,49 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
 public class OrderFacade {
 
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final OrderService orderService;
     private final ProductService productService;
     private final StockService stockService;
+    private final StockReservationService stockReservationService;
     private final CouponIssueService couponIssueService;
     private final CouponService couponService;
+    private final OutboxEventWriter outboxEventWriter;
 
     @Transactional
     public OrderResult placeOrder(Long userId, List<OrderItemCommand> commands, Long couponIssueId) {
-        // 1. 락 없이: 상품 조회 + 금액 계산 (productId 오름차순 정렬 — 데드락 방지)
+        // 1. 락 없이: 상품 일괄 조회 + 금액 계산 (productId 오름차순 정렬 — 데드락 방지)
         List<OrderItemCommand> sorted = commands.stream()
             .sorted(Comparator.comparing(OrderItemCommand::productId))
             .toList();
+        Map<Long, Integer> quantities = new TreeMap<>();
+        sorted.forEach(cmd -> quantities.merge(cmd.productId(), cmd.quantity(), Integer::sum));
+        List<Long> productIds = List.copyOf(quantities.keySet());
 
+        Map<Long, ProductModel> products = productService.getProductsByIds(productIds);
         Money totalAmount = Money.ZERO;
         List<SnapshotHolder> snapshots = new ArrayList<>();
 
         for (OrderItemCommand cmd : sorted) {
-            ProductModel product = productService.getById(cmd.productId());
+            ProductModel product = products.get(cmd.productId());
+            if (product == null) {
+                throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다. [id = " + cmd.productId() + "]");
+            }
             Money subtotal = product.getPrice().multiply(cmd.quantity());
             totalAmount = totalAmount.add(subtotal);
             snapshots.add(new SnapshotHolder(
@@ -51,28 +81,31 @@ public class OrderFacade {
             ));
         }
 
-        // 2. 비관적 락: 재고 차감 (productId 오름차순 — 데드락 방지)
+        // 2. Redis 재고 예약: 재고가 부족한 주문은 stock row 락을 잡기 전에 거절
+        stockReservationService.reserve(quantities);
+
+        // 3. 비관적 락: 재고 일괄 차감 (단일 FOR UPDATE, productId 오름차순 — 데드락 방지)
+        Map<Long, StockModel> stocks = stockService.getByProductIdsForUpdate(productIds);
         for (OrderItemCommand cmd : sorted) {
-            StockModel stock = stockService.getByProductIdForUpdate(cmd.productId());
-            stock.decrease(cmd.quantity());
+            stocks.get(cmd.productId()).decrease(cmd.quantity());
         }
 
-        // 3. 비관적 락: 쿠폰 검증 + 할인 + 사용 처리 (한 번만 FOR UPDATE로 조회)
+        // 4. 비관적 락: 쿠폰 검증 + 할인 + 사용 처리 (한 번만 FOR UPDATE로 조회, 쿠폰 정의는 캐시된 스냅샷 사용)
         Money discountAmount = Money.ZERO;
         CouponIssueModel couponIssue = null;
         if (couponIssueId != null) {
             couponIssue = couponIssueService.getCouponIssueForUpdate(couponIssueId);
             couponIssue.validateOwner(userId);
-            CouponModel coupon = couponService.getCoupon(couponIssue.couponId());
+            CouponSnapshot coupon = couponService.getCouponSnapshot(couponIssue.couponId());
             coupon.validateUsable(totalAmount);
             discountAmount = coupon.calculateDiscount(totalAmount);
             couponIssue.use(null);
         }
 
-        // 4. 주문 생성
+        // 5. 주문 생성
         OrderModel order = orderService.save(new OrderModel(userId, totalAmount, discountAmount, couponIssueId));
 
-        // 5. 쿠폰에 orderId 연결
+        // 6. 쿠폰에 orderId 연결
         if (couponIssue != null) {
             couponIssue.setOrderId(order.getId());
         }
@@ -85,6 +118,11 @@ public class OrderFacade {
 
         List<OrderItemModel> savedItems = orderService.saveAllItems(items);
 
+        // 7. outbox: 같은 TX에 주문 생성 이벤트 기록 (커밋 후 relay가 Kafka로 발행)
+        outboxEventWriter.append(
+            OutboxTopic.ORDER_EVENTS, order.getId(), OrderPlacedEvent.TYPE, OrderPlacedEvent.of(order, savedItems)
+        );
+
         return OrderResult.of(order, savedItems);
     }
 
@@ -101,6 +139,81 @@ public class OrderFacade {
         return orders.stream().map(OrderInfo::summaryFrom).toList();
     }
 
+    /**
+     * 주문 내역을 keyset(createdAt, id)으로 페이지 조회한다.
+     * 주문은 프로젝션 쿼리 한 번, 주문별 상품 수/첫 상품명은 GROUP BY 쿼리 한 번으로 조회해 페이지당 쿼리 수가 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryPage getOrderHistory(Long userId, String cursorToken, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size는 1~" + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        OrderCursor cursor = (cursorToken != null && !cursorToken.isBlank()) ? OrderCursor.decode(cursorToken) : null;
+
+        List<OrderSummary> fetched = orderService.getOrderSummariesByCursor(userId, cursor, size + 1);
+        boolean hasNext = fetched.size() > size;
+        List<OrderSummary> orders = hasNext ? fetched.subList(0, size) : fetched;
+
+        Map<Long, OrderItemSummary> itemSummaries = orderService.getOrderItemSummaries(
+                orders.stream().map(OrderSummary::orderId).toList()
+            ).stream()
+            .collect(Collectors.toMap(OrderItemSummary::orderId, Function.identity()));
+
+        List<OrderHistoryInfo> content = orders.stream()
+            .map(order -> OrderHistoryInfo.of(order, itemSummaries.get(order.orderId())))
+            .toList();
+        String nextCursor = hasNext ? OrderCursor.of(orders.get(orders.size() - 1)).encode() : null;
+        return new OrderHistoryPage(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 기간 내 주문을 서버 커서로 읽으며 EXPORT_CHUNK_SIZE 건씩 주문 상품을 붙여 chunkWriter에 넘긴다.
+     * 힙에는 한 청크만 머무르므로 전체 건수와 무관하게 메모리 사용량이 일정하다.
+     *
+     * 트랜잭션을 열지 않는다. 커서는 내보내기 전용 풀의 커넥션에서 열리고, 주문 상품은 청크마다 짧은 읽기 트랜잭션으로 조회하므로
+     * 느린 클라이언트가 오래 읽어도 일반 요청용 풀의 커넥션을 붙잡지 않는다.
+     * onStart는 커서를 연 뒤(동시 내보내기 상한 확인 이후) 첫 청크보다 먼저 호출된다. 그 전의 실패는 응답 본문 없이 에러로 끝난다.
+     *
+     * @return 내보낸 주문 수
+     */
+    public long exportOrders(
+        ZonedDateTime startAt,
+        ZonedDateTime endAt,
+        Runnable onStart,
+        Consumer<List<OrderExportInfo>> chunkWriter
+    ) {
+        long exported = 0;
+        List<OrderExportRow> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<OrderExportRow> orders = orderService.streamForExport(startAt, endAt)) {
+            onStart.run();
+            Iterator<OrderExportRow> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exported += writeExportChunk(chunk, chunkWriter);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            exported += writeExportChunk(chunk, chunkWriter);
+        }
+        return exported;
+    }
+
+    private int writeExportChunk(List<OrderExportRow> chunk, Consumer<List<OrderExportInfo>> chunkWriter) {
+        Map<Long, List<OrderItemExportRow>> items = orderService.getOrderItemsForExport(
+                chunk.stream().map(OrderExportRow::orderId).toList()
+            ).stream()
+            .collect(Collectors.groupingBy(OrderItemExportRow::orderId));
+
+        chunkWriter.accept(chunk.stream()
+            .map(order -> OrderExportInfo.of(order, items.getOrDefault(order.orderId(), List.of())))
+            .toList());
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+
     @Transactional(readOnly = true)
     public OrderInfo getOrderForAdmin(Long orderId) {
         OrderModel order = orderService.getOrderForAdmin(orderId);
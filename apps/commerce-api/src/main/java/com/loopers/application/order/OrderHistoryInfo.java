@@ -0,0 +1,28 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderItemSummary;
+import com.loopers.domain.order.OrderSummary;
+
+import java.time.ZonedDateTime;
+
+public record OrderHistoryInfo(
+    Long orderId,
+    String status,
+    int totalAmount,
+    int discountAmount,
+    int finalAmount,
+    long itemCount,
+    String firstItemName,
+    ZonedDateTime createdAt
+) {
+
+    public static OrderHistoryInfo of(OrderSummary order, OrderItemSummary items) {
+        return new OrderHistoryInfo(
+            order.orderId(), order.status().name(),
+            order.totalAmount(), order.discountAmount(), order.finalAmount(),
+            items != null ? items.itemCount() : 0,
+            items != null ? items.firstItemName() : null,
+            order.createdAt()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.application.order;
+
+import java.util.List;
+
+/**
+ * 주문 내역 keyset 페이지네이션 결과. 다음 페이지가 없으면 nextCursor는 null.
+ */
+public record OrderHistoryPage(
+    List<OrderHistoryInfo> content,
+    String nextCursor,
+    boolean hasNext
+) {}
@@ -1,9 +1,14 @@
 package com.loopers.application.order;
 
+import com.loopers.domain.order.OrderCursor;
+import com.loopers.domain.order.OrderExportRow;
+import com.loopers.domain.order.OrderItemExportRow;
 import com.loopers.domain.order.OrderItemModel;
 import com.loopers.domain.order.OrderItemRepository;
+import com.loopers.domain.order.OrderItemSummary;
 import com.loopers.domain.order.OrderModel;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderSummary;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +18,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
@@ -49,6 +56,28 @@ public class OrderService {
         return orderRepository.findAllByUserIdAndCreatedAtBetween(userId, startAt, endAt);
     }
 
+    @Transactional(readOnly = true)
+    public List<OrderSummary> getOrderSummariesByCursor(Long userId, OrderCursor cursor, int limit) {
+        return orderRepository.findSummariesByUserId(userId, cursor, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderItemSummary> getOrderItemSummaries(Collection<Long> orderIds) {
+        return orderItemRepository.summarizeByOrderIds(orderIds);
+    }
+
+    /**
+     * 내보내기 전용 커넥션에서 읽으므로 트랜잭션을 열지 않는다. 호출자가 반드시 close 해야 한다.
+     */
+    public Stream<OrderExportRow> streamForExport(ZonedDateTime startAt, ZonedDateTime endAt) {
+        return orderRepository.streamForExport(startAt, endAt);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderItemExportRow> getOrderItemsForExport(Collection<Long> orderIds) {
+        return orderItemRepository.findExportRowsByOrderIds(orderIds);
+    }
+
     @Transactional(readOnly = true)
     public Page<OrderModel> getAllForAdmin(Pageable pageable) {
         return orderRepository.findAll(pageable);
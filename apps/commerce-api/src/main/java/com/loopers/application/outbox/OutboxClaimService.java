@@ -0,0 +1,65 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * relay의 DB 작업(선점, 발행 완료 표시, 선점 해제)을 각각 짧은 트랜잭션으로 수행한다.
+ * Kafka 발행은 이 트랜잭션들 밖에서 이루어지므로, ack를 기다리는 동안 행 잠금이나 커넥션을 잡지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxClaimService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * 미발행 이벤트를 id 순으로 잠가 선점 기한을 기록하고 바로 커밋한다.
+     * 같은 집계의 앞선 미발행 이벤트가 이번 배치에 없으면(다른 노드가 선점 중이거나 잠금을 건너뛴 경우)
+     * 그 집계의 이벤트는 선점하지 않는다. 앞선 이벤트보다 먼저 발행되는 것을 막기 위함이다.
+     *
+     * @return 선점한 이벤트 (id 순)
+     */
+    @Transactional
+    public List<OutboxEventModel> claim(int limit, String owner, ZonedDateTime now, ZonedDateTime claimedUntil) {
+        List<OutboxEventModel> candidates = outboxEventRepository.findClaimableForUpdate(now, limit);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> blockedIds = new HashSet<>(outboxEventRepository.findBlockedByEarlierEvents(
+            candidates.stream().map(OutboxEventModel::getId).toList()));
+        Set<String> blockedKeys = new HashSet<>();
+        List<OutboxEventModel> claimed = new ArrayList<>(candidates.size());
+        for (OutboxEventModel event : candidates) {
+            if (blockedIds.contains(event.getId())) {
+                blockedKeys.add(event.orderingKey());
+            }
+            if (!blockedKeys.contains(event.orderingKey())) {
+                claimed.add(event);
+            }
+        }
+
+        outboxEventRepository.claim(claimed.stream().map(OutboxEventModel::getId).toList(), owner, claimedUntil);
+        return claimed;
+    }
+
+    /**
+     * 발행된 이벤트는 발행 완료로 표시하고, 발행하지 못한 이벤트는 선점을 해제한다.
+     */
+    @Transactional
+    public void complete(Collection<Long> publishedIds, Collection<Long> failedIds, String owner, ZonedDateTime publishedAt) {
+        outboxEventRepository.markPublished(publishedIds, publishedAt);
+        outboxEventRepository.releaseClaim(failedIds, owner);
+    }
+}
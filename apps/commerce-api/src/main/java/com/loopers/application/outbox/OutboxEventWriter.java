@@ -0,0 +1,38 @@
+package com.loopers.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import com.loopers.domain.outbox.OutboxTopic;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비즈니스 변경과 같은 트랜잭션에 outbox 이벤트를 기록한다.
+ * 호출자의 트랜잭션이 롤백되면 이벤트도 함께 사라지므로, 커밋된 변경에 대해서만 이벤트가 발행된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxTopic topic, Object aggregateId, String eventType, Object payload) {
+        outboxEventRepository.save(new OutboxEventModel(topic, String.valueOf(aggregateId), eventType, serialize(payload)));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "이벤트를 직렬화할 수 없습니다.");
+        }
+    }
+}
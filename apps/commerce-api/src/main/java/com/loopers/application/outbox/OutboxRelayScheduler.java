@@ -0,0 +1,50 @@
+package com.loopers.application.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OutboxRelayScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final OutboxRelayService outboxRelayService;
+    private final int batchSize;
+
+    public OutboxRelayScheduler(
+        OutboxRelayService outboxRelayService,
+        @Value("${outbox.relay.batch-size:500}") int batchSize
+    ) {
+        this.outboxRelayService = outboxRelayService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 밀린 이벤트가 있으면 배치를 연달아 발행한다. 배치 일부라도 발행에 실패하면 다음 주기로 넘기고,
+     * 한 번의 실행이 스케줄러 스레드를 오래 붙잡지 않도록 배치 수도 제한한다.
+     *
+     * @return 이번 실행에서 처리한 이벤트 수
+     */
+    @Scheduled(
+        fixedDelayString = "${outbox.relay.interval-ms:1000}",
+        initialDelayString = "${outbox.relay.interval-ms:1000}"
+    )
+    public int relay() {
+        int relayed = 0;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int sent = outboxRelayService.relayBatch(batchSize);
+                relayed += sent;
+                if (sent < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("outbox 발행 실패 - 다음 주기에 재시도합니다. error: {}", e.getMessage());
+        }
+        return relayed;
+    }
+}
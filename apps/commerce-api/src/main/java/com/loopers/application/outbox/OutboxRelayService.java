@@ -0,0 +1,68 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxEventSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class OutboxRelayService {
+
+    private final OutboxClaimService outboxClaimService;
+    private final OutboxEventSender outboxEventSender;
+    private final Duration claimTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public OutboxRelayService(
+        OutboxClaimService outboxClaimService,
+        OutboxEventSender outboxEventSender,
+        @Value("${outbox.relay.claim-ttl:60s}") Duration claimTtl
+    ) {
+        this.outboxClaimService = outboxClaimService;
+        this.outboxEventSender = outboxEventSender;
+        this.claimTtl = claimTtl;
+    }
+
+    /**
+     * 미발행 이벤트 한 배치를 선점해 발행한 뒤, 브로커가 확인한 이벤트만 발행 완료로 표시한다.
+     * 선점은 짧은 트랜잭션으로 커밋되고 발행은 트랜잭션 밖에서 하므로, ack 대기 중에는 행 잠금과 커넥션을 잡지 않는다.
+     * 선점 기한 덕분에 여러 노드의 relay가 같은 이벤트를 중복 발행하지 않는다.
+     *
+     * 같은 집계의 이벤트는 첫 실패 지점에서 멈춘다. 실패한 이벤트 뒤의 이벤트는 ack를 받았더라도 발행 완료로 표시하지 않고
+     * 실패한 이벤트와 함께 다음 주기에 다시 발행한다.
+     * 발행 후 완료 표시 전에 장애가 나면 다시 발행되는 at-least-once 구조이므로, 컨슈머는 eventId로 멱등 처리해야 한다.
+     *
+     * @return 발행 완료로 표시한 이벤트 수
+     */
+    public int relayBatch(int limit) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OutboxEventModel> events = outboxClaimService.claim(limit, nodeId, now, now.plus(claimTtl));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> sentIds = new HashSet<>(outboxEventSender.send(events));
+        Set<String> failedKeys = new HashSet<>();
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        List<Long> failedIds = new ArrayList<>();
+        for (OutboxEventModel event : events) {
+            if (!failedKeys.contains(event.orderingKey()) && sentIds.contains(event.getId())) {
+                publishedIds.add(event.getId());
+            } else {
+                failedKeys.add(event.orderingKey());
+                failedIds.add(event.getId());
+            }
+        }
+
+        outboxClaimService.complete(publishedIds, failedIds, nodeId, ZonedDateTime.now());
+        return publishedIds.size();
+    }
+}
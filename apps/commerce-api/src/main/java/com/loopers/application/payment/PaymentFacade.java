@@ -1,20 +1,27 @@
 package com.loopers.application.payment;
 
 import com.loopers.application.order.OrderService;
+import com.loopers.application.outbox.OutboxEventWriter;
 import com.loopers.config.PgProperties;
 import com.loopers.domain.order.OrderModel;
+import com.loopers.domain.outbox.OutboxTopic;
 import com.loopers.domain.payment.PaymentModel;
+import com.loopers.domain.payment.PaymentResultEvent;
 import com.loopers.domain.payment.PaymentStatus;
 import com.loopers.infrastructure.payment.PgPaymentGateway;
 import com.loopers.infrastructure.payment.dto.PgPaymentRequest;
 import com.loopers.infrastructure.payment.dto.PgPaymentResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * TX 분리 패턴으로 PG 호출 동안 DB 커넥션을 점유하지 않음.
@@ -29,19 +36,20 @@ public class PaymentFacade {
     private final OrderService orderService;
     private final PgPaymentGateway pgPaymentGateway;
     private final PgProperties pgProperties;
+    private final OutboxEventWriter outboxEventWriter;
 
     /**
      * TX 분리 패턴:
      * TX-1 (preparePayment): 주문 검증 + 상태 변경 + 결제 레코드 생성 → DB 커넥션 반환
-     * NO TX (PG 호출): 외부 HTTP 통신 — DB 커넥션 미점유
-     * TX-2 (assignTransactionKey): transactionKey 저장 → DB 커넥션 반환
+     * NO TX (PG 호출): 비동기 HTTP 통신 — DB 커넥션과 요청 스레드 모두 미점유
+     * TX-2 (assignTransactionKey): PG 응답 시 가상 스레드에서 transactionKey 저장 → DB 커넥션 반환
      */
     @CircuitBreaker(name = "pg", fallbackMethod = "requestPaymentFallback")
-    public PaymentInfo requestPayment(Long userId, PaymentCommand command) {
+    public CompletableFuture<PaymentInfo> requestPayment(Long userId, PaymentCommand command) {
         // TX-1: DB 작업만 (~15ms), 커밋 후 커넥션 즉시 반환
         PaymentModel payment = paymentService.preparePayment(userId, command);
 
-        // NO TX: PG 호출 (100~500ms, 타임아웃 시 3초) — DB 커넥션 안 잡음
+        // NO TX: PG 호출 (100~500ms, 타임아웃 시 3초) — 응답을 기다리는 스레드 없음
         PgPaymentRequest pgRequest = new PgPaymentRequest(
             String.valueOf(command.orderId()),
             command.cardType().name(),
@@ -49,25 +57,27 @@ public class PaymentFacade {
             String.valueOf(payment.amount().value()),
             pgProperties.callbackUrl()
         );
-        PgPaymentResponse pgResponse = pgPaymentGateway.requestPayment(pgRequest, String.valueOf(userId));
-
-        // TX-2: transactionKey 저장 (~5ms), 커밋 후 커넥션 즉시 반환
-        paymentService.assignTransactionKey(payment.getId(), pgResponse.transactionKey());
-
-        return PaymentInfo.from(payment, pgResponse.transactionKey());
+        return pgPaymentGateway.requestPayment(pgRequest, String.valueOf(userId))
+            .thenApply(pgResponse -> {
+                // TX-2: transactionKey 저장 (~5ms), 커밋 후 커넥션 즉시 반환
+                paymentService.assignTransactionKey(payment.getId(), pgResponse.transactionKey());
+                return PaymentInfo.from(payment, pgResponse.transactionKey());
+            });
     }
 
-    private PaymentInfo requestPaymentFallback(Long userId, PaymentCommand command, Throwable t) {
+    private CompletableFuture<PaymentInfo> requestPaymentFallback(Long userId, PaymentCommand command, Throwable t) {
         log.warn("PG 결제 요청 실패 - userId: {}, orderId: {}, reason: {}", userId, command.orderId(), t.getMessage());
         // TX-1이 이미 커밋됨 → 주문은 PAYMENT_PENDING, 결제는 PENDING 상태로 DB에 존재
         // → Polling 스케줄러가 PENDING 결제를 주기적으로 확인하여 복구
-        return PaymentInfo.pgFailed(command.orderId(), "결제 시스템이 불안정합니다. 잠시 후 다시 시도해주세요.");
+        return CompletableFuture.completedFuture(
+            PaymentInfo.pgFailed(command.orderId(), "결제 시스템이 불안정합니다. 잠시 후 다시 시도해주세요."));
     }
 
     @Transactional
     public void handleCallback(String transactionKey, String status, String failureReason) {
         PaymentModel payment = paymentService.getByTransactionKey(transactionKey);
         OrderModel order = orderService.getOrderForAdmin(payment.orderId());
+        boolean wasPending = payment.status() == PaymentStatus.PENDING;
 
         if ("SUCCESS".equals(status)) {
             payment.markSuccess();
@@ -76,9 +86,19 @@ public class PaymentFacade {
             payment.markFailed(failureReason);
             order.failPayment();
         }
+
+        // 중복 콜백은 상태가 바뀌지 않으므로 이벤트도 다시 기록하지 않는다
+        if (wasPending && payment.status() != PaymentStatus.PENDING) {
+            PaymentResultEvent event = PaymentResultEvent.of(payment);
+            outboxEventWriter.append(OutboxTopic.PAYMENT_EVENTS, payment.orderId(), event.type(), event);
+        }
     }
 
-    @Transactional
+    /**
+     * TX 분리 패턴 — 병렬 폴링 시 PG 응답 대기 동안 커넥션을 점유하지 않도록 조회/반영 TX를 나눈다.
+     * PG 조회 사이에 콜백이 먼저 반영되었다면 반영 TX에서 PENDING 여부를 다시 확인해 건너뛴다.
+     * PG 조회에 실패하면 결제를 변경하지 않고 PG_REQUEST_FAILED 예외를 던진다.
+     */
     public PaymentInfo syncPaymentStatus(Long paymentId) {
         PaymentModel payment = paymentService.getById(paymentId);
         if (payment.status() != PaymentStatus.PENDING) {
@@ -86,50 +106,59 @@ public class PaymentFacade {
         }
 
         // Phase A: transactionKey가 있으면 PG에 직접 조회
-        if (payment.transactionKey() != null) {
-            return syncWithTransactionKey(payment);
+        // Phase C: transactionKey 없는 고아 → orderId로 PG 조회
+        PgPaymentResponse pgResponse = payment.transactionKey() != null
+            ? queryWithTransactionKey(payment)
+            : queryOrphanPayment(payment);
+        if (pgResponse == null) {
+            return PaymentInfo.from(payment);
         }
 
-        // Phase C: transactionKey 없는 고아 → orderId로 PG 조회
-        return syncOrphanPayment(payment);
+        PaymentModel synced = paymentService.applyPgResult(
+            paymentId, pgResponse.transactionKey(), pgResponse.status(), pgResponse.failureReason()
+        );
+        return PaymentInfo.from(synced);
     }
 
-    private PaymentInfo syncWithTransactionKey(PaymentModel payment) {
+    private PgPaymentResponse queryWithTransactionKey(PaymentModel payment) {
         try {
-            PgPaymentResponse pgResponse = pgPaymentGateway.getPaymentStatus(
+            return pgPaymentGateway.getPaymentStatus(
                 payment.transactionKey(), String.valueOf(payment.userId())
             );
-            applyPgResult(payment, pgResponse.status(), pgResponse.failureReason());
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.warn("PG 상태 조회 실패 - transactionKey: {}, reason: {}", payment.transactionKey(), e.getMessage());
+            throw toPgQueryFailure(e);
         }
-        return PaymentInfo.from(payment);
     }
 
-    private PaymentInfo syncOrphanPayment(PaymentModel payment) {
+    /**
+     * PG에 해당 주문의 결제가 없으면(404) 요청이 PG에 도달하지 않은 것이므로 복구할 결과가 없다.
+     */
+    private PgPaymentResponse queryOrphanPayment(PaymentModel payment) {
         try {
             PgPaymentResponse pgResponse = pgPaymentGateway.getPaymentStatus(
                 String.valueOf(payment.orderId()), String.valueOf(payment.userId())
             );
-            if (pgResponse != null && pgResponse.transactionKey() != null) {
-                payment.assignTransactionKey(pgResponse.transactionKey());
-                applyPgResult(payment, pgResponse.status(), pgResponse.failureReason());
+            if (pgResponse == null || pgResponse.transactionKey() == null) {
+                return null;
             }
-        } catch (Exception e) {
+            return pgResponse;
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        } catch (RuntimeException e) {
             log.warn("고아 결제 복구 실패 - orderId: {}, reason: {}", payment.orderId(), e.getMessage());
+            throw toPgQueryFailure(e);
         }
-        return PaymentInfo.from(payment);
     }
 
-    private void applyPgResult(PaymentModel payment, String status, String failureReason) {
-        OrderModel order = orderService.getOrderForAdmin(payment.orderId());
-        if ("SUCCESS".equals(status)) {
-            payment.markSuccess();
-            order.confirmPayment();
-        } else if ("FAILED".equals(status)) {
-            payment.markFailed(failureReason);
-            order.failPayment();
+    /**
+     * 조회 실패는 삼키지 않고 호출자(폴링 스케줄러, 수동 동기화 API)까지 전파해 실패로 집계되게 한다.
+     */
+    private CoreException toPgQueryFailure(RuntimeException e) {
+        if (e instanceof CoreException coreException) {
+            return coreException;
         }
+        return new CoreException(ErrorType.PG_REQUEST_FAILED, "PG 결제 상태 조회에 실패했습니다.");
     }
 
     @Transactional(readOnly = true)
@@ -1,53 +1,137 @@
 package com.loopers.application.payment;
 
-import com.loopers.domain.payment.PaymentModel;
-import lombok.RequiredArgsConstructor;
+import com.loopers.domain.payment.PaymentSyncClaimStore;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * PENDING 결제를 PG와 동기화하는 복구 스케줄러.
+ *
+ * - PENDING 결제 ID를 keyset(id > lastId) 청크로 끝까지 스캔한다. 엔티티 전체를 메모리에 올리지 않는다.
+ * - 청크마다 {@link PaymentSyncClaimStore}로 선점한 결제만 처리해, 여러 노드가 백로그를 나눠 가진다.
+ * - 동기화는 가상 스레드에서 최대 max-concurrency 건까지 병렬로 수행하고,
+ *   PG 조회는 RateLimiter(pg-polling, 토큰 버킷)로 노드당 초당 호출 수를 제한한다.
+ * - pg 서킷이 열려 있으면 남은 스캔을 중단하고 다음 주기로 넘긴다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class PaymentPollingScheduler {
 
-    private static final int FAIL_FAST_THRESHOLD = 3;
+    private static final String PG_CIRCUIT_BREAKER = "pg";
+    private static final String PG_POLLING_RATE_LIMITER = "pg-polling";
 
     private final PaymentService paymentService;
     private final PaymentFacade paymentFacade;
+    private final PaymentSyncClaimStore paymentSyncClaimStore;
+    private final RateLimiter pgRateLimiter;
+    private final CircuitBreaker pgCircuitBreaker;
+    private final int chunkSize;
+    private final int maxConcurrency;
+    private final Duration claimTtl;
 
-    @Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
-    public void pollPendingPayments() {
-        List<PaymentModel> pendingPayments = paymentService.getPendingPayments();
-        if (pendingPayments.isEmpty()) {
-            return;
-        }
+    public PaymentPollingScheduler(
+        PaymentService paymentService,
+        PaymentFacade paymentFacade,
+        PaymentSyncClaimStore paymentSyncClaimStore,
+        RateLimiterRegistry rateLimiterRegistry,
+        CircuitBreakerRegistry circuitBreakerRegistry,
+        @Value("${payment-polling.chunk-size:500}") int chunkSize,
+        @Value("${payment-polling.max-concurrency:16}") int maxConcurrency,
+        @Value("${payment-polling.claim-ttl:60s}") Duration claimTtl
+    ) {
+        this.paymentService = paymentService;
+        this.paymentFacade = paymentFacade;
+        this.paymentSyncClaimStore = paymentSyncClaimStore;
+        this.pgRateLimiter = rateLimiterRegistry.rateLimiter(PG_POLLING_RATE_LIMITER);
+        this.pgCircuitBreaker = circuitBreakerRegistry.circuitBreaker(PG_CIRCUIT_BREAKER);
+        this.chunkSize = chunkSize;
+        this.maxConcurrency = maxConcurrency;
+        this.claimTtl = claimTtl;
+    }
 
-        log.info("PENDING 결제 {}건 폴링 시작", pendingPayments.size());
+    /**
+     * @return 이번 주기에 동기화를 시도한 결제 수
+     */
+    @Scheduled(
+        fixedDelayString = "${payment-polling.interval-ms:60000}",
+        initialDelayString = "${payment-polling.initial-delay-ms:30000}"
+    )
+    public int pollPendingPayments() {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        AtomicInteger synced = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+        int scanned = 0;
+        long lastId = 0L;
 
-        int consecutiveFailures = 0;
-        int recovered = 0;
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("payment-polling-", 0).factory())) {
+            while (true) {
+                if (isPgUnavailable()) {
+                    log.warn("PG 서킷 OPEN — 폴링 사이클 조기 종료 (lastId: {} 이후는 다음 사이클에서 처리)", lastId);
+                    break;
+                }
 
-        for (PaymentModel payment : pendingPayments) {
-            try {
-                paymentFacade.syncPaymentStatus(payment.getId());
-                consecutiveFailures = 0;
-                recovered++;
-            } catch (Exception e) {
-                consecutiveFailures++;
-                log.warn("결제 상태 동기화 실패 - paymentId: {}, 연속 실패: {}/{}, reason: {}",
-                    payment.getId(), consecutiveFailures, FAIL_FAST_THRESHOLD, e.getMessage());
+                List<Long> paymentIds = paymentService.getPendingPaymentIds(lastId, chunkSize);
+                if (paymentIds.isEmpty()) {
+                    break;
+                }
+                scanned += paymentIds.size();
+                lastId = paymentIds.get(paymentIds.size() - 1);
+
+                for (Long paymentId : paymentSyncClaimStore.claim(paymentIds, claimTtl)) {
+                    permits.acquireUninterruptibly();
+                    executor.submit(() -> {
+                        try {
+                            sync(paymentId, synced, failed, throttled);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
 
-                if (consecutiveFailures >= FAIL_FAST_THRESHOLD) {
-                    log.error("PG 연속 {}건 실패 — 폴링 사이클 조기 종료 (남은 {}건은 다음 사이클에서 처리)",
-                        FAIL_FAST_THRESHOLD, pendingPayments.size() - recovered - consecutiveFailures);
+                if (paymentIds.size() < chunkSize) {
                     break;
                 }
             }
         }
 
-        log.info("PENDING 결제 폴링 완료 - 처리: {}/{}", recovered, pendingPayments.size());
+        if (scanned > 0) {
+            log.info("PENDING 결제 폴링 완료 - 스캔: {}, 동기화: {}, 실패: {}, 호출 제한으로 보류: {}",
+                scanned, synced.get(), failed.get(), throttled.get());
+        }
+        return synced.get() + failed.get();
+    }
+
+    private void sync(Long paymentId, AtomicInteger synced, AtomicInteger failed, AtomicInteger throttled) {
+        if (!pgRateLimiter.acquirePermission()) {
+            throttled.incrementAndGet();
+            return;
+        }
+        try {
+            paymentFacade.syncPaymentStatus(paymentId);
+            synced.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("결제 상태 동기화 실패 - paymentId: {}, reason: {}", paymentId, e.getMessage());
+        }
+    }
+
+    private boolean isPgUnavailable() {
+        CircuitBreaker.State state = pgCircuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
     }
 }
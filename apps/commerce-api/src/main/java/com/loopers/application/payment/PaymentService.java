@@ -1,9 +1,12 @@
 package com.loopers.application.payment;
 
 import com.loopers.application.order.OrderService;
+import com.loopers.application.outbox.OutboxEventWriter;
 import com.loopers.domain.order.OrderModel;
 import com.loopers.domain.payment.PaymentModel;
+import com.loopers.domain.outbox.OutboxTopic;
 import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentResultEvent;
 import com.loopers.domain.payment.PaymentStatus;
 import com.loopers.domain.product.Money;
 import com.loopers.domain.payment.CardType;
@@ -21,6 +24,7 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final OrderService orderService;
+    private final OutboxEventWriter outboxEventWriter;
 
     @Transactional
     public PaymentModel preparePayment(Long userId, PaymentCommand command) {
@@ -60,8 +64,8 @@ public class PaymentService {
     }
 
     @Transactional(readOnly = true)
-    public List<PaymentModel> getPendingPayments() {
-        return paymentRepository.findAllByStatus(PaymentStatus.PENDING);
+    public List<Long> getPendingPaymentIds(Long lastId, int limit) {
+        return paymentRepository.findIdsByStatusAfter(PaymentStatus.PENDING, lastId, limit);
     }
 
     @Transactional
@@ -69,4 +73,34 @@ public class PaymentService {
         PaymentModel payment = getById(paymentId);
         payment.assignTransactionKey(transactionKey);
     }
+
+    /**
+     * PG 조회 결과를 반영한다. 이미 PENDING이 아니면(콜백 선반영 등) 그대로 반환한다.
+     * 고아 결제라면 PG가 알려준 transactionKey를 함께 저장한다.
+     */
+    @Transactional
+    public PaymentModel applyPgResult(Long paymentId, String transactionKey, String status, String failureReason) {
+        PaymentModel payment = getById(paymentId);
+        if (payment.status() != PaymentStatus.PENDING) {
+            return payment;
+        }
+        if (payment.transactionKey() == null && transactionKey != null) {
+            payment.assignTransactionKey(transactionKey);
+        }
+
+        OrderModel order = orderService.getOrderForAdmin(payment.orderId());
+        if ("SUCCESS".equals(status)) {
+            payment.markSuccess();
+            order.confirmPayment();
+        } else if ("FAILED".equals(status)) {
+            payment.markFailed(failureReason);
+            order.failPayment();
+        }
+
+        if (payment.status() != PaymentStatus.PENDING) {
+            PaymentResultEvent event = PaymentResultEvent.of(payment);
+            outboxEventWriter.append(OutboxTopic.PAYMENT_EVENTS, payment.orderId(), event.type(), event);
+        }
+        return payment;
+    }
 }
@@ -0,0 +1,33 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.like.LikeCountChangedEvent;
+import com.loopers.domain.product.LikeCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountEventListener {
+
+    private final LikeCountBuffer likeCountBuffer;
+    private final ProductService productService;
+
+    /**
+     * 좋아요 트랜잭션이 커밋된 뒤에만 delta를 누적한다. 롤백된 좋아요가 카운트에 섞이지 않게 하기 위함이다.
+     * 버퍼(Redis) 장애 시에는 기존처럼 product row를 직접 갱신한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeCountChangedEvent event) {
+        try {
+            likeCountBuffer.add(event.productId(), event.delta());
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 버퍼 적재 실패 - DB에 직접 반영합니다. productId: {}, error: {}",
+                event.productId(), e.getMessage());
+            productService.applyLikeCountDelta(event.productId(), event.delta());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.LikeCountBuffer;
+import com.loopers.domain.product.LikeCountCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountFlushScheduler {
+
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeCountCache likeCountCache;
+    private final ProductService productService;
+
+    /**
+     * 누적된 좋아요 delta를 한 트랜잭션에서 product 테이블에 일괄 반영한다.
+     *
+     * @return 반영한 상품 수
+     */
+    @Scheduled(
+        fixedDelayString = "${like-count.flush-interval-ms:1000}",
+        initialDelayString = "${like-count.flush-interval-ms:1000}"
+    )
+    public int flush() {
+        Map<Long, Long> deltas;
+        try {
+            deltas = likeCountBuffer.beginFlush();
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 버퍼 조회 실패 - 다음 주기에 재시도합니다. error: {}", e.getMessage());
+            return 0;
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            productService.applyLikeCountDeltas(deltas);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 일괄 반영 실패 - 다음 주기에 재시도합니다. 대상: {}건, error: {}", deltas.size(), e.getMessage());
+            likeCountBuffer.abortFlush();
+            return 0;
+        }
+
+        // 스냅샷 삭제 → 좋아요 수 캐시 갱신 순서로 처리해, 잠깐 동안이라도 delta가 이중 합산되지 않게 한다.
+        likeCountBuffer.completeFlush();
+        patchLikeCounts(deltas);
+        return deltas.size();
+    }
+
+    /**
+     * 상세 캐시는 그대로 두고 좋아요 수만 갱신한다.
+     * 갱신에 실패하면 캐시된 값이 DB보다 뒤처지므로, 그때는 좋아요 수 캐시를 삭제해 다음 조회에서 DB 값으로 다시 초기화한다.
+     */
+    private void patchLikeCounts(Map<Long, Long> deltas) {
+        try {
+            likeCountCache.applyDeltas(deltas);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 캐시 갱신 실패 - 좋아요 수 캐시를 삭제합니다. 대상: {}건, error: {}", deltas.size(), e.getMessage());
+            deltas.keySet().forEach(likeCountCache::remove);
+        }
+    }
+}
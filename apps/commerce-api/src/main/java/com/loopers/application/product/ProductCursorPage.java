@@ -0,0 +1,12 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+/**
+ * keyset 페이지네이션 결과. 다음 페이지가 없으면 nextCursor는 null.
+ */
+public record ProductCursorPage(
+    List<ProductDetail> content,
+    String nextCursor,
+    boolean hasNext
+) {}
@@ -37,4 +37,33 @@ public record ProductDetail(
             product.getCreatedAt(), product.getUpdatedAt(), product.getDeletedAt()
         );
     }
+
+    /**
+     * 상세 캐시와 분리해 갱신되는 좋아요 수(DB 반영분)로 교체한다.
+     */
+    public ProductDetail withLikeCount(long committedLikeCount) {
+        if (committedLikeCount == likeCount) {
+            return this;
+        }
+        return new ProductDetail(
+            id, name, description, price, brandId, brandName,
+            (int) committedLikeCount, stockStatus, stockQuantity,
+            createdAt, updatedAt, deletedAt
+        );
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 delta를 합산한다.
+     */
+    public ProductDetail withPendingLikes(long pendingDelta) {
+        if (pendingDelta == 0) {
+            return this;
+        }
+        int merged = (int) Math.max(0, likeCount + pendingDelta);
+        return new ProductDetail(
+            id, name, description, price, brandId, brandName,
+            merged, stockStatus, stockQuantity,
+            createdAt, updatedAt, deletedAt
+        );
+    }
 }
@@ -0,0 +1,48 @@
+package com.loopers.application.product;
+
+import com.loopers.application.brand.BrandService;
+import com.loopers.application.stock.StockService;
+import com.loopers.domain.brand.BrandModel;
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.stock.StockModel;
+import com.loopers.domain.stock.StockStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * productDetail 캐시에 저장되는 상품 상세 스냅샷 로더.
+ * 좋아요 delta 합산처럼 캐시 이후에 적용할 처리가 있어 ProductFacade와 분리했다. (self-invocation 시 캐시 미적용)
+ * 좋아요 수는 LikeCountCache에서 따로 관리하므로(초기화는 ProductFacade), 스냅샷의 좋아요 수는 조회 시 덮어쓴다.
+ * sync = true 로 조회해야 TwoTierCache의 stampede 방지(single-flight, XFetch 조기 갱신)가 적용된다.
+ *
+ * 상품 수정으로 캐시를 삭제한 직후의 재적재가 replica 지연으로 수정 이전 값을 TTL 동안 고정하지 않도록,
+ * readOnly를 걸지 않아 primary에서 읽는다. 캐시 미스일 때만 실행되므로 primary에 더해지는 부하는 작다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductDetailLoader {
+
+    private final ProductService productService;
+    private final BrandService brandService;
+    private final StockService stockService;
+
+    @Cacheable(cacheNames = "productDetail", key = "#productId", sync = true)
+    @Transactional
+    public ProductDetail load(Long productId) {
+        ProductModel product = productService.getById(productId);
+        String brandName = getBrandName(product.getBrandId());
+        StockModel stock = stockService.getByProductId(productId);
+        return ProductDetail.ofCustomer(product, brandName, StockStatus.from(stock.getQuantity()));
+    }
+
+    private String getBrandName(Long brandId) {
+        try {
+            BrandModel brand = brandService.getBrandForAdmin(brandId);
+            return brand.getName();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
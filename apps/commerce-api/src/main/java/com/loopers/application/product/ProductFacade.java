@@ -2,30 +2,45 @@ package com.loopers.application.product;
 
 import com.loopers.domain.brand.BrandModel;
 import com.loopers.application.brand.BrandService;
+import com.loopers.domain.product.CurrentLikeCount;
+import com.loopers.domain.product.LikeCountBuffer;
+import com.loopers.domain.product.LikeCountCache;
+import com.loopers.domain.product.LikeCountReader;
 import com.loopers.domain.product.Money;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.domain.product.ProductSortType;
 import com.loopers.domain.stock.StockModel;
 import com.loopers.domain.stock.StockStatus;
 import com.loopers.application.stock.StockService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Component
 public class ProductFacade {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ProductService productService;
     private final BrandService brandService;
     private final StockService stockService;
+    private final ProductDetailLoader productDetailLoader;
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeCountCache likeCountCache;
+    private final LikeCountReader likeCountReader;
 
     @Transactional
     public ProductDetail register(String name, String description, Money price, Long brandId, int initialStock) {
@@ -37,13 +52,32 @@ public class ProductFacade {
         return ProductDetail.ofAdmin(product, brandName, stock.getQuantity());
     }
 
-    @Cacheable(cacheNames = "productDetail", key = "#productId")
-    @Transactional(readOnly = true)
+    /**
+     * 캐시된 상세에 좋아요 수(DB 반영분 + 미반영 delta)를 덮어쓴다. 두 값은 Redis 왕복 한 번으로 함께 읽는다.
+     * 좋아요 수는 상세 캐시와 따로 갱신되므로, 좋아요가 몰리는 상품도 상세 캐시는 삭제되지 않는다.
+     */
     public ProductDetail getProduct(Long productId) {
-        ProductModel product = productService.getById(productId);
-        String brandName = getBrandName(product.getBrandId());
-        StockModel stock = stockService.getByProductId(productId);
-        return ProductDetail.ofCustomer(product, brandName, StockStatus.from(stock.getQuantity()));
+        ProductDetail detail = productDetailLoader.load(productId);
+        CurrentLikeCount likeCount = likeCountReader.read(productId);
+        long committed = likeCount.committed() != null ? likeCount.committed() : loadLikeCount(productId, detail.likeCount());
+        return detail.withLikeCount(committed).withPendingLikes(likeCount.pendingDelta());
+    }
+
+    /**
+     * DB 반영분 좋아요 수를 primary에서 읽어 캐시를 초기화한다.
+     * 버전을 DB 조회 전에 받아 두므로, 그 사이 flush가 커밋되면 초기화는 거절되고 다음 조회에서 다시 읽는다.
+     * 버전을 확인할 수 없으면 초기화하지 않고 상세 스냅샷의 값(snapshotLikeCount)을 쓴다.
+     */
+    private long loadLikeCount(Long productId, long snapshotLikeCount) {
+        long version;
+        try {
+            version = likeCountCache.version(productId);
+        } catch (RuntimeException e) {
+            return snapshotLikeCount;
+        }
+        long likeCount = productService.getCommittedLikeCount(productId);
+        likeCountCache.seed(productId, likeCount, version);
+        return likeCount;
     }
 
     @Transactional(readOnly = true)
@@ -66,13 +100,87 @@ public class ProductFacade {
         Map<Long, BrandModel> brandMap = brandService.getByIds(brandIds);
         Map<Long, StockModel> stockMap = stockService.getByProductIds(productIds);
 
-        return products.map(product -> {
-            BrandModel brand = brandMap.get(product.getBrandId());
-            String brandName = brand != null ? brand.getName() : null;
-            StockModel stock = stockMap.get(product.getId());
-            StockStatus status = stock != null ? StockStatus.from(stock.getQuantity()) : StockStatus.OUT_OF_STOCK;
-            return ProductDetail.ofCustomer(product, brandName, status);
-        });
+        List<ProductDetail> content = products.getContent().stream()
+            .map(product -> {
+                BrandModel brand = brandMap.get(product.getBrandId());
+                String brandName = brand != null ? brand.getName() : null;
+                StockModel stock = stockMap.get(product.getId());
+                StockStatus status = stock != null ? StockStatus.from(stock.getQuantity()) : StockStatus.OUT_OF_STOCK;
+                return ProductDetail.ofCustomer(product, brandName, status);
+            })
+            .toList();
+
+        return new PageImpl<>(mergePendingLikes(content, sortType), products.getPageable(), products.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public ProductCursorPage getProductsByCursor(Long brandId, ProductSortType sortType, String cursorToken, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size는 1~" + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        ProductCursor cursor = null;
+        if (cursorToken != null && !cursorToken.isBlank()) {
+            cursor = ProductCursor.decode(cursorToken);
+            cursor.validateSortType(sortType);
+        }
+
+        List<ProductModel> fetched = productService.getProductsByCursor(brandId, sortType, cursor, size);
+        boolean hasNext = fetched.size() > size;
+        List<ProductModel> products = hasNext ? fetched.subList(0, size) : fetched;
+
+        List<Long> brandIds = products.stream()
+            .map(ProductModel::getBrandId).distinct().toList();
+        List<Long> productIds = products.stream()
+            .map(ProductModel::getId).toList();
+
+        Map<Long, BrandModel> brandMap = brandService.getByIds(brandIds);
+        Map<Long, StockModel> stockMap = stockService.getByProductIds(productIds);
+
+        List<ProductDetail> content = products.stream()
+            .map(product -> {
+                BrandModel brand = brandMap.get(product.getBrandId());
+                String brandName = brand != null ? brand.getName() : null;
+                StockModel stock = stockMap.get(product.getId());
+                StockStatus status = stock != null ? StockStatus.from(stock.getQuantity()) : StockStatus.OUT_OF_STOCK;
+                return ProductDetail.ofCustomer(product, brandName, status);
+            })
+            .toList();
+
+        String nextCursor = hasNext
+            ? ProductCursor.of(products.get(products.size() - 1), sortType).encode()
+            : null;
+        return new ProductCursorPage(mergePendingLikes(content, sortType), nextCursor, hasNext);
+    }
+
+    /**
+     * 상품 ID 목록을 고객용 상세로 일괄 조회한다. (랭킹 등 외부에서 정렬된 ID 목록의 hydrate 용도)
+     * 상품/브랜드/재고를 각각 IN 조회 한 번씩으로 가져오며, 삭제된 상품은 결과에서 빠진다.
+     * 결과는 요청한 ID 순서를 따른다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductDetail> getProductsByIds(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductModel> productMap = productService.getProductsByIds(productIds);
+
+        List<Long> brandIds = productMap.values().stream()
+            .map(ProductModel::getBrandId).distinct().toList();
+        Map<Long, BrandModel> brandMap = brandService.getByIds(brandIds);
+        Map<Long, StockModel> stockMap = stockService.getByProductIds(List.copyOf(productMap.keySet()));
+
+        List<ProductDetail> content = productIds.stream()
+            .map(productMap::get)
+            .filter(Objects::nonNull)
+            .map(product -> {
+                BrandModel brand = brandMap.get(product.getBrandId());
+                String brandName = brand != null ? brand.getName() : null;
+                StockModel stock = stockMap.get(product.getId());
+                StockStatus status = stock != null ? StockStatus.from(stock.getQuantity()) : StockStatus.OUT_OF_STOCK;
+                return ProductDetail.ofCustomer(product, brandName, status);
+            })
+            .toList();
+        return mergePendingLikes(content, null);
     }
 
     @Transactional(readOnly = true)
@@ -106,6 +214,7 @@ public class ProductFacade {
     @CacheEvict(cacheNames = "productDetail", key = "#productId")
     public void delete(Long productId) {
         productService.delete(productId);
+        likeCountCache.remove(productId);
     }
 
     @CacheEvict(cacheNames = "productDetail", key = "#productId")
@@ -116,6 +225,31 @@ public class ProductFacade {
         return getProductForAdmin(productId);
     }
 
+    /**
+     * 아직 반영되지 않은 좋아요 delta를 합산한다.
+     * 좋아요순은 DB에 반영된 값 기준으로 페이지를 자른 뒤, 페이지 안에서만 합산 값으로 다시 정렬한다.
+     * (커서는 DB 정렬 기준의 마지막 상품으로 만들어지므로 재정렬의 영향을 받지 않는다.)
+     */
+    private List<ProductDetail> mergePendingLikes(List<ProductDetail> details, ProductSortType sortType) {
+        if (details.isEmpty()) {
+            return details;
+        }
+        Map<Long, Long> deltas = likeCountBuffer.getPendingDeltas(details.stream().map(ProductDetail::id).toList());
+        if (deltas.isEmpty()) {
+            return details;
+        }
+
+        List<ProductDetail> merged = details.stream()
+            .map(detail -> detail.withPendingLikes(deltas.getOrDefault(detail.id(), 0L)))
+            .toList();
+        if (sortType != ProductSortType.LIKES_DESC) {
+            return merged;
+        }
+        return merged.stream()
+            .sorted(Comparator.comparingInt(ProductDetail::likeCount).reversed())
+            .toList();
+    }
+
     private String getBrandName(Long brandId) {
         try {
             BrandModel brand = brandService.getBrandForAdmin(brandId);
@@ -1,6 +1,7 @@
 package com.loopers.application.product;
 
 import com.loopers.domain.product.Money;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSortType;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -44,6 +46,14 @@ public class ProductService {
         return productRepository.findAll(brandId, pageable, sortType);
     }
 
+    /**
+     * keyset 페이지네이션 조회. 다음 페이지 존재 여부 판단을 위해 size + 1건을 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductModel> getProductsByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int size) {
+        return productRepository.findAllByCursor(brandId, sortType, cursor, size + 1);
+    }
+
     @Transactional(readOnly = true)
     public Page<ProductModel> getProductsForAdmin(Long brandId, Pageable pageable) {
         return productRepository.findAll(brandId, pageable, ProductSortType.CREATED_DESC);
@@ -75,14 +85,30 @@ public class ProductService {
             .collect(Collectors.toMap(ProductModel::getId, Function.identity()));
     }
 
+    /**
+     * 좋아요 수 캐시 초기화용. replica 지연으로 flush 이전 값을 읽지 않도록 readOnly를 걸지 않아 primary에서 읽는다.
+     */
     @Transactional
-    public void incrementLikeCount(Long productId) {
-        productRepository.incrementLikeCount(productId);
+    public long getCommittedLikeCount(Long productId) {
+        return getById(productId).getLikeCount();
     }
 
+    /**
+     * write-behind 버퍼의 delta 스냅샷을 일괄 반영한다. 락 순서를 고정하기 위해 productId 오름차순으로 갱신한다.
+     */
     @Transactional
-    public void decrementLikeCount(Long productId) {
-        productRepository.decrementLikeCount(productId);
+    public void applyLikeCountDeltas(Map<Long, Long> deltas) {
+        deltas.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> productRepository.applyLikeCountDelta(entry.getKey(), Math.toIntExact(entry.getValue())));
+    }
+
+    /**
+     * 버퍼 장애 시 폴백 경로. 커밋 이후(AFTER_COMMIT) 호출되므로 별도 트랜잭션에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyLikeCountDelta(Long productId, int delta) {
+        productRepository.applyLikeCountDelta(productId, delta);
     }
 
     private ProductModel findById(Long productId) {
@@ -0,0 +1,32 @@
+package com.loopers.application.queue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class WaitingRoomAdmitter {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * 대기열 앞에서부터 admit-per-interval명에게 입장 토큰을 발급한다.
+     *
+     * @return 입장시킨 사용자 수
+     */
+    @Scheduled(
+        fixedDelayString = "${waiting-room.admit-interval-ms:1000}",
+        initialDelayString = "${waiting-room.admit-interval-ms:1000}"
+    )
+    public int admit() {
+        try {
+            return waitingRoomService.admitNext();
+        } catch (RuntimeException e) {
+            log.warn("대기열 입장 처리 실패 - 다음 주기에 재시도합니다. error: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.application.queue;
+
+import com.loopers.domain.queue.AdmissionStatus;
+
+/**
+ * 대기 중이면 position(1부터)과 etaSeconds, 입장했으면 token만 채워진다.
+ */
+public record WaitingRoomInfo(
+    AdmissionStatus status,
+    Long position,
+    Long etaSeconds,
+    String token
+) {
+
+    public static WaitingRoomInfo waiting(long position, long etaSeconds) {
+        return new WaitingRoomInfo(AdmissionStatus.WAITING, position, etaSeconds, null);
+    }
+
+    public static WaitingRoomInfo admitted(String token) {
+        return new WaitingRoomInfo(AdmissionStatus.ADMITTED, null, null, token);
+    }
+}
@@ -0,0 +1,114 @@
+package com.loopers.application.queue;
+
+import com.loopers.domain.queue.WaitingRoom;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 주문 대기열.
+ *
+ * 스케줄러가 admit-interval마다 admit-per-interval명씩만 입장 토큰을 발급하므로,
+ * 주문 API에 도달하는 요청 수가 초당 admit-per-interval * 1000 / admit-interval-ms 건 안쪽으로 유지된다.
+ * enabled가 false이면 토큰 없이도 주문할 수 있다. (세일 오픈 시에만 켠다)
+ */
+@Slf4j
+@Component
+public class WaitingRoomService {
+
+    private final WaitingRoom waitingRoom;
+    private final boolean enabled;
+    private final int admitPerInterval;
+    private final long admitIntervalMs;
+
+    public WaitingRoomService(
+        WaitingRoom waitingRoom,
+        @Value("${waiting-room.enabled:false}") boolean enabled,
+        @Value("${waiting-room.admit-per-interval:50}") int admitPerInterval,
+        @Value("${waiting-room.admit-interval-ms:1000}") long admitIntervalMs
+    ) {
+        this.waitingRoom = waitingRoom;
+        this.enabled = enabled;
+        this.admitPerInterval = admitPerInterval;
+        this.admitIntervalMs = admitIntervalMs;
+    }
+
+    public WaitingRoomInfo enter(Long userId) {
+        Long rank = waitingRoom.enter(userId);
+        if (rank == null) {
+            return getStatus(userId);
+        }
+        return waiting(rank);
+    }
+
+    public WaitingRoomInfo getStatus(Long userId) {
+        String token = waitingRoom.findToken(userId);
+        if (token != null) {
+            return WaitingRoomInfo.admitted(token);
+        }
+        Long rank = waitingRoom.findRank(userId);
+        if (rank == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "대기열에 진입하지 않았거나 입장 토큰이 만료되었습니다.");
+        }
+        return waiting(rank);
+    }
+
+    /**
+     * 입장 토큰을 소비한 뒤 action(주문)을 실행한다.
+     * 토큰 확인과 삭제를 한 번에 수행하므로, 같은 토큰으로 동시에 들어온 요청 중 하나만 action까지 간다.
+     * action이 실패하면 토큰을 남은 유효 시간만큼 되돌려 같은 토큰으로 다시 시도할 수 있게 한다.
+     * 대기열이 꺼져 있으면 토큰 없이 action만 실행한다.
+     */
+    public <T> T withAdmission(Long userId, String token, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        Duration remaining = token == null ? null : waitingRoom.consumeToken(userId, token);
+        if (remaining == null) {
+            throw new CoreException(ErrorType.INVALID_ADMISSION_TOKEN);
+        }
+
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            restoreAdmission(userId, token, remaining);
+            throw e;
+        }
+    }
+
+    /**
+     * 복구에 실패해도 원래 예외를 그대로 전달한다. 이 경우 사용자는 대기열에 다시 진입해야 한다.
+     */
+    private void restoreAdmission(Long userId, String token, Duration remaining) {
+        try {
+            waitingRoom.restoreToken(userId, token, remaining);
+        } catch (RuntimeException e) {
+            log.warn("입장 토큰 복구 실패 - 대기열 재진입이 필요합니다. userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 이번 주기에 입장한 사용자 수
+     */
+    public int admitNext() {
+        if (!enabled) {
+            return 0;
+        }
+        return waitingRoom.admitNext(admitPerInterval).size();
+    }
+
+    /**
+     * 앞선 인원이 모두 입장하는 데 걸리는 주기 수 × 주기 길이.
+     */
+    private WaitingRoomInfo waiting(long rank) {
+        long position = rank + 1;
+        long intervalsAhead = (position + admitPerInterval - 1) / admitPerInterval;
+        long etaSeconds = (intervalsAhead * admitIntervalMs + 999) / 1000;
+        return WaitingRoomInfo.waiting(position, etaSeconds);
+    }
+}
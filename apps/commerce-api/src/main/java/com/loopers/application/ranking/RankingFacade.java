@@ -0,0 +1,61 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductDetail;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.ranking.ProductRankingStore;
+import com.loopers.domain.ranking.RankedProduct;
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class RankingFacade {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductRankingStore productRankingStore;
+    private final ProductFacade productFacade;
+
+    /**
+     * 랭킹 한 페이지를 조회한다.
+     * ZSET에서 상품 ID를 순위대로 자른 뒤, 상품 정보는 한 번에 일괄 조회해 붙인다.
+     * 삭제된 상품은 응답에서 빠지지만 나머지 항목의 순위는 그대로 유지한다.
+     *
+     * @param window DAILY는 yyyyMMdd, HOURLY는 yyyyMMddHH. 비어 있으면 현재 시간 창.
+     */
+    public RankingPage getRankings(RankingPeriod period, String window, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        String key = (window == null || window.isBlank()) ? period.key(ZonedDateTime.now()) : period.key(window);
+
+        List<RankedProduct> ranked = productRankingStore.findRange(key, (long) page * size, size);
+        long total = productRankingStore.count(key);
+        if (ranked.isEmpty()) {
+            return new RankingPage(List.of(), page, size, total);
+        }
+
+        Map<Long, ProductDetail> products = productFacade.getProductsByIds(
+            ranked.stream().map(RankedProduct::productId).toList()
+        ).stream().collect(Collectors.toMap(ProductDetail::id, Function.identity()));
+
+        List<RankingInfo> content = new ArrayList<>(ranked.size());
+        for (RankedProduct rankedProduct : ranked) {
+            ProductDetail product = products.get(rankedProduct.productId());
+            if (product != null) {
+                content.add(new RankingInfo(rankedProduct.rank(), rankedProduct.score(), product));
+            }
+        }
+        return new RankingPage(content, page, size, total);
+    }
+}
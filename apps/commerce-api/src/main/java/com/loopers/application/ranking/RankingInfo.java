@@ -0,0 +1,5 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductDetail;
+
+public record RankingInfo(long rank, double score, ProductDetail product) {}
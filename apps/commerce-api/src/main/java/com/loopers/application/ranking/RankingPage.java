@@ -0,0 +1,5 @@
+package com.loopers.application.ranking;
+
+import java.util.List;
+
+public record RankingPage(List<RankingInfo> content, int page, int size, long totalElements) {}
@@ -0,0 +1,44 @@
+package com.loopers.application.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StockReservationScheduler {
+
+    private static final int RELEASE_BATCH_SIZE = 500;
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final StockReservationService stockReservationService;
+
+    @Scheduled(
+        fixedDelayString = "${stock-reservation.release-interval-ms:5000}",
+        initialDelayString = "${stock-reservation.release-interval-ms:5000}"
+    )
+    public void releaseExpiredReservations() {
+        try {
+            int released = stockReservationService.releaseExpired(RELEASE_BATCH_SIZE);
+            if (released > 0) {
+                log.info("만료된 재고 예약 {}건 보상 완료", released);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료 재고 예약 보상 실패 - 다음 주기에 재시도합니다. error: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${stock-reservation.reconcile-interval-ms:10000}",
+        initialDelayString = "${stock-reservation.reconcile-interval-ms:10000}"
+    )
+    public void reconcileAvailableStock() {
+        try {
+            stockReservationService.reconcile(RECONCILE_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("가용 재고 정합성 보정 실패 - 다음 주기에 재시도합니다. error: {}", e.getMessage());
+        }
+    }
+}
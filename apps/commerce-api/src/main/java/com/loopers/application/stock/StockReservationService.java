@@ -0,0 +1,105 @@
+package com.loopers.application.stock;
+
+import com.loopers.domain.stock.StockReservationResult;
+import com.loopers.domain.stock.StockReservationStore;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StockReservationService {
+
+    private static final Duration RESERVATION_TTL = Duration.ofMinutes(1);
+
+    private final StockReservationStore stockReservationStore;
+    private final StockService stockService;
+
+    /**
+     * 주문 트랜잭션 안에서 재고를 선점한다. 커밋되면 예약을 확정하고, 롤백되면 즉시 보상한다.
+     * 커밋/롤백 결과를 받지 못한 예약은 만료 후 {@link #releaseExpired}가 보상한다.
+     * Redis 장애 시에는 예약 없이 기존 비관적 락 경로로만 처리한다.
+     */
+    public void reserve(Map<Long, Integer> quantities) {
+        String reservationId = UUID.randomUUID().toString();
+        StockReservationResult result;
+        try {
+            result = stockReservationStore.reserve(reservationId, quantities, RESERVATION_TTL);
+            if (result == StockReservationResult.NOT_LOADED) {
+                load(quantities.keySet(), false);
+                result = stockReservationStore.reserve(reservationId, quantities, RESERVATION_TTL);
+            }
+        } catch (RuntimeException e) {
+            log.warn("재고 예약 실패 - 비관적 락 경로로 처리합니다. error: {}", e.getMessage());
+            return;
+        }
+
+        if (result == StockReservationResult.INSUFFICIENT) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다.");
+        }
+        if (result == StockReservationResult.RESERVED) {
+            registerCompletion(reservationId);
+        }
+    }
+
+    /**
+     * 만료된 예약(커밋도 롤백도 통보되지 않은 주문)의 수량을 가용 재고로 되돌린다.
+     *
+     * @return 보상한 예약 수
+     */
+    public int releaseExpired(int limit) {
+        List<String> expired = stockReservationStore.findExpiredReservationIds(Instant.now(), limit);
+        int released = 0;
+        for (String reservationId : expired) {
+            if (stockReservationStore.release(reservationId)) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    /**
+     * 적재된 가용 재고를 stock 테이블 기준으로 다시 맞춘다. (관리자 재고 수정, 예약 유실 등 보정)
+     */
+    public void reconcile(int chunkSize) {
+        List<Long> productIds = stockReservationStore.findLoadedProductIds();
+        for (int from = 0; from < productIds.size(); from += chunkSize) {
+            load(productIds.subList(from, Math.min(from + chunkSize, productIds.size())), true);
+        }
+    }
+
+    private void load(Collection<Long> productIds, boolean overwrite) {
+        stockReservationStore.load(stockService.getQuantities(new ArrayList<>(productIds)), overwrite);
+    }
+
+    private void registerCompletion(String reservationId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        stockReservationStore.confirm(reservationId);
+                    } else {
+                        stockReservationStore.release(reservationId);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("재고 예약 후처리 실패 - 만료 후 보상됩니다. reservationId: {}, error: {}",
+                        reservationId, e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package com.loopers.application.stock;
 
+import com.loopers.config.monitoring.LockWaitTimed;
 import com.loopers.domain.stock.StockModel;
+import com.loopers.domain.stock.StockQuantity;
 import com.loopers.domain.stock.StockRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -29,15 +31,45 @@ public class StockService {
         return stockRepository.save(new StockModel(productId, quantity));
     }
 
+    @LockWaitTimed("stock")
     public StockModel getByProductIdForUpdate(Long productId) {
         return stockRepository.findByProductIdForUpdate(productId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "재고를 찾을 수 없습니다."));
     }
 
+    /**
+     * 여러 상품의 재고를 한 번의 SELECT ... FOR UPDATE로 productId 오름차순으로 잠근다.
+     */
+    @LockWaitTimed("stock")
+    public Map<Long, StockModel> getByProductIdsForUpdate(List<Long> productIds) {
+        List<Long> sortedIds = productIds.stream().distinct().sorted().toList();
+        Map<Long, StockModel> stocks = stockRepository.findAllByProductIdInForUpdate(sortedIds)
+            .stream()
+            .collect(Collectors.toMap(StockModel::getProductId, stock -> stock));
+        sortedIds.stream()
+            .filter(productId -> !stocks.containsKey(productId))
+            .findFirst()
+            .ifPresent(productId -> {
+                throw new CoreException(ErrorType.NOT_FOUND, "재고를 찾을 수 없습니다. [productId = " + productId + "]");
+            });
+        return stocks;
+    }
+
     @Transactional(readOnly = true)
     public Map<Long, StockModel> getByProductIds(List<Long> productIds) {
         return stockRepository.findAllByProductIdIn(productIds)
             .stream()
             .collect(Collectors.toMap(StockModel::getProductId, stock -> stock));
     }
+
+    /**
+     * 엔티티를 로딩하지 않고 수량만 조회한다. 같은 트랜잭션에서 이후 FOR UPDATE로 재조회해도 stale 엔티티가 재사용되지 않는다.
+     * 결과가 Redis 가용 재고를 초기화·덮어쓰는 데(reconcile) 쓰이므로, replica 지연 값으로 덮어쓰지 않도록 readOnly를 걸지 않아 primary에서 읽는다.
+     */
+    @Transactional
+    public Map<Long, Integer> getQuantities(List<Long> productIds) {
+        return stockRepository.findQuantitiesByProductIdIn(productIds)
+            .stream()
+            .collect(Collectors.toMap(StockQuantity::productId, StockQuantity::quantity));
+    }
 }
@@ -1,23 +1,34 @@
 package com.loopers.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * PG 호출은 논블로킹 HttpClient로 보낸다.
+ * 응답 대기 동안 스레드를 점유하지 않고, 응답 처리(후속 TX 포함)는 가상 스레드에서 실행된다.
+ * HTTP/1.1 keep-alive 커넥션은 HttpClient 내부 풀에서 재사용된다.
+ */
 @Configuration
 @EnableConfigurationProperties(PgProperties.class)
 public class PgClientConfig {
 
-    @Bean
-    public RestTemplate pgRestTemplate(PgProperties pgProperties) {
-        return new RestTemplateBuilder()
-            .rootUri(pgProperties.baseUrl())
-            .setConnectTimeout(Duration.ofMillis(pgProperties.timeout().connect()))
-            .setReadTimeout(Duration.ofMillis(pgProperties.timeout().read()))
+    @Bean(destroyMethod = "close")
+    public ExecutorService pgExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pg-", 0).factory());
+    }
+
+    @Bean(destroyMethod = "close")
+    public HttpClient pgHttpClient(PgProperties pgProperties, ExecutorService pgExecutor) {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(pgProperties.timeout().connect()))
+            .executor(pgExecutor)
             .build();
     }
 }
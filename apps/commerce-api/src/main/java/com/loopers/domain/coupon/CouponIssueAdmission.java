@@ -0,0 +1,11 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 선착순 쿠폰 발급 요청의 접수 결과.
+ * ACCEPTED는 발급이 확정되었다는 뜻이며, coupon_issue row는 비동기 writer가 잠시 뒤에 저장한다.
+ */
+public enum CouponIssueAdmission {
+    ACCEPTED,
+    ALREADY_ISSUED,
+    SOLD_OUT
+}
@@ -0,0 +1,27 @@
+package com.loopers.domain.coupon;
+
+import java.util.List;
+
+/**
+ * beginDrain으로 가져온 대기열 앞쪽 구간.
+ *
+ * @param requests  해석한 발급 건
+ * @param malformed 형식이 맞지 않아 해석할 수 없는 항목(원문). 재시도해도 저장할 수 없으므로 dead letter로 옮긴다.
+ */
+public record CouponIssueDrain(List<CouponIssueRequest> requests, List<String> malformed) {
+
+    public static CouponIssueDrain empty() {
+        return new CouponIssueDrain(List.of(), List.of());
+    }
+
+    /**
+     * 대기열에서 가져온 항목 수. completeDrain은 앞쪽에서 이만큼 제거한다.
+     */
+    public int size() {
+        return requests.size() + malformed.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
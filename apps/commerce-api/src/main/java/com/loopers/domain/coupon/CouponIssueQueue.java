@@ -0,0 +1,35 @@
+package com.loopers.domain.coupon;
+
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 대기열.
+ * 요청 시점에는 수량/중복만 원자적으로 판정해 접수하고, 실제 row 저장은 writer가 대기열을 묶어서 처리한다.
+ */
+public interface CouponIssueQueue {
+
+    /**
+     * 사용자당 1장, 쿠폰당 totalQuantity장 이내에서 발급을 접수한다. 접수된 건은 대기열 끝에 쌓인다.
+     */
+    CouponIssueAdmission admit(CouponSnapshot coupon, Long userId);
+
+    /**
+     * 대기열 앞쪽에서 최대 maxSize건을 가져온다. 다른 노드가 저장 중이거나 대기 건이 없으면 빈 구간을 반환한다.
+     * 가져온 건은 completeDrain 전까지 대기열에 남아 있다. 조회에 실패하면 저장 권한을 반납한 뒤 예외를 던진다.
+     */
+    CouponIssueDrain beginDrain(int maxSize);
+
+    /**
+     * 처리가 끝난 구간(drain)을 대기열에서 제거한다.
+     * deadLetters는 그중 다시 시도해도 저장할 수 없는 건(삭제된 쿠폰 등)으로, 해석할 수 없는 항목(drain.malformed)과 함께
+     * 버리지 않고 별도 목록으로 옮겨 둔다.
+     *
+     * @return 저장 권한을 잃어(락 만료) 아무것도 제거하지 않았으면 false. 남은 건은 권한을 가진 노드가 다시 저장한다.
+     */
+    boolean completeDrain(CouponIssueDrain drain, List<CouponIssueRequest> deadLetters);
+
+    /**
+     * 저장에 실패한 경우 대기열은 그대로 두고 저장 권한만 반납한다. 다음 주기에 같은 건부터 다시 저장한다.
+     */
+    void abortDrain();
+}
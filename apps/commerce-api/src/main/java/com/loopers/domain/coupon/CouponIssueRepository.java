@@ -10,6 +10,13 @@ public interface CouponIssueRepository {
 
     CouponIssueModel save(CouponIssueModel couponIssue);
 
+    /**
+     * 여러 발급 건을 multi-row INSERT 한 번으로 저장한다. (user_id, coupon_id)가 이미 있는 건은 무시한다.
+     *
+     * @return 새로 저장된 건수
+     */
+    int saveAllIgnoringDuplicates(List<CouponIssueModel> couponIssues);
+
     Optional<CouponIssueModel> findById(Long id);
 
     Optional<CouponIssueModel> findByIdForUpdate(Long id);
@@ -0,0 +1,7 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 접수되었지만 아직 coupon_issue 테이블에 저장되지 않은 발급 건.
+ */
+public record CouponIssueRequest(Long couponId, Long userId) {
+}
@@ -29,15 +29,26 @@ public class CouponModel extends BaseEntity {
     @Column(name = "expired_at", nullable = false)
     private LocalDateTime expiredAt;
 
+    /**
+     * 선착순 발급 수량. null이면 수량 제한 없이 요청 즉시 발급한다.
+     */
+    @Column(name = "total_quantity")
+    private Integer totalQuantity;
+
     protected CouponModel() {
     }
 
     public CouponModel(String name, CouponType type, int value, Money minOrderAmount, LocalDateTime expiredAt) {
+        this(name, type, value, minOrderAmount, expiredAt, null);
+    }
+
+    public CouponModel(String name, CouponType type, int value, Money minOrderAmount, LocalDateTime expiredAt, Integer totalQuantity) {
         this.name = name;
         this.type = type;
         this.value = value;
         this.minOrderAmount = minOrderAmount;
         this.expiredAt = expiredAt;
+        this.totalQuantity = totalQuantity;
         guard();
     }
 
@@ -55,6 +66,9 @@ public class CouponModel extends BaseEntity {
         if (expiredAt == null) {
             throw new CoreException(ErrorType.BAD_REQUEST, "만료일은 필수입니다.");
         }
+        if (totalQuantity != null && totalQuantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "발급 수량은 0보다 커야 합니다.");
+        }
     }
 
     public Money calculateDiscount(Money orderAmount) {
@@ -65,6 +79,10 @@ public class CouponModel extends BaseEntity {
         return LocalDateTime.now().isAfter(this.expiredAt);
     }
 
+    public boolean isFirstCome() {
+        return totalQuantity != null;
+    }
+
     public boolean meetsMinOrderAmount(Money orderAmount) {
         if (this.minOrderAmount == null) {
             return true;
@@ -109,4 +127,8 @@ public class CouponModel extends BaseEntity {
     public LocalDateTime expiredAt() {
         return expiredAt;
     }
+
+    public Integer totalQuantity() {
+        return totalQuantity;
+    }
 }
@@ -0,0 +1,68 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.domain.product.Money;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 캐시에 보관하는 쿠폰 정의의 불변 스냅샷.
+ * 주문/발급 경로에서 할인 계산과 사용 가능 여부 판단에 필요한 값만 담는다. (규칙은 CouponModel과 동일)
+ *
+ * @param version 스냅샷을 만든 시점의 updated_at. 캐시는 무효화 이후의 버전보다 오래된 스냅샷을 저장하지 않는다.
+ */
+public record CouponSnapshot(
+    Long id,
+    String name,
+    CouponType type,
+    int value,
+    Money minOrderAmount,
+    LocalDateTime expiredAt,
+    Integer totalQuantity,
+    Instant version
+) {
+
+    public static CouponSnapshot from(CouponModel coupon) {
+        return new CouponSnapshot(
+            coupon.getId(),
+            coupon.name(),
+            coupon.type(),
+            coupon.value(),
+            coupon.minOrderAmount(),
+            coupon.expiredAt(),
+            coupon.totalQuantity(),
+            versionOf(coupon)
+        );
+    }
+
+    /**
+     * 스냅샷 버전. DB 컬럼 정밀도(마이크로초)에 맞춰 잘라, 메모리의 엔티티와 DB에서 다시 읽은 값이 같은 버전이 되도록 한다.
+     */
+    public static Instant versionOf(CouponModel coupon) {
+        return coupon.getUpdatedAt().toInstant().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public Money calculateDiscount(Money orderAmount) {
+        return type.calculateDiscount(value, orderAmount);
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiredAt);
+    }
+
+    public boolean isFirstCome() {
+        return totalQuantity != null;
+    }
+
+    public void validateUsable(Money orderAmount) {
+        if (isExpired()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "만료된 쿠폰입니다.");
+        }
+        if (minOrderAmount != null && orderAmount.value() < minOrderAmount.value()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "최소 주문 금액 조건을 충족하지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.loopers.domain.coupon;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 쿠폰 정의 스냅샷 캐시.
+ * 쿠폰은 거의 바뀌지 않으므로, 주문 트랜잭션이 락을 쥔 채로 쿠폰 조회 쿼리를 보내지 않도록 프로세스 안에 보관한다.
+ */
+public interface CouponSnapshotCache {
+
+    Optional<CouponSnapshot> find(Long couponId);
+
+    /**
+     * 스냅샷을 저장한다. 마지막 무효화 때 기록된 버전보다 오래된 스냅샷(변경 전에 읽은 값, 지연된 replica에서 읽은 값)은 버린다.
+     */
+    void put(CouponSnapshot snapshot);
+
+    void invalidate(Long couponId);
+
+    /**
+     * 스냅샷을 비우고, 이후 committedVersion보다 오래된 스냅샷은 저장되지 않도록 한다.
+     */
+    void invalidate(Long couponId, Instant committedVersion);
+}
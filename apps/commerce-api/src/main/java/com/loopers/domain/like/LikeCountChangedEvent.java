@@ -0,0 +1,20 @@
+package com.loopers.domain.like;
+
+/**
+ * 좋아요 등록/취소로 상품 좋아요 수가 변해야 함을 알리는 이벤트. 트랜잭션 커밋 이후에만 반영된다.
+ * 사용자별 좋아요 집합(UserLikeSet)도 같은 이벤트로 갱신한다.
+ */
+public record LikeCountChangedEvent(Long userId, Long productId, int delta) {
+
+    public static LikeCountChangedEvent liked(Long userId, Long productId) {
+        return new LikeCountChangedEvent(userId, productId, 1);
+    }
+
+    public static LikeCountChangedEvent unliked(Long userId, Long productId) {
+        return new LikeCountChangedEvent(userId, productId, -1);
+    }
+
+    public boolean isLiked() {
+        return delta > 0;
+    }
+}
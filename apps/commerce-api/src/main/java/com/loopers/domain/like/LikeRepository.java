@@ -3,6 +3,7 @@ package com.loopers.domain.like;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository {
@@ -11,7 +12,19 @@ public interface LikeRepository {
 
     Optional<LikeModel> findByUserIdAndProductId(Long userId, Long productId);
 
+    /**
+     * (user_id, product_id) 좋아요를 활성 상태로 만든다. 조회 없이 upsert 한 문장으로 처리한다.
+     */
+    LikeUpsertResult upsertActive(Long userId, Long productId);
+
     Optional<LikeModel> findByUserIdAndProductIdAndDeletedAtIsNull(Long userId, Long productId);
 
     Page<LikeModel> findActiveLikesWithActiveProduct(Long userId, Pageable pageable);
+
+    /**
+     * 삭제되지 않은 상품에 대한 좋아요를 상품 정보와 함께 조회한다. (likes JOIN product 한 번)
+     */
+    Page<LikedProduct> findActiveLikedProducts(Long userId, Pageable pageable);
+
+    List<Long> findActiveProductIdsByUserId(Long userId);
 }
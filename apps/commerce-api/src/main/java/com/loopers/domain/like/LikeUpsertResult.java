@@ -0,0 +1,11 @@
+package com.loopers.domain.like;
+
+/**
+ * 좋아요 활성화(upsert) 한 번의 결과.
+ * INSERTED = 새 row 삽입, RESTORED = 취소된 row 복구, UNCHANGED = 이미 활성 상태라 변경 없음.
+ */
+public enum LikeUpsertResult {
+    INSERTED,
+    RESTORED,
+    UNCHANGED
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 + 상품 조인 프로젝션. 좋아요 목록 한 페이지를 상품별 추가 조회 없이 한 번의 쿼리로 만든다.
+ */
+public record LikedProduct(
+    Long likeId,
+    Long productId,
+    String productName,
+    int productPrice,
+    ZonedDateTime likedAt
+) {}
@@ -0,0 +1,11 @@
+package com.loopers.domain.like;
+
+/**
+ * 좋아요 등록/취소 이벤트 (outbox: catalog-events / PRODUCT_LIKED, PRODUCT_UNLIKED).
+ * 상품별 집계를 위해 productId를 메시지 키로 발행한다.
+ */
+public record ProductLikeEvent(Long productId, Long userId) {
+
+    public static final String LIKED = "PRODUCT_LIKED";
+    public static final String UNLIKED = "PRODUCT_UNLIKED";
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 상품 집합. 목록/상세에 "내가 좋아요한 상품" 표시를 DB 조회 없이 붙이기 위해 사용한다.
+ * 집합은 처음 조회할 때 DB로 한 번 만들고(rebuild), 이후에는 좋아요/취소 커밋마다 갱신한다.
+ */
+public interface UserLikeSet {
+
+    /**
+     * 주어진 상품 중 좋아요한 상품을 한 번에 조회한다.
+     *
+     * @return 집합이 아직 만들어지지 않았거나 조회할 수 없으면 empty
+     */
+    Optional<Set<Long>> findLiked(Long userId, Collection<Long> productIds);
+
+    /**
+     * 재생성 경쟁 판정용 버전. DB에서 좋아요 상품을 읽기 전에 받아 rebuild에 넘긴다.
+     */
+    long version(Long userId);
+
+    /**
+     * DB에서 읽은 좋아요 상품으로 집합을 다시 만든다. version 이후 좋아요/취소가 반영되었으면 만들지 않는다.
+     *
+     * @return 재생성 여부
+     */
+    boolean rebuild(Long userId, Collection<Long> likedProductIds, long version);
+
+    void add(Long userId, Long productId);
+
+    void remove(Long userId, Long productId);
+}
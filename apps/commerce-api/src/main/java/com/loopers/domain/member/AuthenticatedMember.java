@@ -0,0 +1,21 @@
+package com.loopers.domain.member;
+
+import java.time.LocalDate;
+
+/**
+ * 인증된 회원의 불변 스냅샷.
+ * 인증 캐시에 보관되어 여러 요청/스레드가 공유하므로 JPA 엔티티 대신 이 값을 넘긴다.
+ * 회원 정보를 변경할 때는 이 스냅샷이 아니라 엔티티를 다시 조회해서 변경한다.
+ */
+public record AuthenticatedMember(Long id, String loginId, String name, LocalDate birthDate, String email) {
+
+    public static AuthenticatedMember from(MemberModel member) {
+        return new AuthenticatedMember(
+            member.getId(),
+            member.loginId().value(),
+            member.name().value(),
+            member.birthDate(),
+            member.email() != null ? member.email().value() : null
+        );
+    }
+}
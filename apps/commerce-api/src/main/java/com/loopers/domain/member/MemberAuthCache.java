@@ -0,0 +1,33 @@
+package com.loopers.domain.member;
+
+import java.util.Optional;
+
+/**
+ * 인증에 성공한 자격 증명 캐시.
+ * 매 요청마다 반복되는 회원 조회와 비밀번호 해시 비교(BCrypt)를 생략하기 위해,
+ * 검증된 (loginId, password) 조합의 키 기반 다이제스트와 회원 스냅샷을 짧게 보관한다.
+ * 원문 비밀번호는 저장하지 않는다.
+ */
+public interface MemberAuthCache {
+
+    /**
+     * 같은 자격 증명으로 인증에 성공한 이력이 유효하면 회원 스냅샷을 반환한다.
+     */
+    Optional<AuthenticatedMember> find(String loginId, String password);
+
+    /**
+     * 현재 무효화 세대. 자격 증명을 검증하기 전에 받아 put에 넘긴다.
+     */
+    long generation();
+
+    /**
+     * 검증 시작(generation) 이후 해당 loginId가 무효화되었으면 저장하지 않는다.
+     * 비밀번호 변경 커밋 전에 시작된 검증이 무효화 이후 이전 자격 증명을 다시 채우는 것을 막기 위함이다.
+     */
+    void put(String loginId, String password, AuthenticatedMember member, long generation);
+
+    /**
+     * 해당 loginId의 캐시를 모든 노드에서 비운다.
+     */
+    void invalidate(String loginId);
+}
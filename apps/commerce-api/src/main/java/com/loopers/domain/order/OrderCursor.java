@@ -0,0 +1,45 @@
+package com.loopers.domain.order;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 주문 내역 keyset 페이지네이션 커서.
+ * 마지막으로 조회한 주문의 (createdAt, id)를 담고, 클라이언트에는 불투명한 토큰으로만 노출한다.
+ *
+ * @param createdAtMicros createdAt의 epoch micros
+ */
+public record OrderCursor(long createdAtMicros, long id) {
+
+    private static final String DELIMITER = ":";
+
+    public static OrderCursor of(OrderSummary order) {
+        return new OrderCursor(ChronoUnit.MICROS.between(Instant.EPOCH, order.createdAt().toInstant()), order.orderId());
+    }
+
+    public ZonedDateTime createdAt() {
+        return Instant.EPOCH.plus(createdAtMicros, ChronoUnit.MICROS).atZone(ZoneId.systemDefault());
+    }
+
+    public String encode() {
+        String raw = createdAtMicros + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new OrderCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
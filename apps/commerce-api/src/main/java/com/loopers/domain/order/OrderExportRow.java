@@ -0,0 +1,16 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 주문 내보내기용 프로젝션. 엔티티로 적재하지 않아 영속성 컨텍스트가 행 수만큼 커지지 않는다.
+ */
+public record OrderExportRow(
+    Long orderId,
+    Long userId,
+    OrderStatus status,
+    int totalAmount,
+    int discountAmount,
+    int finalAmount,
+    ZonedDateTime createdAt
+) {}
@@ -0,0 +1,9 @@
+package com.loopers.domain.order;
+
+public record OrderItemExportRow(
+    Long orderId,
+    Long productId,
+    String productName,
+    int productPrice,
+    int quantity
+) {}
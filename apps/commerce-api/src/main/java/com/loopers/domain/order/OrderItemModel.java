@@ -7,7 +7,9 @@ import com.loopers.support.error.ErrorType;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "order_item")
+@Table(name = "order_item", indexes = {
+    @Index(name = "idx_order_item_order", columnList = "order_id")
+})
 public class OrderItemModel extends BaseEntity {
 
     @Column(name = "order_id", nullable = false)
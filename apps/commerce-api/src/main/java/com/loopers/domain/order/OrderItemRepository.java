@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository {
@@ -9,4 +10,11 @@ public interface OrderItemRepository {
     List<OrderItemModel> saveAll(List<OrderItemModel> orderItems);
 
     List<OrderItemModel> findAllByOrderId(Long orderId);
+
+    /**
+     * 주문별 상품 수와 첫 상품명을 GROUP BY 쿼리 한 번으로 조회한다.
+     */
+    List<OrderItemSummary> summarizeByOrderIds(Collection<Long> orderIds);
+
+    List<OrderItemExportRow> findExportRowsByOrderIds(Collection<Long> orderIds);
 }
@@ -0,0 +1,11 @@
+package com.loopers.domain.order;
+
+/**
+ * 주문별 상품 요약. firstItemName은 가장 먼저 저장된 주문 상품의 이름이다.
+ */
+public record OrderItemSummary(
+    Long orderId,
+    long itemCount,
+    String firstItemName
+) {
+}
@@ -7,7 +7,10 @@ import com.loopers.support.error.ErrorType;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_orders_created", columnList = "created_at")
+})
 public class OrderModel extends BaseEntity {
 
     @Column(name = "user_id", nullable = false)
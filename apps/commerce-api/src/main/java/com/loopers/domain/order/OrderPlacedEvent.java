@@ -0,0 +1,32 @@
+package com.loopers.domain.order;
+
+import java.util.List;
+
+/**
+ * 주문 생성 이벤트 (outbox: order-events / ORDER_PLACED).
+ */
+public record OrderPlacedEvent(
+    Long orderId,
+    Long userId,
+    int totalAmount,
+    int discountAmount,
+    int finalAmount,
+    List<Item> items
+) {
+    public static final String TYPE = "ORDER_PLACED";
+
+    public record Item(Long productId, int quantity, int price) {}
+
+    public static OrderPlacedEvent of(OrderModel order, List<OrderItemModel> items) {
+        return new OrderPlacedEvent(
+            order.getId(),
+            order.userId(),
+            order.totalAmount().value(),
+            order.discountAmount().value(),
+            order.finalAmount().value(),
+            items.stream()
+                .map(item -> new Item(item.productId(), item.quantity(), item.productPrice().value()))
+                .toList()
+        );
+    }
+}
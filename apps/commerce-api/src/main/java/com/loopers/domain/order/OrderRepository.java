@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository {
 
@@ -17,5 +18,16 @@ public interface OrderRepository {
         Long userId, ZonedDateTime startAt, ZonedDateTime endAt
     );
 
+    /**
+     * 사용자의 주문을 (createdAt, id) 내림차순으로 cursor 이후부터 limit 건 조회한다. cursor가 null이면 처음부터.
+     */
+    List<OrderSummary> findSummariesByUserId(Long userId, OrderCursor cursor, int limit);
+
     Page<OrderModel> findAll(Pageable pageable);
+
+    /**
+     * 기간 내 주문을 (createdAt, id) 오름차순으로 서버 커서를 통해 흘려 보낸다.
+     * 트랜잭션과 무관하게 전용 커넥션을 쓰며, 반드시 close 해야 한다. 동시 내보내기가 상한을 넘으면 거절한다.
+     */
+    Stream<OrderExportRow> streamForExport(ZonedDateTime startAt, ZonedDateTime endAt);
 }
@@ -0,0 +1,16 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 주문 내역 목록용 프로젝션. 엔티티로 올리지 않으므로 영속성 컨텍스트 스냅샷/dirty checking 비용이 없다.
+ */
+public record OrderSummary(
+    Long orderId,
+    OrderStatus status,
+    int totalAmount,
+    int discountAmount,
+    int finalAmount,
+    ZonedDateTime createdAt
+) {
+}
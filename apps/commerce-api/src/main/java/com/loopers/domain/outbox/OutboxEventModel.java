@@ -0,0 +1,74 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * 트랜잭셔널 outbox 레코드.
+ * 비즈니스 변경과 같은 트랜잭션에 기록되고, relay가 Kafka 발행에 성공하면 published_at을 채운다.
+ * event_id는 컨슈머가 중복 수신을 걸러내는 멱등 키다.
+ * claimed_by/claimed_until은 relay가 행 잠금 없이 이벤트를 선점하는 리스다. 기한이 지나면 다른 노드가 다시 선점할 수 있다.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+    @Index(name = "idx_outbox_event_published_id", columnList = "published_at, id"),
+    @Index(name = "idx_outbox_event_aggregate", columnList = "topic, aggregate_id, id")
+})
+public class OutboxEventModel extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "published_at")
+    private ZonedDateTime publishedAt;
+
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private ZonedDateTime claimedUntil;
+
+    protected OutboxEventModel() {}
+
+    public OutboxEventModel(OutboxTopic topic, String aggregateId, String eventType, String payload) {
+        this.eventId = UUID.randomUUID().toString();
+        this.topic = topic.topicName();
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    /**
+     * 발행 순서를 지켜야 하는 단위. 같은 토픽의 같은 집계 이벤트는 id 순서대로 발행되어야 한다.
+     */
+    public String orderingKey() {
+        return topic + ":" + aggregateId;
+    }
+
+    public String eventId() { return eventId; }
+    public String topic() { return topic; }
+    public String aggregateId() { return aggregateId; }
+    public String eventType() { return eventType; }
+    public String payload() { return payload; }
+    public ZonedDateTime publishedAt() { return publishedAt; }
+    public String claimedBy() { return claimedBy; }
+    public ZonedDateTime claimedUntil() { return claimedUntil; }
+}
@@ -0,0 +1,29 @@
+package com.loopers.domain.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository {
+    OutboxEventModel save(OutboxEventModel event);
+
+    /**
+     * 선점되지 않았거나 선점 기한이 지난 미발행 이벤트를 id 순으로 잠그며 가져온다.
+     * 다른 노드가 잠근 행은 건너뛴다 (FOR UPDATE SKIP LOCKED).
+     */
+    List<OutboxEventModel> findClaimableForUpdate(ZonedDateTime now, int limit);
+
+    /**
+     * 주어진 이벤트 중, 같은 집계에 이 목록 밖의 더 앞선 미발행 이벤트가 있는 이벤트의 id.
+     */
+    List<Long> findBlockedByEarlierEvents(Collection<Long> ids);
+
+    int claim(Collection<Long> ids, String owner, ZonedDateTime claimedUntil);
+
+    int markPublished(Collection<Long> ids, ZonedDateTime publishedAt);
+
+    /**
+     * owner가 선점한 이벤트의 선점을 해제해 다음 주기에 바로 다시 선점될 수 있게 한다.
+     */
+    int releaseClaim(Collection<Long> ids, String owner);
+}
@@ -0,0 +1,16 @@
+package com.loopers.domain.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트를 메시지 브로커로 발행한다.
+ */
+public interface OutboxEventSender {
+
+    /**
+     * 주어진 이벤트를 한 번에 발행하고, 브로커가 수신을 확인한 이벤트의 id만 반환한다.
+     * 실패한 이벤트는 미발행 상태로 남아 다음 relay 주기에 다시 발행된다.
+     * 같은 집계에서 앞선 이벤트가 실패하면 뒤 이벤트의 ack는 relay가 무시하므로, 보내지 않아도 된다.
+     */
+    List<Long> send(List<OutboxEventModel> events);
+}
@@ -0,0 +1,21 @@
+package com.loopers.domain.outbox;
+
+/**
+ * outbox 이벤트가 발행될 Kafka 토픽.
+ * 같은 집계(aggregate)의 이벤트는 aggregateId를 메시지 키로 사용해 같은 파티션에 순서대로 적재된다.
+ */
+public enum OutboxTopic {
+    ORDER_EVENTS("order-events"),
+    PAYMENT_EVENTS("payment-events"),
+    CATALOG_EVENTS("catalog-events");
+
+    private final String topicName;
+
+    OutboxTopic(String topicName) {
+        this.topicName = topicName;
+    }
+
+    public String topicName() {
+        return topicName;
+    }
+}
@@ -7,7 +7,9 @@ import com.loopers.support.error.ErrorType;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payments_status_id", columnList = "status, id")
+})
 public class PaymentModel extends BaseEntity {
 
     @Column(name = "order_id", nullable = false)
@@ -0,0 +1,31 @@
+package com.loopers.domain.payment;
+
+/**
+ * 결제 결과 확정 이벤트 (outbox: payment-events / PAYMENT_SUCCEEDED, PAYMENT_FAILED).
+ */
+public record PaymentResultEvent(
+    Long paymentId,
+    Long orderId,
+    Long userId,
+    int amount,
+    String status,
+    String failureReason
+) {
+    public static final String SUCCEEDED = "PAYMENT_SUCCEEDED";
+    public static final String FAILED = "PAYMENT_FAILED";
+
+    public static PaymentResultEvent of(PaymentModel payment) {
+        return new PaymentResultEvent(
+            payment.getId(),
+            payment.orderId(),
+            payment.userId(),
+            payment.amount().value(),
+            payment.status().name(),
+            payment.failureReason()
+        );
+    }
+
+    public String type() {
+        return PaymentStatus.SUCCESS.name().equals(status) ? SUCCEEDED : FAILED;
+    }
+}
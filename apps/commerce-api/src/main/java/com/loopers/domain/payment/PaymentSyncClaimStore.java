@@ -0,0 +1,16 @@
+package com.loopers.domain.payment;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * PENDING 결제 동기화 선점 저장소.
+ * 여러 노드가 같은 PENDING 목록을 스캔하더라도, 선점에 성공한 노드만 해당 결제를 PG와 동기화한다.
+ */
+public interface PaymentSyncClaimStore {
+
+    /**
+     * 주어진 결제 중 이번에 선점한 결제 ID만 반환한다. 선점은 ttl 동안 유지되며, 그동안 다른 노드는 같은 결제를 선점할 수 없다.
+     */
+    List<Long> claim(List<Long> paymentIds, Duration ttl);
+}
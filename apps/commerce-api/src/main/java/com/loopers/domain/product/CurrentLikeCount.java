@@ -0,0 +1,14 @@
+package com.loopers.domain.product;
+
+/**
+ * 상세 조회 시점의 좋아요 수.
+ *
+ * @param committed    좋아요 수 캐시의 DB 반영분. 캐시가 초기화되지 않았으면 null
+ * @param pendingDelta 아직 DB에 반영되지 않은 delta
+ */
+public record CurrentLikeCount(Long committed, long pendingDelta) {
+
+    public static CurrentLikeCount unavailable() {
+        return new CurrentLikeCount(null, 0L);
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 좋아요 수 write-behind 버퍼.
+ * 좋아요/취소마다 product row를 UPDATE하지 않고 delta만 누적한 뒤, 스케줄러가 일괄 반영한다.
+ * 조회 시에는 아직 반영되지 않은 delta를 DB 값에 더해 보여준다.
+ */
+public interface LikeCountBuffer {
+
+    void add(Long productId, long delta);
+
+    /**
+     * 아직 DB에 반영되지 않은 delta. delta가 없는 상품은 결과에 포함되지 않는다.
+     */
+    Map<Long, Long> getPendingDeltas(Collection<Long> productIds);
+
+    /**
+     * 반영할 delta 스냅샷을 가져온다. 다른 노드가 flush 중이거나 반영할 delta가 없으면 빈 Map을 반환한다.
+     * 반환 이후 누적되는 delta는 다음 스냅샷으로 넘어간다.
+     */
+    Map<Long, Long> beginFlush();
+
+    /**
+     * DB 반영이 끝난 스냅샷을 버퍼에서 제거한다.
+     */
+    void completeFlush();
+
+    /**
+     * DB 반영에 실패한 경우 스냅샷은 유지한 채 flush 권한만 반납한다. 다음 주기에 같은 스냅샷을 다시 반영한다.
+     */
+    void abortFlush();
+}
@@ -0,0 +1,34 @@
+package com.loopers.domain.product;
+
+import java.util.Map;
+
+/**
+ * productDetail 캐시와 분리해 보관하는 상품별 좋아요 수 (DB 반영분).
+ * 좋아요 수가 바뀔 때 상세 캐시 전체를 삭제하지 않고 이 값만 갱신하며, 조회 시 캐시된 상세에 덮어쓴다.
+ * 조회는 미반영 delta와 함께 {@link LikeCountReader}로 한다.
+ */
+public interface LikeCountCache {
+
+    /**
+     * 초기화 경쟁 판정용 버전. DB에서 좋아요 수를 읽기 전에 받아 seed에 넘긴다.
+     */
+    long version(Long productId);
+
+    /**
+     * DB의 좋아요 수로 초기화한다. 이미 값이 있거나, version 이후 flush 반영·삭제가 있었으면 초기화하지 않는다.
+     *
+     * @return 초기화 여부
+     */
+    boolean seed(Long productId, long likeCount, long version);
+
+    /**
+     * DB에 반영된 delta를 더한다. 초기화되지 않은 상품은 더하지 않고 버전만 올려,
+     * 반영 이전에 읽은 DB 값으로 초기화되지 않게 한다. (다음 조회 때 DB 값으로 다시 초기화된다)
+     */
+    void applyDeltas(Map<Long, Long> deltas);
+
+    /**
+     * 값을 지우고 버전을 올린다. 삭제 이전에 읽은 DB 값으로 다시 초기화되지 않는다.
+     */
+    void remove(Long productId);
+}
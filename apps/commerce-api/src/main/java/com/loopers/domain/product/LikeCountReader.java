@@ -0,0 +1,13 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품 상세 조회용 좋아요 수 조회.
+ * 좋아요 수 캐시({@link LikeCountCache})와 미반영 delta({@link LikeCountBuffer})를 왕복 한 번으로 함께 읽는다.
+ */
+public interface LikeCountReader {
+
+    /**
+     * 조회할 수 없으면 {@link CurrentLikeCount#unavailable()}를 반환한다.
+     */
+    CurrentLikeCount read(Long productId);
+}
@@ -0,0 +1,60 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset 페이지네이션 커서.
+ * 마지막으로 조회한 상품의 (정렬 키, id)를 담고, 클라이언트에는 불투명한 토큰으로만 노출한다.
+ *
+ * @param sortValue 정렬 키. CREATED 계열은 createdAt의 epoch micros, PRICE 계열은 가격, LIKES는 좋아요 수
+ */
+public record ProductCursor(ProductSortType sortType, long sortValue, long id) {
+
+    private static final String DELIMITER = ":";
+
+    public static ProductCursor of(ProductModel product, ProductSortType sortType) {
+        long sortValue = switch (sortType) {
+            case LATEST, CREATED_DESC -> ChronoUnit.MICROS.between(Instant.EPOCH, product.getCreatedAt().toInstant());
+            case PRICE_ASC, PRICE_DESC -> product.getPrice().value();
+            case LIKES_DESC -> product.getLikeCount();
+        };
+        return new ProductCursor(sortType, sortValue, product.getId());
+    }
+
+    public ZonedDateTime sortValueAsDateTime() {
+        return Instant.EPOCH.plus(sortValue, ChronoUnit.MICROS).atZone(ZoneId.systemDefault());
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new ProductCursor(
+                ProductSortType.valueOf(parts[0]),
+                Long.parseLong(parts[1]),
+                Long.parseLong(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public void validateSortType(ProductSortType requested) {
+        if (this.sortType != requested) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "커서의 정렬 기준과 요청한 정렬 기준이 다릅니다.");
+        }
+    }
+}
@@ -10,14 +10,14 @@ public interface ProductRepository {
 
     ProductModel save(ProductModel product);
 
-    int incrementLikeCount(Long productId);
-
-    int decrementLikeCount(Long productId);
+    int applyLikeCountDelta(Long productId, int delta);
 
     Optional<ProductModel> findById(Long id);
     List<ProductModel> findAllByBrandId(Long brandId);
 
     Page<ProductModel> findAll(Long brandId, Pageable pageable, ProductSortType sortType);
 
+    List<ProductModel> findAllByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int limit);
+
     List<ProductModel> findAllByIdInAndDeletedAtIsNull(List<Long> ids);
 }
@@ -0,0 +1,6 @@
+package com.loopers.domain.queue;
+
+public enum AdmissionStatus {
+    WAITING,
+    ADMITTED
+}
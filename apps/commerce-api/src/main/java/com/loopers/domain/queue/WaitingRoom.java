@@ -0,0 +1,44 @@
+package com.loopers.domain.queue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 대기열과 입장 토큰 저장소.
+ */
+public interface WaitingRoom {
+
+    /**
+     * 대기열에 진입한다. 이미 대기 중이면 기존 순서를 유지한다.
+     *
+     * @return 0부터 시작하는 대기 순번. 이미 입장 토큰을 받은 사용자면 null
+     */
+    Long enter(Long userId);
+
+    /**
+     * @return 0부터 시작하는 대기 순번. 대기열에 없으면 null
+     */
+    Long findRank(Long userId);
+
+    String findToken(Long userId);
+
+    /**
+     * 대기열 앞에서부터 최대 count명에게 입장 토큰을 발급한다.
+     * 여러 노드가 동시에 호출해도 입장 주기당 한 번만 발급된다.
+     *
+     * @return 입장한 사용자 ID. 이번 주기에 다른 노드가 이미 발급했으면 빈 목록
+     */
+    List<Long> admitNext(int count);
+
+    /**
+     * 토큰이 일치할 때만 확인과 삭제를 한 번에 수행한다. 같은 토큰으로 동시에 호출해도 한 번만 성공한다.
+     *
+     * @return 삭제 직전의 남은 유효 시간. 토큰이 없거나 일치하지 않으면 null
+     */
+    Duration consumeToken(Long userId, String token);
+
+    /**
+     * 소비한 토큰을 남은 유효 시간만큼 되돌린다. 그 사이 새 토큰을 받았으면 덮어쓰지 않는다.
+     */
+    void restoreToken(Long userId, String token, Duration remaining);
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.ranking;
+
+import java.util.List;
+
+public interface ProductRankingStore {
+
+    /**
+     * 점수 내림차순으로 offset부터 size개를 조회한다. (ZREVRANGE WITHSCORES)
+     */
+    List<RankedProduct> findRange(String key, long offset, int size);
+
+    long count(String key);
+}
@@ -0,0 +1,6 @@
+package com.loopers.domain.ranking;
+
+/**
+ * 랭킹 ZSET의 한 항목. rank는 1부터 시작한다.
+ */
+public record RankedProduct(long rank, Long productId, double score) {}
@@ -0,0 +1,41 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 랭킹 ZSET의 시간 창. 점수는 commerce-streamer가 기록한다.
+ * 키 형식은 commerce-streamer의 RankingPeriod와 동일해야 한다. (ranking:all:20260101, ranking:hourly:2026010113)
+ */
+public enum RankingPeriod {
+    DAILY("ranking:all:", DateTimeFormatter.ofPattern("yyyyMMdd")),
+    HOURLY("ranking:hourly:", DateTimeFormatter.ofPattern("yyyyMMddHH"));
+
+    private final String keyPrefix;
+    private final DateTimeFormatter formatter;
+
+    RankingPeriod(String keyPrefix, DateTimeFormatter formatter) {
+        this.keyPrefix = keyPrefix;
+        this.formatter = formatter;
+    }
+
+    public String key(ZonedDateTime at) {
+        return keyPrefix + formatter.format(at);
+    }
+
+    /**
+     * 요청으로 받은 시간 창 값(DAILY: yyyyMMdd, HOURLY: yyyyMMddHH)으로 키를 만든다.
+     */
+    public String key(String window) {
+        try {
+            formatter.parse(window);
+        } catch (DateTimeParseException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "랭킹 조회 기준 시각 형식이 올바르지 않습니다: " + window);
+        }
+        return keyPrefix + window;
+    }
+}
@@ -0,0 +1,6 @@
+package com.loopers.domain.stock;
+
+/**
+ * 재고 수량 스칼라 프로젝션. 엔티티를 영속성 컨텍스트에 올리지 않아야 하는 조회(이후 FOR UPDATE 재조회 등)에 사용한다.
+ */
+public record StockQuantity(Long productId, int quantity) {}
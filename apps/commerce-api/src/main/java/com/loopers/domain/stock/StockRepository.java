@@ -9,5 +9,9 @@ public interface StockRepository {
 
     Optional<StockModel> findByProductIdForUpdate(Long productId);
 
+    List<StockModel> findAllByProductIdInForUpdate(List<Long> productIds);
+
     List<StockModel> findAllByProductIdIn(List<Long> productIds);
+
+    List<StockQuantity> findQuantitiesByProductIdIn(List<Long> productIds);
 }
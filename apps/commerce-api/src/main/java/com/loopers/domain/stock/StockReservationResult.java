@@ -0,0 +1,7 @@
+package com.loopers.domain.stock;
+
+public enum StockReservationResult {
+    RESERVED,
+    INSUFFICIENT,
+    NOT_LOADED
+}
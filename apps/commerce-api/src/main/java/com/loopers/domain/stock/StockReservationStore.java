@@ -0,0 +1,40 @@
+package com.loopers.domain.stock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비관적 락 앞단의 재고 예약 저장소.
+ * 재고가 부족한 주문은 여기서 거절되어 stock row 락까지 도달하지 않는다. 최종 정합성은 stock 테이블이 보장한다.
+ */
+public interface StockReservationStore {
+
+    /**
+     * 모든 상품의 가용 재고가 충분할 때만 한 번에 차감한다. (all-or-nothing)
+     * 가용 재고가 적재되지 않은 상품이 하나라도 있으면 아무것도 차감하지 않고 NOT_LOADED를 반환한다.
+     */
+    StockReservationResult reserve(String reservationId, Map<Long, Integer> quantities, Duration ttl);
+
+    /**
+     * DB 재고에서 진행 중인 예약 수량을 뺀 값을 가용 재고로 적재한다.
+     *
+     * @param overwrite false면 아직 적재되지 않은 상품만 적재한다.
+     */
+    void load(Map<Long, Integer> stockQuantities, boolean overwrite);
+
+    /**
+     * 주문 커밋 후 예약을 확정한다. 이미 확정/보상된 예약이면 false.
+     */
+    boolean confirm(String reservationId);
+
+    /**
+     * 예약 수량을 가용 재고로 되돌린다. 이미 확정/보상된 예약이면 false.
+     */
+    boolean release(String reservationId);
+
+    List<String> findExpiredReservationIds(Instant now, int limit);
+
+    List<Long> findLoadedProductIds();
+}
@@ -0,0 +1,112 @@
+package com.loopers.infrastructure.coupon;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.CacheInvalidationPublisher;
+import com.loopers.config.redis.NearCacheInvalidationTarget;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.domain.coupon.CouponSnapshotCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 프로세스 로컬 쿠폰 스냅샷 캐시.
+ *
+ * 무효화 시 커밋된 버전(updated_at)을 최소 버전으로 기록해 두고, 그보다 오래된 스냅샷은 저장하지 않는다.
+ * 변경 커밋 전에 시작된 조회나 replica 지연으로 이전 값을 읽은 조회가 캐시를 다시 채우는 것을 막기 위함이다.
+ * 최소 버전 기록도 TTL 동안만 유지하므로, 롤백 등으로 기록이 어긋나도 TTL 이후에는 정상적으로 캐시된다.
+ *
+ * 무효화는 near-cache 무효화 채널로 다른 노드에도 전파된다. 메시지 키에 커밋된 버전을 함께 실어("couponId@version")
+ * 다른 노드도 같은 최소 버전을 기록한다. 발행/수신이 실패한 노드에서는 TTL이 지나야 변경된 쿠폰 정의가 반영된다.
+ */
+@Component
+public class CaffeineCouponSnapshotCache implements CouponSnapshotCache, NearCacheInvalidationTarget {
+
+    static final String CACHE_NAME = "couponSnapshot";
+    private static final char VERSION_SEPARATOR = '@';
+
+    private final Cache<Long, CouponSnapshot> snapshots;
+    private final Cache<Long, Instant> minVersions;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public CaffeineCouponSnapshotCache(
+        @Value("${coupon-snapshot.cache.ttl:60s}") Duration ttl,
+        @Value("${coupon-snapshot.cache.max-size:10000}") long maxSize,
+        CacheInvalidationPublisher invalidationPublisher
+    ) {
+        this.snapshots = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .build();
+        this.minVersions = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .build();
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public Optional<CouponSnapshot> find(Long couponId) {
+        return Optional.ofNullable(snapshots.getIfPresent(couponId));
+    }
+
+    @Override
+    public void put(CouponSnapshot snapshot) {
+        if (isStale(snapshot)) {
+            return;
+        }
+        snapshots.asMap().merge(snapshot.id(), snapshot,
+            (current, candidate) -> candidate.version().isBefore(current.version()) ? current : candidate);
+        // 저장하는 사이에 무효화가 끼어들었으면 방금 넣은 스냅샷을 되돌린다.
+        if (isStale(snapshot)) {
+            snapshots.asMap().remove(snapshot.id(), snapshot);
+        }
+    }
+
+    private boolean isStale(CouponSnapshot snapshot) {
+        Instant minVersion = minVersions.getIfPresent(snapshot.id());
+        return minVersion != null && snapshot.version().isBefore(minVersion);
+    }
+
+    @Override
+    public void invalidate(Long couponId) {
+        snapshots.invalidate(couponId);
+        invalidationPublisher.publishEvict(CACHE_NAME, String.valueOf(couponId));
+    }
+
+    @Override
+    public void invalidate(Long couponId, Instant committedVersion) {
+        invalidateLocal(couponId, committedVersion);
+        invalidationPublisher.publishEvict(CACHE_NAME, couponId + String.valueOf(VERSION_SEPARATOR) + committedVersion);
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictLocal(String key) {
+        int separator = key.indexOf(VERSION_SEPARATOR);
+        if (separator < 0) {
+            snapshots.invalidate(Long.valueOf(key));
+            return;
+        }
+        invalidateLocal(Long.valueOf(key.substring(0, separator)), Instant.parse(key.substring(separator + 1)));
+    }
+
+    @Override
+    public void clearLocal() {
+        snapshots.invalidateAll();
+    }
+
+    private void invalidateLocal(Long couponId, Instant committedVersion) {
+        minVersions.asMap().merge(couponId, committedVersion,
+            (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+        snapshots.invalidate(couponId);
+    }
+}
@@ -2,12 +2,15 @@ package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.CouponIssueModel;
 import com.loopers.domain.coupon.CouponIssueRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,12 +19,48 @@ import java.util.Optional;
 public class CouponIssueRepositoryImpl implements CouponIssueRepository {
 
     private final CouponIssueJpaRepository couponIssueJpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public CouponIssueModel save(CouponIssueModel couponIssue) {
         return couponIssueJpaRepository.save(couponIssue);
     }
 
+    /**
+     * IDENTITY 전략이라 JPA saveAll은 건마다 INSERT가 나가므로, 네이티브 multi-row INSERT IGNORE로 한 번에 저장한다.
+     * 파라미터 바인딩은 Hibernate를 거치므로 날짜 컬럼은 엔티티 저장과 같은 규칙(UTC)으로 기록된다.
+     */
+    @Override
+    public int saveAllIgnoringDuplicates(List<CouponIssueModel> couponIssues) {
+        if (couponIssues.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(
+            "INSERT IGNORE INTO coupon_issue (coupon_id, user_id, expired_at, created_at, updated_at) VALUES "
+        );
+        for (int i = 0; i < couponIssues.size(); i++) {
+            int base = i * 4;
+            sql.append(i == 0 ? "" : ", ")
+                .append("(?").append(base + 1)
+                .append(", ?").append(base + 2)
+                .append(", ?").append(base + 3)
+                .append(", ?").append(base + 4)
+                .append(", ?").append(base + 4).append(")");
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        ZonedDateTime now = ZonedDateTime.now();
+        for (int i = 0; i < couponIssues.size(); i++) {
+            CouponIssueModel couponIssue = couponIssues.get(i);
+            int base = i * 4;
+            query.setParameter(base + 1, couponIssue.couponId());
+            query.setParameter(base + 2, couponIssue.userId());
+            query.setParameter(base + 3, couponIssue.expiredAt());
+            query.setParameter(base + 4, now);
+        }
+        return query.executeUpdate();
+    }
+
     @Override
     public Optional<CouponIssueModel> findById(Long id) {
         return couponIssueJpaRepository.findById(id);
@@ -0,0 +1,187 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponIssueAdmission;
+import com.loopers.domain.coupon.CouponIssueDrain;
+import com.loopers.domain.coupon.CouponIssueQueue;
+import com.loopers.domain.coupon.CouponIssueRequest;
+import com.loopers.domain.coupon.CouponSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 선착순 쿠폰 발급 대기열.
+ *
+ * - 발급자 집합 : coupon:issue:{couponId}:users (Set). 집합 크기가 곧 발급 수량이다.
+ * - 대기열     : coupon:issue:pending (List, "couponId:userId"). 접수 순서대로 writer가 저장한다.
+ * - dead letter: coupon:issue:dead-letter (List). 삭제된 쿠폰, 해석할 수 없는 항목 등 다시 시도해도 저장할 수 없는 건을 옮겨 둔다.
+ *
+ * 중복 확인 → 수량 확인 → 집합 추가 → 대기열 추가를 Lua 스크립트 한 번으로 수행해, 동시 요청에도 수량을 초과하지 않는다.
+ * 발급자 집합은 쿠폰 만료 하루 뒤에 만료된다. (만료된 쿠폰은 Redis에 오기 전에 거절된다)
+ *
+ * 저장은 락(SET NX)으로 한 번에 한 노드만 수행하고, 저장이 끝난 건만 LTRIM으로 제거한다.
+ * 저장 직후 제거 전에 장애가 나면 같은 건을 다시 저장하는 at-least-once 구조이며, 중복은 유니크 키로 무시된다.
+ *
+ * 락 소유 확인 → dead letter 이동 → LTRIM → 락 해제는 Lua 스크립트 한 번으로 수행한다.
+ * 저장이 락 TTL보다 오래 걸려 다른 노드가 락을 가져간 경우, 그 노드가 읽은 범위를 모르므로 아무것도 제거하지 않는다.
+ * (남은 건은 락을 가진 노드가 다시 저장하고, 이미 저장된 건은 유니크 키로 무시된다)
+ */
+@Slf4j
+@Component
+public class RedisCouponIssueQueue implements CouponIssueQueue {
+
+    private static final String USERS_KEY_FORMAT = "coupon:issue:%d:users";
+    private static final String PENDING_KEY = "coupon:issue:pending";
+    private static final String DEAD_LETTER_KEY = "coupon:issue:dead-letter";
+    private static final String DRAIN_LOCK_KEY = "coupon:issue:pending:drain-lock";
+    private static final Duration DRAIN_LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration USERS_RETENTION = Duration.ofDays(1);
+
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+          return 0
+        end
+        if redis.call('SCARD', KEYS[1]) >= tonumber(ARGV[2]) then
+          return -1
+        end
+        redis.call('SADD', KEYS[1], ARGV[1])
+        redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+        redis.call('RPUSH', KEYS[2], ARGV[4])
+        return 1
+        """, Long.class);
+
+    // ARGV[1] = 노드 ID, ARGV[2] = 제거할 건수, ARGV[3..] = dead letter로 옮길 항목
+    private static final RedisScript<Long> COMPLETE_DRAIN_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+          return 0
+        end
+        if #ARGV > 2 then
+          redis.call('RPUSH', KEYS[3], unpack(ARGV, 3))
+        end
+        redis.call('LTRIM', KEYS[2], tonumber(ARGV[2]), -1)
+        redis.call('DEL', KEYS[1])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+          return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisCouponIssueQueue(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public CouponIssueAdmission admit(CouponSnapshot coupon, Long userId) {
+        long usersExpireAt = coupon.expiredAt().atZone(ZoneId.systemDefault()).toInstant()
+            .plus(USERS_RETENTION)
+            .toEpochMilli();
+        Long result = masterRedisTemplate.execute(
+            ADMIT_SCRIPT,
+            List.of(String.format(USERS_KEY_FORMAT, coupon.id()), PENDING_KEY),
+            String.valueOf(userId),
+            String.valueOf(coupon.totalQuantity()),
+            String.valueOf(usersExpireAt),
+            coupon.id() + ":" + userId
+        );
+        if (result == null || result < 0) {
+            return CouponIssueAdmission.SOLD_OUT;
+        }
+        return result == 0 ? CouponIssueAdmission.ALREADY_ISSUED : CouponIssueAdmission.ACCEPTED;
+    }
+
+    @Override
+    public CouponIssueDrain beginDrain(int maxSize) {
+        Boolean acquired = masterRedisTemplate.opsForValue().setIfAbsent(DRAIN_LOCK_KEY, nodeId, DRAIN_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return CouponIssueDrain.empty();
+        }
+
+        try {
+            List<String> entries = masterRedisTemplate.opsForList().range(PENDING_KEY, 0, maxSize - 1);
+            if (entries == null || entries.isEmpty()) {
+                releaseLock();
+                return CouponIssueDrain.empty();
+            }
+            List<CouponIssueRequest> requests = new ArrayList<>(entries.size());
+            List<String> malformed = new ArrayList<>();
+            for (String entry : entries) {
+                CouponIssueRequest request = parse(entry);
+                if (request == null) {
+                    malformed.add(entry);
+                } else {
+                    requests.add(request);
+                }
+            }
+            return new CouponIssueDrain(requests, malformed);
+        } catch (RuntimeException e) {
+            releaseLock();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean completeDrain(CouponIssueDrain drain, List<CouponIssueRequest> deadLetters) {
+        List<String> args = new ArrayList<>();
+        args.add(nodeId);
+        args.add(String.valueOf(drain.size()));
+        deadLetters.forEach(request -> args.add(request.couponId() + ":" + request.userId()));
+        args.addAll(drain.malformed());
+
+        Long completed = masterRedisTemplate.execute(
+            COMPLETE_DRAIN_SCRIPT,
+            List.of(DRAIN_LOCK_KEY, PENDING_KEY, DEAD_LETTER_KEY),
+            args.toArray()
+        );
+        return completed != null && completed == 1;
+    }
+
+    @Override
+    public void abortDrain() {
+        releaseLock();
+    }
+
+    private void releaseLock() {
+        try {
+            masterRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(DRAIN_LOCK_KEY), nodeId);
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 대기열 락 해제 실패 - TTL 만료 후 해제됩니다. error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 형식("couponId:userId")이 맞지 않으면 null.
+     */
+    private CouponIssueRequest parse(String entry) {
+        int separator = entry.indexOf(':');
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return new CouponIssueRequest(
+                Long.valueOf(entry.substring(0, separator)),
+                Long.valueOf(entry.substring(separator + 1))
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
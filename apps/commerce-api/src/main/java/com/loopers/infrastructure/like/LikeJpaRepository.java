@@ -1,21 +1,53 @@
 package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.LikeModel;
+import com.loopers.domain.like.LikedProduct;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeJpaRepository extends JpaRepository<LikeModel, Long> {
 
     Optional<LikeModel> findByUserIdAndProductId(Long userId, Long productId);
 
+    /**
+     * 활성 좋아요를 새로 넣는다. uk_likes_user_product에 걸리면(이미 row가 있으면) 아무것도 하지 않고 0을 반환한다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, product_id, created_at, updated_at, deleted_at)"
+        + " VALUES (:userId, :productId, :now, :now, NULL)",
+        nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("productId") Long productId, @Param("now") ZonedDateTime now);
+
+    /**
+     * 취소된 좋아요만 복구한다. 조건에 deleted_at IS NOT NULL을 두어 매칭된 row가 곧 변경된 row가 되게 한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE likes SET updated_at = :now, deleted_at = NULL"
+        + " WHERE user_id = :userId AND product_id = :productId AND deleted_at IS NOT NULL",
+        nativeQuery = true)
+    int restoreDeleted(@Param("userId") Long userId, @Param("productId") Long productId, @Param("now") ZonedDateTime now);
+
     Optional<LikeModel> findByUserIdAndProductIdAndDeletedAtIsNull(Long userId, Long productId);
 
     @Query("SELECT l FROM LikeModel l WHERE l.userId = :userId AND l.deletedAt IS NULL " +
            "AND EXISTS (SELECT 1 FROM ProductModel p WHERE p.id = l.productId AND p.deletedAt IS NULL)")
     Page<LikeModel> findActiveLikesWithActiveProduct(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "SELECT new com.loopers.domain.like.LikedProduct(l.id, p.id, p.name, p.price.value, l.createdAt)"
+        + " FROM LikeModel l JOIN ProductModel p ON p.id = l.productId"
+        + " WHERE l.userId = :userId AND l.deletedAt IS NULL AND p.deletedAt IS NULL",
+        countQuery = "SELECT COUNT(l) FROM LikeModel l JOIN ProductModel p ON p.id = l.productId"
+            + " WHERE l.userId = :userId AND l.deletedAt IS NULL AND p.deletedAt IS NULL")
+    Page<LikedProduct> findActiveLikedProducts(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT l.productId FROM LikeModel l WHERE l.userId = :userId AND l.deletedAt IS NULL")
+    List<Long> findActiveProductIdsByUserId(@Param("userId") Long userId);
 }
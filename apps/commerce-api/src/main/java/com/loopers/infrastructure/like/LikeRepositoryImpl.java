@@ -2,11 +2,15 @@ package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.LikeModel;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikeUpsertResult;
+import com.loopers.domain.like.LikedProduct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -25,6 +29,22 @@ public class LikeRepositoryImpl implements LikeRepository {
         return likeJpaRepository.findByUserIdAndProductId(userId, productId);
     }
 
+    /**
+     * INSERT IGNORE → (중복이면) 취소 row 복구 UPDATE 순서로 수행한다. 호출자의 트랜잭션 안에서 실행되어야 한다.
+     * 두 문장 모두 "매칭된 row = 변경된 row"라서, 커넥션의 useAffectedRows 설정과 관계없이 결과가 같다.
+     * 새 좋아요(가장 흔한 경우)는 INSERT 한 번으로 끝난다.
+     */
+    @Override
+    public LikeUpsertResult upsertActive(Long userId, Long productId) {
+        ZonedDateTime now = ZonedDateTime.now();
+        if (likeJpaRepository.insertIfAbsent(userId, productId, now) > 0) {
+            return LikeUpsertResult.INSERTED;
+        }
+        return likeJpaRepository.restoreDeleted(userId, productId, now) > 0
+            ? LikeUpsertResult.RESTORED
+            : LikeUpsertResult.UNCHANGED;
+    }
+
     @Override
     public Optional<LikeModel> findByUserIdAndProductIdAndDeletedAtIsNull(Long userId, Long productId) {
         return likeJpaRepository.findByUserIdAndProductIdAndDeletedAtIsNull(userId, productId);
@@ -34,4 +54,14 @@ public class LikeRepositoryImpl implements LikeRepository {
     public Page<LikeModel> findActiveLikesWithActiveProduct(Long userId, Pageable pageable) {
         return likeJpaRepository.findActiveLikesWithActiveProduct(userId, pageable);
     }
+
+    @Override
+    public Page<LikedProduct> findActiveLikedProducts(Long userId, Pageable pageable) {
+        return likeJpaRepository.findActiveLikedProducts(userId, pageable);
+    }
+
+    @Override
+    public List<Long> findActiveProductIdsByUserId(Long userId) {
+        return likeJpaRepository.findActiveProductIdsByUserId(userId);
+    }
 }
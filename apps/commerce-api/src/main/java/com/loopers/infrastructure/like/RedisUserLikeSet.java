@@ -0,0 +1,180 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.UserLikeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis Set 기반 사용자별 좋아요 집합. key = like:user:{userId}, member = productId.
+ *
+ * 좋아요가 하나도 없는 사용자도 "만들어진 집합"으로 구분하기 위해 표식 멤버(BUILT_MARKER)를 함께 넣는다.
+ * 조회는 SMISMEMBER 한 번으로 표식과 페이지의 상품들을 같이 확인한다.
+ * 좋아요/취소 반영은 표식이 없어도 수행하며, 표식이 없으면 다음 조회 때 DB로 다시 채운다.
+ *
+ * 재생성은 임시 키에 먼저 만든 뒤 RENAME으로 교체한다. 좋아요/취소 반영마다 like:user:{userId}:version을 올리고,
+ * DB 조회 전에 받아 둔 버전이 그대로일 때만 교체하므로(Lua 스크립트로 확인과 교체를 한 번에 수행),
+ * DB 조회와 교체 사이에 커밋된 취소가 재생성에 덮여 되살아나지 않는다. 교체하지 못하면 다음 조회 때 다시 만든다.
+ *
+ * TTL은 집합을 만들 때 한 번만 건다. 좋아요마다 연장하면 자주 쓰는 사용자의 집합이 DB와 어긋나도 영영 다시 만들어지지 않기 때문이다.
+ * 표식 없이 반영만 쌓인 키는 반영 시점에 TTL을 걸어 남지 않게 한다.
+ *
+ * 변경 직후 replica 지연으로 방금 누른 좋아요가 빠져 보이지 않도록 조회도 master에서 수행한다.
+ */
+@Slf4j
+@Component
+public class RedisUserLikeSet implements UserLikeSet {
+
+    private static final String KEY_PREFIX = "like:user:";
+    private static final String BUILT_MARKER = "_";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final String BUILD_SUFFIX = ":build:";
+    private static final Duration TTL = Duration.ofDays(1);
+    // 재생성 한 번(DB 조회 ~ 교체)보다 충분히 길기만 하면 된다
+    private static final Duration VERSION_TTL = Duration.ofMinutes(1);
+
+    // KEYS[1] = 집합 키, KEYS[2] = 버전 키 / ARGV = 멤버, 표식, TTL(ms), 버전 TTL(ms)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('SADD', KEYS[1], ARGV[1])
+        if redis.call('SISMEMBER', KEYS[1], ARGV[2]) == 0 then
+          redis.call('PEXPIRE', KEYS[1], ARGV[3])
+        end
+        redis.call('INCR', KEYS[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[4])
+        return 1
+        """, Long.class);
+
+    // KEYS[1] = 집합 키, KEYS[2] = 버전 키 / ARGV = 멤버, 버전 TTL(ms)
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('SREM', KEYS[1], ARGV[1])
+        redis.call('INCR', KEYS[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[2])
+        return 1
+        """, Long.class);
+
+    // KEYS[1] = 임시 키, KEYS[2] = 집합 키, KEYS[3] = 버전 키 / ARGV = 기대 버전, TTL(ms)
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+        if tonumber(redis.call('GET', KEYS[3]) or '0') ~= tonumber(ARGV[1]) then
+          redis.call('DEL', KEYS[1])
+          return 0
+        end
+        redis.call('RENAME', KEYS[1], KEYS[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[2])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisUserLikeSet(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public Optional<Set<Long>> findLiked(Long userId, Collection<Long> productIds) {
+        List<Object> members = new ArrayList<>(productIds.size() + 1);
+        members.add(BUILT_MARKER);
+        productIds.forEach(productId -> members.add(String.valueOf(productId)));
+
+        try {
+            Map<Object, Boolean> result = masterRedisTemplate.opsForSet().isMember(key(userId), members.toArray());
+            if (result == null || !Boolean.TRUE.equals(result.get(BUILT_MARKER))) {
+                return Optional.empty();
+            }
+            Set<Long> liked = new HashSet<>();
+            for (Long productId : productIds) {
+                if (Boolean.TRUE.equals(result.get(String.valueOf(productId)))) {
+                    liked.add(productId);
+                }
+            }
+            return Optional.of(liked);
+        } catch (RuntimeException e) {
+            log.warn("사용자 좋아요 집합 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long version(Long userId) {
+        String version = masterRedisTemplate.opsForValue().get(versionKey(userId));
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    @Override
+    public boolean rebuild(Long userId, Collection<Long> likedProductIds, long version) {
+        String[] members = new String[likedProductIds.size() + 1];
+        members[0] = BUILT_MARKER;
+        int i = 1;
+        for (Long productId : likedProductIds) {
+            members[i++] = String.valueOf(productId);
+        }
+        String buildKey = key(userId) + BUILD_SUFFIX + UUID.randomUUID();
+        try {
+            masterRedisTemplate.opsForSet().add(buildKey, members);
+            masterRedisTemplate.expire(buildKey, VERSION_TTL);
+            Long replaced = masterRedisTemplate.execute(
+                REPLACE_SCRIPT,
+                List.of(buildKey, key(userId), versionKey(userId)),
+                String.valueOf(version),
+                String.valueOf(TTL.toMillis())
+            );
+            return replaced != null && replaced == 1;
+        } catch (RuntimeException e) {
+            log.warn("사용자 좋아요 집합 생성 실패 - userId: {}, error: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void add(Long userId, Long productId) {
+        try {
+            masterRedisTemplate.execute(
+                ADD_SCRIPT,
+                List.of(key(userId), versionKey(userId)),
+                String.valueOf(productId),
+                BUILT_MARKER,
+                String.valueOf(TTL.toMillis()),
+                String.valueOf(VERSION_TTL.toMillis())
+            );
+        } catch (RuntimeException e) {
+            log.warn("사용자 좋아요 집합 추가 실패 - userId: {}, productId: {}, error: {}", userId, productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void remove(Long userId, Long productId) {
+        try {
+            masterRedisTemplate.execute(
+                REMOVE_SCRIPT,
+                List.of(key(userId), versionKey(userId)),
+                String.valueOf(productId),
+                String.valueOf(VERSION_TTL.toMillis())
+            );
+        } catch (RuntimeException e) {
+            log.warn("사용자 좋아요 집합 삭제 실패 - userId: {}, productId: {}, error: {}", userId, productId, e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return key(userId) + VERSION_SUFFIX;
+    }
+}
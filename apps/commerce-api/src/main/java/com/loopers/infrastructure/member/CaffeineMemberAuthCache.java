@@ -0,0 +1,149 @@
+package com.loopers.infrastructure.member;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.CacheInvalidationPublisher;
+import com.loopers.config.redis.NearCacheInvalidationTarget;
+import com.loopers.domain.member.AuthenticatedMember;
+import com.loopers.domain.member.MemberAuthCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 로컬 인증 캐시.
+ * loginId를 키로 HMAC-SHA256(loginId, password) 다이제스트와 회원 스냅샷을 보관한다.
+ * HMAC 키는 기동 시 무작위로 생성되어 프로세스 밖으로 나가지 않으므로, 캐시 내용이 노출되어도 비밀번호를 역산할 수 없다.
+ * 무효화는 near-cache 무효화 채널로 다른 노드에도 전파된다. 발행/수신이 실패한 노드에서는 TTL이 지나야 이전 비밀번호가 거부된다.
+ *
+ * 무효화할 때마다 세대를 올려 loginId별 최소 세대로 기록하고, 그보다 이전 세대에 시작된 검증 결과는 저장하지 않는다.
+ * 비밀번호 변경 커밋 전에 이전 비밀번호로 시작된 검증이 무효화 이후 캐시를 다시 채우는 것을 막기 위함이다.
+ * 최소 세대 기록도 TTL 동안만 유지한다. (그보다 오래 걸리는 검증은 없다)
+ */
+@Component
+public class CaffeineMemberAuthCache implements MemberAuthCache, NearCacheInvalidationTarget {
+
+    static final String CACHE_NAME = "memberAuth";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '\0';
+
+    private final Cache<String, Entry> cache;
+    private final Cache<String, Long> minGenerations;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong clearedGeneration = new AtomicLong();
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public CaffeineMemberAuthCache(
+        @Value("${member-auth.cache.ttl:30s}") Duration ttl,
+        @Value("${member-auth.cache.max-size:10000}") long maxSize,
+        CacheInvalidationPublisher invalidationPublisher
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .build();
+        this.minGenerations = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .build();
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public Optional<AuthenticatedMember> find(String loginId, String password) {
+        Entry entry = cache.getIfPresent(loginId);
+        if (entry == null || !MessageDigest.isEqual(entry.digest(), digest(loginId, password))) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.member());
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public void put(String loginId, String password, AuthenticatedMember member, long generation) {
+        if (isStale(loginId, generation)) {
+            return;
+        }
+        Entry entry = new Entry(digest(loginId, password), member);
+        cache.put(loginId, entry);
+        // 저장하는 사이에 무효화가 끼어들었으면 방금 넣은 항목을 되돌린다.
+        if (isStale(loginId, generation)) {
+            cache.asMap().remove(loginId, entry);
+        }
+    }
+
+    private boolean isStale(String loginId, long generation) {
+        if (generation < clearedGeneration.get()) {
+            return true;
+        }
+        Long minGeneration = minGenerations.getIfPresent(loginId);
+        return minGeneration != null && generation < minGeneration;
+    }
+
+    @Override
+    public void invalidate(String loginId) {
+        invalidateLocal(loginId);
+        invalidationPublisher.publishEvict(CACHE_NAME, loginId);
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictLocal(String key) {
+        invalidateLocal(key);
+    }
+
+    @Override
+    public void clearLocal() {
+        clearedGeneration.set(generation.incrementAndGet());
+        cache.invalidateAll();
+    }
+
+    private void invalidateLocal(String loginId) {
+        minGenerations.put(loginId, generation.incrementAndGet());
+        cache.invalidate(loginId);
+    }
+
+    private byte[] digest(String loginId, String password) {
+        Mac mac = macs.get();
+        mac.update(loginId.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) SEPARATOR);
+        return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+        }
+    }
+
+    private record Entry(byte[] digest, AuthenticatedMember member) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderExportRow;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * 주문 내보내기 전용 풀(mySqlExportDataSource)에서 서버 커서로 주문을 읽는다.
+ *
+ * 커넥션은 JPA 트랜잭션과 무관하게 Stream이 닫힐 때까지만 잡고, 일반 요청용 풀은 건드리지 않는다.
+ * 동시에 열 수 있는 Stream은 풀 크기만큼이며, 넘치면 커넥션을 기다리지 않고 바로 거절한다.
+ *
+ * 날짜 컬럼은 Hibernate 설정(jdbc.time_zone: UTC)에 맞춰 UTC 값으로 바인딩/해석한다.
+ */
+@Component
+public class OrderExportReader {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String SQL = "SELECT id, user_id, status, total_amount, discount_amount, final_amount, created_at"
+        + " FROM orders WHERE created_at >= :startAt AND created_at < :endAt"
+        + " ORDER BY created_at ASC, id ASC";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Semaphore permits;
+
+    public OrderExportReader(@Qualifier("mySqlExportDataSource") HikariDataSource exportDataSource) {
+        JdbcTemplate template = new JdbcTemplate(exportDataSource);
+        template.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.permits = new Semaphore(exportDataSource.getMaximumPoolSize());
+    }
+
+    /**
+     * 반드시 close 해야 커넥션과 동시 실행 슬롯이 반납된다.
+     */
+    public Stream<OrderExportRow> stream(ZonedDateTime startAt, ZonedDateTime endAt) {
+        if (!permits.tryAcquire()) {
+            throw new CoreException(ErrorType.ORDER_EXPORT_BUSY);
+        }
+        try {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("startAt", toUtc(startAt))
+                .addValue("endAt", toUtc(endAt));
+            return jdbcTemplate.queryForStream(SQL, params, this::mapRow).onClose(permits::release);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private OrderExportRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new OrderExportRow(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getInt("total_amount"),
+            rs.getInt("discount_amount"),
+            rs.getInt("final_amount"),
+            rs.getObject("created_at", LocalDateTime.class).atZone(ZoneOffset.UTC).withZoneSameInstant(ZoneId.systemDefault())
+        );
+    }
+
+    private static LocalDateTime toUtc(ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+}
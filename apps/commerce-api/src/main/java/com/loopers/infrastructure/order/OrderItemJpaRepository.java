@@ -1,11 +1,31 @@
 package com.loopers.infrastructure.order;
 
+import com.loopers.domain.order.OrderItemExportRow;
 import com.loopers.domain.order.OrderItemModel;
+import com.loopers.domain.order.OrderItemSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemJpaRepository extends JpaRepository<OrderItemModel, Long> {
 
     List<OrderItemModel> findAllByOrderId(Long orderId);
+
+    /**
+     * 주문별 상품 수와 첫 상품(가장 작은 id)의 이름. 첫 상품은 idx_order_item_order로 주문마다 바로 찾는다.
+     */
+    @Query("SELECT new com.loopers.domain.order.OrderItemSummary(i.orderId, COUNT(i), f.productName)"
+        + " FROM OrderItemModel i JOIN OrderItemModel f ON f.orderId = i.orderId"
+        + " AND f.id = (SELECT MIN(m.id) FROM OrderItemModel m WHERE m.orderId = i.orderId)"
+        + " WHERE i.orderId IN :orderIds"
+        + " GROUP BY i.orderId, f.productName")
+    List<OrderItemSummary> summarizeByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("SELECT new com.loopers.domain.order.OrderItemExportRow("
+        + "i.orderId, i.productId, i.productName, i.productPrice.value, i.quantity)"
+        + " FROM OrderItemModel i WHERE i.orderId IN :orderIds ORDER BY i.orderId, i.id")
+    List<OrderItemExportRow> findExportRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
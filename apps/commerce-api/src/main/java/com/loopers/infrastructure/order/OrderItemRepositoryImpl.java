@@ -1,10 +1,13 @@
 package com.loopers.infrastructure.order;
 
+import com.loopers.domain.order.OrderItemExportRow;
 import com.loopers.domain.order.OrderItemModel;
 import com.loopers.domain.order.OrderItemRepository;
+import com.loopers.domain.order.OrderItemSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -27,4 +30,20 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
     public List<OrderItemModel> findAllByOrderId(Long orderId) {
         return orderItemJpaRepository.findAllByOrderId(orderId);
     }
+
+    @Override
+    public List<OrderItemSummary> summarizeByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderItemJpaRepository.summarizeByOrderIds(orderIds);
+    }
+
+    @Override
+    public List<OrderItemExportRow> findExportRowsByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderItemJpaRepository.findExportRowsByOrderIds(orderIds);
+    }
 }
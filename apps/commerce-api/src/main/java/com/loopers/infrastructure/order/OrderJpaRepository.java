@@ -1,9 +1,12 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.OrderModel;
+import com.loopers.domain.order.OrderSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -14,5 +17,26 @@ public interface OrderJpaRepository extends JpaRepository<OrderModel, Long> {
         Long userId, ZonedDateTime startAt, ZonedDateTime endAt
     );
 
+    /**
+     * idx_orders_user_created (user_id, created_at [, id]) 범위 스캔으로 정렬 없이 limit 건에서 멈춘다.
+     */
+    @Query("SELECT new com.loopers.domain.order.OrderSummary("
+        + "o.id, o.status, o.totalAmount.value, o.discountAmount.value, o.finalAmount.value, o.createdAt)"
+        + " FROM OrderModel o WHERE o.userId = :userId"
+        + " ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new com.loopers.domain.order.OrderSummary("
+        + "o.id, o.status, o.totalAmount.value, o.discountAmount.value, o.finalAmount.value, o.createdAt)"
+        + " FROM OrderModel o WHERE o.userId = :userId"
+        + " AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id))"
+        + " ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummary> findSummariesByUserIdAfter(
+        @Param("userId") Long userId,
+        @Param("createdAt") ZonedDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
     Page<OrderModel> findAll(Pageable pageable);
 }
@@ -1,21 +1,27 @@
 package com.loopers.infrastructure.order;
 
+import com.loopers.domain.order.OrderCursor;
+import com.loopers.domain.order.OrderExportRow;
 import com.loopers.domain.order.OrderModel;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final OrderExportReader orderExportReader;
 
     @Override
     public OrderModel save(OrderModel order) {
@@ -34,8 +40,22 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findAllByUserIdAndCreatedAtBetween(userId, startAt, endAt);
     }
 
+    @Override
+    public List<OrderSummary> findSummariesByUserId(Long userId, OrderCursor cursor, int limit) {
+        PageRequest firstN = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return orderJpaRepository.findSummariesByUserId(userId, firstN);
+        }
+        return orderJpaRepository.findSummariesByUserIdAfter(userId, cursor.createdAt(), cursor.id(), firstN);
+    }
+
     @Override
     public Page<OrderModel> findAll(Pageable pageable) {
         return orderJpaRepository.findAll(pageable);
     }
+
+    @Override
+    public Stream<OrderExportRow> streamForExport(ZonedDateTime startAt, ZonedDateTime endAt) {
+        return orderExportReader.stream(startAt, endAt);
+    }
 }
@@ -0,0 +1,96 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxEventSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * KafkaTemplate(멱등 프로듀서)으로 outbox 이벤트를 발행한다.
+ * 배치 전체를 먼저 send 한 뒤 결과를 기다려, 프로듀서가 같은 파티션의 레코드를 묶어 보낼 수 있게 한다.
+ * 메시지 키는 aggregateId다.
+ * 직렬화처럼 send 시점에 실패한 이벤트가 있으면, 같은 집계의 뒤 이벤트는 보내지 않아 순서가 뒤바뀌지 않게 한다.
+ */
+@Slf4j
+@Component
+public class KafkaOutboxEventSender implements OutboxEventSender {
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration sendTimeout;
+
+    public KafkaOutboxEventSender(
+        KafkaTemplate<Object, Object> kafkaTemplate,
+        ObjectMapper objectMapper,
+        @Value("${outbox.relay.send-timeout:10s}") Duration sendTimeout
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public List<Long> send(List<OutboxEventModel> events) {
+        List<CompletableFuture<SendResult<Object, Object>>> futures = new ArrayList<>(events.size());
+        Set<String> failedKeys = new HashSet<>();
+        for (OutboxEventModel event : events) {
+            if (failedKeys.contains(event.orderingKey())) {
+                futures.add(CompletableFuture.failedFuture(
+                    new IllegalStateException("같은 집계의 앞선 이벤트 발행에 실패해 보내지 않았습니다.")));
+                continue;
+            }
+            CompletableFuture<SendResult<Object, Object>> future = send(event);
+            if (future.isCompletedExceptionally()) {
+                failedKeys.add(event.orderingKey());
+            }
+            futures.add(future);
+        }
+
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<Long> sentIds = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEventModel event = events.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(event.getId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("outbox 이벤트 발행 실패 - eventId: {}, topic: {}, error: {}",
+                    event.eventId(), event.topic(), e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return sentIds;
+    }
+
+    private CompletableFuture<SendResult<Object, Object>> send(OutboxEventModel event) {
+        try {
+            OutboxMessage message = new OutboxMessage(
+                event.eventId(),
+                event.eventType(),
+                event.aggregateId(),
+                event.getCreatedAt(),
+                objectMapper.readTree(event.payload())
+            );
+            return kafkaTemplate.send(event.topic(), event.aggregateId(), message);
+        } catch (JsonProcessingException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
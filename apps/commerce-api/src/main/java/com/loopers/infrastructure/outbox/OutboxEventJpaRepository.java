@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEventModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventModel, Long> {
+
+    @Query(value = """
+        SELECT * FROM outbox_event
+        WHERE published_at IS NULL AND (claimed_until IS NULL OR claimed_until < :now)
+        ORDER BY id LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEventModel> findClaimableForUpdate(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT o.id FROM outbox_event o
+        WHERE o.id IN (:ids)
+          AND EXISTS (
+            SELECT 1 FROM outbox_event p
+            WHERE p.topic = o.topic AND p.aggregate_id = o.aggregate_id
+              AND p.id < o.id AND p.published_at IS NULL AND p.id NOT IN (:ids)
+          )
+        """, nativeQuery = true)
+    List<Long> findBlockedByEarlierEvents(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEventModel e SET e.claimedBy = :owner, e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("claimedUntil") ZonedDateTime claimedUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEventModel e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") ZonedDateTime publishedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEventModel e SET e.claimedBy = null, e.claimedUntil = null WHERE e.id IN :ids AND e.claimedBy = :owner")
+    int releaseClaim(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+}
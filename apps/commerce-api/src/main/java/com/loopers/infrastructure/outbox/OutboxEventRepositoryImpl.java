@@ -0,0 +1,59 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Override
+    public OutboxEventModel save(OutboxEventModel event) {
+        return outboxEventJpaRepository.save(event);
+    }
+
+    @Override
+    public List<OutboxEventModel> findClaimableForUpdate(ZonedDateTime now, int limit) {
+        return outboxEventJpaRepository.findClaimableForUpdate(now, limit);
+    }
+
+    @Override
+    public List<Long> findBlockedByEarlierEvents(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return outboxEventJpaRepository.findBlockedByEarlierEvents(ids);
+    }
+
+    @Override
+    public int claim(Collection<Long> ids, String owner, ZonedDateTime claimedUntil) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return outboxEventJpaRepository.claim(ids, owner, claimedUntil);
+    }
+
+    @Override
+    public int markPublished(Collection<Long> ids, ZonedDateTime publishedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return outboxEventJpaRepository.markPublished(ids, publishedAt);
+    }
+
+    @Override
+    public int releaseClaim(Collection<Long> ids, String owner) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return outboxEventJpaRepository.releaseClaim(ids, owner);
+    }
+}
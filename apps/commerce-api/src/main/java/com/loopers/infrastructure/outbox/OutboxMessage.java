@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Kafka로 발행되는 outbox 메시지 본문.
+ * 컨슈머는 eventId로 중복 수신을 걸러내고, eventType으로 payload 구조를 판별한다.
+ */
+public record OutboxMessage(
+    String eventId,
+    String eventType,
+    String aggregateId,
+    ZonedDateTime occurredAt,
+    JsonNode payload
+) {}
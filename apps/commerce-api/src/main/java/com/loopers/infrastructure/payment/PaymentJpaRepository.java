@@ -2,7 +2,10 @@ package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.PaymentModel;
 import com.loopers.domain.payment.PaymentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,5 +13,11 @@ import java.util.Optional;
 public interface PaymentJpaRepository extends JpaRepository<PaymentModel, Long> {
     Optional<PaymentModel> findByTransactionKey(String transactionKey);
     List<PaymentModel> findAllByOrderId(Long orderId);
-    List<PaymentModel> findAllByStatus(PaymentStatus status);
+
+    @Query("SELECT p.id FROM PaymentModel p WHERE p.status = :status AND p.id > :lastId ORDER BY p.id ASC")
+    List<Long> findIdsByStatusAfter(
+        @Param("status") PaymentStatus status,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
 }
@@ -4,6 +4,7 @@ import com.loopers.domain.payment.PaymentModel;
 import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.payment.PaymentStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -36,7 +37,7 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     @Override
-    public List<PaymentModel> findAllByStatus(PaymentStatus status) {
-        return paymentJpaRepository.findAllByStatus(status);
+    public List<Long> findIdsByStatusAfter(PaymentStatus status, Long lastId, int limit) {
+        return paymentJpaRepository.findIdsByStatusAfter(status, lastId, PageRequest.of(0, limit));
     }
 }
@@ -1,41 +1,129 @@
 package com.loopers.infrastructure.payment;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.PgProperties;
 import com.loopers.infrastructure.payment.dto.PgPaymentRequest;
 import com.loopers.infrastructure.payment.dto.PgPaymentResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * PG HTTP 클라이언트. 모든 호출은 응답을 기다리지 않고 CompletableFuture로 반환한다.
+ * 실패는 RestTemplate과 같은 예외 타입(ResourceAccessException / HttpServerErrorException / HttpClientErrorException)으로
+ * 변환해, resilience4j의 retry/circuitbreaker 예외 분류 설정을 그대로 적용받는다.
+ */
 @RequiredArgsConstructor
 @Component
 public class PgClient {
 
-    private final RestTemplate pgRestTemplate;
+    private static final String USER_ID_HEADER = "X-USER-ID";
 
-    public PgPaymentResponse requestPayment(PgPaymentRequest request, String userId) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("X-USER-ID", userId);
+    private final HttpClient pgHttpClient;
+    private final ObjectMapper objectMapper;
+    private final PgProperties pgProperties;
+
+    public CompletableFuture<PgPaymentResponse> requestPayment(PgPaymentRequest request, String userId) {
+        HttpRequest httpRequest = newRequest("/api/v1/payments", userId)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(writeBody(request)))
+            .build();
+        return send(httpRequest);
+    }
+
+    public CompletableFuture<PgPaymentResponse> getPaymentStatus(String transactionKey, String userId) {
+        String path = "/api/v1/payments/" + UriUtils.encodePathSegment(transactionKey, StandardCharsets.UTF_8);
+        HttpRequest httpRequest = newRequest(path, userId)
+            .GET()
+            .build();
+        return send(httpRequest);
+    }
+
+    private HttpRequest.Builder newRequest(String path, String userId) {
+        return HttpRequest.newBuilder(URI.create(pgProperties.baseUrl() + path))
+            .timeout(Duration.ofMillis(pgProperties.timeout().read()))
+            .header(USER_ID_HEADER, userId);
+    }
+
+    private CompletableFuture<PgPaymentResponse> send(HttpRequest httpRequest) {
+        return pgHttpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+            .handle((response, throwable) -> {
+                if (throwable != null) {
+                    throw toRestClientException(httpRequest, unwrap(throwable));
+                }
+                return readBody(response);
+            });
+    }
 
-        HttpEntity<PgPaymentRequest> httpEntity = new HttpEntity<>(request, headers);
-        return pgRestTemplate.postForObject("/api/v1/payments", httpEntity, PgPaymentResponse.class);
+    private byte[] writeBody(PgPaymentRequest request) {
+        try {
+            return objectMapper.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new RestClientException("PG 요청 본문을 직렬화할 수 없습니다.", e);
+        }
     }
 
-    public PgPaymentResponse getPaymentStatus(String transactionKey, String userId) {
+    private PgPaymentResponse readBody(HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status >= 400) {
+            throw toHttpStatusException(response);
+        }
+
+        byte[] body = response.body();
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, PgPaymentResponse.class);
+        } catch (IOException e) {
+            throw new RestClientException("PG 응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private RestClientException toHttpStatusException(HttpResponse<byte[]> response) {
+        HttpStatusCode statusCode = HttpStatusCode.valueOf(response.statusCode());
         HttpHeaders headers = new HttpHeaders();
-        headers.set("X-USER-ID", userId);
-
-        HttpEntity<Void> httpEntity = new HttpEntity<>(headers);
-        return pgRestTemplate.exchange(
-            "/api/v1/payments/{transactionKey}",
-            HttpMethod.GET,
-            httpEntity,
-            PgPaymentResponse.class,
-            transactionKey
-        ).getBody();
+        response.headers().map().forEach(headers::addAll);
+
+        if (statusCode.is5xxServerError()) {
+            return HttpServerErrorException.create(statusCode, "", headers, response.body(), StandardCharsets.UTF_8);
+        }
+        return HttpClientErrorException.create(statusCode, "", headers, response.body(), StandardCharsets.UTF_8);
+    }
+
+    private RuntimeException toRestClientException(HttpRequest httpRequest, Throwable throwable) {
+        if (throwable instanceof IOException e) {
+            return new ResourceAccessException(
+                "I/O error on " + httpRequest.method() + " request for \"" + httpRequest.uri() + "\": " + e.getMessage(), e);
+        }
+        if (throwable instanceof RuntimeException e) {
+            return e;
+        }
+        return new RestClientException("PG 호출에 실패했습니다.", throwable);
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
     }
 }
@@ -5,10 +5,23 @@ import com.loopers.infrastructure.payment.dto.PgPaymentResponse;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * CompletionStage를 반환하는 메서드에도 resilience4j 어노테이션이 동일하게 적용된다.
+ * Bulkhead는 응답이 완료될 때까지 permit을 유지하므로 "동시 처리 중인 PG 요청 수"를 제한하고,
+ * Retry는 실패한 future를 설정된 backoff 이후 다시 요청한다.
+ *
+ * 상태 조회도 결제 요청과 같은 pg 서킷으로 보호한다. 조회 실패가 서킷에 기록되어야
+ * PG 장애 시 서킷이 열리고, 폴링 스케줄러가 남은 스캔을 중단할 수 있다.
+ * 서킷이 열려 있으면 PG를 호출하지 않고 CallNotPermittedException을 던진다.
+ */
 @RequiredArgsConstructor
 @Component
 public class PgPaymentGateway {
@@ -17,15 +30,25 @@ public class PgPaymentGateway {
 
     @Bulkhead(name = "pg")
     @Retry(name = "pg")
-    public PgPaymentResponse requestPayment(PgPaymentRequest request, String userId) {
-        PgPaymentResponse response = pgClient.requestPayment(request, userId);
-        if (response == null || response.transactionKey() == null) {
-            throw new CoreException(ErrorType.PG_REQUEST_FAILED, "PG 응답이 유효하지 않습니다.");
-        }
-        return response;
+    public CompletableFuture<PgPaymentResponse> requestPayment(PgPaymentRequest request, String userId) {
+        return pgClient.requestPayment(request, userId)
+            .thenApply(response -> {
+                if (response == null || response.transactionKey() == null) {
+                    throw new CoreException(ErrorType.PG_REQUEST_FAILED, "PG 응답이 유효하지 않습니다.");
+                }
+                return response;
+            });
     }
 
+    @CircuitBreaker(name = "pg")
     public PgPaymentResponse getPaymentStatus(String transactionKey, String userId) {
-        return pgClient.getPaymentStatus(transactionKey, userId);
+        try {
+            return pgClient.getPaymentStatus(transactionKey, userId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 }
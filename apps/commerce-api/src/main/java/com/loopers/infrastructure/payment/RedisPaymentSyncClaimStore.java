@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.payment.PaymentSyncClaimStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결제별 SET NX 리스 기반 선점.
+ * 청크 단위로 파이프라인을 보내 왕복 한 번에 선점 여부를 확인한다.
+ * 리스는 동기화가 끝나도 지우지 않고 TTL로 만료시켜, 같은 결제가 한 주기 안에 여러 노드에서 중복 동기화되지 않게 한다.
+ * Redis 장애 시에는 전체를 선점한 것으로 간주한다 — 동기화는 멱등이므로 중복 호출만 감수한다.
+ */
+@Slf4j
+@Component
+public class RedisPaymentSyncClaimStore implements PaymentSyncClaimStore {
+
+    private static final String KEY_PREFIX = "payment:sync:claim:";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final byte[] nodeId = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+    public RedisPaymentSyncClaimStore(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public List<Long> claim(List<Long> paymentIds, Duration ttl) {
+        if (paymentIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<Object> results = masterRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long paymentId : paymentIds) {
+                    connection.stringCommands().set(
+                        (KEY_PREFIX + paymentId).getBytes(StandardCharsets.UTF_8),
+                        nodeId,
+                        Expiration.from(ttl),
+                        RedisStringCommands.SetOption.SET_IF_ABSENT
+                    );
+                }
+                return null;
+            });
+
+            List<Long> claimed = new ArrayList<>(paymentIds.size());
+            for (int i = 0; i < paymentIds.size(); i++) {
+                if (Boolean.TRUE.equals(results.get(i))) {
+                    claimed.add(paymentIds.get(i));
+                }
+            }
+            return claimed;
+        } catch (RuntimeException e) {
+            log.warn("결제 동기화 선점 실패 - 선점 없이 진행합니다. count: {}, error: {}", paymentIds.size(), e.getMessage());
+            return paymentIds;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 목록 total count 캐시.
+ * count(*)는 정렬 기준과 무관하므로 브랜드 필터 단위로만 캐싱한다.
+ * 짧은 TTL 동안의 근사치를 허용하고, Redis 장애 시에는 DB count로 폴백한다.
+ */
+@Slf4j
+@Component
+public class ProductCountCache {
+
+    private static final String KEY_PREFIX = "product:count:";
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public ProductCountCache(
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    public long getOrLoad(Long brandId, LongSupplier loader) {
+        String key = KEY_PREFIX + (brandId != null ? brandId : "all");
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (RuntimeException e) {
+            log.warn("상품 count 캐시 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return loader.getAsLong();
+        }
+
+        long count = loader.getAsLong();
+        try {
+            masterRedisTemplate.opsForValue().set(key, String.valueOf(count), TTL);
+        } catch (RuntimeException e) {
+            log.warn("상품 count 캐시 저장 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+        return count;
+    }
+}
@@ -14,12 +14,9 @@ import java.util.Optional;
 public interface ProductJpaRepository extends JpaRepository<ProductModel, Long> {
 
     @Modifying
-    @Query("UPDATE ProductModel p SET p.likeCount = p.likeCount + 1 WHERE p.id = :id")
-    int incrementLikeCount(@Param("id") Long id);
-
-    @Modifying
-    @Query("UPDATE ProductModel p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
-    int decrementLikeCount(@Param("id") Long id);
+    @Query("UPDATE ProductModel p SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END"
+        + " WHERE p.id = :id")
+    int applyLikeCountDelta(@Param("id") Long id, @Param("delta") int delta);
 
     Optional<ProductModel> findByIdAndDeletedAtIsNull(Long id);
 
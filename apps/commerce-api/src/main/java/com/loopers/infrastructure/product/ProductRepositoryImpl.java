@@ -1,18 +1,21 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSortType;
 import com.loopers.domain.product.QProductModel;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +25,7 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final ProductCountCache productCountCache;
 
     @Override
     public ProductModel save(ProductModel product) {
@@ -29,13 +33,8 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public int incrementLikeCount(Long productId) {
-        return productJpaRepository.incrementLikeCount(productId);
-    }
-
-    @Override
-    public int decrementLikeCount(Long productId) {
-        return productJpaRepository.decrementLikeCount(productId);
+    public int applyLikeCountDelta(Long productId, int delta) {
+        return productJpaRepository.applyLikeCountDelta(productId, delta);
     }
 
     @Override
@@ -52,12 +51,7 @@ public class ProductRepositoryImpl implements ProductRepository {
     public Page<ProductModel> findAll(Long brandId, Pageable pageable, ProductSortType sortType) {
         QProductModel product = QProductModel.productModel;
 
-        BooleanBuilder where = new BooleanBuilder();
-        where.and(product.deletedAt.isNull());
-        if (brandId != null) {
-            where.and(product.brandId.eq(brandId));
-        }
-
+        BooleanBuilder where = baseCondition(product, brandId);
         OrderSpecifier<?> orderSpecifier = toOrderSpecifier(product, sortType);
 
         List<ProductModel> content = queryFactory.selectFrom(product)
@@ -67,12 +61,43 @@ public class ProductRepositoryImpl implements ProductRepository {
             .limit(pageable.getPageSize())
             .fetch();
 
-        Long total = queryFactory.select(product.count())
-            .from(product)
+        // 마지막 페이지면 count 쿼리 생략, 그 외에는 브랜드 단위 count 캐시 사용
+        return PageableExecutionUtils.getPage(content, pageable, () -> productCountCache.getOrLoad(brandId, () -> {
+            Long total = queryFactory.select(product.count())
+                .from(product)
+                .where(where)
+                .fetchOne();
+            return total != null ? total : 0;
+        }));
+    }
+
+    /**
+     * keyset 페이지네이션: (정렬 키, id) 이후 행부터 limit 건을 조회한다.
+     * InnoDB 보조 인덱스는 PK를 암묵적으로 포함하므로 idx_product_deleted_* 인덱스가 (정렬 키, id) 순서를 그대로 제공한다.
+     */
+    @Override
+    public List<ProductModel> findAllByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int limit) {
+        QProductModel product = QProductModel.productModel;
+
+        BooleanBuilder where = baseCondition(product, brandId);
+        if (cursor != null) {
+            where.and(toSeekCondition(product, sortType, cursor));
+        }
+
+        return queryFactory.selectFrom(product)
             .where(where)
-            .fetchOne();
+            .orderBy(toOrderSpecifier(product, sortType), toTieBreaker(product, sortType))
+            .limit(limit)
+            .fetch();
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    private BooleanBuilder baseCondition(QProductModel product, Long brandId) {
+        BooleanBuilder where = new BooleanBuilder();
+        where.and(product.deletedAt.isNull());
+        if (brandId != null) {
+            where.and(product.brandId.eq(brandId));
+        }
+        return where;
     }
 
     private OrderSpecifier<?> toOrderSpecifier(QProductModel product, ProductSortType sortType) {
@@ -84,6 +109,26 @@ public class ProductRepositoryImpl implements ProductRepository {
         };
     }
 
+    private OrderSpecifier<?> toTieBreaker(QProductModel product, ProductSortType sortType) {
+        return sortType == ProductSortType.PRICE_ASC ? product.id.asc() : product.id.desc();
+    }
+
+    private Predicate toSeekCondition(QProductModel product, ProductSortType sortType, ProductCursor cursor) {
+        return switch (sortType) {
+            case LATEST, CREATED_DESC -> {
+                ZonedDateTime createdAt = cursor.sortValueAsDateTime();
+                yield product.createdAt.lt(createdAt)
+                    .or(product.createdAt.eq(createdAt).and(product.id.lt(cursor.id())));
+            }
+            case PRICE_ASC -> product.price.value.gt((int) cursor.sortValue())
+                .or(product.price.value.eq((int) cursor.sortValue()).and(product.id.gt(cursor.id())));
+            case PRICE_DESC -> product.price.value.lt((int) cursor.sortValue())
+                .or(product.price.value.eq((int) cursor.sortValue()).and(product.id.lt(cursor.id())));
+            case LIKES_DESC -> product.likeCount.lt((int) cursor.sortValue())
+                .or(product.likeCount.eq((int) cursor.sortValue()).and(product.id.lt(cursor.id())));
+        };
+    }
+
     @Override
     public List<ProductModel> findAllByIdInAndDeletedAtIsNull(List<Long> ids) {
         return productJpaRepository.findAllByIdInAndDeletedAtIsNull(ids);
@@ -0,0 +1,183 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.LikeCountBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Redis Hash(HINCRBY) 기반 좋아요 수 버퍼.
+ * 여러 노드가 같은 버퍼를 공유하므로 어느 노드에서 조회해도 동일한 delta가 합산된다.
+ *
+ * flush는 누적 Hash를 스냅샷 키로 RENAME 해 분리한 뒤 반영하고, 락(SET NX)으로 한 번에 한 노드만 수행한다.
+ * 스냅샷 키는 DB 반영이 끝난 뒤에만 삭제되므로, 반영 도중 장애가 나면 다음 주기에 같은 스냅샷을 다시 반영한다.
+ * (DB 커밋 직후 삭제 전에 장애가 나면 중복 반영될 수 있는 at-least-once 구조다.)
+ *
+ * 락 획득 → RENAME → 스냅샷 조회, 락 소유 확인 → 스냅샷 삭제는 각각 Lua 스크립트 한 번으로 수행한다.
+ * 반영이 락 TTL보다 오래 걸려 다른 노드가 락을 가져간 경우, 그 노드가 새로 분리한 스냅샷을 지우지 않는다.
+ *
+ * flush 직후 replica 지연으로 delta가 이중 합산되지 않도록 조회도 master에서 수행하고,
+ * 누적/스냅샷 두 Hash는 한 스크립트에서 함께 읽어 RENAME 전후가 섞이지 않게 한다.
+ */
+@Slf4j
+@Component
+public class RedisLikeCountBuffer implements LikeCountBuffer {
+
+    static final String PENDING_KEY = "product:like:delta";
+    static final String FLUSHING_KEY = "product:like:delta:flushing";
+    private static final String FLUSH_LOCK_KEY = "product:like:delta:flush-lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    // 결과: 앞 N개는 누적 Hash, 뒤 N개는 스냅샷 Hash의 값 (ARGV = 상품 ID N개)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_PENDING_SCRIPT = new DefaultRedisScript<>("""
+        local pending = redis.call('HMGET', KEYS[1], unpack(ARGV))
+        local flushing = redis.call('HMGET', KEYS[2], unpack(ARGV))
+        for i = 1, #flushing do
+          pending[#ARGV + i] = flushing[i]
+        end
+        return pending
+        """, List.class);
+
+    // 다른 노드가 flush 중이면 nil, 반영할 delta가 없으면 빈 목록, 있으면 스냅샷 HGETALL 결과
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+        if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+          return nil
+        end
+        if redis.call('EXISTS', KEYS[3]) == 0 then
+          if redis.call('EXISTS', KEYS[2]) == 0 then
+            redis.call('DEL', KEYS[1])
+            return {}
+          end
+          redis.call('RENAME', KEYS[2], KEYS[3])
+        end
+        return redis.call('HGETALL', KEYS[3])
+        """, List.class);
+
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+          return 0
+        end
+        redis.call('DEL', KEYS[2])
+        redis.call('DEL', KEYS[1])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+          return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisLikeCountBuffer(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public void add(Long productId, long delta) {
+        masterRedisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(productId), delta);
+    }
+
+    @Override
+    public Map<Long, Long> getPendingDeltas(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = productIds.stream().distinct().toList();
+        Object[] fields = ids.stream().map(String::valueOf).toArray();
+
+        try {
+            List<?> values = masterRedisTemplate.execute(READ_PENDING_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY), fields);
+            if (values == null) {
+                return Map.of();
+            }
+
+            Map<Long, Long> deltas = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                long delta = parse(valueAt(values, i)) + parse(valueAt(values, ids.size() + i));
+                if (delta != 0) {
+                    deltas.put(ids.get(i), delta);
+                }
+            }
+            return deltas;
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 delta 조회 실패 - DB 값으로 응답합니다. error: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public Map<Long, Long> beginFlush() {
+        // 이전 주기에 반영하지 못한 스냅샷이 남아 있으면 새로 분리하지 않고 그것부터 반영한다.
+        List<?> entries = masterRedisTemplate.execute(
+            BEGIN_FLUSH_SCRIPT,
+            List.of(FLUSH_LOCK_KEY, PENDING_KEY, FLUSHING_KEY),
+            nodeId,
+            String.valueOf(FLUSH_LOCK_TTL.toMillis())
+        );
+        if (entries == null || entries.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            long delta = parse(entries.get(i + 1));
+            if (delta != 0) {
+                deltas.put(Long.valueOf(entries.get(i).toString()), delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            // 합이 0인 delta만 남은 스냅샷은 반영할 것이 없으므로 바로 정리한다.
+            completeFlush();
+        }
+        return deltas;
+    }
+
+    @Override
+    public void completeFlush() {
+        Long completed = masterRedisTemplate.execute(COMPLETE_FLUSH_SCRIPT, List.of(FLUSH_LOCK_KEY, FLUSHING_KEY), nodeId);
+        if (completed == null || completed == 0) {
+            log.warn("좋아요 수 flush 락을 잃어 스냅샷을 삭제하지 않았습니다. 다른 노드가 같은 스냅샷을 다시 반영할 수 있습니다.");
+        }
+    }
+
+    @Override
+    public void abortFlush() {
+        releaseLock();
+    }
+
+    private void releaseLock() {
+        try {
+            masterRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), nodeId);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 flush 락 해제 실패 - TTL 만료 후 해제됩니다. error: {}", e.getMessage());
+        }
+    }
+
+    private Object valueAt(List<?> values, int index) {
+        return index < values.size() ? values.get(index) : null;
+    }
+
+    private long parse(Object value) {
+        return Objects.isNull(value) ? 0L : Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,143 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.LikeCountCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 좋아요 수 캐시. 상품마다 product:like:count:{productId} 키에 DB에 반영된 좋아요 수를 보관한다.
+ *
+ * 초기화는 값이 없을 때만(SET NX) 한다. 이미 flush 반영이 누적된 값을 DB에서 읽어 둔 값으로 덮어쓰면
+ * 그 사이 반영된 delta가 빠지기 때문이다.
+ * flush 반영은 이미 초기화된 키에만 INCRBY 한다. 없는 키에 delta만 쓰면 0부터 시작한 잘못된 값이 되기 때문이다.
+ *
+ * 대신 값이 없는 키에 flush가 반영되거나 키를 삭제하면 product:like:count:{productId}:version을 올린다.
+ * 초기화는 DB를 읽기 전에 받아 둔 버전이 그대로일 때만 성공하므로, DB 조회와 초기화 사이에 flush가 커밋되면
+ * flush 이전 값으로 초기화되지 않는다. (버전 확인과 SET NX는 Lua 스크립트 한 번으로 수행한다)
+ * 키마다 TTL을 두어 삭제·비인기 상품의 값이 쌓이지 않게 한다.
+ *
+ * flush 직후 replica 지연으로 이전 값이 보이지 않도록 조회도 master에서 수행한다.
+ */
+@Slf4j
+@Component
+public class RedisLikeCountCache implements LikeCountCache {
+
+    static final String KEY_PREFIX = "product:like:count:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final Duration TTL = Duration.ofHours(1);
+    // 초기화 한 번(DB 조회 ~ SET)보다 충분히 길기만 하면 된다
+    private static final Duration VERSION_TTL = Duration.ofMinutes(1);
+
+    // KEYS = 상품별 키, ARGV = 같은 순서의 delta + 버전 TTL(ms)
+    private static final RedisScript<Long> APPLY_DELTAS_SCRIPT = new DefaultRedisScript<>("""
+        local applied = 0
+        for i = 1, #KEYS do
+          if redis.call('EXISTS', KEYS[i]) == 1 then
+            redis.call('INCRBY', KEYS[i], ARGV[i])
+            applied = applied + 1
+          else
+            local version = KEYS[i] .. ARGV[#KEYS + 1]
+            redis.call('INCR', version)
+            redis.call('PEXPIRE', version, ARGV[#KEYS + 2])
+          end
+        end
+        return applied
+        """, Long.class);
+
+    // KEYS[1] = 값 키, KEYS[2] = 버전 키 / ARGV = 기대 버전, 좋아요 수, TTL(ms)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+        if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then
+          return 0
+        end
+        if redis.call('SET', KEYS[1], ARGV[2], 'NX', 'PX', ARGV[3]) then
+          return 1
+        end
+        return 0
+        """, Long.class);
+
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('DEL', KEYS[1])
+        redis.call('INCR', KEYS[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[1])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisLikeCountCache(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public long version(Long productId) {
+        String version = masterRedisTemplate.opsForValue().get(versionKey(productId));
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    @Override
+    public boolean seed(Long productId, long likeCount, long version) {
+        try {
+            Long seeded = masterRedisTemplate.execute(
+                SEED_SCRIPT,
+                List.of(key(productId), versionKey(productId)),
+                String.valueOf(version),
+                String.valueOf(likeCount),
+                String.valueOf(TTL.toMillis())
+            );
+            return seeded != null && seeded == 1;
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 캐시 초기화 실패 - productId: {}, error: {}", productId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void applyDeltas(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(deltas.size());
+        Object[] args = new Object[deltas.size() + 2];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            keys.add(key(entry.getKey()));
+            args[i++] = String.valueOf(entry.getValue());
+        }
+        args[i++] = VERSION_SUFFIX;
+        args[i] = String.valueOf(VERSION_TTL.toMillis());
+        masterRedisTemplate.execute(APPLY_DELTAS_SCRIPT, keys, args);
+    }
+
+    @Override
+    public void remove(Long productId) {
+        try {
+            masterRedisTemplate.execute(
+                REMOVE_SCRIPT,
+                List.of(key(productId), versionKey(productId)),
+                String.valueOf(VERSION_TTL.toMillis())
+            );
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 캐시 삭제 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    private String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+
+    private String versionKey(Long productId) {
+        return key(productId) + VERSION_SUFFIX;
+    }
+}
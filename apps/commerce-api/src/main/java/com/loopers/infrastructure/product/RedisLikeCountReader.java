@@ -0,0 +1,72 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.CurrentLikeCount;
+import com.loopers.domain.product.LikeCountReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 좋아요 수 캐시 값과 누적/스냅샷 Hash의 delta를 Lua 스크립트 한 번으로 읽는다.
+ * 캐시 적중 상세 조회마다 Redis 왕복이 두 번 늘지 않게 하고, flush의 스냅샷 삭제 전후가 섞이지 않게 한다.
+ * 키 형식은 {@link RedisLikeCountCache}, {@link RedisLikeCountBuffer}와 공유한다.
+ */
+@Slf4j
+@Component
+public class RedisLikeCountReader implements LikeCountReader {
+
+    // 결과: 좋아요 수 캐시, 누적 delta, 스냅샷 delta (ARGV[1] = 상품 ID)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+        return {
+          redis.call('GET', KEYS[1]),
+          redis.call('HGET', KEYS[2], ARGV[1]),
+          redis.call('HGET', KEYS[3], ARGV[1])
+        }
+        """, List.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisLikeCountReader(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public CurrentLikeCount read(Long productId) {
+        try {
+            List<?> values = masterRedisTemplate.execute(
+                READ_SCRIPT,
+                List.of(RedisLikeCountCache.KEY_PREFIX + productId, RedisLikeCountBuffer.PENDING_KEY, RedisLikeCountBuffer.FLUSHING_KEY),
+                String.valueOf(productId)
+            );
+            if (values == null) {
+                return CurrentLikeCount.unavailable();
+            }
+            Object committed = valueAt(values, 0);
+            return new CurrentLikeCount(
+                committed == null ? null : Long.parseLong(committed.toString()),
+                parse(valueAt(values, 1)) + parse(valueAt(values, 2))
+            );
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 조회 실패 - 캐시된 상세 값으로 응답합니다. productId: {}, error: {}", productId, e.getMessage());
+            return CurrentLikeCount.unavailable();
+        }
+    }
+
+    private Object valueAt(List<?> values, int index) {
+        return index < values.size() ? values.get(index) : null;
+    }
+
+    private long parse(Object value) {
+        return Objects.isNull(value) ? 0L : Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,138 @@
+package com.loopers.infrastructure.queue;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.queue.WaitingRoom;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 주문 대기열.
+ *
+ * - 대기열    : waiting-room:queue (Sorted Set, score = 진입 시각 ms). ZRANK가 곧 대기 순번이다.
+ * - 입장 토큰 : waiting-room:token:{userId} (String, TTL = token-ttl). 주문 직전에 소비(GET 비교 후 DEL)되고, 쓰지 않으면 만료된다.
+ * - 입장 게이트 : waiting-room:admit-gate (SET NX PX admit-interval). 노드 수와 무관하게 주기당 한 번만 입장시킨다.
+ *
+ * 입장은 게이트 확인 → ZPOPMIN → 토큰 저장을 Lua 스크립트 한 번으로 수행해, 대기열에서 빠졌는데 토큰이 없는 사용자가 생기지 않는다.
+ */
+@Component
+public class RedisWaitingRoom implements WaitingRoom {
+
+    private static final String QUEUE_KEY = "waiting-room:queue";
+    private static final String TOKEN_KEY_PREFIX = "waiting-room:token:";
+    private static final String ADMIT_GATE_KEY = "waiting-room:admit-gate";
+
+    private static final RedisScript<Long> ENTER_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[2]) == 1 then
+          return -1
+        end
+        redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[2])
+        return redis.call('ZRANK', KEYS[1], ARGV[2])
+        """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+        if not redis.call('SET', KEYS[2], ARGV[1], 'NX', 'PX', ARGV[2]) then
+          return {}
+        end
+        local popped = redis.call('ZPOPMIN', KEYS[1], #ARGV - 4)
+        local admitted = {}
+        for i = 1, #popped, 2 do
+          local userId = popped[i]
+          redis.call('SET', ARGV[4] .. userId, ARGV[4 + (i + 1) / 2], 'PX', ARGV[3])
+          table.insert(admitted, userId)
+        end
+        return admitted
+        """, List.class);
+
+    // 일치하면 삭제하고 삭제 직전의 PTTL을, 아니면 nil을 반환한다
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+          return false
+        end
+        local ttl = redis.call('PTTL', KEYS[1])
+        redis.call('DEL', KEYS[1])
+        return ttl
+        """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Duration tokenTtl;
+    private final Duration admitInterval;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisWaitingRoom(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        @Value("${waiting-room.token-ttl:300s}") Duration tokenTtl,
+        @Value("${waiting-room.admit-interval-ms:1000}") long admitIntervalMs
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.tokenTtl = tokenTtl;
+        this.admitInterval = Duration.ofMillis(admitIntervalMs);
+    }
+
+    @Override
+    public Long enter(Long userId) {
+        Long rank = masterRedisTemplate.execute(
+            ENTER_SCRIPT,
+            List.of(QUEUE_KEY, tokenKey(userId)),
+            String.valueOf(System.currentTimeMillis()),
+            String.valueOf(userId)
+        );
+        return rank == null || rank < 0 ? null : rank;
+    }
+
+    @Override
+    public Long findRank(Long userId) {
+        return masterRedisTemplate.opsForZSet().rank(QUEUE_KEY, String.valueOf(userId));
+    }
+
+    @Override
+    public String findToken(Long userId) {
+        return masterRedisTemplate.opsForValue().get(tokenKey(userId));
+    }
+
+    @Override
+    public List<Long> admitNext(int count) {
+        List<String> args = new ArrayList<>(count + 4);
+        args.add(nodeId);
+        args.add(String.valueOf(admitInterval.toMillis()));
+        args.add(String.valueOf(tokenTtl.toMillis()));
+        args.add(TOKEN_KEY_PREFIX);
+        for (int i = 0; i < count; i++) {
+            args.add(UUID.randomUUID().toString());
+        }
+
+        List<?> admitted = masterRedisTemplate.execute(ADMIT_SCRIPT, List.of(QUEUE_KEY, ADMIT_GATE_KEY), args.toArray());
+        if (admitted == null) {
+            return List.of();
+        }
+        return admitted.stream().map(userId -> Long.valueOf(userId.toString())).toList();
+    }
+
+    @Override
+    public Duration consumeToken(Long userId, String token) {
+        Long ttl = masterRedisTemplate.execute(CONSUME_SCRIPT, List.of(tokenKey(userId)), token);
+        if (ttl == null) {
+            return null;
+        }
+        // 만료 시각이 없는 토큰(PTTL = -1)은 발급 TTL로 되돌린다.
+        return ttl > 0 ? Duration.ofMillis(ttl) : tokenTtl;
+    }
+
+    @Override
+    public void restoreToken(Long userId, String token, Duration remaining) {
+        masterRedisTemplate.opsForValue().setIfAbsent(tokenKey(userId), token, remaining);
+    }
+
+    private String tokenKey(Long userId) {
+        return TOKEN_KEY_PREFIX + userId;
+    }
+}
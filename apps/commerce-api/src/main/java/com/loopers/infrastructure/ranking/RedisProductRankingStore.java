@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.domain.ranking.ProductRankingStore;
+import com.loopers.domain.ranking.RankedProduct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 랭킹 조회는 replica 우선 템플릿을 쓴다. 쓰기는 commerce-streamer가 master에 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class RedisProductRankingStore implements ProductRankingStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public List<RankedProduct> findRange(String key, long offset, int size) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+            redisTemplate.opsForZSet().reverseRangeWithScores(key, offset, offset + size - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        List<RankedProduct> ranked = new ArrayList<>(tuples.size());
+        long rank = offset + 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            double score = tuple.getScore() != null ? tuple.getScore() : 0;
+            ranked.add(new RankedProduct(rank++, Long.valueOf(tuple.getValue()), score));
+        }
+        return ranked;
+    }
+
+    @Override
+    public long count(String key) {
+        Long count = redisTemplate.opsForZSet().zCard(key);
+        return count != null ? count : 0;
+    }
+}
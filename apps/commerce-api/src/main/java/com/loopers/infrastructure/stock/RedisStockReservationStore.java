@@ -0,0 +1,170 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.stock.StockReservationResult;
+import com.loopers.domain.stock.StockReservationStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lua 스크립트 기반 재고 예약 저장소. 모든 쓰기는 master에서 원자적으로 수행한다.
+ *
+ * - stock:available:{productId} : 가용 재고 (DB 재고 - 진행 중인 예약)
+ * - stock:reserved              : 상품별 진행 중인 예약 수량 (Hash)
+ * - stock:reservation:{id}      : 예약 상세 (Hash, productId → quantity)
+ * - stock:reservations          : 예약 만료 시각 인덱스 (ZSET, score = 만료 epoch millis)
+ */
+@Component
+public class RedisStockReservationStore implements StockReservationStore {
+
+    private static final String AVAILABLE_KEY_PREFIX = "stock:available:";
+    private static final String LOADED_PRODUCTS_KEY = "stock:available:products";
+    private static final String RESERVED_KEY = "stock:reserved";
+    private static final String RESERVATION_KEY_PREFIX = "stock:reservation:";
+    private static final String RESERVATIONS_KEY = "stock:reservations";
+    private static final Duration RESERVATION_RETENTION = Duration.ofDays(1);
+
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local n = #KEYS - 3
+        for i = 1, n do
+          local available = redis.call('GET', KEYS[i + 3])
+          if not available then return -1 end
+          if tonumber(available) < tonumber(ARGV[3 + i * 2]) then return 0 end
+        end
+        for i = 1, n do
+          local productId = ARGV[2 + i * 2]
+          local quantity = tonumber(ARGV[3 + i * 2])
+          redis.call('DECRBY', KEYS[i + 3], quantity)
+          redis.call('HINCRBY', KEYS[3], productId, quantity)
+          redis.call('HSET', KEYS[2], productId, quantity)
+        end
+        redis.call('EXPIRE', KEYS[2], ARGV[2])
+        redis.call('ZADD', KEYS[1], ARGV[1], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return 0 end
+        local items = redis.call('HGETALL', KEYS[2])
+        for i = 1, #items, 2 do
+          redis.call('HINCRBY', KEYS[3], items[i], -tonumber(items[i + 1]))
+        end
+        redis.call('DEL', KEYS[2])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return 0 end
+        local items = redis.call('HGETALL', KEYS[2])
+        for i = 1, #items, 2 do
+          local availableKey = ARGV[2] .. items[i]
+          local quantity = tonumber(items[i + 1])
+          if redis.call('EXISTS', availableKey) == 1 then
+            redis.call('INCRBY', availableKey, quantity)
+          end
+          redis.call('HINCRBY', KEYS[3], items[i], -quantity)
+        end
+        redis.call('DEL', KEYS[2])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+        for i = 3, #KEYS do
+          local productId = ARGV[(i - 2) * 2]
+          local reserved = tonumber(redis.call('HGET', KEYS[1], productId) or '0')
+          local available = math.max(tonumber(ARGV[(i - 2) * 2 + 1]) - reserved, 0)
+          if ARGV[1] == 'overwrite' then
+            redis.call('SET', KEYS[i], available)
+          else
+            redis.call('SET', KEYS[i], available, 'NX')
+          end
+          redis.call('SADD', KEYS[2], productId)
+        end
+        return #KEYS - 2
+        """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisStockReservationStore(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public StockReservationResult reserve(String reservationId, Map<Long, Integer> quantities, Duration ttl) {
+        List<String> keys = new ArrayList<>(List.of(RESERVATIONS_KEY, reservationKey(reservationId), RESERVED_KEY));
+        List<String> args = new ArrayList<>(List.of(
+            String.valueOf(Instant.now().plus(ttl).toEpochMilli()),
+            String.valueOf(ttl.plus(RESERVATION_RETENTION).toSeconds()),
+            reservationId
+        ));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(AVAILABLE_KEY_PREFIX + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+
+        Long result = masterRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        if (result == null || result < 0) {
+            return StockReservationResult.NOT_LOADED;
+        }
+        return result == 1 ? StockReservationResult.RESERVED : StockReservationResult.INSUFFICIENT;
+    }
+
+    @Override
+    public void load(Map<Long, Integer> stockQuantities, boolean overwrite) {
+        if (stockQuantities.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(List.of(RESERVED_KEY, LOADED_PRODUCTS_KEY));
+        List<String> args = new ArrayList<>(List.of(overwrite ? "overwrite" : "if-absent"));
+        stockQuantities.forEach((productId, quantity) -> {
+            keys.add(AVAILABLE_KEY_PREFIX + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+        masterRedisTemplate.execute(LOAD_SCRIPT, keys, args.toArray());
+    }
+
+    @Override
+    public boolean confirm(String reservationId) {
+        Long result = masterRedisTemplate.execute(CONFIRM_SCRIPT,
+            List.of(RESERVATIONS_KEY, reservationKey(reservationId), RESERVED_KEY), reservationId);
+        return Long.valueOf(1).equals(result);
+    }
+
+    @Override
+    public boolean release(String reservationId) {
+        Long result = masterRedisTemplate.execute(RELEASE_SCRIPT,
+            List.of(RESERVATIONS_KEY, reservationKey(reservationId), RESERVED_KEY), reservationId, AVAILABLE_KEY_PREFIX);
+        return Long.valueOf(1).equals(result);
+    }
+
+    @Override
+    public List<String> findExpiredReservationIds(Instant now, int limit) {
+        Set<String> expired = masterRedisTemplate.opsForZSet()
+            .rangeByScore(RESERVATIONS_KEY, 0, now.toEpochMilli(), 0, limit);
+        return expired == null ? List.of() : List.copyOf(expired);
+    }
+
+    @Override
+    public List<Long> findLoadedProductIds() {
+        Set<String> members = masterRedisTemplate.opsForSet().members(LOADED_PRODUCTS_KEY);
+        return members == null ? List.of() : members.stream().map(Long::valueOf).toList();
+    }
+
+    private String reservationKey(String reservationId) {
+        return RESERVATION_KEY_PREFIX + reservationId;
+    }
+}
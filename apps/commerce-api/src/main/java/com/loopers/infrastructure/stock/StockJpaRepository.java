@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.stock;
 
 import com.loopers.domain.stock.StockModel;
+import com.loopers.domain.stock.StockQuantity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -17,5 +18,16 @@ public interface StockJpaRepository extends JpaRepository<StockModel, Long> {
     @Query("SELECT s FROM StockModel s WHERE s.productId = :productId")
     Optional<StockModel> findByProductIdForUpdate(@Param("productId") Long productId);
 
+    /**
+     * product_id 유니크 인덱스 순서로 스캔하며 락을 잡으므로, 여러 주문이 동시에 들어와도 락 획득 순서가 productId 오름차순으로 고정된다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StockModel s WHERE s.productId IN :productIds ORDER BY s.productId")
+    List<StockModel> findAllByProductIdInForUpdate(@Param("productIds") List<Long> productIds);
+
     List<StockModel> findAllByProductIdIn(List<Long> productIds);
+
+    @Query("SELECT new com.loopers.domain.stock.StockQuantity(s.productId, s.quantity) FROM StockModel s"
+        + " WHERE s.productId IN :productIds")
+    List<StockQuantity> findQuantitiesByProductIdIn(@Param("productIds") List<Long> productIds);
 }
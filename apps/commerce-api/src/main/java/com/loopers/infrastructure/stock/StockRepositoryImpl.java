@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.stock;
 
 import com.loopers.domain.stock.StockModel;
+import com.loopers.domain.stock.StockQuantity;
 import com.loopers.domain.stock.StockRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -29,8 +30,18 @@ public class StockRepositoryImpl implements StockRepository {
         return stockJpaRepository.findByProductIdForUpdate(productId);
     }
 
+    @Override
+    public List<StockModel> findAllByProductIdInForUpdate(List<Long> productIds) {
+        return stockJpaRepository.findAllByProductIdInForUpdate(productIds);
+    }
+
     @Override
     public List<StockModel> findAllByProductIdIn(List<Long> productIds) {
         return stockJpaRepository.findAllByProductIdIn(productIds);
     }
+
+    @Override
+    public List<StockQuantity> findQuantitiesByProductIdIn(List<Long> productIds) {
+        return stockJpaRepository.findQuantitiesByProductIdIn(productIds);
+    }
 }
@@ -8,4 +8,9 @@ import java.lang.annotation.Target;
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface LoginMember {
+
+    /**
+     * false면 인증 헤더가 없을 때 예외 대신 null을 주입한다. (비로그인도 허용하는 조회 API)
+     */
+    boolean required() default true;
 }
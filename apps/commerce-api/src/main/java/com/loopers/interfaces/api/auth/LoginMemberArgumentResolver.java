@@ -1,7 +1,7 @@
 package com.loopers.interfaces.api.auth;
 
 import com.loopers.application.member.MemberAuthService;
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
@@ -24,11 +24,11 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(LoginMember.class)
-            && parameter.getParameterType().equals(MemberModel.class);
+            && parameter.getParameterType().equals(AuthenticatedMember.class);
     }
 
     @Override
-    public MemberModel resolveArgument(
+    public AuthenticatedMember resolveArgument(
         MethodParameter parameter,
         ModelAndViewContainer mavContainer,
         NativeWebRequest webRequest,
@@ -38,6 +38,10 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
         String loginPw = webRequest.getHeader(HEADER_LOGIN_PW);
 
         if (loginId == null || loginId.isBlank() || loginPw == null || loginPw.isBlank()) {
+            LoginMember loginMember = parameter.getParameterAnnotation(LoginMember.class);
+            if (loginMember != null && !loginMember.required()) {
+                return null;
+            }
             throw new CoreException(ErrorType.UNAUTHORIZED, "인증 헤더가 누락되었습니다.");
         }
 
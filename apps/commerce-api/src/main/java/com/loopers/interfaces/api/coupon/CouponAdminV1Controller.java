@@ -42,7 +42,7 @@ public class CouponAdminV1Controller {
     ) {
         CouponModel coupon = couponService.create(
             request.name(), request.type(), request.value(),
-            request.toMinOrderAmount(), request.expiredAt()
+            request.toMinOrderAmount(), request.expiredAt(), request.totalQuantity()
         );
         return ApiResponse.success(CouponAdminV1Dto.CouponResponse.from(coupon));
     }
@@ -13,7 +13,8 @@ public class CouponAdminV1Dto {
         CouponType type,
         int value,
         Integer minOrderAmount,
-        LocalDateTime expiredAt
+        LocalDateTime expiredAt,
+        Integer totalQuantity
     ) {
         public Money toMinOrderAmount() {
             return minOrderAmount != null ? new Money(minOrderAmount) : null;
@@ -38,7 +39,8 @@ public class CouponAdminV1Dto {
         String type,
         int value,
         Integer minOrderAmount,
-        LocalDateTime expiredAt
+        LocalDateTime expiredAt,
+        Integer totalQuantity
     ) {
         public static CouponResponse from(CouponModel coupon) {
             return new CouponResponse(
@@ -47,7 +49,8 @@ public class CouponAdminV1Dto {
                 coupon.type().name(),
                 coupon.value(),
                 coupon.minOrderAmount() != null ? coupon.minOrderAmount().value() : null,
-                coupon.expiredAt()
+                coupon.expiredAt(),
+                coupon.totalQuantity()
             );
         }
     }
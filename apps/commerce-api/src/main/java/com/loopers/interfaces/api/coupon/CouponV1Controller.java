@@ -2,9 +2,11 @@ package com.loopers.interfaces.api.coupon;
 
 import com.loopers.application.coupon.CouponIssueService;
 import com.loopers.application.coupon.CouponService;
+import com.loopers.domain.coupon.CouponIssueAdmission;
 import com.loopers.domain.coupon.CouponIssueModel;
 import com.loopers.domain.coupon.CouponModel;
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.api.auth.LoginMember;
 import lombok.RequiredArgsConstructor;
@@ -21,19 +23,32 @@ public class CouponV1Controller {
 
     @PostMapping("/api/v1/coupons/{couponId}/issue")
     public ApiResponse<CouponV1Dto.CouponIssueResponse> issueCoupon(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
         @PathVariable Long couponId
     ) {
         CouponModel coupon = couponService.getCoupon(couponId);
-        CouponIssueModel issue = couponIssueService.issue(coupon, member.getId());
+        CouponIssueModel issue = couponIssueService.issue(coupon, member.id());
         return ApiResponse.success(CouponV1Dto.CouponIssueResponse.from(issue));
     }
 
+    /**
+     * 선착순 쿠폰 발급 요청. 접수 결과(ACCEPTED / ALREADY_ISSUED / SOLD_OUT)만 즉시 응답하고, 발급 내역은 잠시 뒤 저장된다.
+     */
+    @PostMapping("/api/v1/coupons/{couponId}/issue-requests")
+    public ApiResponse<CouponV1Dto.CouponIssueRequestResponse> requestCouponIssue(
+        @LoginMember AuthenticatedMember member,
+        @PathVariable Long couponId
+    ) {
+        CouponSnapshot coupon = couponService.getCouponSnapshot(couponId);
+        CouponIssueAdmission admission = couponIssueService.requestIssue(coupon, member.id());
+        return ApiResponse.success(new CouponV1Dto.CouponIssueRequestResponse(couponId, admission.name()));
+    }
+
     @GetMapping("/api/v1/users/me/coupons")
     public ApiResponse<List<CouponV1Dto.CouponIssueResponse>> getMyCoupons(
-        @LoginMember MemberModel member
+        @LoginMember AuthenticatedMember member
     ) {
-        List<CouponIssueModel> issues = couponIssueService.getMyIssues(member.getId());
+        List<CouponIssueModel> issues = couponIssueService.getMyIssues(member.id());
         List<CouponV1Dto.CouponIssueResponse> response = issues.stream()
             .map(CouponV1Dto.CouponIssueResponse::from)
             .toList();
@@ -25,4 +25,10 @@ public class CouponV1Dto {
             );
         }
     }
+
+    public record CouponIssueRequestResponse(
+        Long couponId,
+        String result
+    ) {
+    }
 }
@@ -1,6 +1,6 @@
 package com.loopers.interfaces.api.like;
 
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,11 +11,11 @@ import org.springframework.data.domain.Pageable;
 public interface LikeV1ApiSpec {
 
     @Operation(summary = "좋아요 등록", description = "상품에 좋아요를 등록합니다.")
-    ApiResponse<Object> register(MemberModel member, Long productId);
+    ApiResponse<Object> register(AuthenticatedMember member, Long productId);
 
     @Operation(summary = "좋아요 취소", description = "상품의 좋아요를 취소합니다.")
-    ApiResponse<Object> cancel(MemberModel member, Long productId);
+    ApiResponse<Object> cancel(AuthenticatedMember member, Long productId);
 
     @Operation(summary = "내 좋아요 목록 조회", description = "내 좋아요 목록을 조회합니다.")
-    ApiResponse<Page<LikeV1Dto.LikeResponse>> getMyLikes(MemberModel member, Pageable pageable);
+    ApiResponse<Page<LikeV1Dto.LikeResponse>> getMyLikes(AuthenticatedMember member, Pageable pageable);
 }
@@ -2,7 +2,7 @@ package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.LikeFacade;
 import com.loopers.application.like.LikeWithProduct;
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.api.auth.LoginMember;
 import com.loopers.support.error.CoreException;
@@ -25,28 +25,28 @@ public class LikeV1Controller {
     private final LikeFacade likeFacade;
 
     @PostMapping("/api/v1/products/{productId}/likes")
-    public ApiResponse<Void> like(@LoginMember MemberModel member, @PathVariable Long productId) {
-        likeFacade.like(member.getId(), productId);
+    public ApiResponse<Void> like(@LoginMember AuthenticatedMember member, @PathVariable Long productId) {
+        likeFacade.like(member.id(), productId);
         return ApiResponse.success(null);
     }
 
     @DeleteMapping("/api/v1/products/{productId}/likes")
-    public ApiResponse<Void> unlike(@LoginMember MemberModel member, @PathVariable Long productId) {
-        likeFacade.unlike(member.getId(), productId);
+    public ApiResponse<Void> unlike(@LoginMember AuthenticatedMember member, @PathVariable Long productId) {
+        likeFacade.unlike(member.id(), productId);
         return ApiResponse.success(null);
     }
 
     @GetMapping("/api/v1/users/{userId}/likes")
     public ApiResponse<Page<LikeV1Dto.LikeResponse>> getMyLikes(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
         @PathVariable Long userId,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "20") int size
     ) {
-        if (!member.getId().equals(userId)) {
+        if (!member.id().equals(userId)) {
             throw new CoreException(ErrorType.BAD_REQUEST, "본인의 좋아요 목록만 조회할 수 있습니다.");
         }
-        Page<LikeWithProduct> likes = likeFacade.getMyLikesWithProducts(member.getId(),
+        Page<LikeWithProduct> likes = likeFacade.getMyLikesWithProducts(member.id(),
             PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt")));
         return ApiResponse.success(likes.map(LikeV1Dto.LikeResponse::from));
     }
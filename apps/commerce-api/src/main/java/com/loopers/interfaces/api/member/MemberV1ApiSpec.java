@@ -1,6 +1,6 @@
 package com.loopers.interfaces.api.member;
 
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import static com.loopers.interfaces.api.member.MemberV1Dto.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +13,8 @@ public interface MemberV1ApiSpec {
     ApiResponse<MemberResponse> signup(SignupRequest request);
 
     @Operation(summary = "내 정보 조회", description = "헤더 인증을 통해 내 정보를 조회합니다.")
-    ApiResponse<MemberResponse> getMe(MemberModel member);
+    ApiResponse<MemberResponse> getMe(AuthenticatedMember member);
 
     @Operation(summary = "비밀번호 변경", description = "비밀번호를 변경합니다.")
-    ApiResponse<Object> changePassword(MemberModel member, ChangePasswordRequest request);
+    ApiResponse<Object> changePassword(AuthenticatedMember member, ChangePasswordRequest request);
 }
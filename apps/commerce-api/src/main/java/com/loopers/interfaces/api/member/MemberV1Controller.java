@@ -2,7 +2,7 @@ package com.loopers.interfaces.api.member;
 
 import com.loopers.application.member.MemberFacade;
 import com.loopers.application.member.MemberInfo;
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.api.auth.LoginMember;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +34,7 @@ public class MemberV1Controller implements MemberV1ApiSpec {
 
     @GetMapping("/me")
     @Override
-    public ApiResponse<MemberV1Dto.MemberResponse> getMe(@LoginMember MemberModel member) {
+    public ApiResponse<MemberV1Dto.MemberResponse> getMe(@LoginMember AuthenticatedMember member) {
         MemberInfo info = memberFacade.getMyInfo(member);
         return ApiResponse.success(MemberV1Dto.MemberResponse.from(info));
     }
@@ -42,7 +42,7 @@ public class MemberV1Controller implements MemberV1ApiSpec {
     @PutMapping("/password")
     @Override
     public ApiResponse<Object> changePassword(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
         @RequestBody MemberV1Dto.ChangePasswordRequest request
     ) {
         memberFacade.changePassword(member, request.currentPassword(), request.newPassword());
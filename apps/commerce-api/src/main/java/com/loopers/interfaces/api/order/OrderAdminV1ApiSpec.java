@@ -3,9 +3,13 @@ package com.loopers.interfaces.api.order;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.time.LocalDate;
+
 @Tag(name = "Order Admin V1 API", description = "주문 관리 API")
 public interface OrderAdminV1ApiSpec {
 
@@ -14,4 +18,8 @@ public interface OrderAdminV1ApiSpec {
 
     @Operation(summary = "주문 상세 조회 (관리자)", description = "주문 상세 정보를 조회합니다.")
     ApiResponse<OrderAdminV1Dto.OrderAdminDetailResponse> getById(String adminLdap, Long orderId);
+
+    @Operation(summary = "주문 내보내기 (관리자)", description = "기간 내 주문을 CSV 또는 NDJSON으로 스트리밍합니다. 페이지 없이 전체 건을 한 응답으로 내려줍니다.")
+    void export(String adminLdap, LocalDate startAt, LocalDate endAt, OrderExportFormat format, HttpServletResponse response)
+        throws IOException;
 }
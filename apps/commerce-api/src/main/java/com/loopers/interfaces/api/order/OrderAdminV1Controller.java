@@ -1,23 +1,38 @@
 package com.loopers.interfaces.api.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.order.OrderFacade;
 import com.loopers.application.order.OrderInfo;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.api.auth.AdminUser;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api-admin/v1/orders")
 public class OrderAdminV1Controller implements OrderAdminV1ApiSpec {
 
     private final OrderFacade orderFacade;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @Override
@@ -39,4 +54,35 @@ public class OrderAdminV1Controller implements OrderAdminV1ApiSpec {
         OrderInfo info = orderFacade.getOrderForAdmin(orderId);
         return ApiResponse.success(OrderAdminV1Dto.OrderAdminDetailResponse.from(info));
     }
+
+    /**
+     * 응답 OutputStream에 청크 단위로 바로 쓴다. 본문이 쓰이기 시작한 뒤의 실패는 상태 코드로 알릴 수 없어 잘린 본문으로 끝난다.
+     * 응답 헤더와 CSV 헤더는 커서를 연 뒤에 쓰므로, 동시 내보내기 상한 초과 등 시작 전 실패는 일반 에러 응답으로 내려간다.
+     */
+    @GetMapping("/export")
+    @Override
+    public void export(
+        @AdminUser String adminLdap,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startAt,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endAt,
+        @RequestParam(defaultValue = "CSV") OrderExportFormat format,
+        HttpServletResponse response
+    ) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        OrderExportWriter exportWriter = new OrderExportWriter(format, writer, objectMapper);
+        long exported = orderFacade.exportOrders(
+            startAt.atStartOfDay(ZoneId.of("Asia/Seoul")),
+            endAt.plusDays(1).atStartOfDay(ZoneId.of("Asia/Seoul")),
+            () -> {
+                response.setContentType(format.getContentType());
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"orders-" + startAt + "-" + endAt + "." + format.getExtension() + "\"");
+                exportWriter.writeHeader();
+            },
+            exportWriter::writeChunk
+        );
+        writer.flush();
+        log.info("주문 내보내기 완료 - admin: {}, 기간: {} ~ {}, 형식: {}, 건수: {}", adminLdap, startAt, endAt, format, exported);
+    }
 }
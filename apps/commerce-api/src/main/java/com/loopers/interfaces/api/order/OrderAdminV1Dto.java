@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.order;
 
+import com.loopers.application.order.OrderExportInfo;
 import com.loopers.application.order.OrderInfo;
 
 import java.time.ZonedDateTime;
@@ -30,4 +31,25 @@ public class OrderAdminV1Dto {
             );
         }
     }
+
+    public record OrderExportResponse(
+        Long id, Long memberId, String status, int totalAmount, int discountAmount, int finalAmount,
+        List<OrderExportItemResponse> orderItems, ZonedDateTime createdAt
+    ) {
+        public static OrderExportResponse from(OrderExportInfo info) {
+            List<OrderExportItemResponse> items = info.items().stream()
+                .map(OrderExportItemResponse::from)
+                .toList();
+            return new OrderExportResponse(
+                info.orderId(), info.userId(), info.status(), info.totalAmount(), info.discountAmount(),
+                info.finalAmount(), items, info.createdAt()
+            );
+        }
+    }
+
+    public record OrderExportItemResponse(Long productId, String productName, int productPrice, int quantity) {
+        public static OrderExportItemResponse from(OrderExportInfo.ItemInfo item) {
+            return new OrderExportItemResponse(item.productId(), item.productName(), item.productPrice(), item.quantity());
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package com.loopers.interfaces.api.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.order.OrderExportInfo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 주문 내보내기 본문을 형식별로 응답 스트림에 쓴다.
+ * 청크마다 flush 해 응답 버퍼가 전체 행 수만큼 쌓이지 않는다.
+ *
+ * - CSV    : 주문 상품 한 건당 한 줄. 상품이 없는 주문은 상품 컬럼을 비운 한 줄.
+ * - NDJSON : 주문 한 건당 한 줄, 상품은 items 배열로.
+ */
+class OrderExportWriter {
+
+    private static final String CSV_HEADER = "order_id,user_id,status,total_amount,discount_amount,final_amount,"
+        + "created_at,product_id,product_name,product_price,quantity";
+
+    private final OrderExportFormat format;
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    OrderExportWriter(OrderExportFormat format, Writer writer, ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+    }
+
+    void writeHeader() {
+        if (format != OrderExportFormat.CSV) {
+            return;
+        }
+        try {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void writeChunk(List<OrderExportInfo> orders) {
+        try {
+            for (OrderExportInfo order : orders) {
+                switch (format) {
+                    case CSV -> writeCsv(order);
+                    case NDJSON -> writeNdjson(order);
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(OrderExportInfo order) throws IOException {
+        String orderColumns = String.join(",",
+            String.valueOf(order.orderId()),
+            String.valueOf(order.userId()),
+            order.status(),
+            String.valueOf(order.totalAmount()),
+            String.valueOf(order.discountAmount()),
+            String.valueOf(order.finalAmount()),
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(order.createdAt())
+        );
+        if (order.items().isEmpty()) {
+            writer.write(orderColumns + ",,,,\n");
+            return;
+        }
+        for (OrderExportInfo.ItemInfo item : order.items()) {
+            writer.write(String.join(",",
+                orderColumns,
+                String.valueOf(item.productId()),
+                escapeCsv(item.productName()),
+                String.valueOf(item.productPrice()),
+                String.valueOf(item.quantity())
+            ));
+            writer.write('\n');
+        }
+    }
+
+    private void writeNdjson(OrderExportInfo order) throws IOException {
+        try {
+            writer.write(objectMapper.writeValueAsString(OrderAdminV1Dto.OrderExportResponse.from(order)));
+        } catch (JsonProcessingException e) {
+            throw new IOException(e);
+        }
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -1,6 +1,6 @@
 package com.loopers.interfaces.api.order;
 
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,12 +10,15 @@ import org.springframework.data.domain.Pageable;
 @Tag(name = "Order V1 API", description = "고객 주문 API")
 public interface OrderV1ApiSpec {
 
-    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다.")
-    ApiResponse<OrderV1Dto.OrderResponse> createOrder(MemberModel member, OrderV1Dto.CreateRequest request);
+    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다. 대기열이 켜져 있으면 입장 토큰이 필요합니다.")
+    ApiResponse<OrderV1Dto.OrderResponse> createOrder(AuthenticatedMember member, String admissionToken, OrderV1Dto.CreateRequest request);
 
     @Operation(summary = "내 주문 목록 조회", description = "내 주문 목록을 조회합니다.")
-    ApiResponse<OrderV1Dto.OrderSummaryResponse> getMyOrders(MemberModel member, Pageable pageable);
+    ApiResponse<OrderV1Dto.OrderSummaryResponse> getMyOrders(AuthenticatedMember member, Pageable pageable);
+
+    @Operation(summary = "내 주문 내역 커서 조회", description = "커서(keyset) 기반으로 주문 내역을 최신순으로 조회합니다. 첫 페이지는 빈 cursor로 요청합니다.")
+    ApiResponse<OrderV1Dto.OrderHistoryCursorResponse> getMyOrdersByCursor(AuthenticatedMember member, String cursor, int size);
 
     @Operation(summary = "주문 상세 조회", description = "주문 상세 정보를 조회합니다.")
-    ApiResponse<OrderV1Dto.OrderResponse> getById(MemberModel member, Long orderId);
+    ApiResponse<OrderV1Dto.OrderResponse> getById(AuthenticatedMember member, Long orderId);
 }
@@ -1,9 +1,11 @@
 package com.loopers.interfaces.api.order;
 
 import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderHistoryPage;
 import com.loopers.application.order.OrderInfo;
 import com.loopers.application.order.OrderResult;
-import com.loopers.domain.member.MemberModel;
+import com.loopers.application.queue.WaitingRoomService;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.api.auth.LoginMember;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -25,37 +28,57 @@ import java.util.List;
 public class OrderV1Controller {
 
     private final OrderFacade orderFacade;
+    private final WaitingRoomService waitingRoomService;
 
+    /**
+     * 대기열이 켜져 있으면 입장 토큰을 먼저 소비해, 토큰 없는 요청은 DB 커넥션을 잡기 전에 거절한다.
+     * 토큰은 한 번만 소비되므로 같은 토큰으로 동시에 주문해도 하나만 진행되고, 주문이 실패하면 토큰이 되돌려진다.
+     */
     @PostMapping("/api/v1/orders")
     public ApiResponse<OrderV1Dto.OrderResponse> createOrder(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
+        @RequestHeader(value = "X-Loopers-Admission-Token", required = false) String admissionToken,
         @RequestBody OrderV1Dto.CreateRequest request
     ) {
-        OrderResult result = orderFacade.placeOrder(member.getId(), request.toCommands(), request.couponIssueId());
+        OrderResult result = waitingRoomService.withAdmission(member.id(), admissionToken,
+            () -> orderFacade.placeOrder(member.id(), request.toCommands(), request.couponIssueId()));
         return ApiResponse.success(OrderV1Dto.OrderResponse.fromResult(result));
     }
 
     @GetMapping("/api/v1/orders")
     public ApiResponse<List<OrderV1Dto.OrderSummaryResponse>> getMyOrders(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startAt,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endAt
     ) {
         ZonedDateTime start = startAt.atStartOfDay(ZoneId.of("Asia/Seoul"));
         ZonedDateTime end = endAt.plusDays(1).atStartOfDay(ZoneId.of("Asia/Seoul"));
-        List<OrderInfo> orders = orderFacade.getOrdersByUser(member.getId(), start, end);
+        List<OrderInfo> orders = orderFacade.getOrdersByUser(member.id(), start, end);
         List<OrderV1Dto.OrderSummaryResponse> response = orders.stream()
             .map(OrderV1Dto.OrderSummaryResponse::from)
             .toList();
         return ApiResponse.success(response);
     }
 
+    /**
+     * 주문 내역 커서 조회. 첫 페이지는 빈 cursor로 요청한다.
+     */
+    @GetMapping(value = "/api/v1/orders", params = "cursor")
+    public ApiResponse<OrderV1Dto.OrderHistoryCursorResponse> getMyOrdersByCursor(
+        @LoginMember AuthenticatedMember member,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        OrderHistoryPage page = orderFacade.getOrderHistory(member.id(), cursor, size);
+        return ApiResponse.success(OrderV1Dto.OrderHistoryCursorResponse.from(page));
+    }
+
     @GetMapping("/api/v1/orders/{orderId}")
     public ApiResponse<OrderV1Dto.OrderResponse> getOrder(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
         @PathVariable Long orderId
     ) {
-        OrderInfo info = orderFacade.getOrder(orderId, member.getId());
+        OrderInfo info = orderFacade.getOrder(orderId, member.id());
         return ApiResponse.success(OrderV1Dto.OrderResponse.from(info));
     }
 }
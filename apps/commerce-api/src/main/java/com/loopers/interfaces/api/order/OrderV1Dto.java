@@ -1,5 +1,7 @@
 package com.loopers.interfaces.api.order;
 
+import com.loopers.application.order.OrderHistoryInfo;
+import com.loopers.application.order.OrderHistoryPage;
 import com.loopers.application.order.OrderInfo;
 import com.loopers.application.order.OrderItemCommand;
 import com.loopers.application.order.OrderResult;
@@ -72,6 +74,40 @@ public class OrderV1Dto {
         }
     }
 
+    public record OrderHistoryResponse(
+        Long orderId,
+        String status,
+        int totalAmount,
+        int discountAmount,
+        int finalAmount,
+        long itemCount,
+        String firstItemName,
+        ZonedDateTime createdAt
+    ) {
+
+        public static OrderHistoryResponse from(OrderHistoryInfo info) {
+            return new OrderHistoryResponse(
+                info.orderId(), info.status(), info.totalAmount(), info.discountAmount(),
+                info.finalAmount(), info.itemCount(), info.firstItemName(), info.createdAt()
+            );
+        }
+    }
+
+    public record OrderHistoryCursorResponse(
+        List<OrderHistoryResponse> content,
+        String nextCursor,
+        boolean hasNext
+    ) {
+
+        public static OrderHistoryCursorResponse from(OrderHistoryPage page) {
+            return new OrderHistoryCursorResponse(
+                page.content().stream().map(OrderHistoryResponse::from).toList(),
+                page.nextCursor(),
+                page.hasNext()
+            );
+        }
+    }
+
     public record OrderItemResponse(
         Long productId,
         String productName,
@@ -2,13 +2,14 @@ package com.loopers.interfaces.api.payment;
 
 import com.loopers.application.payment.PaymentFacade;
 import com.loopers.application.payment.PaymentInfo;
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.api.auth.LoginMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 @RestController
@@ -18,18 +19,18 @@ public class PaymentV1Controller implements PaymentV1ApiSpec {
 
     @PostMapping("/api/v1/payments")
     @Override
-    public ApiResponse<PaymentV1Dto.PaymentResponse> requestPayment(
-        @LoginMember MemberModel member,
+    public CompletableFuture<ApiResponse<PaymentV1Dto.PaymentResponse>> requestPayment(
+        @LoginMember AuthenticatedMember member,
         @RequestBody PaymentV1Dto.PaymentRequest request
     ) {
-        PaymentInfo info = paymentFacade.requestPayment(member.getId(), request.toCommand());
-        return ApiResponse.success(PaymentV1Dto.PaymentResponse.from(info));
+        return paymentFacade.requestPayment(member.id(), request.toCommand())
+            .thenApply(info -> ApiResponse.success(PaymentV1Dto.PaymentResponse.from(info)));
     }
 
     @GetMapping("/api/v1/payments/{paymentId}")
     @Override
     public ApiResponse<PaymentV1Dto.PaymentResponse> getPayment(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
         @PathVariable Long paymentId
     ) {
         PaymentInfo info = paymentFacade.getPayment(paymentId);
@@ -39,7 +40,7 @@ public class PaymentV1Controller implements PaymentV1ApiSpec {
     @GetMapping("/api/v1/payments")
     @Override
     public ApiResponse<List<PaymentV1Dto.PaymentResponse>> getPaymentsByOrderId(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
         @RequestParam Long orderId
     ) {
         List<PaymentInfo> infos = paymentFacade.getPaymentsByOrderId(orderId);
@@ -51,7 +52,7 @@ public class PaymentV1Controller implements PaymentV1ApiSpec {
 
     @PostMapping("/api/v1/payments/{paymentId}/sync")
     public ApiResponse<PaymentV1Dto.PaymentResponse> syncPaymentStatus(
-        @LoginMember MemberModel member,
+        @LoginMember AuthenticatedMember member,
         @PathVariable Long paymentId
     ) {
         PaymentInfo info = paymentFacade.syncPaymentStatus(paymentId);
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,9 +10,12 @@ import org.springframework.data.domain.Pageable;
 @Tag(name = "Product V1 API", description = "고객 상품 API")
 public interface ProductV1ApiSpec {
 
-    @Operation(summary = "상품 목록 조회", description = "상품 목록을 페이징하여 조회합니다.")
-    ApiResponse<Page<ProductV1Dto.ProductSummaryResponse>> getAll(Pageable pageable, String sortType);
+    @Operation(summary = "상품 목록 조회", description = "상품 목록을 페이징하여 조회합니다. 로그인 시 좋아요 여부(liked)를 함께 반환합니다.")
+    ApiResponse<Page<ProductV1Dto.ProductSummaryResponse>> getAll(AuthenticatedMember member, Pageable pageable, String sortType);
 
-    @Operation(summary = "상품 상세 조회", description = "상품 상세 정보를 조회합니다.")
-    ApiResponse<ProductV1Dto.ProductDetailResponse> getById(Long productId);
+    @Operation(summary = "상품 목록 커서 조회", description = "커서(keyset) 기반으로 상품 목록을 조회합니다. 첫 페이지는 빈 cursor로 요청합니다. 로그인 시 좋아요 여부(liked)를 함께 반환합니다.")
+    ApiResponse<ProductV1Dto.ProductCursorResponse> getAllByCursor(AuthenticatedMember member, String cursor, int size, String sortType);
+
+    @Operation(summary = "상품 상세 조회", description = "상품 상세 정보를 조회합니다. 로그인 시 좋아요 여부(liked)를 함께 반환합니다.")
+    ApiResponse<ProductV1Dto.ProductDetailResponse> getById(AuthenticatedMember member, Long productId);
 }
@@ -1,9 +1,13 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.like.LikeFacade;
+import com.loopers.application.product.ProductCursorPage;
 import com.loopers.application.product.ProductDetail;
 import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.domain.product.ProductSortType;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.auth.LoginMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,28 +18,60 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.Set;
+
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/products")
 public class ProductV1Controller implements ProductV1ApiSpec {
 
     private final ProductFacade productFacade;
+    private final LikeFacade likeFacade;
 
     @GetMapping
     @Override
     public ApiResponse<Page<ProductV1Dto.ProductSummaryResponse>> getAll(
+        @LoginMember(required = false) AuthenticatedMember member,
         Pageable pageable,
         @RequestParam(defaultValue = "CREATED_DESC") String sortType
     ) {
         ProductSortType sort = ProductSortType.valueOf(sortType);
         Page<ProductDetail> products = productFacade.getProducts(null, sort, pageable);
-        return ApiResponse.success(products.map(ProductV1Dto.ProductSummaryResponse::from));
+        Set<Long> liked = likedProductIds(member, products.getContent());
+        return ApiResponse.success(products.map(detail -> ProductV1Dto.ProductSummaryResponse.from(detail, liked)));
+    }
+
+    @GetMapping(params = "cursor")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductCursorResponse> getAllByCursor(
+        @LoginMember(required = false) AuthenticatedMember member,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "CREATED_DESC") String sortType
+    ) {
+        ProductSortType sort = ProductSortType.valueOf(sortType);
+        ProductCursorPage page = productFacade.getProductsByCursor(null, sort, cursor, size);
+        return ApiResponse.success(ProductV1Dto.ProductCursorResponse.from(page, likedProductIds(member, page.content())));
     }
 
     @GetMapping("/{productId}")
     @Override
-    public ApiResponse<ProductV1Dto.ProductDetailResponse> getById(@PathVariable Long productId) {
+    public ApiResponse<ProductV1Dto.ProductDetailResponse> getById(
+        @LoginMember(required = false) AuthenticatedMember member,
+        @PathVariable Long productId
+    ) {
         ProductDetail detail = productFacade.getProduct(productId);
-        return ApiResponse.success(ProductV1Dto.ProductDetailResponse.from(detail));
+        return ApiResponse.success(ProductV1Dto.ProductDetailResponse.from(detail, likedProductIds(member, List.of(detail))));
+    }
+
+    /**
+     * 비로그인 요청이면 null을 반환해 응답에서 liked 필드를 생략한다.
+     */
+    private Set<Long> likedProductIds(AuthenticatedMember member, List<ProductDetail> details) {
+        if (member == null) {
+            return null;
+        }
+        return likeFacade.getLikedProductIds(member.id(), details.stream().map(ProductDetail::id).toList());
     }
 }
@@ -1,28 +1,44 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductCursorPage;
 import com.loopers.application.product.ProductDetail;
 
+import java.util.List;
+import java.util.Set;
+
 public class ProductV1Dto {
 
+    /**
+     * liked는 로그인한 요청에만 채워지고, 비로그인이면 null(응답에서 생략)이다.
+     */
     public record ProductSummaryResponse(
-        Long id, String name, int price, String brandName, String stockStatus
+        Long id, String name, int price, String brandName, String stockStatus, Boolean liked
     ) {
         public static ProductSummaryResponse from(ProductDetail detail) {
+            return from(detail, null);
+        }
+
+        public static ProductSummaryResponse from(ProductDetail detail, Set<Long> likedProductIds) {
             return new ProductSummaryResponse(
                 detail.id(),
                 detail.name(),
                 detail.price(),
                 detail.brandName(),
-                detail.stockStatus() != null ? detail.stockStatus().name() : null
+                detail.stockStatus() != null ? detail.stockStatus().name() : null,
+                likedProductIds != null ? likedProductIds.contains(detail.id()) : null
             );
         }
     }
 
     public record ProductDetailResponse(
         Long id, String name, String description, int price,
-        Long brandId, String brandName, int likeCount, String stockStatus
+        Long brandId, String brandName, int likeCount, String stockStatus, Boolean liked
     ) {
         public static ProductDetailResponse from(ProductDetail detail) {
+            return from(detail, null);
+        }
+
+        public static ProductDetailResponse from(ProductDetail detail, Set<Long> likedProductIds) {
             return new ProductDetailResponse(
                 detail.id(),
                 detail.name(),
@@ -31,7 +47,20 @@ public class ProductV1Dto {
                 detail.brandId(),
                 detail.brandName(),
                 detail.likeCount(),
-                detail.stockStatus() != null ? detail.stockStatus().name() : null
+                detail.stockStatus() != null ? detail.stockStatus().name() : null,
+                likedProductIds != null ? likedProductIds.contains(detail.id()) : null
+            );
+        }
+    }
+
+    public record ProductCursorResponse(
+        List<ProductSummaryResponse> content, String nextCursor, boolean hasNext
+    ) {
+        public static ProductCursorResponse from(ProductCursorPage page, Set<Long> likedProductIds) {
+            return new ProductCursorResponse(
+                page.content().stream().map(detail -> ProductSummaryResponse.from(detail, likedProductIds)).toList(),
+                page.nextCursor(),
+                page.hasNext()
             );
         }
     }
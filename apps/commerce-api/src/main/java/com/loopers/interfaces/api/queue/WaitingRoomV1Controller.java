@@ -0,0 +1,33 @@
+package com.loopers.interfaces.api.queue;
+
+import com.loopers.application.queue.WaitingRoomInfo;
+import com.loopers.application.queue.WaitingRoomService;
+import com.loopers.domain.member.AuthenticatedMember;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.auth.LoginMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class WaitingRoomV1Controller {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/api/v1/queue/enter")
+    public ApiResponse<WaitingRoomV1Dto.WaitingRoomResponse> enter(@LoginMember AuthenticatedMember member) {
+        WaitingRoomInfo info = waitingRoomService.enter(member.id());
+        return ApiResponse.success(WaitingRoomV1Dto.WaitingRoomResponse.from(info));
+    }
+
+    /**
+     * 대기 순번과 예상 대기 시간 폴링. 입장하면 status가 ADMITTED가 되고 주문에 쓸 token이 내려간다.
+     */
+    @GetMapping("/api/v1/queue/position")
+    public ApiResponse<WaitingRoomV1Dto.WaitingRoomResponse> getPosition(@LoginMember AuthenticatedMember member) {
+        WaitingRoomInfo info = waitingRoomService.getStatus(member.id());
+        return ApiResponse.success(WaitingRoomV1Dto.WaitingRoomResponse.from(info));
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.interfaces.api.queue;
+
+import com.loopers.application.queue.WaitingRoomInfo;
+
+public class WaitingRoomV1Dto {
+
+    public record WaitingRoomResponse(
+        String status,
+        Long position,
+        Long etaSeconds,
+        String token
+    ) {
+        public static WaitingRoomResponse from(WaitingRoomInfo info) {
+            return new WaitingRoomResponse(info.status().name(), info.position(), info.etaSeconds(), info.token());
+        }
+    }
+}
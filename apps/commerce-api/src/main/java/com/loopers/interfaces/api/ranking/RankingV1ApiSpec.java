@@ -0,0 +1,17 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Ranking V1 API", description = "상품 랭킹 API")
+public interface RankingV1ApiSpec {
+
+    @Operation(
+        summary = "상품 랭킹 조회",
+        description = "조회수/좋아요/주문수량 가중 점수 기준 랭킹을 페이징하여 조회합니다. "
+            + "period는 DAILY(date=yyyyMMdd) 또는 HOURLY(date=yyyyMMddHH)이며, date를 생략하면 현재 시간 창을 조회합니다."
+    )
+    ApiResponse<RankingV1Dto.RankingPageResponse> getRankings(RankingPeriod period, String date, int page, int size);
+}
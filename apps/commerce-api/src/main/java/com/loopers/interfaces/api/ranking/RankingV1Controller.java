@@ -0,0 +1,31 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingFacade;
+import com.loopers.application.ranking.RankingPage;
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/rankings")
+public class RankingV1Controller implements RankingV1ApiSpec {
+
+    private final RankingFacade rankingFacade;
+
+    @GetMapping
+    @Override
+    public ApiResponse<RankingV1Dto.RankingPageResponse> getRankings(
+        @RequestParam(defaultValue = "DAILY") RankingPeriod period,
+        @RequestParam(required = false) String date,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        RankingPage rankings = rankingFacade.getRankings(period, date, page, size);
+        return ApiResponse.success(RankingV1Dto.RankingPageResponse.from(rankings));
+    }
+}
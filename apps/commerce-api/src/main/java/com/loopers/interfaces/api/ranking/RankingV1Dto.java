@@ -0,0 +1,40 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingInfo;
+import com.loopers.application.ranking.RankingPage;
+
+import java.util.List;
+
+public class RankingV1Dto {
+
+    public record RankingItemResponse(
+        long rank, double score,
+        Long productId, String name, int price, String brandName, int likeCount, String stockStatus
+    ) {
+        public static RankingItemResponse from(RankingInfo info) {
+            return new RankingItemResponse(
+                info.rank(),
+                info.score(),
+                info.product().id(),
+                info.product().name(),
+                info.product().price(),
+                info.product().brandName(),
+                info.product().likeCount(),
+                info.product().stockStatus() != null ? info.product().stockStatus().name() : null
+            );
+        }
+    }
+
+    public record RankingPageResponse(
+        List<RankingItemResponse> content, int page, int size, long totalElements
+    ) {
+        public static RankingPageResponse from(RankingPage page) {
+            return new RankingPageResponse(
+                page.content().stream().map(RankingItemResponse::from).toList(),
+                page.page(),
+                page.size(),
+                page.totalElements()
+            );
+        }
+    }
+}
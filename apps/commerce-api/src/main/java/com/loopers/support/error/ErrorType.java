@@ -28,7 +28,13 @@ public enum ErrorType {
 
     /** Payment 도메인 에러 */
     PG_REQUEST_FAILED(HttpStatus.BAD_GATEWAY, "PG Request Failed", "결제 시스템 요청에 실패했습니다."),
-    PG_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "PG Timeout", "결제 시스템 응답 시간이 초과되었습니다.");
+    PG_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "PG Timeout", "결제 시스템 응답 시간이 초과되었습니다."),
+
+    /** 주문 에러 */
+    ORDER_EXPORT_BUSY(HttpStatus.TOO_MANY_REQUESTS, "Order Export Busy", "진행 중인 주문 내보내기가 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    /** 대기열 에러 */
+    INVALID_ADMISSION_TOKEN(HttpStatus.FORBIDDEN, "Invalid Admission Token", "입장 토큰이 없거나 만료되었습니다. 대기열에 다시 진입해 주세요.");
 
     private final HttpStatus status;
     private final String code;
@@ -2,24 +2,30 @@ package com.loopers.application;
 
 import com.loopers.application.brand.BrandService;
 import com.loopers.application.coupon.CouponIssueService;
+import com.loopers.application.coupon.CouponIssueWriter;
 import com.loopers.application.coupon.CouponService;
 import com.loopers.application.like.LikeFacade;
 import com.loopers.application.order.OrderFacade;
 import com.loopers.application.order.OrderItemCommand;
+import com.loopers.application.product.LikeCountFlushScheduler;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.product.ProductService;
 import com.loopers.application.stock.StockService;
+import com.loopers.domain.coupon.CouponIssueAdmission;
 import com.loopers.domain.coupon.CouponIssueModel;
 import com.loopers.domain.coupon.CouponModel;
+import com.loopers.domain.coupon.CouponSnapshot;
 import com.loopers.domain.coupon.CouponType;
 import com.loopers.domain.product.Money;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,13 +44,20 @@ class ConcurrencyIntegrationTest {
     @Autowired private ProductFacade productFacade;
     @Autowired private BrandService brandService;
     @Autowired private ProductService productService;
+    @Autowired private LikeCountFlushScheduler likeCountFlushScheduler;
     @Autowired private StockService stockService;
     @Autowired private CouponService couponService;
     @Autowired private CouponIssueService couponIssueService;
+    @Autowired private CouponIssueWriter couponIssueWriter;
     @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
 
     @AfterEach
-    void tearDown() { databaseCleanUp.truncateAllTables(); }
+    void tearDown() {
+        likeCountFlushScheduler.flush();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
 
     private Long createBrand() { return brandService.register("테스트브랜드", "설명").getId(); }
     private Long createProduct(Long brandId, int stock) {
@@ -163,6 +176,44 @@ class ConcurrencyIntegrationTest {
             // then
             assertThat(successCount.get()).isEqualTo(1);
         }
+
+        @DisplayName("선착순 쿠폰은 동시에 요청이 몰려도 수량만큼만 발급되고, 대기열 저장 후 발급 내역에 반영된다")
+        @Test
+        void firstComeCouponIssuedUpToQuantity() throws InterruptedException {
+            // given
+            CouponModel coupon = couponService.create("선착순쿠폰", CouponType.FIXED, 1000,
+                null, LocalDateTime.of(2099, 12, 31, 23, 59), 10);
+            CouponSnapshot snapshot = couponService.getCouponSnapshot(coupon.getId());
+
+            int threadCount = 50;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            AtomicInteger acceptedCount = new AtomicInteger();
+            AtomicInteger soldOutCount = new AtomicInteger();
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                long userId = i + 1;
+                executor.submit(() -> {
+                    try {
+                        CouponIssueAdmission admission = couponIssueService.requestIssue(snapshot, userId);
+                        if (admission == CouponIssueAdmission.ACCEPTED) acceptedCount.incrementAndGet();
+                        if (admission == CouponIssueAdmission.SOLD_OUT) soldOutCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+            couponIssueWriter.write();
+
+            // then
+            assertThat(acceptedCount.get()).isEqualTo(10);
+            assertThat(soldOutCount.get()).isEqualTo(40);
+            assertThat(couponIssueService.getIssuesByCoupon(coupon.getId(), PageRequest.of(0, 100)).getTotalElements())
+                .isEqualTo(10);
+        }
     }
 
     @DisplayName("좋아요 동시성")
@@ -199,6 +250,7 @@ class ConcurrencyIntegrationTest {
 
             // then
             assertThat(successCount.get()).isEqualTo(10);
+            likeCountFlushScheduler.flush();
             assertThat(productService.getById(productId).getLikeCount()).isEqualTo(10);
         }
     }
@@ -0,0 +1,114 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponIssueDrain;
+import com.loopers.domain.coupon.CouponIssueModel;
+import com.loopers.domain.coupon.CouponIssueQueue;
+import com.loopers.domain.coupon.CouponIssueRequest;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueWriterTest {
+
+    private CouponIssueWriter couponIssueWriter;
+
+    @Mock
+    private CouponIssueQueue couponIssueQueue;
+
+    @Mock
+    private CouponIssueService couponIssueService;
+
+    @Mock
+    private CouponService couponService;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueWriter = new CouponIssueWriter(couponIssueQueue, couponIssueService, couponService, 500);
+    }
+
+    private CouponSnapshot coupon(Long id) {
+        return new CouponSnapshot(id, "선착순쿠폰", CouponType.FIXED, 1000, null,
+            LocalDateTime.of(2099, 12, 31, 23, 59), 100, Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @DisplayName("쿠폰을 찾을 수 없는 건은 dead letter로 넘기고, 나머지 건은 저장한다")
+    @SuppressWarnings("unchecked")
+    @Test
+    void movesUnresolvableRequestsToDeadLetter() {
+        // given
+        List<CouponIssueRequest> requests = List.of(
+            new CouponIssueRequest(1L, 10L), new CouponIssueRequest(2L, 10L), new CouponIssueRequest(1L, 11L)
+        );
+        CouponIssueDrain drain = new CouponIssueDrain(requests, List.of());
+        given(couponIssueQueue.beginDrain(500)).willReturn(drain);
+        given(couponService.getCouponSnapshot(1L)).willReturn(coupon(1L));
+        given(couponService.getCouponSnapshot(2L)).willThrow(new CoreException(ErrorType.NOT_FOUND, "쿠폰을 찾을 수 없습니다."));
+        given(couponIssueService.saveAllIgnoringDuplicates(anyList())).willReturn(2);
+        given(couponIssueQueue.completeDrain(any(), anyList())).willReturn(true);
+
+        // when
+        int processed = couponIssueWriter.write();
+
+        // then
+        ArgumentCaptor<List<CouponIssueModel>> saved = ArgumentCaptor.forClass(List.class);
+        then(couponIssueService).should().saveAllIgnoringDuplicates(saved.capture());
+        assertThat(saved.getValue()).hasSize(2);
+        then(couponIssueQueue).should().completeDrain(drain, List.of(new CouponIssueRequest(2L, 10L)));
+        assertThat(processed).isEqualTo(3);
+    }
+
+    @DisplayName("저장이 일시적으로 실패하면 대기열을 그대로 두고 락만 반납한다")
+    @Test
+    void abortsOnTransientFailure() {
+        // given
+        given(couponIssueQueue.beginDrain(500))
+            .willReturn(new CouponIssueDrain(List.of(new CouponIssueRequest(1L, 10L)), List.of()));
+        given(couponService.getCouponSnapshot(1L)).willReturn(coupon(1L));
+        given(couponIssueService.saveAllIgnoringDuplicates(anyList())).willThrow(new IllegalStateException("DB 장애"));
+
+        // when
+        int processed = couponIssueWriter.write();
+
+        // then
+        then(couponIssueQueue).should().abortDrain();
+        then(couponIssueQueue).should(never()).completeDrain(any(), any());
+        assertThat(processed).isZero();
+    }
+
+    @DisplayName("해석할 수 있는 건이 없어도 해석할 수 없는 항목은 dead letter로 넘기고 대기열에서 제거한다")
+    @Test
+    void completesDrainWithOnlyMalformedEntries() {
+        // given
+        CouponIssueDrain drain = new CouponIssueDrain(List.of(), List.of("broken"));
+        given(couponIssueQueue.beginDrain(500)).willReturn(drain);
+        given(couponIssueQueue.completeDrain(drain, List.of())).willReturn(true);
+
+        // when
+        int processed = couponIssueWriter.write();
+
+        // then
+        then(couponIssueService).should(never()).saveAllIgnoringDuplicates(anyList());
+        then(couponIssueQueue).should().completeDrain(drain, List.of());
+        assertThat(processed).isEqualTo(1);
+    }
+}
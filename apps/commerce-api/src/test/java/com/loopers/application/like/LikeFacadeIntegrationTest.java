@@ -1,5 +1,6 @@
 package com.loopers.application.like;
 
+import com.loopers.application.product.LikeCountFlushScheduler;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.brand.BrandService;
 import com.loopers.domain.like.LikeModel;
@@ -7,6 +8,7 @@ import com.loopers.domain.product.Money;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.application.product.ProductService;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,7 +19,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SpringBootTest
@@ -26,11 +31,17 @@ class LikeFacadeIntegrationTest {
     @Autowired private LikeFacade likeFacade;
     @Autowired private ProductFacade productFacade;
     @Autowired private ProductService productService;
+    @Autowired private LikeCountFlushScheduler likeCountFlushScheduler;
     @Autowired private BrandService brandService;
     @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
 
     @AfterEach
-    void tearDown() { databaseCleanUp.truncateAllTables(); }
+    void tearDown() {
+        likeCountFlushScheduler.flush();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
 
     private Long createBrand(String name) { return brandService.register(name, "설명").getId(); }
     private Long createProduct(String name, int price, Long brandId) {
@@ -52,6 +63,7 @@ class LikeFacadeIntegrationTest {
             likeFacade.like(1L, productId);
 
             // then
+            likeCountFlushScheduler.flush();
             ProductModel product = productService.getById(productId);
             assertThat(product.getLikeCount()).isEqualTo(1);
         }
@@ -68,6 +80,7 @@ class LikeFacadeIntegrationTest {
             likeFacade.like(1L, productId);
 
             // then
+            likeCountFlushScheduler.flush();
             ProductModel product = productService.getById(productId);
             assertThat(product.getLikeCount()).isEqualTo(1);
         }
@@ -85,6 +98,7 @@ class LikeFacadeIntegrationTest {
             likeFacade.like(1L, productId);
 
             // then
+            likeCountFlushScheduler.flush();
             ProductModel product = productService.getById(productId);
             assertThat(product.getLikeCount()).isEqualTo(1);
         }
@@ -106,6 +120,7 @@ class LikeFacadeIntegrationTest {
             likeFacade.unlike(1L, productId);
 
             // then
+            likeCountFlushScheduler.flush();
             ProductModel product = productService.getById(productId);
             assertThat(product.getLikeCount()).isEqualTo(0);
         }
@@ -133,6 +148,7 @@ class LikeFacadeIntegrationTest {
             // when & then — 예외 없이 정상 완료
             likeFacade.unlike(1L, productId);
 
+            likeCountFlushScheduler.flush();
             ProductModel product = productService.getById(productId);
             assertThat(product.getLikeCount()).isEqualTo(0);
         }
@@ -182,6 +198,35 @@ class LikeFacadeIntegrationTest {
             );
         }
 
+        @DisplayName("상품 정보를 포함한 좋아요 목록을 조회하고, 삭제된 상품은 예외 없이 제외한다")
+        @Test
+        void getsMyLikesWithProducts() {
+            // given
+            Long brandId = createBrand("나이키");
+            Long p1 = createProduct("에어맥스", 129000, brandId);
+            Long p2 = createProduct("조던", 159000, brandId);
+            Long p3 = createProduct("코르테즈", 99000, brandId);
+            likeFacade.like(1L, p1);
+            likeFacade.like(1L, p2);
+            likeFacade.like(1L, p3);
+            productService.delete(p2);
+
+            // when
+            Page<LikeWithProduct> result = likeFacade.getMyLikesWithProducts(1L,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+            // then
+            assertAll(
+                () -> assertThat(result.getTotalElements()).isEqualTo(2),
+                () -> assertThat(result.getContent())
+                    .extracting(LikeWithProduct::productId, LikeWithProduct::productName, LikeWithProduct::productPrice)
+                    .containsExactlyInAnyOrder(
+                        tuple(p1, "에어맥스", 129000),
+                        tuple(p3, "코르테즈", 99000)
+                    )
+            );
+        }
+
         @DisplayName("다른 사용자의 좋아요는 조회되지 않는다")
         @Test
         void doesNotReturnOtherUserLikes() {
@@ -199,4 +244,60 @@ class LikeFacadeIntegrationTest {
             assertThat(result.getContent()).hasSize(1);
         }
     }
+
+    @DisplayName("좋아요 여부 일괄 조회")
+    @Nested
+    class GetLikedProductIds {
+
+        @DisplayName("주어진 상품 중 사용자가 좋아요한 상품만 반환한다")
+        @Test
+        void returnsOnlyLikedAmongGiven() {
+            // given
+            Long brandId = createBrand("나이키");
+            Long p1 = createProduct("에어맥스", 129000, brandId);
+            Long p2 = createProduct("조던", 199000, brandId);
+            Long p3 = createProduct("코르테즈", 99000, brandId);
+            likeFacade.like(1L, p1);
+            likeFacade.like(1L, p3);
+            likeFacade.like(2L, p2);
+
+            // when
+            var result = likeFacade.getLikedProductIds(1L, List.of(p1, p2));
+
+            // then
+            assertThat(result).containsExactly(p1);
+        }
+
+        @DisplayName("집합이 만들어진 뒤의 좋아요/취소도 반영된다")
+        @Test
+        void reflectsLikeAndUnlikeAfterBuilt() {
+            // given
+            Long brandId = createBrand("나이키");
+            Long p1 = createProduct("에어맥스", 129000, brandId);
+            Long p2 = createProduct("조던", 199000, brandId);
+            likeFacade.like(1L, p1);
+            likeFacade.getLikedProductIds(1L, List.of(p1, p2));
+
+            // when
+            likeFacade.unlike(1L, p1);
+            likeFacade.like(1L, p2);
+
+            // then
+            assertThat(likeFacade.getLikedProductIds(1L, List.of(p1, p2))).containsExactly(p2);
+        }
+
+        @DisplayName("좋아요한 상품이 없는 사용자는 빈 집합을 반환한다")
+        @Test
+        void returnsEmptyWhenNoLikes() {
+            // given
+            Long brandId = createBrand("나이키");
+            Long p1 = createProduct("에어맥스", 129000, brandId);
+
+            // when & then
+            assertAll(
+                () -> assertThat(likeFacade.getLikedProductIds(1L, List.of(p1))).isEmpty(),
+                () -> assertThat(likeFacade.getLikedProductIds(1L, List.of(p1))).isEmpty()
+            );
+        }
+    }
 }
@@ -1,8 +1,6 @@
 package com.loopers.application.like;
 
-import com.loopers.domain.product.Money;
-import com.loopers.domain.product.ProductModel;
-import com.loopers.application.product.ProductService;
+import com.loopers.domain.like.UserLikeSet;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,10 +22,10 @@ class LikeFacadeTest {
     private LikeService likeService;
 
     @Mock
-    private ProductService productService;
+    private LikeTransactionService likeTransactionService;
 
     @Mock
-    private LikeTransactionService likeTransactionService;
+    private UserLikeSet userLikeSet;
 
     @DisplayName("좋아요 등록")
     @Nested
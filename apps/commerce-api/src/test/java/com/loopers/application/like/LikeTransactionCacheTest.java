@@ -1,5 +1,6 @@
 package com.loopers.application.like;
 
+import com.loopers.application.product.LikeCountFlushScheduler;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.domain.brand.BrandModel;
 import com.loopers.domain.product.Money;
@@ -49,6 +50,7 @@ class LikeTransactionCacheTest {
     }
 
     @Autowired private LikeTransactionService likeTransactionService;
+    @Autowired private LikeCountFlushScheduler likeCountFlushScheduler;
     @Autowired private ProductFacade productFacade;
     @Autowired private CacheManager cacheManager;
     @Autowired private BrandJpaRepository brandJpaRepository;
@@ -58,6 +60,7 @@ class LikeTransactionCacheTest {
 
     @AfterEach
     void tearDown() {
+        likeCountFlushScheduler.flush();
         var cache = cacheManager.getCache("productDetail");
         if (cache != null) {
             cache.clear();
@@ -66,8 +69,8 @@ class LikeTransactionCacheTest {
     }
 
     @Test
-    @DisplayName("좋아요 등록 시 상품 상세 캐시가 삭제된다")
-    void 좋아요_등록_시_상품_상세_캐시가_삭제된다() {
+    @DisplayName("좋아요 등록 시 캐시된 상품 상세에도 좋아요 수가 반영된다")
+    void 좋아요_등록_시_캐시된_상품_상세에도_좋아요_수가_반영된다() {
         // given
         BrandModel brand = brandJpaRepository.save(new BrandModel("테스트브랜드", "설명"));
         ProductModel product = productJpaRepository.save(
@@ -82,12 +85,13 @@ class LikeTransactionCacheTest {
         likeTransactionService.doLike(1L, product.getId());
 
         // then
-        assertThat(cacheManager.getCache("productDetail").get(product.getId())).isNull();
+        assertThat(cacheManager.getCache("productDetail").get(product.getId())).isNotNull();
+        assertThat(productFacade.getProduct(product.getId()).likeCount()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("좋아요 취소 시 상품 상세 캐시가 삭제된다")
-    void 좋아요_취소_시_상품_상세_캐시가_삭제된다() {
+    @DisplayName("좋아요 취소 시 캐시된 상품 상세에도 좋아요 수가 반영된다")
+    void 좋아요_취소_시_캐시된_상품_상세에도_좋아요_수가_반영된다() {
         // given
         BrandModel brand = brandJpaRepository.save(new BrandModel("테스트브랜드", "설명"));
         ProductModel product = productJpaRepository.save(
@@ -104,6 +108,30 @@ class LikeTransactionCacheTest {
         likeTransactionService.doUnlike(1L, product.getId());
 
         // then
-        assertThat(cacheManager.getCache("productDetail").get(product.getId())).isNull();
+        assertThat(productFacade.getProduct(product.getId()).likeCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("버퍼를 DB에 반영해도 상세 캐시는 유지되고 좋아요 수만 갱신된다")
+    void 버퍼를_DB에_반영해도_상세_캐시는_유지되고_좋아요_수만_갱신된다() {
+        // given
+        BrandModel brand = brandJpaRepository.save(new BrandModel("테스트브랜드", "설명"));
+        ProductModel product = productJpaRepository.save(
+                new ProductModel("테스트상품", "상품설명", new Money(10000), brand.getId())
+        );
+        stockJpaRepository.save(new StockModel(product.getId(), 100));
+
+        likeTransactionService.doLike(1L, product.getId());
+        likeTransactionService.doLike(2L, product.getId());
+        productFacade.getProduct(product.getId());
+
+        // when
+        int flushed = likeCountFlushScheduler.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(productJpaRepository.findById(product.getId()).orElseThrow().getLikeCount()).isEqualTo(2);
+        assertThat(cacheManager.getCache("productDetail").get(product.getId())).isNotNull();
+        assertThat(productFacade.getProduct(product.getId()).likeCount()).isEqualTo(2);
     }
 }
@@ -1,6 +1,6 @@
 package com.loopers.application.member;
 
-import com.loopers.domain.member.MemberModel;
+import com.loopers.domain.member.AuthenticatedMember;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -46,10 +46,10 @@ class MemberAuthServiceIntegrationTest {
                 LocalDate.of(1998, 9, 16), "kwonmo@example.com");
 
             // when
-            MemberModel result = memberAuthService.authenticate("kwonmo", "Test1234!");
+            AuthenticatedMember result = memberAuthService.authenticate("kwonmo", "Test1234!");
 
             // then
-            assertThat(result.loginId().value()).isEqualTo("kwonmo");
+            assertThat(result.loginId()).isEqualTo("kwonmo");
         }
 
         @DisplayName("비밀번호가 틀리면 인증 실패 예외가 발생한다")
@@ -2,6 +2,8 @@ package com.loopers.application.member;
 
 import com.loopers.domain.member.*;
 
+import com.loopers.config.redis.CacheInvalidationPublisher;
+import com.loopers.infrastructure.member.CaffeineMemberAuthCache;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -20,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,11 +36,15 @@ class MemberAuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     private MemberAuthService memberAuthService;
 
     @BeforeEach
     void setUp() {
-        memberAuthService = new MemberAuthService(memberRepository, passwordEncoder);
+        memberAuthService = new MemberAuthService(memberRepository, passwordEncoder,
+            new CaffeineMemberAuthCache(Duration.ofSeconds(30), 100, cacheInvalidationPublisher));
     }
 
     @DisplayName("회원 인증")
@@ -57,10 +65,10 @@ class MemberAuthServiceTest {
             when(passwordEncoder.matches(rawPassword, "encoded")).thenReturn(true);
 
             // when
-            MemberModel result = memberAuthService.authenticate(loginId, rawPassword);
+            AuthenticatedMember result = memberAuthService.authenticate(loginId, rawPassword);
 
             // then
-            assertThat(result.loginId().value()).isEqualTo(loginId);
+            assertThat(result.loginId()).isEqualTo(loginId);
         }
 
         @DisplayName("존재하지 않는 loginId면 MEMBER_NOT_FOUND 예외를 던진다")
@@ -97,4 +105,52 @@ class MemberAuthServiceTest {
             assertThat(result.getErrorType()).isEqualTo(ErrorType.AUTHENTICATION_FAILED);
         }
     }
+
+    @DisplayName("인증 캐시")
+    @Nested
+    class AuthCache {
+
+        @DisplayName("같은 자격 증명으로 다시 인증하면 DB 조회와 비밀번호 비교를 생략한다")
+        @Test
+        void skipsLookupOnRepeatedCredentials() {
+            // given
+            MemberModel member = new MemberModel(
+                new LoginId("kwonmo"), "encoded", new MemberName("양권모"),
+                LocalDate.of(1998, 9, 16), new Email("kwonmo@example.com"));
+
+            when(memberRepository.findByLoginId("kwonmo")).thenReturn(Optional.of(member));
+            when(passwordEncoder.matches("Test1234!", "encoded")).thenReturn(true);
+            memberAuthService.authenticate("kwonmo", "Test1234!");
+
+            // when
+            AuthenticatedMember result = memberAuthService.authenticate("kwonmo", "Test1234!");
+
+            // then
+            assertThat(result).isEqualTo(AuthenticatedMember.from(member));
+            verify(memberRepository, times(1)).findByLoginId("kwonmo");
+            verify(passwordEncoder, times(1)).matches("Test1234!", "encoded");
+        }
+
+        @DisplayName("캐시된 회원이라도 비밀번호가 다르면 다시 검증해서 실패한다")
+        @Test
+        void verifiesAgainWhenPasswordDiffers() {
+            // given
+            MemberModel member = new MemberModel(
+                new LoginId("kwonmo"), "encoded", new MemberName("양권모"),
+                LocalDate.of(1998, 9, 16), new Email("kwonmo@example.com"));
+
+            when(memberRepository.findByLoginId("kwonmo")).thenReturn(Optional.of(member));
+            when(passwordEncoder.matches("Test1234!", "encoded")).thenReturn(true);
+            when(passwordEncoder.matches("WrongPass1!", "encoded")).thenReturn(false);
+            memberAuthService.authenticate("kwonmo", "Test1234!");
+
+            // when
+            CoreException result = assertThrows(CoreException.class, () ->
+                memberAuthService.authenticate("kwonmo", "WrongPass1!"));
+
+            // then
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.AUTHENTICATION_FAILED);
+            verify(memberRepository, times(2)).findByLoginId("kwonmo");
+        }
+    }
 }
@@ -70,9 +70,8 @@ class MemberFacadeTest {
         @Test
         void returnsWithMaskedName() {
             // given
-            MemberModel member = new MemberModel(
-                new LoginId("kwonmo"), "encoded", new MemberName("양권모"),
-                LocalDate.of(1998, 9, 16), new Email("kwonmo@example.com"));
+            AuthenticatedMember member = new AuthenticatedMember(
+                1L, "kwonmo", "양권모", LocalDate.of(1998, 9, 16), "kwonmo@example.com");
 
             // when
             MemberInfo result = memberFacade.getMyInfo(member);
@@ -90,19 +89,18 @@ class MemberFacadeTest {
     @Nested
     class ChangePassword {
 
-        @DisplayName("인증 후 PasswordService에 위임한다")
+        @DisplayName("인증된 회원의 loginId로 PasswordService에 위임한다")
         @Test
         void delegatesToPasswordService() {
             // given
-            MemberModel member = new MemberModel(
-                new LoginId("kwonmo"), "encoded", new MemberName("양권모"),
-                LocalDate.of(1998, 9, 16), new Email("kwonmo@example.com"));
+            AuthenticatedMember member = new AuthenticatedMember(
+                1L, "kwonmo", "양권모", LocalDate.of(1998, 9, 16), "kwonmo@example.com");
 
             // when
             memberFacade.changePassword(member, "Current1!", "NewPass5678!");
 
             // then
-            verify(memberPasswordService).changePassword(member, "Current1!", "NewPass5678!");
+            verify(memberPasswordService).changePassword("kwonmo", "Current1!", "NewPass5678!");
         }
     }
 }
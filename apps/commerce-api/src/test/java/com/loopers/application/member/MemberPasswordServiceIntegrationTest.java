@@ -1,5 +1,6 @@
 package com.loopers.application.member;
 
+import com.loopers.domain.member.AuthenticatedMember;
 import com.loopers.domain.member.MemberModel;
 
 import com.loopers.support.error.CoreException;
@@ -52,8 +53,8 @@ class MemberPasswordServiceIntegrationTest {
             memberPasswordService.changePassword(member, "Test1234!", "NewPass5678!");
 
             // then
-            MemberModel updated = memberAuthService.authenticate("kwonmo", "NewPass5678!");
-            assertThat(updated.loginId().value()).isEqualTo("kwonmo");
+            AuthenticatedMember updated = memberAuthService.authenticate("kwonmo", "NewPass5678!");
+            assertThat(updated.loginId()).isEqualTo("kwonmo");
         }
 
         @DisplayName("현재 비밀번호가 틀리면 PASSWORD_MISMATCH 예외가 발생한다")
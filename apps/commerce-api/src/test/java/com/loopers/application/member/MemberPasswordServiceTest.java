@@ -31,11 +31,14 @@ class MemberPasswordServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberAuthCache memberAuthCache;
+
     private MemberPasswordService memberPasswordService;
 
     @BeforeEach
     void setUp() {
-        memberPasswordService = new MemberPasswordService(memberRepository, passwordEncoder);
+        memberPasswordService = new MemberPasswordService(memberRepository, passwordEncoder, memberAuthCache);
     }
 
     @DisplayName("비밀번호 변경")
@@ -62,6 +65,7 @@ class MemberPasswordServiceTest {
             assertThat(member.matchesPassword("NewPass5678!", passwordEncoder)).isTrue();
             verify(memberRepository).save(member);
             verify(passwordEncoder).encode("NewPass5678!");
+            verify(memberAuthCache).invalidate("kwonmo");
         }
 
         @DisplayName("현재 비밀번호가 틀리면 저장하지 않고 예외를 던진다")
@@ -82,6 +86,7 @@ class MemberPasswordServiceTest {
             assertThat(result.getErrorType()).isEqualTo(ErrorType.PASSWORD_MISMATCH);
             verify(memberRepository, never()).save(any());
             verify(passwordEncoder, never()).encode(any());
+            verify(memberAuthCache, never()).invalidate(any());
         }
 
         @DisplayName("새 비밀번호가 현재와 같으면 저장하지 않는다")
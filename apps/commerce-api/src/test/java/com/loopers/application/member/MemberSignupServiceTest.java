@@ -32,11 +32,14 @@ class MemberSignupServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberAuthCache memberAuthCache;
+
     private MemberSignupService memberSignupService;
 
     @BeforeEach
     void setUp() {
-        memberSignupService = new MemberSignupService(memberRepository, passwordEncoder);
+        memberSignupService = new MemberSignupService(memberRepository, passwordEncoder, memberAuthCache);
     }
 
     @DisplayName("회원가입")
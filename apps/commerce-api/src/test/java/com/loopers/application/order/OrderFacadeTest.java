@@ -2,11 +2,15 @@ package com.loopers.application.order;
 
 import com.loopers.application.coupon.CouponIssueService;
 import com.loopers.application.coupon.CouponService;
+import com.loopers.application.outbox.OutboxEventWriter;
 import com.loopers.domain.order.OrderModel;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.outbox.OutboxTopic;
 import com.loopers.domain.product.Money;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.application.product.ProductService;
 import com.loopers.domain.stock.StockModel;
+import com.loopers.application.stock.StockReservationService;
 import com.loopers.application.stock.StockService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -20,13 +24,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,12 +51,18 @@ class OrderFacadeTest {
     @Mock
     private StockService stockService;
 
+    @Mock
+    private StockReservationService stockReservationService;
+
     @Mock
     private CouponIssueService couponIssueService;
 
     @Mock
     private CouponService couponService;
 
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
     @DisplayName("주문 생성")
     @Nested
     class PlaceOrder {
@@ -66,10 +79,8 @@ class OrderFacadeTest {
             StockModel stock1 = new StockModel(1L, 100);
             StockModel stock2 = new StockModel(2L, 50);
 
-            given(productService.getById(1L)).willReturn(product1);
-            given(productService.getById(2L)).willReturn(product2);
-            given(stockService.getByProductIdForUpdate(1L)).willReturn(stock1);
-            given(stockService.getByProductIdForUpdate(2L)).willReturn(stock2);
+            given(productService.getProductsByIds(List.of(1L, 2L))).willReturn(Map.of(1L, product1, 2L, product2));
+            given(stockService.getByProductIdsForUpdate(List.of(1L, 2L))).willReturn(Map.of(1L, stock1, 2L, stock2));
             given(orderService.save(any(OrderModel.class))).willAnswer(invocation -> invocation.getArgument(0));
             given(orderService.saveAllItems(any())).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -84,6 +95,9 @@ class OrderFacadeTest {
                 () -> assertThat(result.order().totalAmount()).isEqualTo(new Money(129000 * 2 + 109000)),
                 () -> assertThat(result.items()).hasSize(2)
             );
+            then(outboxEventWriter).should().append(
+                eq(OutboxTopic.ORDER_EVENTS), any(), eq(OrderPlacedEvent.TYPE), any(OrderPlacedEvent.class)
+            );
         }
 
         @DisplayName("재고가 부족하면 BAD_REQUEST 예외가 발생한다")
@@ -95,8 +109,8 @@ class OrderFacadeTest {
             ReflectionTestUtils.setField(product, "id", 1L);
             StockModel stock = new StockModel(1L, 5);
 
-            given(productService.getById(1L)).willReturn(product);
-            given(stockService.getByProductIdForUpdate(1L)).willReturn(stock);
+            given(productService.getProductsByIds(List.of(1L))).willReturn(Map.of(1L, product));
+            given(stockService.getByProductIdsForUpdate(List.of(1L))).willReturn(Map.of(1L, stock));
 
             List<OrderItemCommand> commands = List.of(new OrderItemCommand(1L, 10));
             // act
@@ -107,5 +121,95 @@ class OrderFacadeTest {
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
             then(orderService).should(never()).save(any());
         }
+
+        @DisplayName("재고 예약에서 거절되면 stock row 락을 잡지 않는다")
+        @Test
+        void rejectsBeforeLockingWhenReservationFails() {
+            // arrange
+            Long userId = 1L;
+            ProductModel product = new ProductModel("에어맥스", "러닝화", new Money(129000), 1L);
+            ReflectionTestUtils.setField(product, "id", 1L);
+
+            given(productService.getProductsByIds(List.of(1L))).willReturn(Map.of(1L, product));
+            willThrow(new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다."))
+                .given(stockReservationService).reserve(Map.of(1L, 10));
+
+            List<OrderItemCommand> commands = List.of(new OrderItemCommand(1L, 10));
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                orderFacade.placeOrder(userId, commands, null);
+            });
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+            then(stockService).should(never()).getByProductIdsForUpdate(any());
+            then(orderService).should(never()).save(any());
+        }
+
+        @DisplayName("상품과 재고를 상품 수와 무관하게 한 번씩만 일괄 조회한다")
+        @Test
+        void loadsProductsAndStocksInBulk() {
+            // arrange
+            Long userId = 1L;
+            ProductModel product1 = new ProductModel("에어맥스", "러닝화", new Money(129000), 1L);
+            ReflectionTestUtils.setField(product1, "id", 1L);
+            ProductModel product2 = new ProductModel("에어포스", "캐주얼", new Money(109000), 1L);
+            ReflectionTestUtils.setField(product2, "id", 2L);
+
+            given(productService.getProductsByIds(List.of(1L, 2L))).willReturn(Map.of(1L, product1, 2L, product2));
+            given(stockService.getByProductIdsForUpdate(List.of(1L, 2L)))
+                .willReturn(Map.of(1L, new StockModel(1L, 100), 2L, new StockModel(2L, 50)));
+            given(orderService.save(any(OrderModel.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(orderService.saveAllItems(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            List<OrderItemCommand> commands = List.of(
+                new OrderItemCommand(2L, 1),
+                new OrderItemCommand(1L, 2),
+                new OrderItemCommand(2L, 3)
+            );
+            // act
+            orderFacade.placeOrder(userId, commands, null);
+            // assert
+            then(productService).should().getProductsByIds(List.of(1L, 2L));
+            then(productService).should(never()).getById(any());
+            then(stockService).should().getByProductIdsForUpdate(List.of(1L, 2L));
+            then(stockService).should(never()).getByProductIdForUpdate(any());
+        }
+
+        @DisplayName("삭제되었거나 존재하지 않는 상품이 포함되면 NOT_FOUND 예외가 발생한다")
+        @Test
+        void throwsWhenProductMissing() {
+            // arrange
+            ProductModel product = new ProductModel("에어맥스", "러닝화", new Money(129000), 1L);
+            ReflectionTestUtils.setField(product, "id", 1L);
+            given(productService.getProductsByIds(List.of(1L, 2L))).willReturn(Map.of(1L, product));
+
+            List<OrderItemCommand> commands = List.of(new OrderItemCommand(1L, 1), new OrderItemCommand(2L, 1));
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                orderFacade.placeOrder(1L, commands, null);
+            });
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+            then(stockService).should(never()).getByProductIdsForUpdate(any());
+        }
+    }
+
+    @DisplayName("주문 내역 커서 조회")
+    @Nested
+    class GetOrderHistory {
+
+        @DisplayName("size가 1~100 범위를 벗어나면 조회하지 않고 BAD_REQUEST 예외가 발생한다")
+        @Test
+        void throwsWhenSizeOutOfRange() {
+            // act
+            CoreException zero = assertThrows(CoreException.class, () -> orderFacade.getOrderHistory(1L, null, 0));
+            CoreException tooLarge = assertThrows(CoreException.class, () -> orderFacade.getOrderHistory(1L, null, 101));
+            // assert
+            assertAll(
+                () -> assertThat(zero.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(tooLarge.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST)
+            );
+            then(orderService).shouldHaveNoInteractions();
+        }
     }
 }
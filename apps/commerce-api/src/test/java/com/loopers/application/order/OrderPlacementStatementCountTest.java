@@ -0,0 +1,81 @@
+package com.loopers.application.order;
+
+import com.loopers.application.brand.BrandService;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.product.Money;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 조회/재고 잠금이 장바구니의 상품 수와 무관하게 일정한 SELECT 수로 끝나는지 검증한다.
+ */
+@SpringBootTest
+class OrderPlacementStatementCountTest {
+
+    private static final int[] CART_SIZES = {1, 10, 30};
+
+    @Autowired private OrderFacade orderFacade;
+    @Autowired private ProductFacade productFacade;
+    @Autowired private BrandService brandService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("장바구니 크기가 늘어나도 주문 생성 시 조회 쿼리 수는 일정하다")
+    @Test
+    void readStatementsDoNotGrowWithCartSize() {
+        // given
+        Long brandId = brandService.register("나이키", "설명").getId();
+        List<Long> productIds = IntStream.range(0, CART_SIZES[CART_SIZES.length - 1])
+            .mapToObj(i -> productFacade.register("상품" + i, "설명", new Money(1000), brandId, 1000).id())
+            .toList();
+
+        // when
+        List<Long> readStatements = new ArrayList<>();
+        for (int cartSize : CART_SIZES) {
+            List<OrderItemCommand> cart = productIds.subList(0, cartSize).stream()
+                .map(productId -> new OrderItemCommand(productId, 1))
+                .toList();
+            orderFacade.placeOrder(1L, cart, null); // warm-up (Redis 가용 재고 적재 포함)
+
+            statistics.clear();
+            orderFacade.placeOrder(1L, cart, null);
+            readStatements.add(statistics.getPrepareStatementCount()
+                - statistics.getEntityInsertCount()
+                - statistics.getEntityUpdateCount());
+        }
+
+        // then
+        assertThat(readStatements).hasSize(CART_SIZES.length).allMatch(reads -> reads.equals(readStatements.get(0)));
+    }
+}
@@ -0,0 +1,158 @@
+package com.loopers.application.outbox;
+
+import com.loopers.application.brand.BrandService;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderItemCommand;
+import com.loopers.application.order.OrderResult;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxTopic;
+import com.loopers.domain.product.Money;
+import com.loopers.infrastructure.outbox.OutboxEventJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class OutboxIntegrationTest {
+
+    @Autowired private OrderFacade orderFacade;
+    @Autowired private ProductFacade productFacade;
+    @Autowired private BrandService brandService;
+    @Autowired private OutboxEventJpaRepository outboxEventJpaRepository;
+    @Autowired private OutboxClaimService outboxClaimService;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Long createProduct(int stock) {
+        Long brandId = brandService.register("나이키", "스포츠").getId();
+        return productFacade.register("에어맥스", "러닝화", new Money(50000), brandId, stock).id();
+    }
+
+    @DisplayName("outbox 기록")
+    @Nested
+    class Append {
+
+        @DisplayName("주문이 커밋되면 같은 트랜잭션에서 ORDER_PLACED 이벤트가 미발행 상태로 기록된다")
+        @Test
+        void appendsWithOrder() {
+            // arrange
+            Long productId = createProduct(10);
+
+            // act
+            OrderResult result = orderFacade.placeOrder(1L, List.of(new OrderItemCommand(productId, 2)), null);
+
+            // assert
+            List<OutboxEventModel> events = outboxEventJpaRepository.findAll();
+            assertThat(events).hasSize(1);
+            OutboxEventModel event = events.get(0);
+            assertAll(
+                () -> assertThat(event.topic()).isEqualTo(OutboxTopic.ORDER_EVENTS.topicName()),
+                () -> assertThat(event.eventType()).isEqualTo(OrderPlacedEvent.TYPE),
+                () -> assertThat(event.aggregateId()).isEqualTo(String.valueOf(result.order().getId())),
+                () -> assertThat(event.payload()).contains("\"productId\":" + productId),
+                () -> assertThat(event.publishedAt()).isNull()
+            );
+        }
+
+        @DisplayName("주문이 실패하면 이벤트도 기록되지 않는다")
+        @Test
+        void rollsBackWithOrder() {
+            // arrange
+            Long productId = createProduct(1);
+
+            // act
+            assertThrows(CoreException.class, () ->
+                orderFacade.placeOrder(1L, List.of(new OrderItemCommand(productId, 5)), null));
+
+            // assert
+            assertThat(outboxEventJpaRepository.findAll()).isEmpty();
+        }
+    }
+
+    @DisplayName("outbox 선점")
+    @Nested
+    class Claim {
+
+        private OutboxEventModel append(String aggregateId) {
+            return outboxEventJpaRepository.save(
+                new OutboxEventModel(OutboxTopic.ORDER_EVENTS, aggregateId, OrderPlacedEvent.TYPE, "{}"));
+        }
+
+        @DisplayName("선점한 이벤트는 선점 기한 동안 다른 노드가 다시 선점하지 않는다")
+        @Test
+        void claimedEventsAreSkippedByOtherNodes() {
+            // arrange
+            append("1");
+            ZonedDateTime now = ZonedDateTime.now();
+
+            // act
+            List<OutboxEventModel> first = outboxClaimService.claim(10, "node-a", now, now.plusSeconds(60));
+            List<OutboxEventModel> second = outboxClaimService.claim(10, "node-b", now, now.plusSeconds(60));
+
+            // assert
+            assertAll(
+                () -> assertThat(first).hasSize(1),
+                () -> assertThat(second).isEmpty()
+            );
+        }
+
+        @DisplayName("같은 집계의 앞선 이벤트를 다른 노드가 선점 중이면, 뒤 이벤트는 앞선 이벤트가 발행될 때까지 선점하지 않는다")
+        @Test
+        void laterEventWaitsForEarlierEventOfSameAggregate() {
+            // arrange
+            OutboxEventModel a1 = append("1");
+            ZonedDateTime now = ZonedDateTime.now();
+            outboxClaimService.claim(1, "node-a", now, now.plusSeconds(60));
+            OutboxEventModel a2 = append("1");
+            OutboxEventModel b1 = append("2");
+
+            // act
+            List<OutboxEventModel> blocked = outboxClaimService.claim(10, "node-b", now, now.plusSeconds(60));
+            outboxClaimService.complete(List.of(a1.getId()), List.of(), "node-a", now);
+            List<OutboxEventModel> released = outboxClaimService.claim(10, "node-b", now, now.plusSeconds(60));
+
+            // assert
+            assertAll(
+                () -> assertThat(blocked).extracting(OutboxEventModel::getId).containsExactly(b1.getId()),
+                () -> assertThat(released).extracting(OutboxEventModel::getId).containsExactly(a2.getId())
+            );
+        }
+
+        @DisplayName("발행에 실패해 선점을 해제한 이벤트는 다음 주기에 바로 다시 선점된다")
+        @Test
+        void releasedEventsAreClaimableAgain() {
+            // arrange
+            OutboxEventModel event = append("1");
+            ZonedDateTime now = ZonedDateTime.now();
+            outboxClaimService.claim(10, "node-a", now, now.plusSeconds(60));
+
+            // act
+            outboxClaimService.complete(List.of(), List.of(event.getId()), "node-a", now);
+            List<OutboxEventModel> reclaimed = outboxClaimService.claim(10, "node-b", now, now.plusSeconds(60));
+
+            // assert
+            assertThat(reclaimed).extracting(OutboxEventModel::getId).containsExactly(event.getId());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEventModel;
+import com.loopers.domain.outbox.OutboxEventSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceTest {
+
+    private OutboxRelayService outboxRelayService;
+
+    @Mock
+    private OutboxClaimService outboxClaimService;
+
+    @Mock
+    private OutboxEventSender outboxEventSender;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelayService = new OutboxRelayService(outboxClaimService, outboxEventSender, Duration.ofSeconds(60));
+    }
+
+    private OutboxEventModel event(long id, String orderingKey) {
+        OutboxEventModel event = mock(OutboxEventModel.class);
+        given(event.getId()).willReturn(id);
+        given(event.orderingKey()).willReturn(orderingKey);
+        return event;
+    }
+
+    @DisplayName("outbox relay")
+    @Nested
+    class RelayBatch {
+
+        @DisplayName("브로커가 확인한 이벤트만 발행 완료로 표시하고, 나머지는 선점을 해제한다")
+        @Test
+        void marksOnlySentEvents() {
+            // arrange
+            List<OutboxEventModel> events = List.of(
+                event(1L, "order-events:1"), event(2L, "order-events:2"), event(3L, "order-events:3")
+            );
+            given(outboxClaimService.claim(eq(100), anyString(), any(), any())).willReturn(events);
+            given(outboxEventSender.send(events)).willReturn(List.of(1L, 3L));
+
+            // act
+            int result = outboxRelayService.relayBatch(100);
+
+            // assert
+            assertThat(result).isEqualTo(2);
+            then(outboxClaimService).should().complete(eq(List.of(1L, 3L)), eq(List.of(2L)), anyString(), any());
+        }
+
+        @DisplayName("같은 집계에서 앞선 이벤트가 실패하면, 뒤 이벤트는 ack를 받았더라도 발행 완료로 표시하지 않는다")
+        @Test
+        void stopsAtFirstFailurePerAggregate() {
+            // arrange
+            List<OutboxEventModel> events = List.of(
+                event(1L, "order-events:1"), event(2L, "order-events:1"), event(3L, "order-events:2")
+            );
+            given(outboxClaimService.claim(eq(100), anyString(), any(), any())).willReturn(events);
+            given(outboxEventSender.send(events)).willReturn(List.of(2L, 3L));
+
+            // act
+            int result = outboxRelayService.relayBatch(100);
+
+            // assert
+            assertThat(result).isEqualTo(1);
+            then(outboxClaimService).should().complete(eq(List.of(3L)), eq(List.of(1L, 2L)), anyString(), any());
+        }
+
+        @DisplayName("선점한 이벤트가 없으면 발행하지 않는다")
+        @Test
+        void skipsWhenEmpty() {
+            // arrange
+            given(outboxClaimService.claim(anyInt(), anyString(), any(), any())).willReturn(List.of());
+
+            // act
+            int result = outboxRelayService.relayBatch(100);
+
+            // assert
+            assertThat(result).isZero();
+            then(outboxEventSender).should(never()).send(any());
+        }
+    }
+}
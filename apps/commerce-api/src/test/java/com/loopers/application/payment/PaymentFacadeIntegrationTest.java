@@ -1,5 +1,6 @@
 package com.loopers.application.payment;
 
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.loopers.application.brand.BrandService;
 import com.loopers.application.order.OrderFacade;
 import com.loopers.application.order.OrderItemCommand;
@@ -11,28 +12,33 @@ import com.loopers.domain.payment.CardType;
 import com.loopers.domain.product.Money;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.test.web.client.MockRestServiceServer;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.TestPropertySource;
 
 import java.util.List;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.removeAllMappings;
+import static com.github.tomakehurst.wiremock.client.WireMock.resetAllRequests;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
-import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 @SpringBootTest
+@AutoConfigureWireMock(port = 0)
+@TestPropertySource(properties = "pg.base-url=http://localhost:${wiremock.server.port}")
 class PaymentFacadeIntegrationTest {
 
     @Autowired private PaymentFacade paymentFacade;
@@ -42,19 +48,18 @@ class PaymentFacadeIntegrationTest {
     @Autowired private ProductFacade productFacade;
     @Autowired private BrandService brandService;
     @Autowired private DatabaseCleanUp databaseCleanUp;
-    @Autowired @Qualifier("pgRestTemplate") private RestTemplate pgRestTemplate;
-
-    private MockRestServiceServer mockServer;
+    @Autowired private RedisCleanUp redisCleanUp;
 
     @BeforeEach
     void setUp() {
-        mockServer = MockRestServiceServer.createServer(pgRestTemplate);
+        removeAllMappings();
+        resetAllRequests();
     }
 
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
-        mockServer.reset();
+        redisCleanUp.truncateAll();
     }
 
     private OrderResult createOrder() {
@@ -63,6 +68,13 @@ class PaymentFacadeIntegrationTest {
         return orderFacade.placeOrder(1L, List.of(new OrderItemCommand(productId, 1)), null);
     }
 
+    private static ResponseDefinitionBuilder pgOkResponse(String body) {
+        return aResponse()
+            .withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withBody(body);
+    }
+
     @DisplayName("결제 요청")
     @Nested
     class RequestPayment {
@@ -74,18 +86,16 @@ class PaymentFacadeIntegrationTest {
             OrderResult orderResult = createOrder();
             Long orderId = orderResult.order().getId();
 
-            mockServer.expect(requestTo("http://localhost:8082/api/v1/payments"))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withSuccess(
+            stubFor(post(urlEqualTo("/api/v1/payments"))
+                .willReturn(pgOkResponse(
                     "{\"transactionKey\":\"20250816:TR:test123\",\"orderId\":\"%d\",\"status\":\"PENDING\",\"failureReason\":null}"
-                        .formatted(orderId),
-                    MediaType.APPLICATION_JSON
+                        .formatted(orderId)
                 ));
 
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
 
             // when
-            PaymentInfo result = paymentFacade.requestPayment(1L, command);
+            PaymentInfo result = paymentFacade.requestPayment(1L, command).join();
 
             // then
             assertAll(
@@ -98,7 +108,7 @@ class PaymentFacadeIntegrationTest {
             OrderModel order = orderService.getOrderForAdmin(orderId);
             assertThat(order.status()).isEqualTo(OrderStatus.PAYMENT_PENDING);
 
-            mockServer.verify();
+            verify(1, postRequestedFor(urlEqualTo("/api/v1/payments")));
         }
     }
 
@@ -113,15 +123,14 @@ class PaymentFacadeIntegrationTest {
             OrderResult orderResult = createOrder();
             Long orderId = orderResult.order().getId();
 
-            mockServer.expect(requestTo("http://localhost:8082/api/v1/payments"))
-                .andRespond(withSuccess(
+            stubFor(post(urlEqualTo("/api/v1/payments"))
+                .willReturn(pgOkResponse(
                     "{\"transactionKey\":\"20250816:TR:cb001\",\"orderId\":\"%d\",\"status\":\"PENDING\",\"failureReason\":null}"
-                        .formatted(orderId),
-                    MediaType.APPLICATION_JSON
+                        .formatted(orderId)
                 ));
 
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
-            paymentFacade.requestPayment(1L, command);
+            paymentFacade.requestPayment(1L, command).join();
 
             // when
             paymentFacade.handleCallback("20250816:TR:cb001", "SUCCESS", null);
@@ -141,15 +150,14 @@ class PaymentFacadeIntegrationTest {
             OrderResult orderResult = createOrder();
             Long orderId = orderResult.order().getId();
 
-            mockServer.expect(requestTo("http://localhost:8082/api/v1/payments"))
-                .andRespond(withSuccess(
+            stubFor(post(urlEqualTo("/api/v1/payments"))
+                .willReturn(pgOkResponse(
                     "{\"transactionKey\":\"20250816:TR:cb002\",\"orderId\":\"%d\",\"status\":\"PENDING\",\"failureReason\":null}"
-                        .formatted(orderId),
-                    MediaType.APPLICATION_JSON
+                        .formatted(orderId)
                 ));
 
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
-            paymentFacade.requestPayment(1L, command);
+            paymentFacade.requestPayment(1L, command).join();
 
             // when
             paymentFacade.handleCallback("20250816:TR:cb002", "FAILED", "한도 초과");
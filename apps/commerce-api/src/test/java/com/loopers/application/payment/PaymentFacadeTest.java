@@ -1,6 +1,7 @@
 package com.loopers.application.payment;
 
 import com.loopers.application.order.OrderService;
+import com.loopers.application.outbox.OutboxEventWriter;
 import com.loopers.config.PgProperties;
 import com.loopers.domain.order.OrderModel;
 import com.loopers.domain.payment.CardType;
@@ -10,6 +11,7 @@ import com.loopers.domain.product.Money;
 import com.loopers.infrastructure.payment.PgPaymentGateway;
 import com.loopers.infrastructure.payment.dto.PgPaymentResponse;
 import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -33,6 +41,7 @@ class PaymentFacadeTest {
     @Mock private OrderService orderService;
     @Mock private PgPaymentGateway pgPaymentGateway;
     @Mock private PgProperties pgProperties;
+    @Mock private OutboxEventWriter outboxEventWriter;
 
     @DisplayName("결제 요청")
     @Nested
@@ -60,10 +69,11 @@ class PaymentFacadeTest {
             // PG 호출
             given(pgProperties.callbackUrl()).willReturn("http://localhost:8080/api/v1/payments/callback");
             given(pgPaymentGateway.requestPayment(any(), eq(String.valueOf(userId))))
-                .willReturn(new PgPaymentResponse("20250816:TR:abc123", "1", "PENDING", null));
+                .willReturn(CompletableFuture.completedFuture(
+                    new PgPaymentResponse("20250816:TR:abc123", "1", "PENDING", null)));
 
             // when
-            PaymentInfo result = paymentFacade.requestPayment(userId, command);
+            PaymentInfo result = paymentFacade.requestPayment(userId, command).join();
 
             // then
             assertAll(
@@ -135,4 +145,76 @@ class PaymentFacadeTest {
             verify(mockOrder).failPayment();
         }
     }
+
+    @DisplayName("결제 상태 동기화")
+    @Nested
+    class SyncPaymentStatus {
+
+        @DisplayName("PG 조회 결과를 별도 TX로 반영한다")
+        @Test
+        void appliesPgResult() {
+            // given
+            PaymentModel pending = mock(PaymentModel.class);
+            given(pending.status()).willReturn(PaymentStatus.PENDING);
+            given(pending.transactionKey()).willReturn("20250816:TR:abc123");
+            given(pending.userId()).willReturn(1L);
+            given(paymentService.getById(1L)).willReturn(pending);
+            given(pgPaymentGateway.getPaymentStatus("20250816:TR:abc123", "1"))
+                .willReturn(new PgPaymentResponse("20250816:TR:abc123", "1", "SUCCESS", null));
+
+            PaymentModel synced = mock(PaymentModel.class);
+            given(synced.cardType()).willReturn(CardType.SAMSUNG);
+            given(synced.amount()).willReturn(new Money(50000));
+            given(synced.status()).willReturn(PaymentStatus.SUCCESS);
+            given(paymentService.applyPgResult(1L, "20250816:TR:abc123", "SUCCESS", null)).willReturn(synced);
+
+            // when
+            PaymentInfo result = paymentFacade.syncPaymentStatus(1L);
+
+            // then
+            assertThat(result.status()).isEqualTo("SUCCESS");
+        }
+
+        @DisplayName("PG 조회가 실패하면 결제를 변경하지 않고 PG_REQUEST_FAILED 예외를 던진다")
+        @Test
+        void throwsWhenPgFails() {
+            // given
+            PaymentModel pending = mock(PaymentModel.class);
+            given(pending.status()).willReturn(PaymentStatus.PENDING);
+            given(pending.transactionKey()).willReturn("20250816:TR:abc123");
+            given(pending.userId()).willReturn(1L);
+            given(paymentService.getById(1L)).willReturn(pending);
+            given(pgPaymentGateway.getPaymentStatus("20250816:TR:abc123", "1"))
+                .willThrow(new ResourceAccessException("timeout"));
+
+            // when
+            CoreException exception = assertThrows(CoreException.class, () -> paymentFacade.syncPaymentStatus(1L));
+
+            // then
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.PG_REQUEST_FAILED);
+            verify(paymentService, never()).applyPgResult(any(), any(), any(), any());
+        }
+
+        @DisplayName("transactionKey 없는 결제가 PG에 없으면(404) 결제를 변경하지 않고 현재 상태를 반환한다")
+        @Test
+        void keepsPendingWhenOrphanIsUnknownToPg() {
+            // given
+            PaymentModel orphan = mock(PaymentModel.class);
+            given(orphan.status()).willReturn(PaymentStatus.PENDING);
+            given(orphan.orderId()).willReturn(10L);
+            given(orphan.userId()).willReturn(1L);
+            given(orphan.cardType()).willReturn(CardType.SAMSUNG);
+            given(orphan.amount()).willReturn(new Money(50000));
+            given(paymentService.getById(1L)).willReturn(orphan);
+            given(pgPaymentGateway.getPaymentStatus("10", "1"))
+                .willThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "", HttpHeaders.EMPTY, null, null));
+
+            // when
+            PaymentInfo result = paymentFacade.syncPaymentStatus(1L);
+
+            // then
+            assertThat(result.status()).isEqualTo("PENDING");
+            verify(paymentService, never()).applyPgResult(any(), any(), any(), any());
+        }
+    }
 }
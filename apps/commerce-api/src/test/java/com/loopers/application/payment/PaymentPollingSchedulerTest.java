@@ -0,0 +1,110 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentSyncClaimStore;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentPollingSchedulerTest {
+
+    private static final Duration CLAIM_TTL = Duration.ofSeconds(60);
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentFacade paymentFacade;
+
+    @Mock
+    private PaymentSyncClaimStore paymentSyncClaimStore;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private PaymentPollingScheduler paymentPollingScheduler;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        paymentPollingScheduler = new PaymentPollingScheduler(
+            paymentService, paymentFacade, paymentSyncClaimStore,
+            RateLimiterRegistry.ofDefaults(), circuitBreakerRegistry,
+            2, 4, CLAIM_TTL
+        );
+    }
+
+    @DisplayName("PENDING 결제 폴링")
+    @Nested
+    class PollPendingPayments {
+
+        @DisplayName("keyset 청크로 끝까지 스캔하고, 선점에 성공한 결제만 동기화한다")
+        @Test
+        void scansInChunksAndSyncsClaimedOnly() {
+            // arrange
+            given(paymentService.getPendingPaymentIds(0L, 2)).willReturn(List.of(1L, 2L));
+            given(paymentService.getPendingPaymentIds(2L, 2)).willReturn(List.of(3L));
+            given(paymentSyncClaimStore.claim(List.of(1L, 2L), CLAIM_TTL)).willReturn(List.of(2L));
+            given(paymentSyncClaimStore.claim(List.of(3L), CLAIM_TTL)).willReturn(List.of(3L));
+
+            // act
+            int result = paymentPollingScheduler.pollPendingPayments();
+
+            // assert
+            assertThat(result).isEqualTo(2);
+            then(paymentFacade).should(never()).syncPaymentStatus(1L);
+            then(paymentFacade).should().syncPaymentStatus(2L);
+            then(paymentFacade).should().syncPaymentStatus(3L);
+        }
+
+        @DisplayName("일부 결제 동기화가 실패해도 나머지 결제는 계속 처리한다")
+        @Test
+        void continuesAfterFailure() {
+            // arrange
+            given(paymentService.getPendingPaymentIds(0L, 2)).willReturn(List.of(1L, 2L));
+            given(paymentService.getPendingPaymentIds(2L, 2)).willReturn(List.of());
+            given(paymentSyncClaimStore.claim(List.of(1L, 2L), CLAIM_TTL)).willReturn(List.of(1L, 2L));
+            willThrow(new RuntimeException("DB 오류")).given(paymentFacade).syncPaymentStatus(1L);
+
+            // act
+            int result = paymentPollingScheduler.pollPendingPayments();
+
+            // assert
+            assertThat(result).isEqualTo(2);
+            then(paymentFacade).should().syncPaymentStatus(2L);
+        }
+
+        @DisplayName("PG 서킷이 열려 있으면 스캔하지 않는다")
+        @Test
+        void skipsWhenCircuitOpen() {
+            // arrange
+            circuitBreakerRegistry.circuitBreaker("pg").transitionToOpenState();
+
+            // act
+            int result = paymentPollingScheduler.pollPendingPayments();
+
+            // assert
+            assertThat(result).isZero();
+            then(paymentService).should(never()).getPendingPaymentIds(anyLong(), anyInt());
+            then(paymentSyncClaimStore).should(never()).claim(any(), eq(CLAIM_TTL));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.LikeCountBuffer;
+import com.loopers.domain.product.LikeCountCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountFlushSchedulerTest {
+
+    @InjectMocks
+    private LikeCountFlushScheduler likeCountFlushScheduler;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private LikeCountCache likeCountCache;
+
+    @Mock
+    private ProductService productService;
+
+    @DisplayName("좋아요 수 flush")
+    @Nested
+    class Flush {
+
+        @DisplayName("스냅샷을 DB에 반영한 뒤 버퍼에서 제거하고, 상세 캐시는 두고 좋아요 수만 갱신한다")
+        @Test
+        void appliesSnapshotAndCompletes() {
+            // arrange
+            Map<Long, Long> deltas = Map.of(1L, 3L, 2L, -1L);
+            given(likeCountBuffer.beginFlush()).willReturn(deltas);
+            // act
+            int flushed = likeCountFlushScheduler.flush();
+            // assert
+            assertThat(flushed).isEqualTo(2);
+            then(productService).should().applyLikeCountDeltas(deltas);
+            then(likeCountBuffer).should().completeFlush();
+            then(likeCountCache).should().applyDeltas(deltas);
+            then(likeCountCache).should(never()).remove(any());
+        }
+
+        @DisplayName("좋아요 수 캐시 갱신에 실패하면 반영한 상품의 좋아요 수 캐시를 모두 삭제한다")
+        @Test
+        void removesLikeCountsWhenPatchFails() {
+            // arrange
+            Map<Long, Long> deltas = Map.of(1L, 3L, 2L, -1L);
+            given(likeCountBuffer.beginFlush()).willReturn(deltas);
+            willThrow(new RuntimeException("Redis 장애")).given(likeCountCache).applyDeltas(deltas);
+            // act
+            int flushed = likeCountFlushScheduler.flush();
+            // assert
+            assertThat(flushed).isEqualTo(2);
+            then(likeCountCache).should().remove(1L);
+            then(likeCountCache).should().remove(2L);
+        }
+
+        @DisplayName("반영할 delta가 없으면 DB를 갱신하지 않는다")
+        @Test
+        void skipsWhenNothingToFlush() {
+            // arrange
+            given(likeCountBuffer.beginFlush()).willReturn(Map.of());
+            // act
+            int flushed = likeCountFlushScheduler.flush();
+            // assert
+            assertThat(flushed).isZero();
+            then(productService).should(never()).applyLikeCountDeltas(any());
+        }
+
+        @DisplayName("DB 반영에 실패하면 스냅샷을 유지한 채 flush 권한만 반납한다")
+        @Test
+        void abortsWhenApplyFails() {
+            // arrange
+            Map<Long, Long> deltas = Map.of(1L, 3L);
+            given(likeCountBuffer.beginFlush()).willReturn(deltas);
+            willThrow(new RuntimeException("DB 장애")).given(productService).applyLikeCountDeltas(deltas);
+            // act
+            int flushed = likeCountFlushScheduler.flush();
+            // assert
+            assertThat(flushed).isZero();
+            then(likeCountBuffer).should().abortFlush();
+            then(likeCountBuffer).should(never()).completeFlush();
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.loopers.application.product;
 
 import com.loopers.domain.brand.BrandModel;
 import com.loopers.application.brand.BrandService;
+import com.loopers.domain.product.CurrentLikeCount;
+import com.loopers.domain.product.LikeCountBuffer;
+import com.loopers.domain.product.LikeCountCache;
+import com.loopers.domain.product.LikeCountReader;
 import com.loopers.domain.product.Money;
 import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductSortType;
 import com.loopers.domain.stock.StockModel;
 import com.loopers.application.stock.StockService;
 import com.loopers.domain.stock.StockStatus;
@@ -14,15 +19,25 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,11 +53,22 @@ class ProductFacadeTest {
     @Mock
     private StockService stockService;
 
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private LikeCountCache likeCountCache;
+
+    @Mock
+    private LikeCountReader likeCountReader;
+
     private ProductFacade productFacade;
 
     @BeforeEach
     void setUp() {
-        productFacade = new ProductFacade(productService, brandService, stockService);
+        productFacade = new ProductFacade(productService, brandService, stockService,
+            new ProductDetailLoader(productService, brandService, stockService),
+            likeCountBuffer, likeCountCache, likeCountReader);
     }
 
     @DisplayName("상품 등록")
@@ -108,6 +134,7 @@ class ProductFacadeTest {
             when(productService.getById(productId)).thenReturn(product);
             when(brandService.getBrandForAdmin(brandId)).thenReturn(brand);
             when(stockService.getByProductId(productId)).thenReturn(stock);
+            when(likeCountReader.read(productId)).thenReturn(CurrentLikeCount.unavailable());
 
             // when
             ProductDetail result = productFacade.getProduct(productId);
@@ -119,5 +146,135 @@ class ProductFacadeTest {
                 () -> assertThat(result.stockStatus()).isEqualTo(StockStatus.IN_STOCK)
             );
         }
+
+        @DisplayName("아직 반영되지 않은 좋아요 delta를 합산하여 반환한다")
+        @Test
+        void mergesPendingLikeDelta() {
+            // given
+            Long productId = 1L;
+            Long brandId = 1L;
+            ProductModel product = new ProductModel("에어맥스", "러닝화", new Money(129000), brandId);
+            ReflectionTestUtils.setField(product, "likeCount", 10);
+
+            when(productService.getById(productId)).thenReturn(product);
+            when(brandService.getBrandForAdmin(brandId)).thenReturn(new BrandModel("나이키", "스포츠"));
+            when(stockService.getByProductId(productId)).thenReturn(new StockModel(productId, 100));
+            when(likeCountReader.read(productId)).thenReturn(new CurrentLikeCount(10L, 3L));
+
+            // when
+            ProductDetail result = productFacade.getProduct(productId);
+
+            // then
+            assertThat(result.likeCount()).isEqualTo(13);
+        }
+
+        @DisplayName("좋아요 수 캐시가 비어 있으면 DB 조회 전에 받은 버전으로 primary의 좋아요 수를 초기화한다")
+        @Test
+        void seedsLikeCountWithVersionReadBeforeQuery() {
+            // given
+            Long productId = 1L;
+            Long brandId = 1L;
+            ProductModel product = new ProductModel("에어맥스", "러닝화", new Money(129000), brandId);
+            ReflectionTestUtils.setField(product, "likeCount", 10);
+
+            when(productService.getById(productId)).thenReturn(product);
+            when(brandService.getBrandForAdmin(brandId)).thenReturn(new BrandModel("나이키", "스포츠"));
+            when(stockService.getByProductId(productId)).thenReturn(new StockModel(productId, 100));
+            when(likeCountCache.version(productId)).thenReturn(7L);
+            when(productService.getCommittedLikeCount(productId)).thenReturn(12L);
+            when(likeCountReader.read(productId)).thenReturn(new CurrentLikeCount(null, 1L));
+
+            // when
+            ProductDetail result = productFacade.getProduct(productId);
+
+            // then
+            InOrder inOrder = inOrder(likeCountCache, productService);
+            inOrder.verify(likeCountCache).version(productId);
+            inOrder.verify(productService).getCommittedLikeCount(productId);
+            inOrder.verify(likeCountCache).seed(productId, 12L, 7L);
+            assertThat(result.likeCount()).isEqualTo(13);
+        }
+
+        @DisplayName("상세와 따로 갱신된 좋아요 수가 있으면 그 값에 delta를 합산하여 반환한다")
+        @Test
+        void overridesLikeCountWithSeparatelyPatchedValue() {
+            // given
+            Long productId = 1L;
+            Long brandId = 1L;
+            ProductModel product = new ProductModel("에어맥스", "러닝화", new Money(129000), brandId);
+            ReflectionTestUtils.setField(product, "likeCount", 10);
+
+            when(productService.getById(productId)).thenReturn(product);
+            when(brandService.getBrandForAdmin(brandId)).thenReturn(new BrandModel("나이키", "스포츠"));
+            when(stockService.getByProductId(productId)).thenReturn(new StockModel(productId, 100));
+            when(likeCountReader.read(productId)).thenReturn(new CurrentLikeCount(20L, 2L));
+
+            // when
+            ProductDetail result = productFacade.getProduct(productId);
+
+            // then
+            assertThat(result.likeCount()).isEqualTo(22);
+            verify(productService, never()).getCommittedLikeCount(any());
+            verify(likeCountCache, never()).seed(any(), anyLong(), anyLong());
+        }
+    }
+
+    @DisplayName("상품 목록 조회 (Customer)")
+    @Nested
+    class GetProducts {
+
+        @DisplayName("좋아요순이면 delta를 합산한 좋아요 수로 페이지 안에서 다시 정렬한다")
+        @Test
+        void reordersPageByMergedLikeCount() {
+            // given
+            Long brandId = 1L;
+            ProductModel first = new ProductModel("에어맥스", "러닝화", new Money(129000), brandId);
+            ProductModel second = new ProductModel("조던", "농구화", new Money(199000), brandId);
+            ReflectionTestUtils.setField(first, "id", 1L);
+            ReflectionTestUtils.setField(first, "likeCount", 10);
+            ReflectionTestUtils.setField(second, "id", 2L);
+            ReflectionTestUtils.setField(second, "likeCount", 9);
+            PageRequest pageable = PageRequest.of(0, 20);
+
+            when(productService.getProducts(null, ProductSortType.LIKES_DESC, pageable))
+                .thenReturn(new PageImpl<>(List.of(first, second), pageable, 2));
+            when(brandService.getByIds(List.of(brandId))).thenReturn(Map.of());
+            when(stockService.getByProductIds(List.of(1L, 2L))).thenReturn(Map.of());
+            when(likeCountBuffer.getPendingDeltas(List.of(1L, 2L))).thenReturn(Map.of(2L, 5L));
+
+            // when
+            Page<ProductDetail> result = productFacade.getProducts(null, ProductSortType.LIKES_DESC, pageable);
+
+            // then
+            assertAll(
+                () -> assertThat(result.getContent()).extracting(ProductDetail::id).containsExactly(2L, 1L),
+                () -> assertThat(result.getContent()).extracting(ProductDetail::likeCount).containsExactly(14, 10),
+                () -> assertThat(result.getTotalElements()).isEqualTo(2)
+            );
+        }
+    }
+
+    @DisplayName("상품 목록 커서 조회")
+    @Nested
+    class GetProductsByCursor {
+
+        @DisplayName("size가 1~100 범위를 벗어나면 BAD_REQUEST 예외를 던진다")
+        @Test
+        void throwsWhenSizeOutOfRange() {
+            // when
+            CoreException zero = assertThrows(CoreException.class,
+                () -> productFacade.getProductsByCursor(null, ProductSortType.CREATED_DESC, null, 0));
+            CoreException negative = assertThrows(CoreException.class,
+                () -> productFacade.getProductsByCursor(null, ProductSortType.CREATED_DESC, null, -1));
+            CoreException tooLarge = assertThrows(CoreException.class,
+                () -> productFacade.getProductsByCursor(null, ProductSortType.CREATED_DESC, null, 101));
+
+            // then
+            assertAll(
+                () -> assertThat(zero.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(negative.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(tooLarge.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST)
+            );
+        }
     }
 }
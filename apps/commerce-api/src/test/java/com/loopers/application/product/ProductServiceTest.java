@@ -225,31 +225,4 @@ class ProductServiceTest {
             );
         }
     }
-
-    @DisplayName("좋아요 수 관리")
-    @Nested
-    class LikeCount {
-
-        @DisplayName("좋아요 수를 증가시킨다")
-        @Test
-        void incrementsLikeCount() {
-            // arrange
-            Long id = 1L;
-            // act
-            productService.incrementLikeCount(id);
-            // assert
-            verify(productRepository).incrementLikeCount(id);
-        }
-
-        @DisplayName("좋아요 수를 감소시킨다")
-        @Test
-        void decrementsLikeCount() {
-            // arrange
-            Long id = 1L;
-            // act
-            productService.decrementLikeCount(id);
-            // assert
-            verify(productRepository).decrementLikeCount(id);
-        }
-    }
 }
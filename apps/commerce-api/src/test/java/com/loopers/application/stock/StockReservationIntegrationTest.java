@@ -0,0 +1,144 @@
+package com.loopers.application.stock;
+
+import com.loopers.domain.stock.StockReservationResult;
+import com.loopers.domain.stock.StockReservationStore;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class StockReservationIntegrationTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired private StockReservationStore stockReservationStore;
+    @Autowired private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() { redisCleanUp.truncateAll(); }
+
+    @DisplayName("예약")
+    @Nested
+    class Reserve {
+
+        @DisplayName("가용 재고가 적재되지 않은 상품은 NOT_LOADED를 반환한다")
+        @Test
+        void returnsNotLoaded() {
+            // when
+            StockReservationResult result = stockReservationStore.reserve("r1", Map.of(1L, 1), TTL);
+
+            // then
+            assertThat(result).isEqualTo(StockReservationResult.NOT_LOADED);
+        }
+
+        @DisplayName("한 상품이라도 가용 재고가 부족하면 어떤 상품도 차감하지 않는다")
+        @Test
+        void allOrNothing() {
+            // given
+            stockReservationStore.load(Map.of(1L, 10, 2L, 1), false);
+
+            // when
+            StockReservationResult result = stockReservationStore.reserve("r1", Map.of(1L, 5, 2L, 2), TTL);
+            StockReservationResult retry = stockReservationStore.reserve("r2", Map.of(1L, 10), TTL);
+
+            // then
+            assertAll(
+                () -> assertThat(result).isEqualTo(StockReservationResult.INSUFFICIENT),
+                () -> assertThat(retry).isEqualTo(StockReservationResult.RESERVED)
+            );
+        }
+    }
+
+    @DisplayName("확정/보상")
+    @Nested
+    class Complete {
+
+        @DisplayName("보상하면 예약 수량이 가용 재고로 돌아오고, 두 번째 보상은 무시된다")
+        @Test
+        void releaseRestoresOnce() {
+            // given
+            stockReservationStore.load(Map.of(1L, 3), false);
+            stockReservationStore.reserve("r1", Map.of(1L, 3), TTL);
+
+            // when
+            boolean first = stockReservationStore.release("r1");
+            boolean second = stockReservationStore.release("r1");
+
+            // then
+            assertAll(
+                () -> assertThat(first).isTrue(),
+                () -> assertThat(second).isFalse(),
+                () -> assertThat(stockReservationStore.reserve("r2", Map.of(1L, 3), TTL))
+                    .isEqualTo(StockReservationResult.RESERVED)
+            );
+        }
+
+        @DisplayName("확정된 예약은 보상되지 않는다")
+        @Test
+        void confirmedReservationIsNotReleased() {
+            // given
+            stockReservationStore.load(Map.of(1L, 3), false);
+            stockReservationStore.reserve("r1", Map.of(1L, 3), TTL);
+
+            // when
+            boolean confirmed = stockReservationStore.confirm("r1");
+            boolean released = stockReservationStore.release("r1");
+
+            // then
+            assertAll(
+                () -> assertThat(confirmed).isTrue(),
+                () -> assertThat(released).isFalse(),
+                () -> assertThat(stockReservationStore.reserve("r2", Map.of(1L, 1), TTL))
+                    .isEqualTo(StockReservationResult.INSUFFICIENT)
+            );
+        }
+
+        @DisplayName("만료 시각이 지난 예약만 만료 대상으로 조회된다")
+        @Test
+        void findsOnlyExpiredReservations() {
+            // given
+            stockReservationStore.load(Map.of(1L, 10), false);
+            stockReservationStore.reserve("expired", Map.of(1L, 1), Duration.ZERO);
+            stockReservationStore.reserve("active", Map.of(1L, 1), TTL);
+
+            // when & then
+            assertThat(stockReservationStore.findExpiredReservationIds(Instant.now(), 100))
+                .containsExactly("expired");
+        }
+    }
+
+    @DisplayName("정합성 보정")
+    @Nested
+    class Reconcile {
+
+        @DisplayName("DB 재고에서 진행 중인 예약 수량을 뺀 값으로 가용 재고를 덮어쓴다")
+        @Test
+        void overwritesWithDbQuantityMinusReserved() {
+            // given
+            stockReservationStore.load(Map.of(1L, 10), false);
+            stockReservationStore.reserve("r1", Map.of(1L, 4), TTL);
+
+            // when — 관리자가 재고를 20으로 수정한 상황
+            stockReservationStore.load(Map.of(1L, 20), true);
+
+            // then — 가용 재고 = 20 - 4
+            assertAll(
+                () -> assertThat(stockReservationStore.reserve("r2", Map.of(1L, 17), TTL))
+                    .isEqualTo(StockReservationResult.INSUFFICIENT),
+                () -> assertThat(stockReservationStore.reserve("r3", Map.of(1L, 16), TTL))
+                    .isEqualTo(StockReservationResult.RESERVED)
+            );
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.loopers.application.stock;
+
+import com.loopers.domain.stock.StockReservationResult;
+import com.loopers.domain.stock.StockReservationStore;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceTest {
+
+    @InjectMocks
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private StockReservationStore stockReservationStore;
+
+    @Mock
+    private StockService stockService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @DisplayName("재고 예약")
+    @Nested
+    class Reserve {
+
+        @DisplayName("예약에 성공하면 커밋 시 예약을 확정한다")
+        @Test
+        void confirmsOnCommit() {
+            // arrange
+            Map<Long, Integer> quantities = Map.of(1L, 2);
+            given(stockReservationStore.reserve(anyString(), eq(quantities), any()))
+                .willReturn(StockReservationResult.RESERVED);
+            // act
+            stockReservationService.reserve(quantities);
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            // assert
+            then(stockReservationStore).should().confirm(anyString());
+            then(stockReservationStore).should(never()).release(anyString());
+        }
+
+        @DisplayName("예약에 성공해도 롤백되면 예약 수량을 즉시 되돌린다")
+        @Test
+        void releasesOnRollback() {
+            // arrange
+            Map<Long, Integer> quantities = Map.of(1L, 2);
+            given(stockReservationStore.reserve(anyString(), eq(quantities), any()))
+                .willReturn(StockReservationResult.RESERVED);
+            // act
+            stockReservationService.reserve(quantities);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+            // assert
+            then(stockReservationStore).should().release(anyString());
+            then(stockReservationStore).should(never()).confirm(anyString());
+        }
+
+        @DisplayName("가용 재고가 부족하면 BAD_REQUEST 예외가 발생한다")
+        @Test
+        void throwsOnInsufficientStock() {
+            // arrange
+            given(stockReservationStore.reserve(anyString(), any(), any()))
+                .willReturn(StockReservationResult.INSUFFICIENT);
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> stockReservationService.reserve(Map.of(1L, 10)));
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("가용 재고가 적재되지 않았으면 DB 재고로 적재한 뒤 다시 예약한다")
+        @Test
+        void loadsAndRetriesWhenNotLoaded() {
+            // arrange
+            Map<Long, Integer> quantities = Map.of(1L, 2);
+            given(stockReservationStore.reserve(anyString(), eq(quantities), any()))
+                .willReturn(StockReservationResult.NOT_LOADED, StockReservationResult.RESERVED);
+            given(stockService.getQuantities(List.of(1L))).willReturn(Map.of(1L, 100));
+            // act
+            stockReservationService.reserve(quantities);
+            // assert
+            then(stockReservationStore).should().load(Map.of(1L, 100), false);
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        }
+
+        @DisplayName("Redis 장애 시 예외 없이 비관적 락 경로로 넘긴다")
+        @Test
+        void fallsBackWhenStoreFails() {
+            // arrange
+            given(stockReservationStore.reserve(anyString(), any(), any()))
+                .willThrow(new RuntimeException("Redis connection failed"));
+            // act & assert
+            assertDoesNotThrow(() -> stockReservationService.reserve(Map.of(1L, 2)));
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        }
+    }
+
+    @DisplayName("만료 예약 보상")
+    @Nested
+    class ReleaseExpired {
+
+        @DisplayName("만료된 예약 중 실제로 보상된 건수를 반환한다")
+        @Test
+        void countsReleasedReservations() {
+            // arrange
+            given(stockReservationStore.findExpiredReservationIds(any(), eq(100))).willReturn(List.of("a", "b"));
+            given(stockReservationStore.release("a")).willReturn(true);
+            given(stockReservationStore.release("b")).willReturn(false);
+            // act
+            int released = stockReservationService.releaseExpired(100);
+            // assert
+            assertThat(released).isEqualTo(1);
+        }
+    }
+
+    private void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+}
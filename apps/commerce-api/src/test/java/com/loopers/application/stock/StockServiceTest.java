@@ -68,6 +68,40 @@ class StockServiceTest {
         }
     }
 
+    @DisplayName("재고 일괄 잠금 조회")
+    @Nested
+    class GetByProductIdsForUpdate {
+
+        @DisplayName("중복을 제거한 productId 오름차순으로 한 번에 잠금 조회한다")
+        @Test
+        void locksInProductIdOrder() {
+            // arrange
+            given(stockRepository.findAllByProductIdInForUpdate(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(new StockModel(1L, 10), new StockModel(2L, 20), new StockModel(3L, 30)));
+            // act
+            Map<Long, StockModel> result = stockService.getByProductIdsForUpdate(List.of(3L, 1L, 2L, 1L));
+            // assert
+            assertAll(
+                () -> assertThat(result).containsOnlyKeys(1L, 2L, 3L),
+                () -> assertThat(result.get(3L).getQuantity()).isEqualTo(30)
+            );
+        }
+
+        @DisplayName("재고가 없는 상품이 포함되면 NOT_FOUND 예외가 발생한다")
+        @Test
+        void throwsWhenStockMissing() {
+            // arrange
+            given(stockRepository.findAllByProductIdInForUpdate(List.of(1L, 2L)))
+                .willReturn(List.of(new StockModel(1L, 10)));
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                stockService.getByProductIdsForUpdate(List.of(1L, 2L));
+            });
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        }
+    }
+
     @DisplayName("재고 저장")
     @Nested
     class Save {
@@ -0,0 +1,95 @@
+package com.loopers.config;
+
+import com.loopers.application.stock.StockService;
+import com.loopers.domain.brand.BrandModel;
+import com.loopers.domain.stock.StockModel;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.stock.StockJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PersistenceMetricsTest {
+
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private StockService stockService;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private TestRestTemplate testRestTemplate;
+    @Autowired private StockJpaRepository stockJpaRepository;
+    @Autowired private BrandJpaRepository brandJpaRepository;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("FOR UPDATE 조회는 락 대기 타이머와 저장소 메서드 타이머에 함께 기록된다")
+    void lockWaitAndRepositoryTimers_should_be_recorded() {
+        // given
+        stockJpaRepository.save(new StockModel(1L, 10));
+        long before = lockWaitCount();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> stockService.getByProductIdsForUpdate(List.of(1L)));
+
+        // then
+        Timer repositoryTimer = meterRegistry.find("repository.invocations")
+            .tag("repository", "StockRepositoryImpl")
+            .tag("method", "findAllByProductIdInForUpdate")
+            .tag("exception", "none")
+            .timer();
+        assertAll(
+            () -> assertThat(lockWaitCount()).isEqualTo(before + 1),
+            () -> assertThat(repositoryTimer).isNotNull(),
+            () -> assertThat(repositoryTimer.count()).isPositive()
+        );
+    }
+
+    @Test
+    @DisplayName("요청마다 실행된 SQL 수가 매칭된 경로 패턴 태그로 기록된다")
+    void statementsPerRequest_should_be_recorded_by_uri_pattern() {
+        // given
+        BrandModel brand = brandJpaRepository.save(new BrandModel("나이키", "스포츠 브랜드"));
+        long beforeCount = brandRequestSummary().map(DistributionSummary::count).orElse(0L);
+        double beforeTotal = brandRequestSummary().map(DistributionSummary::totalAmount).orElse(0.0);
+
+        // when
+        testRestTemplate.getForEntity("/api/v1/brands/" + brand.getId(), String.class);
+
+        // then
+        DistributionSummary summary = brandRequestSummary().orElseThrow();
+        assertAll(
+            () -> assertThat(summary.count()).isEqualTo(beforeCount + 1),
+            () -> assertThat(summary.totalAmount()).isGreaterThan(beforeTotal)
+        );
+    }
+
+    private Optional<DistributionSummary> brandRequestSummary() {
+        return Optional.ofNullable(meterRegistry.find("hibernate.request.statements")
+            .tag("method", "GET")
+            .tag("uri", "/api/v1/brands/{brandId}")
+            .summary());
+    }
+
+    private long lockWaitCount() {
+        Timer timer = meterRegistry.find("db.lock.wait").tag("lock", "stock").tag("exception", "none").timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
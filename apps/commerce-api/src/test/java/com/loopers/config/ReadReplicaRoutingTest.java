@@ -0,0 +1,124 @@
+package com.loopers.config;
+
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * replica 역할의 MySQL 컨테이너를 하나 더 띄워, 트랜잭션 readOnly 여부에 따라 커넥션이 라우팅되는지 검증한다.
+ * 두 컨테이너는 복제로 연결하지 않고 같은 테이블에 서로 다른 값을 넣어, 조회 결과로 어느 쪽에 붙었는지 구분한다.
+ */
+@SpringBootTest
+@Import({MySqlTestContainersConfig.class, RedisTestContainersConfig.class})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    private static final MySQLContainer<?> replicaContainer =
+        new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("loopers")
+            .withUsername("test")
+            .withPassword("test");
+
+    static {
+        replicaContainer.start();
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.mysql-jpa.replica.jdbc-url", replicaContainer::getJdbcUrl);
+        registry.add("datasource.mysql-jpa.replica.username", replicaContainer::getUsername);
+        registry.add("datasource.mysql-jpa.replica.password", replicaContainer::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("mySqlMainDataSource")
+    private HikariDataSource mainDataSource;
+
+    // replica 풀은 read-only 커넥션이라 준비 데이터는 별도 커넥션으로 넣는다.
+    private final JdbcTemplate replicaAdmin = new JdbcTemplate(new DriverManagerDataSource(
+        replicaContainer.getJdbcUrl(), replicaContainer.getUsername(), replicaContainer.getPassword()
+    ));
+
+    @BeforeEach
+    void setUp() {
+        createMarker(new JdbcTemplate(mainDataSource), "main");
+        createMarker(replicaAdmin, "replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(mainDataSource).execute("DROP TABLE IF EXISTS routing_marker");
+        replicaAdmin.execute("DROP TABLE IF EXISTS routing_marker");
+    }
+
+    private void createMarker(JdbcTemplate template, String role) {
+        template.execute("CREATE TABLE IF NOT EXISTS routing_marker (role VARCHAR(16) NOT NULL)");
+        template.update("INSERT INTO routing_marker (role) VALUES (?)", role);
+    }
+
+    private String currentRole() {
+        return jdbcTemplate.queryForObject("SELECT role FROM routing_marker", String.class);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션의 쿼리는 replica로 간다")
+    void readOnlyTransaction_should_use_replica() {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when
+        String role = readOnly.execute(status -> currentRole());
+
+        // then
+        assertThat(role).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기/쓰기 트랜잭션의 쿼리는 main으로 간다")
+    void readWriteTransaction_should_use_main() {
+        // given
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // when
+        String role = readWrite.execute(status -> currentRole());
+
+        // then
+        assertThat(role).isEqualTo("main");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 쿼리는 main으로 간다")
+    void nonTransactional_should_use_main() {
+        // when
+        String role = currentRole();
+
+        // then
+        assertThat(role).isEqualTo("main");
+    }
+}
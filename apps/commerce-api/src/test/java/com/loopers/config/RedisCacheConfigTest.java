@@ -1,5 +1,7 @@
 package com.loopers.config;
 
+import com.loopers.config.redis.TwoTierCache;
+import com.loopers.config.redis.TwoTierCacheManager;
 import com.loopers.testcontainers.RedisTestContainersConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,7 +9,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,23 +22,29 @@ class RedisCacheConfigTest {
     private CacheManager cacheManager;
 
     @Test
-    @DisplayName("CacheManager Bean이 RedisCacheManager 인스턴스여야 한다")
-    void cacheManager_should_be_redisCacheManager_instance() {
+    @DisplayName("CacheManager Bean이 TwoTierCacheManager 인스턴스여야 한다")
+    void cacheManager_should_be_twoTierCacheManager_instance() {
         // given & when & then
-        assertThat(cacheManager).isInstanceOf(RedisCacheManager.class);
+        assertThat(cacheManager).isInstanceOf(TwoTierCacheManager.class);
     }
 
     @Test
     @DisplayName("productDetail 캐시 설정이 존재해야 한다")
     void productDetail_cache_configuration_should_exist() {
-        // given
-        RedisCacheManager redisCacheManager = (RedisCacheManager) cacheManager;
-
-        // when
-        var cache = redisCacheManager.getCache("productDetail");
+        // given & when
+        var cache = cacheManager.getCache("productDetail");
 
         // then
         assertThat(cache).isNotNull();
     }
 
+    @Test
+    @DisplayName("near-cache가 설정된 productDetail 캐시는 TwoTierCache로 감싸진다")
+    void productDetail_cache_should_be_twoTierCache() {
+        // given & when
+        var cache = cacheManager.getCache("productDetail");
+
+        // then
+        assertThat(cache).isInstanceOf(TwoTierCache.class);
+    }
 }
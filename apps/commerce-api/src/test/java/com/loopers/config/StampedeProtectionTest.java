@@ -0,0 +1,143 @@
+package com.loopers.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.CacheInvalidationPublisher;
+import com.loopers.config.redis.CacheLoadLease;
+import com.loopers.config.redis.StampedeCacheEntry;
+import com.loopers.config.redis.StampedeProtection;
+import com.loopers.config.redis.StampedeProtectionProperties;
+import com.loopers.config.redis.TwoTierCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StampedeProtectionTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private ConcurrentMapCache remoteCache;
+    private CacheLoadLease lease;
+    private StampedeProtection protection;
+    private TwoTierCache sut;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("productDetail", false);
+        lease = mock(CacheLoadLease.class);
+        protection = new StampedeProtection(
+                "productDetail",
+                TTL,
+                new StampedeProtectionProperties.Spec(1.0, Duration.ofSeconds(3), Duration.ofMillis(500)),
+                lease
+        );
+        sut = new TwoTierCache(
+                "productDetail",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache,
+                mock(CacheInvalidationPublisher.class),
+                protection
+        );
+    }
+
+    @Test
+    @DisplayName("같은 키에 동시에 miss가 나도 원본은 한 번만 조회된다")
+    void concurrent_misses_should_load_once() throws Exception {
+        // given
+        given(lease.tryAcquire(anyString(), anyString(), any())).willReturn("token");
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return sut.get(1L, () -> {
+                    loadCount.incrementAndGet();
+                    Thread.sleep(100);
+                    return "detail";
+                });
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("detail");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 보유 중이면 원본을 조회하지 않고 그 노드가 채운 값을 사용한다")
+    void lease_held_elsewhere_should_wait_for_other_node() {
+        // given
+        given(lease.tryAcquire(anyString(), anyString(), any())).willReturn(null);
+        AtomicInteger loadCount = new AtomicInteger();
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            remoteCache.put(1L, protection.entryOf("from-other-node", 50));
+        }).start();
+
+        // when
+        String value = sut.get(1L, () -> {
+            loadCount.incrementAndGet();
+            return "detail";
+        });
+
+        // then
+        assertThat(value).isEqualTo("from-other-node");
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("XFetch는 만료가 임박하고 재계산 비용이 클수록 조기 갱신을 선택한다")
+    void shouldRefreshEarly_depends_on_remaining_ttl_and_compute_time() {
+        // given
+        long now = 1_000_000L;
+        StampedeCacheEntry fresh = new StampedeCacheEntry("detail", 100, now + TTL.toMillis());
+        StampedeCacheEntry nearExpiry = new StampedeCacheEntry("detail", 100, now + 50);
+
+        // when & then
+        assertThat(protection.shouldRefreshEarly(fresh, now, 0.01)).isFalse();
+        assertThat(protection.shouldRefreshEarly(nearExpiry, now, 0.5)).isTrue();
+        assertThat(protection.shouldRefreshEarly(nearExpiry, now, 1.0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시에 저장된 값은 StampedeCacheEntry로 감싸져도 get(key)로는 원래 값이 조회된다")
+    void get_should_unwrap_entry() {
+        // given
+        sut.put(1L, "detail");
+
+        // when & then
+        assertThat(remoteCache.get(1L).get()).isInstanceOf(StampedeCacheEntry.class);
+        assertThat(sut.get(1L).get()).isEqualTo("detail");
+        assertThat(sut.get(1L, String.class)).isEqualTo("detail");
+    }
+}
@@ -0,0 +1,117 @@
+package com.loopers.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.CacheInvalidationMessage;
+import com.loopers.config.redis.CacheInvalidationPublisher;
+import com.loopers.config.redis.NearCacheProperties;
+import com.loopers.config.redis.TwoTierCache;
+import com.loopers.config.redis.TwoTierCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TwoTierCacheTest {
+
+    private ConcurrentMapCache remoteCache;
+    private CacheInvalidationPublisher publisher;
+    private TwoTierCache sut;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("productDetail", false);
+        publisher = mock(CacheInvalidationPublisher.class);
+        sut = new TwoTierCache(
+                "productDetail",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache,
+                publisher
+        );
+    }
+
+    @Test
+    @DisplayName("L2에만 있는 값을 조회하면 L1에 적재되어 이후 L2 없이도 조회된다")
+    void get_should_promote_remote_value_to_local() {
+        // given
+        remoteCache.put(1L, "detail");
+
+        // when
+        sut.get(1L);
+        remoteCache.evict(1L);
+
+        // then
+        assertThat(sut.get(1L).get()).isEqualTo("detail");
+    }
+
+    @Test
+    @DisplayName("evict 시 L1, L2가 모두 비워지고 무효화 메시지가 발행된다")
+    void evict_should_clear_both_tiers_and_publish() {
+        // given
+        sut.put(1L, "detail");
+
+        // when
+        sut.evict(1L);
+
+        // then
+        assertThat(sut.get(1L)).isNull();
+        verify(publisher).publishEvict("productDetail", "1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1만 비워진다")
+    void invalidateLocal_should_evict_only_local_tier() {
+        // given
+        ConcurrentMapCacheManager remoteManager = new ConcurrentMapCacheManager("productDetail");
+        NearCacheProperties properties = new NearCacheProperties(
+                Map.of("productDetail", new NearCacheProperties.Spec(100, Duration.ofSeconds(30)))
+        );
+        TwoTierCacheManager manager = new TwoTierCacheManager(remoteManager, properties, publisher);
+        Cache cache = manager.getCache("productDetail");
+        cache.put(1L, "detail");
+        remoteManager.getCache("productDetail").put(1L, "updated");
+
+        // when
+        manager.invalidateLocal(CacheInvalidationMessage.evict("other-node", "productDetail", "1"));
+
+        // then
+        assertThat(cache.get(1L).get()).isEqualTo("updated");
+    }
+
+    @Test
+    @DisplayName("무효화 메시지는 인코딩 후 디코딩해도 동일하다")
+    void message_should_round_trip() {
+        // given
+        CacheInvalidationMessage evict = CacheInvalidationMessage.evict("node", "productDetail", "1");
+        CacheInvalidationMessage clear = CacheInvalidationMessage.clear("node", "productDetail");
+
+        // when & then
+        assertThat(CacheInvalidationMessage.decode(evict.encode())).isEqualTo(evict);
+        assertThat(CacheInvalidationMessage.decode(clear.encode())).isEqualTo(clear);
+    }
+
+    @Test
+    @DisplayName("키가 \"*\"이거나 구분자를 포함해도 전체 clear가 아닌 단건 evict로 복원된다")
+    void message_should_keep_evict_for_any_key() {
+        // given
+        CacheInvalidationMessage star = CacheInvalidationMessage.evict("node", "productDetail", "*");
+        CacheInvalidationMessage delimited = CacheInvalidationMessage.evict("node", "productDetail", "a|b");
+
+        // when
+        CacheInvalidationMessage decodedStar = CacheInvalidationMessage.decode(star.encode());
+        CacheInvalidationMessage decodedDelimited = CacheInvalidationMessage.decode(delimited.encode());
+
+        // then
+        assertThat(decodedStar.isClear()).isFalse();
+        assertThat(decodedStar).isEqualTo(star);
+        assertThat(decodedDelimited).isEqualTo(delimited);
+    }
+}
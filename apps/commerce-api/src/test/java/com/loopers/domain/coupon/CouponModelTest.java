@@ -44,6 +44,32 @@ class CouponModelTest {
             assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
         }
 
+        @DisplayName("발급 수량을 지정하면 선착순 쿠폰이 되고, 지정하지 않으면 수량 제한이 없다")
+        @Test
+        void firstComeOnlyWhenQuantityGiven() {
+            // given & when
+            CouponModel limited = new CouponModel("선착순", CouponType.FIXED, 1000, null,
+                LocalDateTime.of(2099, 12, 31, 23, 59), 100);
+            CouponModel unlimited = new CouponModel("상시", CouponType.FIXED, 1000, null,
+                LocalDateTime.of(2099, 12, 31, 23, 59));
+
+            // then
+            assertAll(
+                () -> assertThat(limited.isFirstCome()).isTrue(),
+                () -> assertThat(limited.totalQuantity()).isEqualTo(100),
+                () -> assertThat(unlimited.isFirstCome()).isFalse()
+            );
+        }
+
+        @DisplayName("발급 수량이 0이면 BAD_REQUEST 예외가 발생한다")
+        @Test
+        void throwsWhenQuantityZero() {
+            CoreException result = assertThrows(CoreException.class,
+                () -> new CouponModel("쿠폰", CouponType.FIXED, 1000, null,
+                    LocalDateTime.of(2099, 12, 31, 23, 59), 0));
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
         @DisplayName("값이 0이면 BAD_REQUEST 예외가 발생한다")
         @Test
         void throwsWhenValueZero() {
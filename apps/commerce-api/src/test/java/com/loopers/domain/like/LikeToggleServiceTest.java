@@ -5,8 +5,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
@@ -19,61 +17,17 @@ class LikeToggleServiceTest {
         likeToggleService = new LikeToggleService();
     }
 
-    @DisplayName("좋아요 토글 - like")
+    @DisplayName("좋아요 토글 - upsert 결과 판정")
     @Nested
-    class Like {
-
-        @DisplayName("좋아요가 없으면 새로 생성하고 countChanged=true를 반환한다")
-        @Test
-        void createsNewLikeWhenNoneExists() {
-            // given
-            Optional<LikeModel> existing = Optional.empty();
-
-            // when
-            LikeResult result = likeToggleService.like(existing, 1L, 100L);
-
-            // then
-            assertAll(
-                () -> assertThat(result.newLike()).isPresent(),
-                () -> assertThat(result.newLike().get().userId()).isEqualTo(1L),
-                () -> assertThat(result.newLike().get().productId()).isEqualTo(100L),
-                () -> assertThat(result.countChanged()).isTrue()
-            );
-        }
+    class CountChanged {
 
-        @DisplayName("삭제된 좋아요가 있으면 복구하고 countChanged=true를 반환한다")
+        @DisplayName("새로 삽입되거나 복구되면 countChanged=true, 이미 활성이면 false를 반환한다")
         @Test
-        void restoresDeletedLike() {
-            // given
-            LikeModel deletedLike = new LikeModel(1L, 100L);
-            deletedLike.delete();
-            Optional<LikeModel> existing = Optional.of(deletedLike);
-
-            // when
-            LikeResult result = likeToggleService.like(existing, 1L, 100L);
-
-            // then
-            assertAll(
-                () -> assertThat(result.newLike()).isEmpty(),
-                () -> assertThat(result.countChanged()).isTrue(),
-                () -> assertThat(deletedLike.getDeletedAt()).isNull()
-            );
-        }
-
-        @DisplayName("이미 활성 좋아요가 있으면 아무것도 하지 않는다 (멱등)")
-        @Test
-        void skipsWhenAlreadyActive() {
-            // given
-            LikeModel activeLike = new LikeModel(1L, 100L);
-            Optional<LikeModel> existing = Optional.of(activeLike);
-
-            // when
-            LikeResult result = likeToggleService.like(existing, 1L, 100L);
-
-            // then
+        void changesOnlyOnTransition() {
             assertAll(
-                () -> assertThat(result.newLike()).isEmpty(),
-                () -> assertThat(result.countChanged()).isFalse()
+                () -> assertThat(likeToggleService.countChanged(LikeUpsertResult.INSERTED)).isTrue(),
+                () -> assertThat(likeToggleService.countChanged(LikeUpsertResult.RESTORED)).isTrue(),
+                () -> assertThat(likeToggleService.countChanged(LikeUpsertResult.UNCHANGED)).isFalse()
             );
         }
     }
@@ -0,0 +1,89 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProductCursorTest {
+
+    @DisplayName("커서 생성")
+    @Nested
+    class Of {
+
+        @DisplayName("좋아요순 커서는 마지막 상품의 좋아요 수와 id를 담는다")
+        @Test
+        void capturesLikeCountAndId() {
+            // arrange
+            ProductModel product = new ProductModel("에어맥스", "러닝화", new Money(129000), 1L);
+            ReflectionTestUtils.setField(product, "id", 7L);
+            ReflectionTestUtils.setField(product, "likeCount", 42);
+            // act
+            ProductCursor cursor = ProductCursor.of(product, ProductSortType.LIKES_DESC);
+            // assert
+            assertAll(
+                () -> assertThat(cursor.sortValue()).isEqualTo(42L),
+                () -> assertThat(cursor.id()).isEqualTo(7L)
+            );
+        }
+
+        @DisplayName("최신순 커서는 createdAt을 마이크로초 단위로 복원할 수 있다")
+        @Test
+        void restoresCreatedAt() {
+            // arrange
+            ProductModel product = new ProductModel("에어맥스", "러닝화", new Money(129000), 1L);
+            ZonedDateTime createdAt = ZonedDateTime.parse("2026-03-12T10:15:30.123456+09:00[Asia/Seoul]");
+            ReflectionTestUtils.setField(product, "id", 7L);
+            ReflectionTestUtils.setField(product, "createdAt", createdAt);
+            // act
+            ProductCursor cursor = ProductCursor.of(product, ProductSortType.CREATED_DESC);
+            // assert
+            assertThat(cursor.sortValueAsDateTime().toInstant()).isEqualTo(createdAt.toInstant());
+        }
+    }
+
+    @DisplayName("커서 인코딩")
+    @Nested
+    class Encode {
+
+        @DisplayName("인코딩한 토큰을 디코딩하면 동일한 커서가 된다")
+        @Test
+        void roundTrips() {
+            // arrange
+            ProductCursor cursor = new ProductCursor(ProductSortType.PRICE_ASC, 15000L, 3L);
+            // act
+            ProductCursor decoded = ProductCursor.decode(cursor.encode());
+            // assert
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @DisplayName("잘못된 토큰이면 BAD_REQUEST 예외가 발생한다")
+        @Test
+        void throwsOnInvalidToken() {
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> ProductCursor.decode("not-a-cursor"));
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("요청 정렬 기준과 커서 정렬 기준이 다르면 BAD_REQUEST 예외가 발생한다")
+        @Test
+        void throwsOnSortTypeMismatch() {
+            // arrange
+            ProductCursor cursor = new ProductCursor(ProductSortType.PRICE_ASC, 15000L, 3L);
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> cursor.validateSortType(ProductSortType.LIKES_DESC));
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.CacheInvalidationPublisher;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.domain.coupon.CouponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class CaffeineCouponSnapshotCacheTest {
+
+    private static final Instant V1 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant V2 = V1.plusSeconds(1);
+
+    private CacheInvalidationPublisher publisher;
+    private CaffeineCouponSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        publisher = mock(CacheInvalidationPublisher.class);
+        cache = new CaffeineCouponSnapshotCache(Duration.ofMinutes(1), 100, publisher);
+    }
+
+    private CouponSnapshot snapshot(int value, Instant version) {
+        return new CouponSnapshot(1L, "쿠폰", CouponType.FIXED, value, null,
+            LocalDateTime.of(2099, 12, 31, 23, 59), null, version);
+    }
+
+    @Test
+    @DisplayName("저장한 스냅샷은 무효화 전까지 조회된다")
+    void put_then_find() {
+        // given
+        cache.put(snapshot(1000, V1));
+
+        // when & then
+        assertThat(cache.find(1L)).map(CouponSnapshot::value).hasValue(1000);
+        cache.invalidate(1L);
+        assertThat(cache.find(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋된 버전으로 무효화한 뒤에는 그보다 오래된 스냅샷이 다시 저장되지 않는다")
+    void stale_snapshot_after_invalidation_is_rejected() {
+        // given
+        cache.put(snapshot(1000, V1));
+
+        // when
+        cache.invalidate(1L, V2);
+        cache.put(snapshot(1000, V1));
+
+        // then
+        assertThat(cache.find(1L)).isEmpty();
+        cache.put(snapshot(2000, V2));
+        assertThat(cache.find(1L)).map(CouponSnapshot::value).hasValue(2000);
+    }
+
+    @Test
+    @DisplayName("이미 더 새로운 스냅샷이 있으면 오래된 스냅샷으로 덮어쓰지 않는다")
+    void older_snapshot_does_not_overwrite_newer() {
+        // given
+        cache.put(snapshot(2000, V2));
+
+        // when
+        cache.put(snapshot(1000, V1));
+
+        // then
+        assertThat(cache.find(1L)).map(CouponSnapshot::value).hasValue(2000);
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬에서 비우고, 커밋된 버전을 실어 다른 노드에도 무효화를 발행한다")
+    void invalidate_publishes_to_other_nodes() {
+        // given
+        cache.put(snapshot(1000, V1));
+
+        // when
+        cache.invalidate(1L, V2);
+
+        // then
+        assertThat(cache.find(1L)).isEmpty();
+        verify(publisher).publishEvict(CaffeineCouponSnapshotCache.CACHE_NAME, "1@" + V2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 다시 발행하지 않고, 실린 버전보다 오래된 스냅샷을 거부한다")
+    void evictLocal_applies_version_without_republishing() {
+        // given
+        cache.put(snapshot(1000, V1));
+
+        // when
+        cache.evictLocal("1@" + V2);
+        cache.put(snapshot(1000, V1));
+
+        // then
+        assertThat(cache.find(1L)).isEmpty();
+        verify(publisher, never()).publishEvict(any(), any());
+    }
+}
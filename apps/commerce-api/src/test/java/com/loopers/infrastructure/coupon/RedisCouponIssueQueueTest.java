@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponIssueDrain;
+import com.loopers.domain.coupon.CouponIssueRequest;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class RedisCouponIssueQueueTest {
+
+    private static final String PENDING_KEY = "coupon:issue:pending";
+    private static final String DEAD_LETTER_KEY = "coupon:issue:dead-letter";
+    private static final String DRAIN_LOCK_KEY = "coupon:issue:pending:drain-lock";
+
+    @Autowired
+    private RedisCouponIssueQueue couponIssueQueue;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    private CouponSnapshot coupon(Long id) {
+        return new CouponSnapshot(id, "선착순쿠폰", CouponType.FIXED, 1000, null,
+            LocalDateTime.of(2099, 12, 31, 23, 59), 100, Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @DisplayName("저장 중 락을 다른 노드에 빼앗기면, 처리한 건을 대기열에서 제거하지 않는다")
+    @Test
+    void completeDrain_should_not_trim_after_losing_lock() {
+        // given
+        couponIssueQueue.admit(coupon(1L), 10L);
+        couponIssueQueue.admit(coupon(1L), 11L);
+        CouponIssueDrain drained = couponIssueQueue.beginDrain(10);
+        masterRedisTemplate.opsForValue().set(DRAIN_LOCK_KEY, "other-node");
+
+        // when
+        boolean completed = couponIssueQueue.completeDrain(drained, List.of());
+
+        // then
+        assertAll(
+            () -> assertThat(completed).isFalse(),
+            () -> assertThat(masterRedisTemplate.opsForList().size(PENDING_KEY)).isEqualTo(2L),
+            () -> assertThat(masterRedisTemplate.opsForValue().get(DRAIN_LOCK_KEY)).isEqualTo("other-node")
+        );
+    }
+
+    @DisplayName("저장할 수 없는 건은 dead letter로 옮기고, 처리한 건을 대기열에서 제거한 뒤 락을 해제한다")
+    @Test
+    void completeDrain_should_move_dead_letters_and_trim() {
+        // given
+        couponIssueQueue.admit(coupon(1L), 10L);
+        couponIssueQueue.admit(coupon(2L), 10L);
+        couponIssueQueue.admit(coupon(1L), 11L);
+        CouponIssueDrain drained = couponIssueQueue.beginDrain(2);
+
+        // when
+        boolean completed = couponIssueQueue.completeDrain(drained, List.of(new CouponIssueRequest(2L, 10L)));
+
+        // then
+        assertAll(
+            () -> assertThat(completed).isTrue(),
+            () -> assertThat(masterRedisTemplate.opsForList().range(PENDING_KEY, 0, -1)).containsExactly("1:11"),
+            () -> assertThat(masterRedisTemplate.opsForList().range(DEAD_LETTER_KEY, 0, -1)).containsExactly("2:10"),
+            () -> assertThat(masterRedisTemplate.hasKey(DRAIN_LOCK_KEY)).isFalse()
+        );
+    }
+
+    @DisplayName("해석할 수 없는 항목은 건너뛰지 않고 구간에 포함했다가, 완료 시 dead letter로 옮긴다")
+    @Test
+    void malformed_entries_should_move_to_dead_letter() {
+        // given
+        couponIssueQueue.admit(coupon(1L), 10L);
+        masterRedisTemplate.opsForList().rightPush(PENDING_KEY, "broken");
+        couponIssueQueue.admit(coupon(1L), 11L);
+
+        // when
+        CouponIssueDrain drained = couponIssueQueue.beginDrain(10);
+        boolean completed = couponIssueQueue.completeDrain(drained, List.of());
+
+        // then
+        assertAll(
+            () -> assertThat(drained.requests()).containsExactly(new CouponIssueRequest(1L, 10L), new CouponIssueRequest(1L, 11L)),
+            () -> assertThat(drained.malformed()).containsExactly("broken"),
+            () -> assertThat(completed).isTrue(),
+            () -> assertThat(masterRedisTemplate.opsForList().size(PENDING_KEY)).isZero(),
+            () -> assertThat(masterRedisTemplate.opsForList().range(DEAD_LETTER_KEY, 0, -1)).containsExactly("broken")
+        );
+    }
+
+    @DisplayName("락을 잡은 뒤 대기열을 읽지 못하면 락을 반납한다")
+    @Test
+    void beginDrain_should_release_lock_on_failure() {
+        // given - 대기열 키가 List가 아니어서 LRANGE가 실패한다
+        masterRedisTemplate.opsForValue().set(PENDING_KEY, "not-a-list");
+
+        // when
+        Throwable thrown = catchThrowable(() -> couponIssueQueue.beginDrain(10));
+
+        // then
+        assertAll(
+            () -> assertThat(thrown).isNotNull(),
+            () -> assertThat(masterRedisTemplate.hasKey(DRAIN_LOCK_KEY)).isFalse()
+        );
+    }
+}
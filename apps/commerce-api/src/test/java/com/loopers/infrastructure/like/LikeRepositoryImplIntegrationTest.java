@@ -0,0 +1,86 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeModel;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikeUpsertResult;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 실제 MySQL에서 upsertActive의 결과 판정을 검증한다.
+ * 결과가 커넥션 설정(useAffectedRows 등)에 의존하지 않는지 확인하는 용도다.
+ */
+@SpringBootTest
+class LikeRepositoryImplIntegrationTest {
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("없으면 INSERTED, 이미 활성이면 UNCHANGED, 취소 후 다시 누르면 RESTORED를 반환한다")
+    @Test
+    void upsertActive_reports_each_transition() {
+        // when
+        LikeUpsertResult first = upsert(1L, 100L);
+        LikeUpsertResult second = upsert(1L, 100L);
+        cancel(1L, 100L);
+        LikeUpsertResult restored = upsert(1L, 100L);
+        LikeUpsertResult afterRestore = upsert(1L, 100L);
+
+        // then
+        assertAll(
+            () -> assertThat(first).isEqualTo(LikeUpsertResult.INSERTED),
+            () -> assertThat(second).isEqualTo(LikeUpsertResult.UNCHANGED),
+            () -> assertThat(restored).isEqualTo(LikeUpsertResult.RESTORED),
+            () -> assertThat(afterRestore).isEqualTo(LikeUpsertResult.UNCHANGED),
+            () -> assertThat(likeRepository.findByUserIdAndProductIdAndDeletedAtIsNull(1L, 100L)).isPresent()
+        );
+    }
+
+    @DisplayName("다른 사용자의 좋아요는 서로의 결과에 영향을 주지 않는다")
+    @Test
+    void upsertActive_is_scoped_to_user_and_product() {
+        // given
+        upsert(1L, 100L);
+
+        // when
+        LikeUpsertResult otherUser = upsert(2L, 100L);
+        LikeUpsertResult otherProduct = upsert(1L, 200L);
+
+        // then
+        assertAll(
+            () -> assertThat(otherUser).isEqualTo(LikeUpsertResult.INSERTED),
+            () -> assertThat(otherProduct).isEqualTo(LikeUpsertResult.INSERTED)
+        );
+    }
+
+    private LikeUpsertResult upsert(Long userId, Long productId) {
+        return new TransactionTemplate(transactionManager).execute(status -> likeRepository.upsertActive(userId, productId));
+    }
+
+    private void cancel(Long userId, Long productId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            LikeModel like = likeRepository.findByUserIdAndProductIdAndDeletedAtIsNull(userId, productId).orElseThrow();
+            like.delete();
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class RedisUserLikeSetTest {
+
+    private static final String KEY = "like:user:1";
+
+    @Autowired
+    private RedisUserLikeSet userLikeSet;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("DB 조회와 재생성 사이에 취소가 반영되면, 취소 이전 목록으로 집합을 만들지 않는다")
+    @Test
+    void rebuild_should_be_rejected_when_unlike_applied_after_read() {
+        // given - 조회 요청이 버전을 받고 DB에서 [10, 20]을 읽는 사이, 10번 취소가 커밋되어 반영된다
+        long version = userLikeSet.version(1L);
+        userLikeSet.remove(1L, 10L);
+
+        // when
+        boolean rebuilt = userLikeSet.rebuild(1L, List.of(10L, 20L), version);
+
+        // then
+        assertAll(
+            () -> assertThat(rebuilt).isFalse(),
+            () -> assertThat(userLikeSet.findLiked(1L, List.of(10L, 20L))).isEmpty(),
+            () -> assertThat(masterRedisTemplate.keys(KEY + ":build:*")).isEmpty()
+        );
+
+        // 다음 조회는 취소 이후 목록으로 만든다
+        assertThat(userLikeSet.rebuild(1L, List.of(20L), userLikeSet.version(1L))).isTrue();
+        assertThat(userLikeSet.findLiked(1L, List.of(10L, 20L))).contains(Set.of(20L));
+    }
+
+    @DisplayName("재생성 사이에 변경이 없으면 표식 없이 쌓인 반영분을 DB 목록으로 교체한다")
+    @Test
+    void rebuild_should_replace_partial_set() {
+        // given
+        userLikeSet.add(1L, 10L);
+        long version = userLikeSet.version(1L);
+
+        // when
+        boolean rebuilt = userLikeSet.rebuild(1L, List.of(10L, 30L), version);
+
+        // then
+        assertAll(
+            () -> assertThat(rebuilt).isTrue(),
+            () -> assertThat(userLikeSet.findLiked(1L, List.of(10L, 20L, 30L))).contains(Set.of(10L, 30L))
+        );
+    }
+
+    @DisplayName("만들어진 집합에 좋아요를 반영해도 TTL을 연장하지 않는다")
+    @Test
+    void add_should_not_extend_ttl_of_built_set() {
+        // given
+        userLikeSet.rebuild(1L, List.of(10L), userLikeSet.version(1L));
+        masterRedisTemplate.expire(KEY, Duration.ofMinutes(5));
+
+        // when
+        userLikeSet.add(1L, 20L);
+
+        // then
+        assertAll(
+            () -> assertThat(masterRedisTemplate.getExpire(KEY)).isLessThanOrEqualTo(Duration.ofMinutes(5).toSeconds()),
+            () -> assertThat(userLikeSet.findLiked(1L, List.of(20L))).contains(Set.of(20L))
+        );
+    }
+
+    @DisplayName("표식 없이 반영만 쌓인 키에는 TTL을 건다")
+    @Test
+    void add_should_set_ttl_on_partial_set() {
+        // when
+        userLikeSet.add(1L, 10L);
+
+        // then
+        assertThat(masterRedisTemplate.getExpire(KEY)).isPositive();
+    }
+}
@@ -0,0 +1,106 @@
+package com.loopers.infrastructure.member;
+
+import com.loopers.config.redis.CacheInvalidationPublisher;
+import com.loopers.domain.member.AuthenticatedMember;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class CaffeineMemberAuthCacheTest {
+
+    private static final AuthenticatedMember MEMBER =
+        new AuthenticatedMember(1L, "kwonmo", "양권모", LocalDate.of(1998, 9, 16), "kwonmo@example.com");
+
+    private CacheInvalidationPublisher publisher;
+    private CaffeineMemberAuthCache cache;
+
+    @BeforeEach
+    void setUp() {
+        publisher = mock(CacheInvalidationPublisher.class);
+        cache = new CaffeineMemberAuthCache(Duration.ofMinutes(1), 100, publisher);
+    }
+
+    @Test
+    @DisplayName("같은 자격 증명이면 저장한 스냅샷이 조회되고, 비밀번호가 다르면 조회되지 않는다")
+    void find_matches_only_same_credentials() {
+        // given
+        cache.put("kwonmo", "Test1234!", MEMBER, cache.generation());
+
+        // when & then
+        assertThat(cache.find("kwonmo", "Test1234!")).hasValue(MEMBER);
+        assertThat(cache.find("kwonmo", "WrongPass1!")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬에서 비우고 다른 노드에도 무효화를 발행한다")
+    void invalidate_publishes_to_other_nodes() {
+        // given
+        cache.put("kwonmo", "Test1234!", MEMBER, cache.generation());
+
+        // when
+        cache.invalidate("kwonmo");
+
+        // then
+        assertThat(cache.find("kwonmo", "Test1234!")).isEmpty();
+        verify(publisher).publishEvict(CaffeineMemberAuthCache.CACHE_NAME, "kwonmo");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 다시 발행하지 않고 로컬에서만 비운다")
+    void evictLocal_does_not_republish() {
+        // given
+        cache.put("kwonmo", "Test1234!", MEMBER, cache.generation());
+
+        // when
+        cache.evictLocal("kwonmo");
+
+        // then
+        assertThat(cache.find("kwonmo", "Test1234!")).isEmpty();
+        verify(publisher, never()).publishEvict(any(), any());
+    }
+
+    @Test
+    @DisplayName("무효화 전에 시작된 검증 결과는 무효화 이후에 저장하지 않는다")
+    void put_rejects_verification_started_before_invalidation() {
+        // given - 이전 비밀번호로 검증을 시작한 사이 비밀번호 변경이 커밋되어 무효화된다
+        long generation = cache.generation();
+        cache.invalidate("kwonmo");
+
+        // when
+        cache.put("kwonmo", "Test1234!", MEMBER, generation);
+
+        // then
+        assertThat(cache.find("kwonmo", "Test1234!")).isEmpty();
+
+        // 무효화 이후에 시작된 검증은 저장한다
+        cache.put("kwonmo", "NewPass1234!", MEMBER, cache.generation());
+        assertThat(cache.find("kwonmo", "NewPass1234!")).hasValue(MEMBER);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지와 전체 비우기도 그 이전에 시작된 검증 결과를 거부한다")
+    void put_rejects_verification_started_before_remote_invalidation() {
+        // given
+        long beforeEvict = cache.generation();
+        cache.evictLocal("kwonmo");
+        long beforeClear = cache.generation();
+        cache.clearLocal();
+
+        // when
+        cache.put("kwonmo", "Test1234!", MEMBER, beforeEvict);
+        cache.put("other", "Test1234!", MEMBER, beforeClear);
+
+        // then
+        assertThat(cache.find("kwonmo", "Test1234!")).isEmpty();
+        assertThat(cache.find("other", "Test1234!")).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderExportRow;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OrderExportReaderTest {
+
+    @Autowired
+    private OrderExportReader orderExportReader;
+
+    @Autowired
+    @Qualifier("mySqlExportDataSource")
+    private HikariDataSource exportDataSource;
+
+    @DisplayName("내보내기 전용 풀에서만 서버 커서를 켠다")
+    @Test
+    void cursorFetch_is_enabled_only_on_export_pool() {
+        assertThat(exportDataSource.getDataSourceProperties()).containsEntry("useCursorFetch", "true");
+    }
+
+    @DisplayName("동시에 열린 내보내기가 풀 크기에 도달하면 커넥션을 기다리지 않고 거절하고, 닫으면 다시 열 수 있다")
+    @Test
+    void rejects_when_all_export_slots_are_in_use() {
+        // given
+        ZonedDateTime endAt = ZonedDateTime.now();
+        ZonedDateTime startAt = endAt.minusDays(1);
+        List<Stream<OrderExportRow>> opened = new ArrayList<>();
+        for (int i = 0; i < exportDataSource.getMaximumPoolSize(); i++) {
+            opened.add(orderExportReader.stream(startAt, endAt));
+        }
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> orderExportReader.stream(startAt, endAt))
+                .isInstanceOfSatisfying(CoreException.class,
+                    e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.ORDER_EXPORT_BUSY));
+        } finally {
+            opened.forEach(Stream::close);
+        }
+
+        try (Stream<OrderExportRow> reopened = orderExportReader.stream(startAt, endAt)) {
+            assertThat(reopened).isEmpty();
+        }
+    }
+}
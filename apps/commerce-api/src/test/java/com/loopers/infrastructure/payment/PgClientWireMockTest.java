@@ -13,6 +13,8 @@ import com.loopers.domain.order.OrderStatus;
 import com.loopers.application.order.OrderService;
 import com.loopers.domain.payment.CardType;
 import com.loopers.domain.product.Money;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.http.Fault;
@@ -32,10 +34,12 @@ import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
 import org.springframework.test.context.TestPropertySource;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 @AutoConfigureWireMock(port = 0)
@@ -104,7 +108,7 @@ class PgClientWireMockTest {
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
 
             // when
-            PaymentInfo result = paymentFacade.requestPayment(1L, command);
+            PaymentInfo result = paymentFacade.requestPayment(1L, command).join();
 
             // then
             assertAll(
@@ -141,7 +145,7 @@ class PgClientWireMockTest {
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
 
             // when - 1. 결제 요청
-            PaymentInfo paymentInfo = paymentFacade.requestPayment(1L, command);
+            PaymentInfo paymentInfo = paymentFacade.requestPayment(1L, command).join();
             assertThat(paymentInfo.status()).isEqualTo("PENDING");
 
             // when - 2. PG 콜백 (SUCCESS)
@@ -170,7 +174,7 @@ class PgClientWireMockTest {
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
 
             // when - 1. 결제 요청
-            PaymentInfo paymentInfo = paymentFacade.requestPayment(1L, command);
+            PaymentInfo paymentInfo = paymentFacade.requestPayment(1L, command).join();
             assertThat(paymentInfo.status()).isEqualTo("PENDING");
 
             // when - 2. PG 콜백 (FAILED)
@@ -209,7 +213,7 @@ class PgClientWireMockTest {
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
 
             // when
-            PaymentInfo result = paymentFacade.requestPayment(1L, command);
+            PaymentInfo result = paymentFacade.requestPayment(1L, command).join();
 
             // then - Fallback 응답 검증
             assertThat(result.status()).isEqualTo("PG_FAILED");
@@ -254,7 +258,7 @@ class PgClientWireMockTest {
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
 
             // when
-            PaymentInfo result = paymentFacade.requestPayment(1L, command);
+            PaymentInfo result = paymentFacade.requestPayment(1L, command).join();
 
             // then
             assertThat(result.status()).isEqualTo("PG_FAILED");
@@ -284,7 +288,7 @@ class PgClientWireMockTest {
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
 
             // when
-            PaymentInfo result = paymentFacade.requestPayment(1L, command);
+            PaymentInfo result = paymentFacade.requestPayment(1L, command).join();
 
             // then
             assertThat(result.status()).isEqualTo("PG_FAILED");
@@ -310,7 +314,7 @@ class PgClientWireMockTest {
             PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
 
             // when
-            PaymentInfo result = paymentFacade.requestPayment(1L, command);
+            PaymentInfo result = paymentFacade.requestPayment(1L, command).join();
 
             // then
             assertThat(result.status()).isEqualTo("PG_FAILED");
@@ -321,4 +325,72 @@ class PgClientWireMockTest {
             assertThat(order.status()).isEqualTo(OrderStatus.PAYMENT_PENDING);
         }
     }
+
+    @DisplayName("PG 응답 지연")
+    @Nested
+    @Order(6)
+    class PgSlowResponse {
+
+        @DisplayName("PG 응답이 늦어도 호출 스레드를 붙잡지 않고 future로 즉시 반환한다")
+        @Test
+        void returnsBeforePgResponds() {
+            // given
+            OrderResult orderResult = createOrder();
+            Long orderId = orderResult.order().getId();
+
+            stubFor(post(urlEqualTo("/api/v1/payments"))
+                .willReturn(pgOkResponse(orderId, "20250816:TR:slow001").withFixedDelay(1000)));
+
+            PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
+
+            // when
+            CompletableFuture<PaymentInfo> future = paymentFacade.requestPayment(1L, command);
+
+            // then
+            assertThat(future).isNotDone();
+
+            PaymentInfo result = future.join();
+            assertAll(
+                () -> assertThat(result.status()).isEqualTo("PENDING"),
+                () -> assertThat(result.transactionKey()).isEqualTo("20250816:TR:slow001")
+            );
+        }
+    }
+
+    @DisplayName("PG 상태 조회 실패")
+    @Nested
+    @Order(7)
+    class PgStatusQueryError {
+
+        @DisplayName("상태 조회가 500으로 실패하면 pg 서킷에 실패로 기록되고, 결제를 바꾸지 않은 채 PG_REQUEST_FAILED로 전파된다")
+        @Test
+        void recordsFailureOnCircuitBreaker() {
+            // given
+            OrderResult orderResult = createOrder();
+            Long orderId = orderResult.order().getId();
+
+            stubFor(post(urlEqualTo("/api/v1/payments"))
+                .willReturn(pgOkResponse(orderId, "20250816:TR:sq001")));
+            stubFor(get(urlEqualTo("/api/v1/payments/20250816:TR:sq001"))
+                .willReturn(aResponse()
+                    .withStatus(500)
+                    .withHeader("Connection", "close")
+                    .withBody("Internal Server Error")));
+
+            PaymentCommand command = new PaymentCommand(orderId, CardType.SAMSUNG, "1234-5678-9814-1451");
+            Long paymentId = paymentFacade.requestPayment(1L, command).join().paymentId();
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("pg");
+            int failedBefore = circuitBreaker.getMetrics().getNumberOfFailedCalls();
+
+            // when
+            CoreException exception = assertThrows(CoreException.class, () -> paymentFacade.syncPaymentStatus(paymentId));
+
+            // then
+            assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.PG_REQUEST_FAILED),
+                () -> assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(failedBefore + 1),
+                () -> assertThat(paymentFacade.getPayment(paymentId).status()).isEqualTo("PENDING")
+            );
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드를 RedisLikeCountBuffer 인스턴스 두 개(서로 다른 nodeId)로 흉내 낸다.
+ */
+@SpringBootTest
+class RedisLikeCountBufferTest {
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private RedisLikeCountBuffer nodeA;
+    private RedisLikeCountBuffer nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new RedisLikeCountBuffer(masterRedisTemplate);
+        nodeB = new RedisLikeCountBuffer(masterRedisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("flush 중이면 스냅샷과 새로 누적된 delta를 합산해 조회한다")
+    @Test
+    void pendingDeltas_should_include_flushing_snapshot() {
+        // given
+        nodeA.add(1L, 2);
+        nodeA.beginFlush();
+        nodeA.add(1L, 3);
+        nodeA.add(2L, -1);
+
+        // when
+        Map<Long, Long> deltas = nodeA.getPendingDeltas(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(deltas).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5L, 2L, -1L));
+    }
+
+    @DisplayName("락을 잃은 노드는 다른 노드가 반영 중인 스냅샷을 삭제하지 않는다")
+    @Test
+    void completeFlush_without_lock_should_keep_snapshot() {
+        // given
+        nodeA.add(1L, 2);
+        nodeA.beginFlush();
+        masterRedisTemplate.delete("product:like:delta:flush-lock"); // A의 락 TTL 만료
+        Map<Long, Long> retried = nodeB.beginFlush();
+
+        // when
+        nodeA.completeFlush();
+
+        // then
+        assertThat(retried).isEqualTo(Map.of(1L, 2L));
+        assertThat(nodeB.getPendingDeltas(List.of(1L))).isEqualTo(Map.of(1L, 2L));
+
+        nodeB.completeFlush();
+        assertThat(nodeB.getPendingDeltas(List.of(1L))).isEmpty();
+    }
+
+    @DisplayName("다른 노드가 flush 중이면 스냅샷을 가져오지 않는다")
+    @Test
+    void beginFlush_should_return_empty_while_other_node_flushes() {
+        // given
+        nodeA.add(1L, 2);
+        nodeA.beginFlush();
+
+        // when
+        Map<Long, Long> deltas = nodeB.beginFlush();
+
+        // then
+        assertThat(deltas).isEmpty();
+    }
+}
@@ -0,0 +1,125 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class RedisLikeCountCacheTest {
+
+    @Autowired
+    private RedisLikeCountCache likeCountCache;
+
+    @Autowired
+    private RedisLikeCountReader likeCountReader;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    private Long committed(Long productId) {
+        return likeCountReader.read(productId).committed();
+    }
+
+    @DisplayName("이미 flush 반영이 누적된 값은 DB에서 읽어 둔 값으로 덮어쓰지 않는다")
+    @Test
+    void seed_should_not_overwrite_applied_deltas() {
+        // given
+        likeCountCache.seed(1L, 10, likeCountCache.version(1L));
+        likeCountCache.applyDeltas(Map.of(1L, 5L));
+
+        // when
+        likeCountCache.seed(1L, 10, likeCountCache.version(1L));
+
+        // then
+        assertThat(committed(1L)).isEqualTo(15L);
+    }
+
+    @DisplayName("초기화되지 않은 상품에는 delta를 반영하지 않는다")
+    @Test
+    void applyDeltas_should_skip_unseeded_products() {
+        // given
+        likeCountCache.seed(1L, 10, likeCountCache.version(1L));
+
+        // when
+        likeCountCache.applyDeltas(Map.of(1L, 1L, 2L, 3L));
+
+        // then
+        assertAll(
+            () -> assertThat(committed(1L)).isEqualTo(11L),
+            () -> assertThat(committed(2L)).isNull()
+        );
+    }
+
+    @DisplayName("초기화한 값에는 TTL이 걸리고, delta를 반영해도 유지된다")
+    @Test
+    void seeded_value_should_expire() {
+        // given
+        likeCountCache.seed(1L, 10, likeCountCache.version(1L));
+
+        // when
+        likeCountCache.applyDeltas(Map.of(1L, 1L));
+
+        // then
+        assertThat(masterRedisTemplate.getExpire("product:like:count:1")).isPositive();
+    }
+
+    @DisplayName("DB 조회와 초기화 사이에 flush가 커밋되면, flush 이전 값으로 초기화하지 않는다")
+    @Test
+    void seed_should_be_rejected_when_flush_committed_after_read() {
+        // given - 조회 요청이 버전을 받고 DB에서 10을 읽는 사이, flush가 +5를 커밋하고 캐시에 반영한다
+        long version = likeCountCache.version(1L);
+        likeCountCache.applyDeltas(Map.of(1L, 5L));
+
+        // when
+        boolean seeded = likeCountCache.seed(1L, 10, version);
+
+        // then
+        assertAll(
+            () -> assertThat(seeded).isFalse(),
+            () -> assertThat(committed(1L)).isNull()
+        );
+
+        // 다음 조회는 flush 이후의 값으로 초기화된다
+        assertThat(likeCountCache.seed(1L, 15, likeCountCache.version(1L))).isTrue();
+        assertThat(committed(1L)).isEqualTo(15L);
+    }
+
+    @DisplayName("flush 반영 실패로 값을 삭제하면, 삭제 이전에 읽은 값으로 다시 초기화하지 않는다")
+    @Test
+    void seed_should_be_rejected_when_removed_after_read() {
+        // given
+        likeCountCache.seed(1L, 10, likeCountCache.version(1L));
+        long version = likeCountCache.version(1L);
+        likeCountCache.remove(1L);
+
+        // when
+        boolean seeded = likeCountCache.seed(1L, 10, version);
+
+        // then
+        assertAll(
+            () -> assertThat(seeded).isFalse(),
+            () -> assertThat(committed(1L)).isNull(),
+            () -> assertThat(masterRedisTemplate.getExpire("product:like:count:1:version")).isPositive()
+        );
+    }
+}
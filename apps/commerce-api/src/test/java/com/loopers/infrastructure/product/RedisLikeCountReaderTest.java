@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.CurrentLikeCount;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisLikeCountReaderTest {
+
+    @Autowired
+    private RedisLikeCountReader likeCountReader;
+
+    @Autowired
+    private RedisLikeCountCache likeCountCache;
+
+    @Autowired
+    private RedisLikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("좋아요 수 캐시 값과 누적·flush 중 스냅샷의 delta를 함께 읽는다")
+    @Test
+    void read_should_combine_committed_and_pending() {
+        // given
+        likeCountCache.seed(1L, 10, likeCountCache.version(1L));
+        likeCountBuffer.add(1L, 2);
+        likeCountBuffer.beginFlush();
+        likeCountBuffer.add(1L, 1);
+
+        // when
+        CurrentLikeCount result = likeCountReader.read(1L);
+
+        // then
+        assertThat(result).isEqualTo(new CurrentLikeCount(10L, 3L));
+    }
+
+    @DisplayName("좋아요 수 캐시가 초기화되지 않았으면 DB 반영분은 비워 두고 delta만 읽는다")
+    @Test
+    void read_should_leave_committed_empty_when_unseeded() {
+        // given
+        likeCountBuffer.add(1L, -1);
+
+        // when
+        CurrentLikeCount result = likeCountReader.read(1L);
+
+        // then
+        assertThat(result).isEqualTo(new CurrentLikeCount(null, -1L));
+    }
+}
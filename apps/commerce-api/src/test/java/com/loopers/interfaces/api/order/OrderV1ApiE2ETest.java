@@ -6,6 +6,7 @@ import com.loopers.interfaces.api.brand.BrandAdminV1Dto;
 import com.loopers.interfaces.api.member.MemberV1Dto;
 import com.loopers.interfaces.api.product.ProductAdminV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,18 +29,23 @@ class OrderV1ApiE2ETest {
 
     private final TestRestTemplate testRestTemplate;
     private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
     private final MemberJpaRepository memberJpaRepository;
 
     @Autowired
     public OrderV1ApiE2ETest(TestRestTemplate testRestTemplate, DatabaseCleanUp databaseCleanUp,
-                             MemberJpaRepository memberJpaRepository) {
+                             RedisCleanUp redisCleanUp, MemberJpaRepository memberJpaRepository) {
         this.testRestTemplate = testRestTemplate;
         this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
         this.memberJpaRepository = memberJpaRepository;
     }
 
     @AfterEach
-    void tearDown() { databaseCleanUp.truncateAllTables(); }
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
 
     private HttpHeaders adminHeaders() {
         HttpHeaders h = new HttpHeaders();
@@ -150,6 +156,38 @@ class OrderV1ApiE2ETest {
                 new HttpEntity<>(null, authHeaders()), new ParameterizedTypeReference<ApiResponse<Object>>() {});
             assertTrue(response.getStatusCode().is2xxSuccessful());
         }
+
+        @DisplayName("커서로 주문 내역을 최신순 페이지 조회하고, 상품 수와 첫 상품명을 함께 반환한다") @Test
+        void returnsOrderHistoryByCursor() {
+            Long brandId = createBrand("나이키");
+            Long p1 = createProduct("에어맥스", 129000, brandId, 10);
+            Long p2 = createProduct("조던", 159000, brandId, 10);
+            signupMember();
+            Long first = placeOrder(List.of(new OrderV1Dto.OrderItemRequest(p1, 1))).getBody().data().orderId();
+            Long second = placeOrder(List.of(new OrderV1Dto.OrderItemRequest(p2, 1))).getBody().data().orderId();
+            Long third = placeOrder(List.of(
+                new OrderV1Dto.OrderItemRequest(p1, 1), new OrderV1Dto.OrderItemRequest(p2, 1))).getBody().data().orderId();
+
+            var firstPage = testRestTemplate.exchange("/api/v1/orders?cursor=&size=2", HttpMethod.GET,
+                new HttpEntity<>(null, authHeaders()),
+                new ParameterizedTypeReference<ApiResponse<OrderV1Dto.OrderHistoryCursorResponse>>() {}).getBody().data();
+            var secondPage = testRestTemplate.exchange("/api/v1/orders?cursor=" + firstPage.nextCursor() + "&size=2",
+                HttpMethod.GET, new HttpEntity<>(null, authHeaders()),
+                new ParameterizedTypeReference<ApiResponse<OrderV1Dto.OrderHistoryCursorResponse>>() {}).getBody().data();
+
+            assertAll(
+                () -> assertThat(firstPage.content()).extracting(OrderV1Dto.OrderHistoryResponse::orderId)
+                    .containsExactly(third, second),
+                () -> assertThat(firstPage.content().get(0).itemCount()).isEqualTo(2),
+                () -> assertThat(firstPage.content().get(0).firstItemName()).isEqualTo("에어맥스"),
+                () -> assertThat(firstPage.content().get(1).firstItemName()).isEqualTo("조던"),
+                () -> assertThat(firstPage.hasNext()).isTrue(),
+                () -> assertThat(secondPage.content()).extracting(OrderV1Dto.OrderHistoryResponse::orderId)
+                    .containsExactly(first),
+                () -> assertThat(secondPage.hasNext()).isFalse(),
+                () -> assertThat(secondPage.nextCursor()).isNull()
+            );
+        }
     }
 
     @DisplayName("GET /api/v1/orders/{orderId}") @Nested
@@ -201,4 +239,49 @@ class OrderV1ApiE2ETest {
             assertTrue(response.getStatusCode().is2xxSuccessful());
         }
     }
+
+    @DisplayName("GET /api-admin/v1/orders/export") @Nested
+    class AdminExportOrders {
+        private String export(String format) {
+            String startAt = LocalDate.now().minusDays(1).toString();
+            String endAt = LocalDate.now().plusDays(1).toString();
+            return testRestTemplate.exchange(
+                "/api-admin/v1/orders/export?startAt=" + startAt + "&endAt=" + endAt + "&format=" + format,
+                HttpMethod.GET, new HttpEntity<>(null, adminHeaders()), String.class).getBody();
+        }
+
+        @DisplayName("CSV는 헤더 다음에 주문 상품 한 건당 한 줄을 내려준다") @Test
+        void exportsCsvRowPerOrderItem() {
+            Long brandId = createBrand("나이키");
+            Long p1 = createProduct("에어맥스", 129000, brandId, 10);
+            Long p2 = createProduct("조던, 레트로", 159000, brandId, 10);
+            signupMember();
+            placeOrder(List.of(new OrderV1Dto.OrderItemRequest(p1, 1)));
+            placeOrder(List.of(new OrderV1Dto.OrderItemRequest(p1, 2), new OrderV1Dto.OrderItemRequest(p2, 1)));
+
+            List<String> lines = export("CSV").lines().toList();
+
+            assertAll(
+                () -> assertThat(lines).hasSize(4),
+                () -> assertThat(lines.get(0)).startsWith("order_id,user_id,status"),
+                () -> assertThat(lines.get(3)).contains(",\"조던, 레트로\",159000,1")
+            );
+        }
+
+        @DisplayName("NDJSON은 주문 한 건당 한 줄을 내려준다") @Test
+        void exportsNdjsonLinePerOrder() {
+            Long brandId = createBrand("나이키");
+            Long productId = createProduct("에어맥스", 129000, brandId, 10);
+            signupMember();
+            placeOrder(List.of(new OrderV1Dto.OrderItemRequest(productId, 1)));
+            placeOrder(List.of(new OrderV1Dto.OrderItemRequest(productId, 2)));
+
+            List<String> lines = export("NDJSON").lines().toList();
+
+            assertAll(
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(lines).allSatisfy(line -> assertThat(line).contains("\"productName\":\"에어맥스\""))
+            );
+        }
+    }
 }
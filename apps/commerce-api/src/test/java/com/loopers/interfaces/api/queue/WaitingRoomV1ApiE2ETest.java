@@ -0,0 +1,232 @@
+package com.loopers.interfaces.api.queue;
+
+import com.loopers.application.queue.WaitingRoomAdmitter;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.brand.BrandAdminV1Dto;
+import com.loopers.interfaces.api.member.MemberV1Dto;
+import com.loopers.interfaces.api.order.OrderV1Dto;
+import com.loopers.interfaces.api.product.ProductAdminV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 입장 주기를 길게 잡아 스케줄러가 돌지 않게 하고, 입장은 WaitingRoomAdmitter를 직접 호출해 진행한다.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "waiting-room.enabled=true",
+        "waiting-room.admit-interval-ms=3600000",
+        "waiting-room.admit-per-interval=10"
+    }
+)
+class WaitingRoomV1ApiE2ETest {
+
+    private final TestRestTemplate testRestTemplate;
+    private final WaitingRoomAdmitter waitingRoomAdmitter;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @Autowired
+    public WaitingRoomV1ApiE2ETest(TestRestTemplate testRestTemplate, WaitingRoomAdmitter waitingRoomAdmitter,
+                                   DatabaseCleanUp databaseCleanUp, RedisCleanUp redisCleanUp) {
+        this.testRestTemplate = testRestTemplate;
+        this.waitingRoomAdmitter = waitingRoomAdmitter;
+        this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private HttpHeaders adminHeaders() {
+        HttpHeaders h = new HttpHeaders();
+        h.set("X-Loopers-Ldap", "loopers.admin");
+        h.setContentType(MediaType.APPLICATION_JSON);
+        return h;
+    }
+
+    private Long createProduct() {
+        Long brandId = testRestTemplate.exchange("/api-admin/v1/brands", HttpMethod.POST,
+            new HttpEntity<>(new BrandAdminV1Dto.CreateRequest("나이키", "설명"), adminHeaders()),
+            new ParameterizedTypeReference<ApiResponse<BrandAdminV1Dto.BrandResponse>>() {}).getBody().data().id();
+        return testRestTemplate.exchange("/api-admin/v1/products", HttpMethod.POST,
+            new HttpEntity<>(new ProductAdminV1Dto.CreateRequest("에어맥스", "설명", 129000, brandId, 10), adminHeaders()),
+            new ParameterizedTypeReference<ApiResponse<ProductAdminV1Dto.ProductAdminDetailResponse>>() {}).getBody().data().id();
+    }
+
+    private void signupMember() {
+        var req = new MemberV1Dto.SignupRequest("testuser", "Test1234!", "테스트유저",
+            LocalDate.of(1998, 1, 1), "test@example.com");
+        testRestTemplate.exchange("/api/v1/users", HttpMethod.POST, new HttpEntity<>(req),
+            new ParameterizedTypeReference<ApiResponse<MemberV1Dto.MemberResponse>>() {});
+    }
+
+    private HttpHeaders authHeaders() {
+        HttpHeaders h = new HttpHeaders();
+        h.set("X-Loopers-LoginId", "testuser");
+        h.set("X-Loopers-LoginPw", "Test1234!");
+        h.setContentType(MediaType.APPLICATION_JSON);
+        return h;
+    }
+
+    private ResponseEntity<ApiResponse<WaitingRoomV1Dto.WaitingRoomResponse>> enter() {
+        return testRestTemplate.exchange("/api/v1/queue/enter", HttpMethod.POST,
+            new HttpEntity<>(null, authHeaders()), new ParameterizedTypeReference<>() {});
+    }
+
+    private ResponseEntity<ApiResponse<WaitingRoomV1Dto.WaitingRoomResponse>> position() {
+        return testRestTemplate.exchange("/api/v1/queue/position", HttpMethod.GET,
+            new HttpEntity<>(null, authHeaders()), new ParameterizedTypeReference<>() {});
+    }
+
+    private ResponseEntity<ApiResponse<Object>> placeOrder(Long productId, String admissionToken) {
+        HttpHeaders headers = authHeaders();
+        if (admissionToken != null) {
+            headers.set("X-Loopers-Admission-Token", admissionToken);
+        }
+        return testRestTemplate.exchange("/api/v1/orders", HttpMethod.POST,
+            new HttpEntity<>(new OrderV1Dto.CreateRequest(List.of(new OrderV1Dto.OrderItemRequest(productId, 1)), null), headers),
+            new ParameterizedTypeReference<>() {});
+    }
+
+    @DisplayName("GET /api/v1/queue/position") @Nested
+    class Position {
+        @DisplayName("대기 중이면 순번과 예상 대기 시간을 반환한다") @Test
+        void returnsPositionAndEta() {
+            signupMember();
+            enter();
+            var response = position();
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().status()).isEqualTo("WAITING"),
+                () -> assertThat(response.getBody().data().position()).isEqualTo(1L),
+                () -> assertThat(response.getBody().data().etaSeconds()).isEqualTo(3600L),
+                () -> assertThat(response.getBody().data().token()).isNull()
+            );
+        }
+
+        @DisplayName("입장하면 ADMITTED와 입장 토큰을 반환한다") @Test
+        void returnsTokenAfterAdmission() {
+            signupMember();
+            enter();
+            int admitted = waitingRoomAdmitter.admit();
+            var response = position();
+            assertAll(
+                () -> assertThat(admitted).isEqualTo(1),
+                () -> assertThat(response.getBody().data().status()).isEqualTo("ADMITTED"),
+                () -> assertThat(response.getBody().data().token()).isNotBlank()
+            );
+        }
+
+        @DisplayName("대기열에 진입하지 않았으면 404를 반환한다") @Test
+        void returns404WhenNotEntered() {
+            signupMember();
+            assertThat(position().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @DisplayName("POST /api/v1/orders (대기열 활성화)") @Nested
+    class PlaceOrder {
+        @DisplayName("입장 토큰이 없으면 403을 반환한다") @Test
+        void returns403WithoutToken() {
+            Long productId = createProduct();
+            signupMember();
+            assertThat(placeOrder(productId, null).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        }
+
+        @DisplayName("입장 토큰으로 주문하면 성공하고, 같은 토큰은 다시 쓸 수 없다") @Test
+        void tokenIsUsableOnce() {
+            Long productId = createProduct();
+            signupMember();
+            enter();
+            waitingRoomAdmitter.admit();
+            String token = position().getBody().data().token();
+
+            var first = placeOrder(productId, token);
+            var second = placeOrder(productId, token);
+
+            assertAll(
+                () -> assertTrue(first.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(second.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN)
+            );
+        }
+
+        @DisplayName("같은 토큰으로 동시에 주문하면 하나만 성공하고 나머지는 403을 반환한다") @Test
+        void tokenIsUsableOnceUnderConcurrency() throws InterruptedException {
+            Long productId = createProduct();
+            signupMember();
+            enter();
+            waitingRoomAdmitter.admit();
+            String token = position().getBody().data().token();
+
+            int threadCount = 5;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch ready = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threadCount);
+            List<HttpStatusCode> statuses = Collections.synchronizedList(new ArrayList<>());
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        ready.await();
+                        statuses.add(placeOrder(productId, token).getStatusCode());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.countDown();
+            done.await();
+            executor.shutdown();
+
+            assertAll(
+                () -> assertThat(statuses).hasSize(threadCount),
+                () -> assertThat(statuses).filteredOn(HttpStatusCode::is2xxSuccessful).hasSize(1),
+                () -> assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.FORBIDDEN)).hasSize(threadCount - 1)
+            );
+        }
+
+        @DisplayName("주문이 실패하면 토큰이 되돌려져 같은 토큰으로 다시 주문할 수 있다") @Test
+        void tokenIsRestoredWhenOrderFails() {
+            Long productId = createProduct();
+            signupMember();
+            enter();
+            waitingRoomAdmitter.admit();
+            String token = position().getBody().data().token();
+
+            var failed = placeOrder(productId + 1000, token);
+            var retried = placeOrder(productId, token);
+
+            assertAll(
+                () -> assertThat(failed.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND),
+                () -> assertTrue(retried.getStatusCode().is2xxSuccessful())
+            );
+        }
+    }
+}
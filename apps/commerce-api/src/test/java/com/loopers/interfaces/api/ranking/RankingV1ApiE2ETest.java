@@ -0,0 +1,178 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.brand.BrandAdminV1Dto;
+import com.loopers.interfaces.api.product.ProductAdminV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RankingV1ApiE2ETest {
+
+    private static final String ENDPOINT = "/api/v1/rankings";
+    private static final String ADMIN_ENDPOINT = "/api-admin/v1/products";
+    private static final String BRAND_ADMIN_ENDPOINT = "/api-admin/v1/brands";
+    private static final String DAILY_KEY = "ranking:all:20260101";
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private HttpHeaders adminHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Loopers-Ldap", "loopers.admin");
+        return headers;
+    }
+
+    private Long createBrand(String name) {
+        BrandAdminV1Dto.CreateRequest request = new BrandAdminV1Dto.CreateRequest(name, "설명");
+        ResponseEntity<ApiResponse<BrandAdminV1Dto.BrandResponse>> response = testRestTemplate.exchange(
+            BRAND_ADMIN_ENDPOINT, HttpMethod.POST, new HttpEntity<>(request, adminHeaders()),
+            new ParameterizedTypeReference<>() {}
+        );
+        return response.getBody().data().id();
+    }
+
+    private Long createProduct(String name, Long brandId) {
+        ProductAdminV1Dto.CreateRequest request = new ProductAdminV1Dto.CreateRequest(name, "설명", 10000, brandId, 10);
+        ResponseEntity<ApiResponse<ProductAdminV1Dto.ProductAdminDetailResponse>> response = testRestTemplate.exchange(
+            ADMIN_ENDPOINT, HttpMethod.POST, new HttpEntity<>(request, adminHeaders()),
+            new ParameterizedTypeReference<>() {}
+        );
+        return response.getBody().data().id();
+    }
+
+    private void deleteProduct(Long productId) {
+        testRestTemplate.exchange(
+            ADMIN_ENDPOINT + "/" + productId, HttpMethod.DELETE, new HttpEntity<>(null, adminHeaders()),
+            new ParameterizedTypeReference<ApiResponse<Object>>() {}
+        );
+    }
+
+    private ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> getRankings(String query) {
+        return testRestTemplate.exchange(
+            ENDPOINT + query, HttpMethod.GET, null, new ParameterizedTypeReference<>() {}
+        );
+    }
+
+    @DisplayName("GET /api/v1/rankings")
+    @Nested
+    class GetRankings {
+
+        @DisplayName("점수 내림차순으로 순위와 상품 정보를 함께 반환한다")
+        @Test
+        void returnsRankedProductsWithDetails() {
+            // given
+            Long brandId = createBrand("나이키");
+            Long first = createProduct("에어맥스 90", brandId);
+            Long second = createProduct("에어포스 1", brandId);
+            Long third = createProduct("코르테즈", brandId);
+            masterRedisTemplate.opsForZSet().add(DAILY_KEY, String.valueOf(second), 5.0);
+            masterRedisTemplate.opsForZSet().add(DAILY_KEY, String.valueOf(first), 9.0);
+            masterRedisTemplate.opsForZSet().add(DAILY_KEY, String.valueOf(third), 1.0);
+
+            // when
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> response =
+                getRankings("?period=DAILY&date=20260101&page=0&size=2");
+
+            // then
+            List<RankingV1Dto.RankingItemResponse> content = response.getBody().data().content();
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(content).extracting(RankingV1Dto.RankingItemResponse::productId)
+                    .containsExactly(first, second),
+                () -> assertThat(content).extracting(RankingV1Dto.RankingItemResponse::rank)
+                    .containsExactly(1L, 2L),
+                () -> assertThat(content.get(0).name()).isEqualTo("에어맥스 90"),
+                () -> assertThat(content.get(0).brandName()).isEqualTo("나이키"),
+                () -> assertThat(response.getBody().data().totalElements()).isEqualTo(3)
+            );
+        }
+
+        @DisplayName("삭제된 상품은 제외하고, 나머지 상품의 순위는 유지한다")
+        @Test
+        void skipsDeletedProductsKeepingRanks() {
+            // given
+            Long brandId = createBrand("나이키");
+            Long deleted = createProduct("에어맥스 90", brandId);
+            Long remaining = createProduct("에어포스 1", brandId);
+            masterRedisTemplate.opsForZSet().add(DAILY_KEY, String.valueOf(deleted), 9.0);
+            masterRedisTemplate.opsForZSet().add(DAILY_KEY, String.valueOf(remaining), 5.0);
+            deleteProduct(deleted);
+
+            // when
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> response =
+                getRankings("?period=DAILY&date=20260101");
+
+            // then
+            List<RankingV1Dto.RankingItemResponse> content = response.getBody().data().content();
+            assertAll(
+                () -> assertThat(content).hasSize(1),
+                () -> assertThat(content.get(0).productId()).isEqualTo(remaining),
+                () -> assertThat(content.get(0).rank()).isEqualTo(2L)
+            );
+        }
+
+        @DisplayName("랭킹이 없는 시간 창을 조회하면 빈 목록을 반환한다")
+        @Test
+        void returnsEmptyWhenNoRanking() {
+            // when
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> response =
+                getRankings("?period=HOURLY&date=2026010113");
+
+            // then
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getBody().data().content()).isEmpty(),
+                () -> assertThat(response.getBody().data().totalElements()).isZero()
+            );
+        }
+
+        @DisplayName("기준 시각 형식이 잘못되면 400을 반환한다")
+        @Test
+        void returns400WhenDateIsInvalid() {
+            // when
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingPageResponse>> response =
+                getRankings("?period=DAILY&date=2026-01-01");
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
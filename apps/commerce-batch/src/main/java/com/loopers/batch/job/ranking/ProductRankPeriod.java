@@ -0,0 +1,34 @@
+package com.loopers.batch.job.ranking;
+
+import java.time.LocalDate;
+
+/**
+ * 구체화할 랭킹 기간. 기준일(requestDate)을 포함해 days일을 거슬러 올라간 구간을 집계한다.
+ */
+public enum ProductRankPeriod {
+    WEEKLY(7, "mv_product_rank_weekly"),
+    MONTHLY(30, "mv_product_rank_monthly");
+
+    private final int days;
+    private final String tableName;
+
+    ProductRankPeriod(int days, String tableName) {
+        this.days = days;
+        this.tableName = tableName;
+    }
+
+    public static ProductRankPeriod from(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("period is null");
+        }
+        return ProductRankPeriod.valueOf(value.toUpperCase());
+    }
+
+    public LocalDate startDate(LocalDate baseDate) {
+        return baseDate.minusDays(days - 1L);
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+}
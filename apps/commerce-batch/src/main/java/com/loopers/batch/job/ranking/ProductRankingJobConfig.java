@@ -0,0 +1,297 @@
+package com.loopers.batch.job.ranking;
+
+import com.loopers.batch.job.ranking.step.ProductIdRangePartitioner;
+import com.loopers.batch.job.ranking.step.ProductMetricsSum;
+import com.loopers.batch.job.ranking.step.ProductRankCleanupTasklet;
+import com.loopers.batch.job.ranking.step.ProductRankPrepareTasklet;
+import com.loopers.batch.job.ranking.step.ProductRankScore;
+import com.loopers.batch.job.ranking.step.ProductRankScoreProcessor;
+import com.loopers.batch.job.ranking.step.RankedProductScore;
+import com.loopers.batch.listener.ChunkListener;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 주간/월간 상품 랭킹 구체화 배치.
+ *
+ * 1. prepare     : 같은 기준일의 기존 결과와 중간 결과를 비운다. (재실행 멱등)
+ * 2. score       : product_id 범위로 파티셔닝해 워커 스레드가 병렬로 product_metrics_daily 구간 합계를 페이징 조회하고,
+ *                  점수를 계산해 product_rank_staging에 JDBC batch insert 한다. 메모리에는 청크 하나만 올라간다.
+ * 3. materialize : staging을 점수 내림차순으로 Top-N만 읽어 순위를 붙이고 mv_product_rank_{weekly|monthly}에 batch insert 한다.
+ * 4. cleanup     : 중간 결과를 지운다.
+ *
+ * jobParameters: requestDate(LocalDate, 기준일), period(WEEKLY|MONTHLY)
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = ProductRankingJobConfig.JOB_NAME)
+@Configuration
+public class ProductRankingJobConfig {
+    public static final String JOB_NAME = "productRankingJob";
+    private static final String STEP_PREPARE_NAME = "productRankPrepare";
+    private static final String STEP_SCORE_NAME = "productRankScore";
+    private static final String STEP_SCORE_WORKER_NAME = "productRankScoreWorker";
+    private static final String STEP_MATERIALIZE_NAME = "productRankMaterialize";
+    private static final String STEP_CLEANUP_NAME = "productRankCleanup";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final ChunkListener chunkListener;
+    private final ProductRankPrepareTasklet prepareTasklet;
+    private final ProductRankCleanupTasklet cleanupTasklet;
+    private final int chunkSize;
+    private final int gridSize;
+    private final int topN;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double orderWeight;
+
+    public ProductRankingJobConfig(
+        JobRepository jobRepository,
+        PlatformTransactionManager transactionManager,
+        DataSource dataSource,
+        JdbcTemplate jdbcTemplate,
+        JobListener jobListener,
+        StepMonitorListener stepMonitorListener,
+        ChunkListener chunkListener,
+        ProductRankPrepareTasklet prepareTasklet,
+        ProductRankCleanupTasklet cleanupTasklet,
+        @Value("${ranking.materialize.chunk-size:1000}") int chunkSize,
+        @Value("${ranking.materialize.grid-size:4}") int gridSize,
+        @Value("${ranking.materialize.top-n:100}") int topN,
+        @Value("${ranking.weight.view:0.1}") double viewWeight,
+        @Value("${ranking.weight.like:0.2}") double likeWeight,
+        @Value("${ranking.weight.order:0.7}") double orderWeight
+    ) {
+        this.jobRepository = jobRepository;
+        this.transactionManager = transactionManager;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobListener = jobListener;
+        this.stepMonitorListener = stepMonitorListener;
+        this.chunkListener = chunkListener;
+        this.prepareTasklet = prepareTasklet;
+        this.cleanupTasklet = cleanupTasklet;
+        this.chunkSize = chunkSize;
+        this.gridSize = gridSize;
+        this.topN = topN;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.orderWeight = orderWeight;
+    }
+
+    @Bean(JOB_NAME)
+    public Job productRankingJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(productRankPrepareStep())
+                .next(productRankScoreStep())
+                .next(productRankMaterializeStep())
+                .next(productRankCleanupStep())
+                .listener(jobListener)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_PREPARE_NAME)
+    public Step productRankPrepareStep() {
+        return new StepBuilder(STEP_PREPARE_NAME, jobRepository)
+                .tasklet(prepareTasklet, transactionManager)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_SCORE_NAME)
+    public Step productRankScoreStep() {
+        return new StepBuilder(STEP_SCORE_NAME, jobRepository)
+                .partitioner(STEP_SCORE_WORKER_NAME, productIdRangePartitioner(null, null))
+                .step(productRankScoreWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(new VirtualThreadTaskExecutor("product-rank-"))
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    @Bean(STEP_SCORE_WORKER_NAME)
+    public Step productRankScoreWorkerStep() {
+        return new StepBuilder(STEP_SCORE_WORKER_NAME, jobRepository)
+                .<ProductMetricsSum, ProductRankScore>chunk(chunkSize, transactionManager)
+                .reader(productMetricsSumReader(null, null, null, null))
+                .processor(new ProductRankScoreProcessor(viewWeight, likeWeight, orderWeight))
+                .writer(productRankStagingWriter(null, null))
+                .listener(stepMonitorListener)
+                .listener(chunkListener)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_MATERIALIZE_NAME)
+    public Step productRankMaterializeStep() {
+        return new StepBuilder(STEP_MATERIALIZE_NAME, jobRepository)
+                .<RankedProductScore, RankedProductScore>chunk(chunkSize, transactionManager)
+                .reader(rankedProductScoreReader(null, null))
+                .writer(materializedRankWriter(null, null))
+                .listener(stepMonitorListener)
+                .listener(chunkListener)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_CLEANUP_NAME)
+    public Step productRankCleanupStep() {
+        return new StepBuilder(STEP_CLEANUP_NAME, jobRepository)
+                .tasklet(cleanupTasklet, transactionManager)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    @StepScope
+    @Bean
+    public ProductIdRangePartitioner productIdRangePartitioner(
+        @Value("#{jobParameters['requestDate']}") LocalDate requestDate,
+        @Value("#{jobParameters['period']}") String period
+    ) {
+        ProductRankPeriod rankPeriod = ProductRankPeriod.from(period);
+        return new ProductIdRangePartitioner(jdbcTemplate, rankPeriod.startDate(requestDate), requestDate);
+    }
+
+    /**
+     * 파티션 범위 안에서 상품별 구간 합계를 product_id 순 keyset 페이징으로 읽는다.
+     */
+    @StepScope
+    @Bean
+    public JdbcPagingItemReader<ProductMetricsSum> productMetricsSumReader(
+        @Value("#{jobParameters['requestDate']}") LocalDate requestDate,
+        @Value("#{jobParameters['period']}") String period,
+        @Value("#{stepExecutionContext['" + ProductIdRangePartitioner.MIN_ID + "']}") Long minId,
+        @Value("#{stepExecutionContext['" + ProductIdRangePartitioner.MAX_ID + "']}") Long maxId
+    ) {
+        ProductRankPeriod rankPeriod = ProductRankPeriod.from(period);
+        return new JdbcPagingItemReaderBuilder<ProductMetricsSum>()
+                .name("productMetricsSumReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT product_id, SUM(view_count) AS view_count, SUM(like_count) AS like_count, "
+                    + "SUM(sales_quantity) AS sales_quantity")
+                .fromClause("FROM product_metrics_daily")
+                .whereClause("WHERE metric_date BETWEEN :startDate AND :endDate AND product_id BETWEEN :minId AND :maxId")
+                .groupClause("GROUP BY product_id")
+                .sortKeys(Map.of("product_id", Order.ASCENDING))
+                .parameterValues(Map.of(
+                    "startDate", rankPeriod.startDate(requestDate),
+                    "endDate", requestDate,
+                    "minId", minId,
+                    "maxId", maxId
+                ))
+                .pageSize(chunkSize)
+                .fetchSize(chunkSize)
+                .rowMapper((rs, rowNum) -> new ProductMetricsSum(
+                    rs.getLong("product_id"),
+                    rs.getLong("view_count"),
+                    rs.getLong("like_count"),
+                    rs.getLong("sales_quantity")
+                ))
+                .build();
+    }
+
+    @StepScope
+    @Bean
+    public JdbcBatchItemWriter<ProductRankScore> productRankStagingWriter(
+        @Value("#{jobParameters['requestDate']}") LocalDate requestDate,
+        @Value("#{jobParameters['period']}") String period
+    ) {
+        String periodName = ProductRankPeriod.from(period).name();
+        return new JdbcBatchItemWriterBuilder<ProductRankScore>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO product_rank_staging (period, base_date, product_id, score) "
+                    + "VALUES (:period, :baseDate, :productId, :score)")
+                .itemSqlParameterSourceProvider(item -> new MapSqlParameterSource()
+                    .addValue("period", periodName)
+                    .addValue("baseDate", requestDate)
+                    .addValue("productId", item.productId())
+                    .addValue("score", item.score()))
+                .build();
+    }
+
+    /**
+     * 안쪽 쿼리가 ORDER BY ... LIMIT 으로 Top-N만 남기므로(filesort 우선순위 큐) 전체 상품을 정렬해 내려받지 않는다.
+     */
+    @StepScope
+    @Bean
+    public JdbcCursorItemReader<RankedProductScore> rankedProductScoreReader(
+        @Value("#{jobParameters['requestDate']}") LocalDate requestDate,
+        @Value("#{jobParameters['period']}") String period
+    ) {
+        return new JdbcCursorItemReaderBuilder<RankedProductScore>()
+                .name("rankedProductScoreReader")
+                .dataSource(dataSource)
+                .sql("""
+                    SELECT product_id, score, ROW_NUMBER() OVER (ORDER BY score DESC, product_id ASC) AS ranking
+                    FROM (
+                        SELECT product_id, score
+                        FROM product_rank_staging
+                        WHERE period = ? AND base_date = ?
+                        ORDER BY score DESC, product_id ASC
+                        LIMIT ?
+                    ) top_n
+                    ORDER BY ranking""")
+                .queryArguments(ProductRankPeriod.from(period).name(), requestDate, topN)
+                .rowMapper((rs, rowNum) -> new RankedProductScore(
+                    rs.getInt("ranking"),
+                    rs.getLong("product_id"),
+                    rs.getDouble("score")
+                ))
+                .build();
+    }
+
+    @StepScope
+    @Bean
+    public JdbcBatchItemWriter<RankedProductScore> materializedRankWriter(
+        @Value("#{jobParameters['requestDate']}") LocalDate requestDate,
+        @Value("#{jobParameters['period']}") String period
+    ) {
+        String tableName = ProductRankPeriod.from(period).tableName();
+        return new JdbcBatchItemWriterBuilder<RankedProductScore>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO " + tableName + " (base_date, ranking, product_id, score, created_at) "
+                    + "VALUES (:baseDate, :ranking, :productId, :score, :createdAt)")
+                .itemSqlParameterSourceProvider(item -> new MapSqlParameterSource()
+                    .addValue("baseDate", requestDate)
+                    .addValue("ranking", item.ranking())
+                    .addValue("productId", item.productId())
+                    .addValue("score", item.score())
+                    .addValue("createdAt", Timestamp.from(Instant.now())))
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.loopers.batch.job.ranking.step;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 집계 구간에 지표가 있는 product_id 범위를 gridSize개의 연속 구간으로 나눈다.
+ * 각 파티션은 [minId, maxId] 범위만 읽으므로 워커 스레드끼리 겹치지 않는다.
+ */
+public class ProductIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public ProductIdRangePartitioner(JdbcTemplate jdbcTemplate, LocalDate startDate, LocalDate endDate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+            "SELECT MIN(product_id) AS min_id, MAX(product_id) AS max_id "
+                + "FROM product_metrics_daily WHERE metric_date BETWEEN ? AND ?",
+            startDate, endDate
+        );
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (range.get("min_id") == null) {
+            partitions.put("partition0", context(1L, 0L));
+            return partitions;
+        }
+
+        long min = ((Number) range.get("min_id")).longValue();
+        long max = ((Number) range.get("max_id")).longValue();
+        long span = (max - min) / gridSize + 1;
+        int index = 0;
+        for (long from = min; from <= max; from += span) {
+            partitions.put("partition" + index++, context(from, Math.min(from + span - 1, max)));
+        }
+        return partitions;
+    }
+
+    private ExecutionContext context(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
@@ -0,0 +1,6 @@
+package com.loopers.batch.job.ranking.step;
+
+/**
+ * 기간 내 상품별 일자 지표 합계.
+ */
+public record ProductMetricsSum(Long productId, long viewCount, long likeCount, long salesQuantity) {}
@@ -0,0 +1,40 @@
+package com.loopers.batch.job.ranking.step;
+
+import com.loopers.batch.job.ranking.ProductRankPeriod;
+import com.loopers.batch.job.ranking.ProductRankingJobConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@StepScope
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = ProductRankingJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Component
+public class ProductRankCleanupTasklet implements Tasklet {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("#{jobParameters['requestDate']}")
+    private LocalDate requestDate;
+
+    @Value("#{jobParameters['period']}")
+    private String period;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        jdbcTemplate.update(
+            "DELETE FROM product_rank_staging WHERE period = ? AND base_date = ?",
+            ProductRankPeriod.from(period).name(), requestDate
+        );
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,3 @@
+package com.loopers.batch.job.ranking.step;
+
+public record ProductRankScore(Long productId, double score) {}
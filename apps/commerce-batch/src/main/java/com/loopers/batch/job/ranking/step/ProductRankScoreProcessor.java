@@ -0,0 +1,28 @@
+package com.loopers.batch.job.ranking.step;
+
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 기간 합계에 가중치를 적용해 점수를 낸다. 가중치는 commerce-streamer의 실시간 랭킹과 같은 값을 쓴다.
+ * 점수가 0 이하인 상품은 랭킹 대상이 아니므로 걸러낸다.
+ */
+public class ProductRankScoreProcessor implements ItemProcessor<ProductMetricsSum, ProductRankScore> {
+
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double orderWeight;
+
+    public ProductRankScoreProcessor(double viewWeight, double likeWeight, double orderWeight) {
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.orderWeight = orderWeight;
+    }
+
+    @Override
+    public ProductRankScore process(ProductMetricsSum item) {
+        double score = viewWeight * item.viewCount()
+            + likeWeight * item.likeCount()
+            + orderWeight * item.salesQuantity();
+        return score > 0 ? new ProductRankScore(item.productId(), score) : null;
+    }
+}
@@ -0,0 +1,3 @@
+package com.loopers.batch.job.ranking.step;
+
+public record RankedProductScore(int ranking, Long productId, double score) {}
@@ -0,0 +1,46 @@
+package com.loopers.domain.ranking;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 기간별 랭킹 구체화(materialized) 테이블의 공통 컬럼.
+ * 행은 productRankingJob이 JDBC batch insert로만 적재하며, 같은 base_date로 재실행하면 지우고 다시 적재한다.
+ */
+@MappedSuperclass
+public abstract class MaterializedProductRank {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "base_date", nullable = false)
+    private LocalDate baseDate;
+
+    @Column(name = "ranking", nullable = false)
+    private int ranking;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "created_at", nullable = false)
+    private ZonedDateTime createdAt;
+
+    protected MaterializedProductRank() {}
+
+    public Long id() { return id; }
+    public LocalDate baseDate() { return baseDate; }
+    public int ranking() { return ranking; }
+    public Long productId() { return productId; }
+    public double score() { return score; }
+    public ZonedDateTime createdAt() { return createdAt; }
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.ranking;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 기준일 포함 최근 30일 랭킹 Top-N.
+ */
+@Entity
+@Table(name = "mv_product_rank_monthly", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_mv_product_rank_monthly_date_ranking", columnNames = {"base_date", "ranking"})
+})
+public class ProductRankMonthlyModel extends MaterializedProductRank {
+
+    protected ProductRankMonthlyModel() {}
+}
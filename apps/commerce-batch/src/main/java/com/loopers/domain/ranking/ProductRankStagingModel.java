@@ -0,0 +1,46 @@
+package com.loopers.domain.ranking;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDate;
+
+/**
+ * 랭킹 산출 중간 결과. 파티션별 워커가 상품 점수를 적재하고, Top-N 구체화가 끝나면 비운다.
+ * 전체 상품 점수를 메모리에 올리지 않고 정렬/절단을 DB에 맡기기 위한 테이블이다.
+ */
+@Entity
+@Table(name = "product_rank_staging", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_product_rank_staging", columnNames = {"period", "base_date", "product_id"})
+})
+public class ProductRankStagingModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "period", nullable = false, length = 16)
+    private String period;
+
+    @Column(name = "base_date", nullable = false)
+    private LocalDate baseDate;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    protected ProductRankStagingModel() {}
+
+    public Long id() { return id; }
+    public String period() { return period; }
+    public LocalDate baseDate() { return baseDate; }
+    public Long productId() { return productId; }
+    public double score() { return score; }
+}
@@ -0,0 +1,154 @@
+package com.loopers.job.ranking;
+
+import com.loopers.batch.job.ranking.ProductRankingJobConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = {
+    "spring.batch.job.name=" + ProductRankingJobConfig.JOB_NAME,
+    "ranking.materialize.grid-size=2",
+    "ranking.materialize.chunk-size=2",
+    "ranking.materialize.top-n=3"
+})
+class ProductRankingJobE2ETest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 31);
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(ProductRankingJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        // product_metrics_daily는 commerce-streamer 소유 테이블이라 배치 엔티티 스캔 대상이 아니다.
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS product_metrics_daily (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                metric_date DATE NOT NULL,
+                product_id BIGINT NOT NULL,
+                like_count BIGINT NOT NULL,
+                view_count BIGINT NOT NULL,
+                order_count BIGINT NOT NULL,
+                sales_quantity BIGINT NOT NULL,
+                sales_amount BIGINT NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                deleted_at DATETIME(6) NULL,
+                UNIQUE KEY uk_product_metrics_daily_date_product (metric_date, product_id)
+            )""");
+        jobLauncherTestUtils.setJob(job);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE TABLE product_metrics_daily");
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private void insertDaily(LocalDate date, long productId, long views, long likes, long salesQuantity) {
+        jdbcTemplate.update("""
+            INSERT INTO product_metrics_daily
+                (metric_date, product_id, like_count, view_count, order_count, sales_quantity, sales_amount, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 0, ?, 0, NOW(), NOW())""",
+            date, productId, likes, views, salesQuantity
+        );
+    }
+
+    @DisplayName("최근 7일 지표를 합산해 점수 내림차순 Top-N을 주간 랭킹 테이블에 적재한다.")
+    @Test
+    void materializesWeeklyTopN() throws Exception {
+        // arrange
+        insertDaily(BASE_DATE, 1L, 10, 0, 0);             // 1.0
+        insertDaily(BASE_DATE.minusDays(3), 2L, 0, 0, 5); // 3.5
+        insertDaily(BASE_DATE, 2L, 0, 5, 0);              // +1.0 → 4.5
+        insertDaily(BASE_DATE.minusDays(6), 3L, 0, 10, 0); // 2.0
+        insertDaily(BASE_DATE, 4L, 5, 0, 0);              // 0.5 (Top-3 밖)
+        insertDaily(BASE_DATE.minusDays(7), 5L, 0, 0, 100); // 구간 밖
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+            .addLocalDate("requestDate", BASE_DATE)
+            .addString("period", "WEEKLY")
+            .toJobParameters());
+
+        // assert
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT ranking, product_id FROM mv_product_rank_weekly WHERE base_date = ? ORDER BY ranking", BASE_DATE
+        );
+        Integer stagingCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_rank_staging", Integer.class);
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(rows).extracting(row -> ((Number) row.get("product_id")).longValue())
+                .containsExactly(2L, 3L, 1L),
+            () -> assertThat(rows).extracting(row -> ((Number) row.get("ranking")).intValue())
+                .containsExactly(1, 2, 3),
+            () -> assertThat(stagingCount).isZero()
+        );
+    }
+
+    @DisplayName("같은 기준일로 다시 실행하면 기존 결과를 대체한다.")
+    @Test
+    void rerunReplacesPreviousResult() throws Exception {
+        // arrange
+        insertDaily(BASE_DATE, 1L, 10, 0, 0);
+        var parameters = new JobParametersBuilder()
+            .addLocalDate("requestDate", BASE_DATE)
+            .addString("period", "MONTHLY");
+        jobLauncherTestUtils.launchJob(parameters.addLong("run", 1L).toJobParameters());
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(parameters.addLong("run", 2L).toJobParameters());
+
+        // assert
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM mv_product_rank_monthly WHERE base_date = ?", Integer.class, BASE_DATE
+        );
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(count).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("jobParameter 중 requestDate 인자가 주어지지 않았을 때, 배치는 실패한다.")
+    @Test
+    void failsWithoutRequestDate() throws Exception {
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+            .addString("period", "WEEKLY")
+            .toJobParameters());
+
+        // assert
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.FAILED.getExitCode());
+    }
+}
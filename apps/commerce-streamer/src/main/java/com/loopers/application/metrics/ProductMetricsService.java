@@ -0,0 +1,80 @@
+package com.loopers.application.metrics;
+
+import com.loopers.domain.event.EventEnvelope;
+import com.loopers.domain.event.EventHandledModel;
+import com.loopers.domain.event.EventHandledRepository;
+import com.loopers.domain.metrics.ProductMetricsAggregator;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+@Service
+public class ProductMetricsService {
+
+    private final ProductMetricsRepository productMetricsRepository;
+    private final EventHandledRepository eventHandledRepository;
+
+    /**
+     * 한 배치를 하나의 트랜잭션으로 반영한다.
+     * 1. 배치 내 중복 eventId 제거
+     * 2. event_handled에 이미 기록된 이벤트 제외
+     * 3. 상품별 변화량 합산 → product_metrics, product_metrics_daily(발생일 기준) 각각 multi-row upsert
+     * 4. 처리한 eventId를 event_handled에 multi-row insert
+     *
+     * 예외가 나면 전체가 롤백되고, 컨슈머는 ack하지 않으므로 배치가 다시 전달된다.
+     *
+     * @return 이번에 새로 반영한 이벤트 (중복 제외)
+     */
+    @Transactional
+    public List<EventEnvelope> apply(List<EventEnvelope> events) {
+        Map<String, EventEnvelope> unique = new LinkedHashMap<>();
+        for (EventEnvelope event : events) {
+            unique.putIfAbsent(event.eventId(), event);
+        }
+        if (unique.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> handledIds = eventHandledRepository.findHandledIds(unique.keySet());
+        ProductMetricsAggregator aggregator = new ProductMetricsAggregator();
+        Map<LocalDate, ProductMetricsAggregator> dailyAggregators = new TreeMap<>();
+        List<EventEnvelope> applied = new ArrayList<>();
+        List<EventHandledModel> newlyHandled = new ArrayList<>();
+        ZonedDateTime now = ZonedDateTime.now();
+        for (EventEnvelope event : unique.values()) {
+            if (handledIds.contains(event.eventId())) {
+                continue;
+            }
+            aggregator.add(event);
+            ZonedDateTime occurredAt = event.occurredAt() != null ? event.occurredAt() : now;
+            dailyAggregators.computeIfAbsent(
+                occurredAt.withZoneSameInstant(ZoneId.systemDefault()).toLocalDate(),
+                date -> new ProductMetricsAggregator()
+            ).add(event);
+            applied.add(event);
+            newlyHandled.add(new EventHandledModel(event.eventId(), event.eventType(), now));
+        }
+
+        Map<LocalDate, Collection<ProductMetricsDelta>> dailyDeltas = new TreeMap<>();
+        dailyAggregators.forEach((date, daily) -> dailyDeltas.put(date, daily.deltas()));
+
+        productMetricsRepository.upsertAll(aggregator.deltas());
+        productMetricsRepository.upsertDaily(dailyDeltas);
+        eventHandledRepository.saveAll(newlyHandled);
+        return applied;
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.ranking.RankingPeriod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 시간 창이 끝나기 10분 전에 다음 창으로 점수를 이월한다.
+ * 여러 노드가 동시에 실행해도 이월은 대상 키당 한 번만 일어난다. (RankingScoreStore.carryOver 참고)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RankingCarryOverScheduler {
+
+    private final RankingService rankingService;
+
+    @Scheduled(cron = "${ranking.carry-over.daily-cron:0 50 23 * * *}")
+    public void carryOverDaily() {
+        carryOver(RankingPeriod.DAILY);
+    }
+
+    @Scheduled(cron = "${ranking.carry-over.hourly-cron:0 50 * * * *}")
+    public void carryOverHourly() {
+        carryOver(RankingPeriod.HOURLY);
+    }
+
+    private void carryOver(RankingPeriod period) {
+        try {
+            rankingService.carryOver(period, ZonedDateTime.now());
+        } catch (Exception e) {
+            log.warn("랭킹 carry-over 실패: period={}", period, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.event.EventEnvelope;
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.domain.ranking.RankingScoreAggregator;
+import com.loopers.domain.ranking.RankingScoreStore;
+import com.loopers.domain.ranking.RankingWeights;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Service
+public class RankingService {
+
+    private final RankingScoreStore rankingScoreStore;
+    private final RankingScoreAggregator aggregator;
+    private final double carryOverWeight;
+
+    public RankingService(
+        RankingScoreStore rankingScoreStore,
+        @Value("${ranking.weight.view:0.1}") double viewWeight,
+        @Value("${ranking.weight.like:0.2}") double likeWeight,
+        @Value("${ranking.weight.order:0.7}") double orderWeight,
+        @Value("${ranking.carry-over.weight:0.1}") double carryOverWeight
+    ) {
+        this.rankingScoreStore = rankingScoreStore;
+        this.aggregator = new RankingScoreAggregator(new RankingWeights(viewWeight, likeWeight, orderWeight));
+        this.carryOverWeight = carryOverWeight;
+    }
+
+    /**
+     * 새로 반영된 이벤트의 점수를 일간/시간별 ZSET에 누적한다.
+     */
+    public void accumulate(List<EventEnvelope> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        for (RankingPeriod period : RankingPeriod.values()) {
+            rankingScoreStore.incrementAll(aggregator.aggregate(period, events, now), period.ttl());
+        }
+    }
+
+    /**
+     * 현재 시간 창의 점수를 감쇠시켜 다음 시간 창에 미리 깔아 둔다.
+     *
+     * @return 이 호출에서 이월했으면 true, 다른 노드가 이미 이월했으면 false
+     */
+    public boolean carryOver(RankingPeriod period, ZonedDateTime now) {
+        return rankingScoreStore.carryOver(period.key(now), period.nextKey(now), carryOverWeight, period.ttl());
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.ZonedDateTime;
+
+/**
+ * commerce-api outbox가 발행하는 메시지 본문.
+ * eventId는 멱등 처리 키, eventType은 payload 구조를 판별하는 값이다.
+ */
+public record EventEnvelope(
+    String eventId,
+    String eventType,
+    String aggregateId,
+    ZonedDateTime occurredAt,
+    JsonNode payload
+) {}
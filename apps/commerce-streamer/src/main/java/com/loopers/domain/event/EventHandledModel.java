@@ -0,0 +1,39 @@
+package com.loopers.domain.event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 처리 완료한 이벤트 기록. 같은 eventId가 다시 수신되면(재전송, 리밸런싱) 집계에서 제외한다.
+ * 집계 반영과 같은 트랜잭션에 기록되므로, 기록이 있다는 것은 반영이 커밋되었다는 뜻이다.
+ */
+@Entity
+@Table(name = "event_handled")
+public class EventHandledModel {
+
+    @Id
+    @Column(name = "event_id", length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "handled_at", nullable = false)
+    private ZonedDateTime handledAt;
+
+    protected EventHandledModel() {}
+
+    public EventHandledModel(String eventId, String eventType, ZonedDateTime handledAt) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.handledAt = handledAt;
+    }
+
+    public String eventId() { return eventId; }
+    public String eventType() { return eventType; }
+    public ZonedDateTime handledAt() { return handledAt; }
+}
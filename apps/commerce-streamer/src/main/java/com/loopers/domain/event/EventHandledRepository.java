@@ -0,0 +1,15 @@
+package com.loopers.domain.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface EventHandledRepository {
+
+    Set<String> findHandledIds(Collection<String> eventIds);
+
+    /**
+     * 한 번의 multi-row INSERT로 기록한다. 다른 컨슈머가 먼저 기록한 eventId가 있으면 키 중복으로 실패해 트랜잭션 전체가 롤백된다.
+     */
+    void saveAll(List<EventHandledModel> events);
+}
@@ -0,0 +1,54 @@
+package com.loopers.domain.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.loopers.domain.event.EventEnvelope;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 배치의 이벤트를 상품별 변화량으로 합산한다.
+ * 결과는 productId 오름차순이므로, upsert가 항상 같은 순서로 행 락을 잡는다(컨슈머 간 데드락 방지).
+ */
+public class ProductMetricsAggregator {
+
+    public static final String PRODUCT_LIKED = "PRODUCT_LIKED";
+    public static final String PRODUCT_UNLIKED = "PRODUCT_UNLIKED";
+    public static final String PRODUCT_VIEWED = "PRODUCT_VIEWED";
+    public static final String ORDER_PLACED = "ORDER_PLACED";
+
+    private final Map<Long, ProductMetricsDelta> deltas = new TreeMap<>();
+
+    /**
+     * @return 집계 대상 이벤트면 true. 지표와 무관한 이벤트는 무시한다.
+     */
+    public boolean add(EventEnvelope event) {
+        JsonNode payload = event.payload();
+        switch (event.eventType()) {
+            case PRODUCT_LIKED -> merge(ProductMetricsDelta.like(payload.path("productId").asLong(), 1));
+            case PRODUCT_UNLIKED -> merge(ProductMetricsDelta.like(payload.path("productId").asLong(), -1));
+            case PRODUCT_VIEWED -> merge(ProductMetricsDelta.view(payload.path("productId").asLong()));
+            case ORDER_PLACED -> {
+                for (JsonNode item : payload.path("items")) {
+                    long quantity = item.path("quantity").asLong();
+                    merge(ProductMetricsDelta.order(
+                        item.path("productId").asLong(), quantity, quantity * item.path("price").asLong()
+                    ));
+                }
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Collection<ProductMetricsDelta> deltas() {
+        return deltas.values();
+    }
+
+    private void merge(ProductMetricsDelta delta) {
+        deltas.merge(delta.productId(), delta, ProductMetricsDelta::plus);
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopers.domain.metrics;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별 일자 지표. 이벤트 발생일 기준으로 누적되며, 주간/월간 랭킹 배치(commerce-batch)의 입력이다.
+ */
+@Entity
+@Table(name = "product_metrics_daily", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_product_metrics_daily_date_product", columnNames = {"metric_date", "product_id"})
+})
+public class ProductMetricsDailyModel extends BaseEntity {
+
+    @Column(name = "metric_date", nullable = false)
+    private LocalDate metricDate;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "sales_quantity", nullable = false)
+    private long salesQuantity;
+
+    @Column(name = "sales_amount", nullable = false)
+    private long salesAmount;
+
+    protected ProductMetricsDailyModel() {}
+
+    public LocalDate metricDate() { return metricDate; }
+    public Long productId() { return productId; }
+    public long likeCount() { return likeCount; }
+    public long viewCount() { return viewCount; }
+    public long orderCount() { return orderCount; }
+    public long salesQuantity() { return salesQuantity; }
+    public long salesAmount() { return salesAmount; }
+}
@@ -0,0 +1,36 @@
+package com.loopers.domain.metrics;
+
+/**
+ * 한 배치에서 상품 하나에 대해 누적된 지표 변화량.
+ */
+public record ProductMetricsDelta(
+    Long productId,
+    long likeDelta,
+    long viewDelta,
+    long orderDelta,
+    long salesQuantity,
+    long salesAmount
+) {
+    public ProductMetricsDelta plus(ProductMetricsDelta other) {
+        return new ProductMetricsDelta(
+            productId,
+            likeDelta + other.likeDelta,
+            viewDelta + other.viewDelta,
+            orderDelta + other.orderDelta,
+            salesQuantity + other.salesQuantity,
+            salesAmount + other.salesAmount
+        );
+    }
+
+    public static ProductMetricsDelta like(Long productId, long delta) {
+        return new ProductMetricsDelta(productId, delta, 0, 0, 0, 0);
+    }
+
+    public static ProductMetricsDelta view(Long productId) {
+        return new ProductMetricsDelta(productId, 0, 1, 0, 0, 0);
+    }
+
+    public static ProductMetricsDelta order(Long productId, long quantity, long amount) {
+        return new ProductMetricsDelta(productId, 0, 0, 1, quantity, amount);
+    }
+}
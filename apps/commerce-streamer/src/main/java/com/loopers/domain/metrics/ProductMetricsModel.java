@@ -0,0 +1,41 @@
+package com.loopers.domain.metrics;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * 상품별 누적 지표. 배치 단위 upsert로만 갱신된다.
+ */
+@Entity
+@Table(name = "product_metrics")
+public class ProductMetricsModel extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false, unique = true)
+    private Long productId;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "sales_quantity", nullable = false)
+    private long salesQuantity;
+
+    @Column(name = "sales_amount", nullable = false)
+    private long salesAmount;
+
+    protected ProductMetricsModel() {}
+
+    public Long productId() { return productId; }
+    public long likeCount() { return likeCount; }
+    public long viewCount() { return viewCount; }
+    public long orderCount() { return orderCount; }
+    public long salesQuantity() { return salesQuantity; }
+    public long salesAmount() { return salesAmount; }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.metrics;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProductMetricsRepository {
+
+    /**
+     * 변화량을 한 번의 multi-row upsert(INSERT ... ON DUPLICATE KEY UPDATE)로 누적한다.
+     */
+    void upsertAll(Collection<ProductMetricsDelta> deltas);
+
+    /**
+     * 일자별 변화량을 product_metrics_daily에 한 번의 multi-row upsert로 누적한다.
+     */
+    void upsertDaily(Map<LocalDate, Collection<ProductMetricsDelta>> deltasByDate);
+}
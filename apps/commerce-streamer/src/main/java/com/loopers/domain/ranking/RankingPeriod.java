@@ -0,0 +1,39 @@
+package com.loopers.domain.ranking;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 랭킹 ZSET의 시간 창.
+ * 키 형식은 commerce-api의 RankingPeriod와 동일해야 한다. (ranking:all:20260101, ranking:hourly:2026010113)
+ */
+public enum RankingPeriod {
+    DAILY("ranking:all:", DateTimeFormatter.ofPattern("yyyyMMdd"), Duration.ofDays(2)),
+    HOURLY("ranking:hourly:", DateTimeFormatter.ofPattern("yyyyMMddHH"), Duration.ofHours(25));
+
+    private final String keyPrefix;
+    private final DateTimeFormatter formatter;
+    private final Duration ttl;
+
+    RankingPeriod(String keyPrefix, DateTimeFormatter formatter, Duration ttl) {
+        this.keyPrefix = keyPrefix;
+        this.formatter = formatter;
+        this.ttl = ttl;
+    }
+
+    public String key(ZonedDateTime at) {
+        return keyPrefix + formatter.format(at);
+    }
+
+    /**
+     * 다음 시간 창의 키. carry-over 대상이다.
+     */
+    public String nextKey(ZonedDateTime at) {
+        return key(this == DAILY ? at.plusDays(1) : at.plusHours(1));
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.domain.event.EventEnvelope;
+import com.loopers.domain.metrics.ProductMetricsAggregator;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트를 발생 시각의 시간 창(키)별로 나누고, 키마다 상품별 가중 점수를 합산한다.
+ * 지연 도착한 이벤트도 발생 시각의 창에 반영된다.
+ */
+public class RankingScoreAggregator {
+
+    private final RankingWeights weights;
+
+    public RankingScoreAggregator(RankingWeights weights) {
+        this.weights = weights;
+    }
+
+    public Map<String, Map<Long, Double>> aggregate(RankingPeriod period, List<EventEnvelope> events, ZonedDateTime now) {
+        Map<String, ProductMetricsAggregator> byKey = new LinkedHashMap<>();
+        for (EventEnvelope event : events) {
+            ZonedDateTime occurredAt = event.occurredAt() != null
+                ? event.occurredAt().withZoneSameInstant(ZoneId.systemDefault())
+                : now;
+            byKey.computeIfAbsent(period.key(occurredAt), k -> new ProductMetricsAggregator()).add(event);
+        }
+
+        Map<String, Map<Long, Double>> scoresByKey = new LinkedHashMap<>();
+        byKey.forEach((key, aggregator) -> {
+            Map<Long, Double> scores = new HashMap<>();
+            for (ProductMetricsDelta delta : aggregator.deltas()) {
+                double score = weights.score(delta);
+                if (score != 0) {
+                    scores.put(delta.productId(), score);
+                }
+            }
+            if (!scores.isEmpty()) {
+                scoresByKey.put(key, scores);
+            }
+        });
+        return scoresByKey;
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopers.domain.ranking;
+
+import java.time.Duration;
+import java.util.Map;
+
+public interface RankingScoreStore {
+
+    /**
+     * 키별 상품 점수를 한 번의 파이프라인으로 누적(ZINCRBY)하고 TTL을 갱신한다.
+     */
+    void incrementAll(Map<String, Map<Long, Double>> scoresByKey, Duration ttl);
+
+    /**
+     * from 키의 점수에 weight를 곱해 to 키에 더한다. (ZUNIONSTORE to 2 to from WEIGHTS 1 weight)
+     * 다음 시간 창이 비어 있는 상태로 시작하는 콜드 스타트를 막는다.
+     * 대상 키당 한 번만 수행되며, 이미 수행된 경우 false를 반환한다.
+     * 합산이 실패하면 수행 기록도 남지 않으므로 다시 호출해 이월할 수 있다.
+     */
+    boolean carryOver(String fromKey, String toKey, double weight, Duration ttl);
+}
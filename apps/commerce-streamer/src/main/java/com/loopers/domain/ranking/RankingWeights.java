@@ -0,0 +1,15 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.domain.metrics.ProductMetricsDelta;
+
+/**
+ * 지표별 랭킹 가중치. 주문은 수량 단위로 가중한다.
+ */
+public record RankingWeights(double view, double like, double order) {
+
+    public double score(ProductMetricsDelta delta) {
+        return view * delta.viewDelta()
+            + like * delta.likeDelta()
+            + order * delta.salesQuantity();
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.event.EventHandledModel;
+import com.loopers.domain.event.EventHandledRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Component
+public class EventHandledJdbcRepository implements EventHandledRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Set<String> findHandledIds(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> handled = namedParameterJdbcTemplate.queryForList(
+            "SELECT event_id FROM event_handled WHERE event_id IN (:ids)",
+            new MapSqlParameterSource("ids", eventIds),
+            String.class
+        );
+        return new HashSet<>(handled);
+    }
+
+    @Override
+    public void saveAll(List<EventHandledModel> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(events.size() * 3);
+        for (EventHandledModel event : events) {
+            args.add(event.eventId());
+            args.add(event.eventType());
+            args.add(Timestamp.from(event.handledAt().toInstant()));
+        }
+        String sql = "INSERT INTO event_handled (event_id, event_type, handled_at) VALUES "
+            + String.join(", ", Collections.nCopies(events.size(), "(?, ?, ?)"));
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,97 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * product_metrics / product_metrics_daily 배치 upsert.
+ * 행 단위 save는 상품 수만큼 SELECT + UPDATE가 나가므로, 배치 전체를 하나의 INSERT ... ON DUPLICATE KEY UPDATE로 보낸다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductMetricsJdbcRepository implements ProductMetricsRepository {
+
+    private static final String TOTAL_INSERT_PREFIX = """
+        INSERT INTO product_metrics
+            (product_id, like_count, view_count, order_count, sales_quantity, sales_amount, created_at, updated_at)
+        VALUES\s""";
+
+    private static final String DAILY_INSERT_PREFIX = """
+        INSERT INTO product_metrics_daily
+            (metric_date, product_id, like_count, view_count, order_count, sales_quantity, sales_amount, created_at, updated_at)
+        VALUES\s""";
+
+    // MySQL 8.0.19+ 행 별칭 문법. new.* 는 이번 배치의 변화량이다.
+    private static final String UPSERT_SUFFIX = """
+         AS new
+        ON DUPLICATE KEY UPDATE
+            like_count = %1$s.like_count + new.like_count,
+            view_count = %1$s.view_count + new.view_count,
+            order_count = %1$s.order_count + new.order_count,
+            sales_quantity = %1$s.sales_quantity + new.sales_quantity,
+            sales_amount = %1$s.sales_amount + new.sales_amount,
+            updated_at = new.updated_at""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(Collection<ProductMetricsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object> args = new ArrayList<>(deltas.size() * 8);
+        for (ProductMetricsDelta delta : deltas) {
+            args.add(delta.productId());
+            addMetrics(args, delta, now);
+        }
+        String sql = TOTAL_INSERT_PREFIX
+            + String.join(", ", Collections.nCopies(deltas.size(), "(?, ?, ?, ?, ?, ?, ?, ?)"))
+            + UPSERT_SUFFIX.formatted("product_metrics");
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    @Override
+    public void upsertDaily(Map<LocalDate, Collection<ProductMetricsDelta>> deltasByDate) {
+        int rows = deltasByDate.values().stream().mapToInt(Collection::size).sum();
+        if (rows == 0) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object> args = new ArrayList<>(rows * 9);
+        deltasByDate.forEach((date, deltas) -> {
+            for (ProductMetricsDelta delta : deltas) {
+                args.add(Date.valueOf(date));
+                args.add(delta.productId());
+                addMetrics(args, delta, now);
+            }
+        });
+        String sql = DAILY_INSERT_PREFIX
+            + String.join(", ", Collections.nCopies(rows, "(?, ?, ?, ?, ?, ?, ?, ?, ?)"))
+            + UPSERT_SUFFIX.formatted("product_metrics_daily");
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private void addMetrics(List<Object> args, ProductMetricsDelta delta, Timestamp now) {
+        args.add(delta.likeDelta());
+        args.add(delta.viewDelta());
+        args.add(delta.orderDelta());
+        args.add(delta.salesQuantity());
+        args.add(delta.salesAmount());
+        args.add(now);
+        args.add(now);
+    }
+}
@@ -0,0 +1,69 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.ranking.RankingScoreStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class RedisRankingScoreStore implements RankingScoreStore {
+
+    private static final String CARRY_OVER_MARKER_PREFIX = "ranking:carry-over:";
+
+    // KEYS = [from, to, marker], ARGV = [weight, ttl(ms)]
+    // 합산과 마커 기록을 한 스크립트로 수행해, 합산이 실패하면 마커도 남지 않아 다시 이월할 수 있다.
+    private static final RedisScript<Long> CARRY_OVER_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[3]) == 1 then
+          return 0
+        end
+        redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[1], 'WEIGHTS', 1, ARGV[1])
+        redis.call('PEXPIRE', KEYS[2], ARGV[2])
+        redis.call('SET', KEYS[3], KEYS[1], 'PX', ARGV[2])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public RedisRankingScoreStore(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public void incrementAll(Map<String, Map<Long, Double>> scoresByKey, Duration ttl) {
+        if (scoresByKey.isEmpty()) {
+            return;
+        }
+        masterRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            scoresByKey.forEach((key, scores) -> {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                scores.forEach((productId, score) ->
+                    connection.zSetCommands().zIncrBy(rawKey, score, String.valueOf(productId).getBytes(StandardCharsets.UTF_8))
+                );
+                connection.keyCommands().expire(rawKey, ttl.toSeconds());
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public boolean carryOver(String fromKey, String toKey, double weight, Duration ttl) {
+        Long carried = masterRedisTemplate.execute(
+            CARRY_OVER_SCRIPT,
+            List.of(fromKey, toKey, CARRY_OVER_MARKER_PREFIX + toKey),
+            String.valueOf(weight),
+            String.valueOf(ttl.toMillis())
+        );
+        return carried != null && carried == 1L;
+    }
+}
@@ -0,0 +1,84 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.metrics.ProductMetricsService;
+import com.loopers.application.ranking.RankingService;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.event.EventEnvelope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카탈로그/주문 이벤트를 배치로 받아 product_metrics와 랭킹 ZSET에 반영한다.
+ * ack는 ProductMetricsService 트랜잭션이 커밋된 뒤에만 호출한다.
+ * 반영 중 예외가 나면 ack 없이 전파되어 같은 배치가 재전달되고, event_handled가 중복 반영을 막는다.
+ * 랭킹 점수는 새로 반영된 이벤트에 대해서만 누적하며, Redis 실패는 재전달 대상이 아니다.
+ * (재전달돼도 event_handled에 의해 건너뛰어지므로 재시도 효과가 없다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductMetricsConsumer {
+
+    private final ProductMetricsService productMetricsService;
+    private final RankingService rankingService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        topics = {"${kafka-topics.catalog-events}", "${kafka-topics.order-events}"},
+        groupId = "${product-metrics.consumer.group-id}",
+        containerFactory = KafkaConfig.BATCH_LISTENER,
+        autoStartup = "${product-metrics.consumer.auto-startup:true}"
+    )
+    public void consume(
+        List<ConsumerRecord<Object, Object>> messages,
+        Acknowledgment acknowledgment
+    ) {
+        List<EventEnvelope> events = new ArrayList<>(messages.size());
+        for (ConsumerRecord<Object, Object> message : messages) {
+            EventEnvelope event = parse(message);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        List<EventEnvelope> applied = productMetricsService.apply(events);
+        try {
+            rankingService.accumulate(applied);
+        } catch (Exception e) {
+            log.warn("랭킹 점수 누적 실패: applied={}", applied.size(), e);
+        }
+        acknowledgment.acknowledge();
+        log.debug("상품 지표 반영: received={}, applied={}", messages.size(), applied.size());
+    }
+
+    /**
+     * 역직렬화할 수 없는 메시지는 재시도해도 성공하지 않으므로 로그만 남기고 건너뛴다.
+     */
+    private EventEnvelope parse(ConsumerRecord<Object, Object> message) {
+        try {
+            EventEnvelope event = switch (message.value()) {
+                case byte[] bytes -> objectMapper.readValue(bytes, EventEnvelope.class);
+                case String json -> objectMapper.readValue(json.getBytes(StandardCharsets.UTF_8), EventEnvelope.class);
+                case null, default -> null;
+            };
+            if (event == null || event.eventId() == null || event.eventType() == null || event.payload() == null) {
+                log.warn("지표 이벤트 형식 오류 — 건너뜀: topic={}, offset={}", message.topic(), message.offset());
+                return null;
+            }
+            return event;
+        } catch (IOException e) {
+            log.warn("지표 이벤트 역직렬화 실패 — 건너뜀: topic={}, offset={}", message.topic(), message.offset(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.ranking.RankingPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class RankingCarryOverSchedulerTest {
+
+    @InjectMocks
+    private RankingCarryOverScheduler rankingCarryOverScheduler;
+
+    @Mock
+    private RankingService rankingService;
+
+    @DisplayName("일간 스케줄은 일간 시간 창을 이월한다")
+    @Test
+    void carriesOverDailyWindow() {
+        // act
+        rankingCarryOverScheduler.carryOverDaily();
+
+        // assert
+        then(rankingService).should().carryOver(eq(RankingPeriod.DAILY), any());
+    }
+
+    @DisplayName("시간별 스케줄은 시간별 시간 창을 이월한다")
+    @Test
+    void carriesOverHourlyWindow() {
+        // act
+        rankingCarryOverScheduler.carryOverHourly();
+
+        // assert
+        then(rankingService).should().carryOver(eq(RankingPeriod.HOURLY), any());
+    }
+
+    @DisplayName("이월이 실패해도 예외를 전파하지 않는다")
+    @Test
+    void swallowsFailure() {
+        // arrange
+        given(rankingService.carryOver(eq(RankingPeriod.HOURLY), any())).willThrow(new IllegalStateException("redis down"));
+
+        // act & assert
+        assertThatCode(() -> rankingCarryOverScheduler.carryOverHourly()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.application.ranking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.event.EventEnvelope;
+import com.loopers.domain.metrics.ProductMetricsAggregator;
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.domain.ranking.RankingScoreStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class RankingServiceTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2026, 10, 18, 13, 50, 0, 0, ZoneId.systemDefault());
+
+    @Mock
+    private RankingScoreStore rankingScoreStore;
+
+    private RankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = new RankingService(rankingScoreStore, 0.1, 0.2, 0.7, 0.1);
+    }
+
+    @DisplayName("점수 누적")
+    @Nested
+    class Accumulate {
+
+        @DisplayName("일간/시간별 키에 각 기간의 TTL로 점수를 누적한다")
+        @Test
+        void incrementsEveryPeriod() {
+            // arrange
+            EventEnvelope viewed = new EventEnvelope("e1", ProductMetricsAggregator.PRODUCT_VIEWED, "1", NOW,
+                new ObjectMapper().createObjectNode().put("productId", 1L));
+
+            // act
+            rankingService.accumulate(List.of(viewed));
+
+            // assert
+            then(rankingScoreStore).should().incrementAll(
+                argThat(scores -> scores.containsKey(RankingPeriod.DAILY.key(NOW))), eq(RankingPeriod.DAILY.ttl()));
+            then(rankingScoreStore).should().incrementAll(
+                argThat(scores -> scores.containsKey(RankingPeriod.HOURLY.key(NOW))), eq(RankingPeriod.HOURLY.ttl()));
+        }
+
+        @DisplayName("새로 반영된 이벤트가 없으면 Redis를 호출하지 않는다")
+        @Test
+        void skipsWhenEmpty() {
+            // act
+            rankingService.accumulate(List.of());
+
+            // assert
+            then(rankingScoreStore).should(never()).incrementAll(anyMap(), any());
+        }
+    }
+
+    @DisplayName("점수 이월")
+    @Nested
+    class CarryOver {
+
+        @DisplayName("현재 시간 창의 점수를 다음 시간 창으로 이월 가중치와 함께 넘긴다")
+        @Test
+        void carriesCurrentWindowToNext() {
+            // arrange
+            given(rankingScoreStore.carryOver(
+                "ranking:hourly:2026101813", "ranking:hourly:2026101814", 0.1, RankingPeriod.HOURLY.ttl()
+            )).willReturn(true);
+
+            // act
+            boolean result = rankingService.carryOver(RankingPeriod.HOURLY, NOW);
+
+            // assert
+            assertThat(result).isTrue();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.loopers.domain.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.loopers.domain.event.EventEnvelope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductMetricsAggregatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EventEnvelope event(String eventType, ObjectNode payload) {
+        return new EventEnvelope("e", eventType, "1", ZonedDateTime.now(), payload);
+    }
+
+    private EventEnvelope productEvent(String eventType, long productId) {
+        return event(eventType, objectMapper.createObjectNode().put("productId", productId));
+    }
+
+    private EventEnvelope orderPlaced(long productId, int quantity, long price) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.putArray("items").addObject()
+            .put("productId", productId)
+            .put("quantity", quantity)
+            .put("price", price);
+        return event(ProductMetricsAggregator.ORDER_PLACED, payload);
+    }
+
+    @Test
+    @DisplayName("같은 상품의 이벤트는 하나의 변화량으로 합산된다")
+    void mergesEventsPerProduct() {
+        // given
+        ProductMetricsAggregator aggregator = new ProductMetricsAggregator();
+
+        // when
+        aggregator.add(productEvent(ProductMetricsAggregator.PRODUCT_LIKED, 1L));
+        aggregator.add(productEvent(ProductMetricsAggregator.PRODUCT_LIKED, 1L));
+        aggregator.add(productEvent(ProductMetricsAggregator.PRODUCT_UNLIKED, 1L));
+        aggregator.add(productEvent(ProductMetricsAggregator.PRODUCT_VIEWED, 1L));
+        aggregator.add(orderPlaced(1L, 3, 1000L));
+
+        // then
+        assertThat(aggregator.deltas()).containsExactly(new ProductMetricsDelta(1L, 1, 1, 1, 3, 3000));
+    }
+
+    @Test
+    @DisplayName("변화량은 productId 오름차순으로 반환된다")
+    void returnsDeltasOrderedByProductId() {
+        // given
+        ProductMetricsAggregator aggregator = new ProductMetricsAggregator();
+
+        // when
+        aggregator.add(productEvent(ProductMetricsAggregator.PRODUCT_VIEWED, 3L));
+        aggregator.add(productEvent(ProductMetricsAggregator.PRODUCT_VIEWED, 1L));
+        aggregator.add(productEvent(ProductMetricsAggregator.PRODUCT_VIEWED, 2L));
+
+        // then
+        assertThat(aggregator.deltas()).extracting(ProductMetricsDelta::productId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("지표와 무관한 이벤트는 무시한다")
+    void ignoresUnrelatedEvents() {
+        // given
+        ProductMetricsAggregator aggregator = new ProductMetricsAggregator();
+
+        // when
+        boolean added = aggregator.add(productEvent("PAYMENT_COMPLETED", 1L));
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(aggregator.deltas()).isEmpty();
+    }
+}
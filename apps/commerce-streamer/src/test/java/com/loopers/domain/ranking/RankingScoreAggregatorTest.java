@@ -0,0 +1,80 @@
+package com.loopers.domain.ranking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.event.EventEnvelope;
+import com.loopers.domain.metrics.ProductMetricsAggregator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RankingScoreAggregatorTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2026, 10, 18, 13, 30, 0, 0, ZoneId.systemDefault());
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RankingScoreAggregator aggregator = new RankingScoreAggregator(new RankingWeights(0.1, 0.2, 0.7));
+
+    private EventEnvelope productEvent(String eventType, long productId, ZonedDateTime occurredAt) {
+        return new EventEnvelope("e", eventType, "1", occurredAt,
+            objectMapper.createObjectNode().put("productId", productId));
+    }
+
+    @Test
+    @DisplayName("같은 시간 창의 이벤트는 상품별 가중 점수로 합산된다")
+    void sumsWeightedScoresPerProduct() {
+        // given
+        List<EventEnvelope> events = List.of(
+            productEvent(ProductMetricsAggregator.PRODUCT_VIEWED, 1L, NOW),
+            productEvent(ProductMetricsAggregator.PRODUCT_LIKED, 1L, NOW),
+            productEvent(ProductMetricsAggregator.PRODUCT_VIEWED, 2L, NOW)
+        );
+
+        // when
+        Map<String, Map<Long, Double>> result = aggregator.aggregate(RankingPeriod.DAILY, events, NOW);
+
+        // then
+        Map<Long, Double> scores = result.get("ranking:all:20261018");
+        assertThat(result).containsOnlyKeys("ranking:all:20261018");
+        assertThat(scores.get(1L)).isCloseTo(0.3, within(1e-9));
+        assertThat(scores.get(2L)).isCloseTo(0.1, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("지연 도착한 이벤트는 발생 시각의 시간 창에 반영된다")
+    void splitsByOccurredWindow() {
+        // given
+        List<EventEnvelope> events = List.of(
+            productEvent(ProductMetricsAggregator.PRODUCT_VIEWED, 1L, NOW),
+            productEvent(ProductMetricsAggregator.PRODUCT_VIEWED, 1L, NOW.minusHours(1))
+        );
+
+        // when
+        Map<String, Map<Long, Double>> result = aggregator.aggregate(RankingPeriod.HOURLY, events, NOW);
+
+        // then
+        assertThat(result).containsOnlyKeys("ranking:hourly:2026101813", "ranking:hourly:2026101812");
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소가 상쇄되어 점수가 0인 상품은 제외한다")
+    void excludesZeroScores() {
+        // given
+        List<EventEnvelope> events = List.of(
+            productEvent(ProductMetricsAggregator.PRODUCT_LIKED, 1L, NOW),
+            productEvent(ProductMetricsAggregator.PRODUCT_UNLIKED, 1L, NOW)
+        );
+
+        // when
+        Map<String, Map<Long, Double>> result = aggregator.aggregate(RankingPeriod.DAILY, events, NOW);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
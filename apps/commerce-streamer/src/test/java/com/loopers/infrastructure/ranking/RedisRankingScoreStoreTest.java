@@ -0,0 +1,89 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class RedisRankingScoreStoreTest {
+
+    private static final String FROM = "ranking:hourly:2026101813";
+    private static final String TO = "ranking:hourly:2026101814";
+    private static final Duration TTL = Duration.ofHours(25);
+
+    @Autowired
+    private RedisRankingScoreStore rankingScoreStore;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("이월하면 현재 창의 점수에 가중치를 곱해 다음 창의 기존 점수에 더한다")
+    void carryOver_adds_weighted_scores() {
+        // given
+        rankingScoreStore.incrementAll(Map.of(FROM, Map.of(1L, 10.0, 2L, 5.0), TO, Map.of(1L, 1.0)), TTL);
+
+        // when
+        boolean carried = rankingScoreStore.carryOver(FROM, TO, 0.1, TTL);
+
+        // then
+        assertThat(carried).isTrue();
+        assertThat(redisTemplate.opsForZSet().score(TO, "1")).isCloseTo(2.0, within(1e-9));
+        assertThat(redisTemplate.opsForZSet().score(TO, "2")).isCloseTo(0.5, within(1e-9));
+        assertThat(redisTemplate.getExpire(TO)).isPositive();
+    }
+
+    @Test
+    @DisplayName("같은 대상 창으로는 한 번만 이월된다")
+    void carryOver_runs_once_per_target() {
+        // given
+        rankingScoreStore.incrementAll(Map.of(FROM, Map.of(1L, 10.0)), TTL);
+        rankingScoreStore.carryOver(FROM, TO, 0.1, TTL);
+
+        // when
+        boolean carried = rankingScoreStore.carryOver(FROM, TO, 0.1, TTL);
+
+        // then
+        assertThat(carried).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(TO, "1")).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("합산이 실패하면 이월 기록이 남지 않아 다시 이월할 수 있다")
+    void failed_union_can_be_retried() {
+        // given
+        redisTemplate.opsForValue().set(FROM, "not-a-zset");
+        assertThatThrownBy(() -> rankingScoreStore.carryOver(FROM, TO, 0.1, TTL)).isInstanceOf(RuntimeException.class);
+        redisTemplate.delete(FROM);
+        rankingScoreStore.incrementAll(Map.of(FROM, Map.of(1L, 10.0)), TTL);
+
+        // when
+        boolean carried = rankingScoreStore.carryOver(FROM, TO, 0.1, TTL);
+
+        // then
+        assertThat(carried).isTrue();
+        assertThat(redisTemplate.opsForZSet().score(TO, "1")).isCloseTo(1.0, within(1e-9));
+    }
+}
@@ -0,0 +1,213 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.event.EventHandledRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class ProductMetricsConsumerIntegrationTest {
+
+    private static final String OCCURRED_AT = "2026-10-18T10:00:00+09:00";
+
+    @Autowired private ProductMetricsConsumer productMetricsConsumer;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private DatabaseCleanUp databaseCleanUp;
+    @Autowired private RedisCleanUp redisCleanUp;
+    @MockitoSpyBean private EventHandledRepository eventHandledRepository;
+
+    private long offset;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private ConsumerRecord<Object, Object> record(String topic, String eventId, String eventType, Object payload) {
+        try {
+            byte[] value = objectMapper.writeValueAsBytes(Map.of(
+                "eventId", eventId,
+                "eventType", eventType,
+                "aggregateId", "1",
+                "occurredAt", OCCURRED_AT,
+                "payload", payload
+            ));
+            return new ConsumerRecord<>(topic, 0, offset++, "1", value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ConsumerRecord<Object, Object> liked(String eventId, long productId) {
+        return record("catalog-events", eventId, "PRODUCT_LIKED", Map.of("productId", productId));
+    }
+
+    private ConsumerRecord<Object, Object> viewed(String eventId, long productId) {
+        return record("catalog-events", eventId, "PRODUCT_VIEWED", Map.of("productId", productId));
+    }
+
+    private ConsumerRecord<Object, Object> ordered(String eventId, long productId, int quantity, long price) {
+        return record("order-events", eventId, "ORDER_PLACED", Map.of(
+            "items", List.of(Map.of("productId", productId, "quantity", quantity, "price", price))
+        ));
+    }
+
+    private Map<String, Object> metrics(long productId) {
+        return jdbcTemplate.queryForMap(
+            "SELECT like_count, view_count, order_count, sales_quantity, sales_amount FROM product_metrics WHERE product_id = ?",
+            productId
+        );
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @DisplayName("배치 반영")
+    @Nested
+    class Consume {
+
+        @DisplayName("한 배치의 이벤트를 상품별로 합산해 누적 지표와 일자 지표에 반영하고 ack한다")
+        @Test
+        void aggregatesBatchPerProduct() {
+            // arrange
+            Acknowledgment ack = mock(Acknowledgment.class);
+            List<ConsumerRecord<Object, Object>> batch = List.of(
+                liked("e1", 1L), liked("e2", 1L), viewed("e3", 1L),
+                ordered("e4", 1L, 2, 1000L), viewed("e5", 2L)
+            );
+
+            // act
+            productMetricsConsumer.consume(batch, ack);
+
+            // assert
+            Map<String, Object> product1 = metrics(1L);
+            assertAll(
+                () -> assertThat(((Number) product1.get("like_count")).longValue()).isEqualTo(2),
+                () -> assertThat(((Number) product1.get("view_count")).longValue()).isEqualTo(1),
+                () -> assertThat(((Number) product1.get("order_count")).longValue()).isEqualTo(1),
+                () -> assertThat(((Number) product1.get("sales_quantity")).longValue()).isEqualTo(2),
+                () -> assertThat(((Number) product1.get("sales_amount")).longValue()).isEqualTo(2000),
+                () -> assertThat(((Number) metrics(2L).get("view_count")).longValue()).isEqualTo(1),
+                () -> assertThat(count("product_metrics_daily")).isEqualTo(2),
+                () -> assertThat(count("event_handled")).isEqualTo(5)
+            );
+            verify(ack).acknowledge();
+        }
+
+        @DisplayName("다음 배치의 변화량은 기존 지표에 더해진다")
+        @Test
+        void accumulatesAcrossBatches() {
+            // arrange
+            Acknowledgment ack = mock(Acknowledgment.class);
+            productMetricsConsumer.consume(List.of(liked("e1", 1L)), ack);
+
+            // act
+            productMetricsConsumer.consume(List.of(liked("e2", 1L), viewed("e3", 1L)), ack);
+
+            // assert
+            Map<String, Object> product1 = metrics(1L);
+            assertAll(
+                () -> assertThat(((Number) product1.get("like_count")).longValue()).isEqualTo(2),
+                () -> assertThat(((Number) product1.get("view_count")).longValue()).isEqualTo(1),
+                () -> assertThat(count("product_metrics")).isEqualTo(1)
+            );
+        }
+    }
+
+    @DisplayName("중복 수신")
+    @Nested
+    class Redelivery {
+
+        @DisplayName("같은 배치가 다시 전달되면 이미 처리한 이벤트는 건너뛰고 ack한다")
+        @Test
+        void skipsAlreadyHandledEvents() {
+            // arrange
+            Acknowledgment ack = mock(Acknowledgment.class);
+            List<ConsumerRecord<Object, Object>> batch = List.of(liked("e1", 1L), viewed("e2", 1L));
+            productMetricsConsumer.consume(batch, ack);
+
+            // act
+            productMetricsConsumer.consume(batch, ack);
+
+            // assert
+            Map<String, Object> product1 = metrics(1L);
+            assertAll(
+                () -> assertThat(((Number) product1.get("like_count")).longValue()).isEqualTo(1),
+                () -> assertThat(((Number) product1.get("view_count")).longValue()).isEqualTo(1),
+                () -> assertThat(count("event_handled")).isEqualTo(2)
+            );
+            verify(ack, times(2)).acknowledge();
+        }
+
+        @DisplayName("한 배치 안에 같은 eventId가 여러 번 있으면 한 번만 반영한다")
+        @Test
+        void appliesDuplicateInBatchOnce() {
+            // arrange
+            Acknowledgment ack = mock(Acknowledgment.class);
+
+            // act
+            productMetricsConsumer.consume(List.of(liked("e1", 1L), liked("e1", 1L)), ack);
+
+            // assert
+            assertThat(((Number) metrics(1L).get("like_count")).longValue()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("ack 시점")
+    @Nested
+    class Acknowledge {
+
+        @DisplayName("반영 트랜잭션이 실패하면 지표도 롤백되고 ack하지 않아, 재전달 시 다시 반영된다")
+        @Test
+        void doesNotAckWhenCommitFails() {
+            // arrange
+            Acknowledgment ack = mock(Acknowledgment.class);
+            List<ConsumerRecord<Object, Object>> batch = List.of(liked("e1", 1L));
+            doThrow(new DataIntegrityViolationException("event_handled 중복"))
+                .doCallRealMethod()
+                .when(eventHandledRepository).saveAll(any());
+
+            // act
+            assertThrows(DataIntegrityViolationException.class, () -> productMetricsConsumer.consume(batch, ack));
+
+            // assert
+            assertAll(
+                () -> assertThat(count("product_metrics")).isZero(),
+                () -> assertThat(count("event_handled")).isZero()
+            );
+            verify(ack, never()).acknowledge();
+
+            // 재전달
+            productMetricsConsumer.consume(batch, ack);
+            assertThat(((Number) metrics(1L).get("like_count")).longValue()).isEqualTo(1);
+            verify(ack).acknowledge();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    // benchmark targets
+    jmhImplementation(project(":apps:commerce-api"))
+    jmhImplementation(project(":modules:jpa"))
+    jmhImplementation(project(":modules:redis"))
+
+    // baseline comparison
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val baselineResults = layout.projectDirectory.file("baseline/results.json")
+
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 2
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = jmhResults
+    jmhVersion = "1.37"
+}
+
+// 현재 측정 결과를 기준선으로 저장한다. (성능 관련 변경을 머지할 때 함께 커밋)
+tasks.register<Copy>("jmhSaveBaseline") {
+    group = "benchmark"
+    from(jmhResults)
+    into(layout.projectDirectory.dir("baseline"))
+}
+
+// 기준선 대비 현재 측정 결과의 score(ns/op)와 할당률(B/op) 변화를 출력한다.
+tasks.register<JavaExec>("jmhCompare") {
+    group = "benchmark"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass = "com.loopers.benchmark.BaselineComparator"
+    args(baselineResults.asFile.path, jmhResults.get().asFile.path)
+}
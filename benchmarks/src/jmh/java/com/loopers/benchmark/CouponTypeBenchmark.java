@@ -0,0 +1,37 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.domain.product.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CouponTypeBenchmark {
+
+    @Param({"FIXED", "RATE"})
+    private CouponType couponType;
+
+    private int value;
+    private Money orderAmount;
+
+    @Setup
+    public void setUp() {
+        value = couponType == CouponType.FIXED ? 5000 : 10;
+        orderAmount = new Money(387000);
+    }
+
+    @Benchmark
+    public Money calculateDiscount() {
+        return couponType.calculateDiscount(value, orderAmount);
+    }
+}
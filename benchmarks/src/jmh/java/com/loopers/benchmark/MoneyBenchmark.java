@@ -0,0 +1,42 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.product.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 금액 계산마다 호출되는 Money 연산. 연산마다 새 인스턴스를 만들므로 할당량(-prof gc)을 함께 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private Money price;
+    private Money subtotal;
+    private int quantity;
+
+    @Setup
+    public void setUp() {
+        price = new Money(129000);
+        subtotal = new Money(258000);
+        quantity = 3;
+    }
+
+    @Benchmark
+    public Money add() {
+        return subtotal.add(price);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(quantity);
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.payment.PaymentCommand;
+import com.loopers.domain.payment.CardType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 요청 로그마다 호출되는 카드번호 마스킹. replaceAll 정규식 비용을 추적한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PaymentCommandBenchmark {
+
+    @Param({"1234-5678-9814-1451", "1234567898141451"})
+    private String cardNo;
+
+    private PaymentCommand command;
+
+    @Setup
+    public void setUp() {
+        command = new PaymentCommand(1L, CardType.SAMSUNG, cardNo);
+    }
+
+    @Benchmark
+    public String maskedCardNo() {
+        return command.maskedCardNo();
+    }
+}
@@ -0,0 +1,68 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.product.ProductDetail;
+import com.loopers.config.redis.RedisCacheConfig;
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.product.Money;
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.stock.StockStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.lang.reflect.Field;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 상세 조회 경로: 엔티티 → ProductDetail 변환과, productDetail 캐시 값 (역)직렬화.
+ * 직렬화기는 RedisCacheConfig와 동일한 설정(JavaTimeModule + EVERYTHING default typing)을 사용한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ProductDetailBenchmark {
+
+    private ProductModel product;
+    private ProductDetail detail;
+    private byte[] serialized;
+    private GenericJackson2JsonRedisSerializer serializer;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        product = new ProductModel("에어맥스 90", "나이키 러닝화 스테디셀러", new Money(129000), 1L);
+        ZonedDateTime now = ZonedDateTime.now();
+        setBaseField(product, "createdAt", now);
+        setBaseField(product, "updatedAt", now);
+
+        serializer = RedisCacheConfig.cacheValueSerializer();
+        detail = ProductDetail.ofCustomer(product, "나이키", StockStatus.IN_STOCK);
+        serialized = serializer.serialize(detail);
+    }
+
+    @Benchmark
+    public ProductDetail ofCustomer() {
+        return ProductDetail.ofCustomer(product, "나이키", StockStatus.IN_STOCK);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(detail);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    private static void setBaseField(ProductModel product, String name, Object value) throws ReflectiveOperationException {
+        Field field = BaseEntity.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(product, value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.stock.StockStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StockStatusBenchmark {
+
+    @Param({"0", "5", "100"})
+    private int quantity;
+
+    @Benchmark
+    public StockStatus from() {
+        return StockStatus.from(quantity);
+    }
+}
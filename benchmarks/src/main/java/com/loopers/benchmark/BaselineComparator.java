@@ -0,0 +1,67 @@
+package com.loopers.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH JSON 결과 두 개(기준선, 현재)를 비교해 벤치마크별 score와 할당량(gc.alloc.rate.norm) 변화를 출력한다.
+ */
+public class BaselineComparator {
+
+    private static final String ALLOC_METRIC = "·gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: BaselineComparator <baseline.json> <current.json>");
+        }
+        File baselineFile = new File(args[0]);
+        if (!baselineFile.exists()) {
+            System.out.println("기준선이 없습니다. ./gradlew :benchmarks:jmh :benchmarks:jmhSaveBaseline 으로 먼저 생성하세요.");
+            return;
+        }
+
+        Map<String, Result> baseline = read(baselineFile);
+        Map<String, Result> current = read(new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %9s %12s %12s%n",
+            "benchmark", "base(score)", "curr(score)", "diff", "base(B/op)", "curr(B/op)");
+        current.forEach((key, curr) -> {
+            Result base = baseline.get(key);
+            if (base == null) {
+                System.out.printf("%-70s %14s %14.3f %9s %12s %12.1f%n", key, "-", curr.score(), "new", "-", curr.allocated());
+                return;
+            }
+            double diff = base.score() == 0 ? 0 : (curr.score() - base.score()) / base.score() * 100;
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %12.1f %12.1f%n",
+                key, base.score(), curr.score(), diff, base.allocated(), curr.allocated());
+        });
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            results.put(key(run), new Result(
+                run.path("primaryMetric").path("score").asDouble(),
+                run.path("secondaryMetrics").path(ALLOC_METRIC).path("score").asDouble(Double.NaN)
+            ));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        String benchmark = run.path("benchmark").asText().replace("com.loopers.benchmark.", "");
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+        fields.forEachRemaining(field -> params.put(field.getKey(), field.getValue().asText()));
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    private record Result(double score, double allocated) {}
+}
@@ -2,11 +2,17 @@ package com.loopers.config.jpa;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
 
 @Configuration
 class DataSourceConfig {
@@ -16,9 +22,71 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.mysql-jpa.replica", name = "jdbc-url")
+    @ConfigurationProperties(prefix = "datasource.mysql-jpa.replica")
+    HikariConfig mySqlReplicaHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.mysql-jpa.replica", name = "jdbc-url")
+    HikariDataSource mySqlReplicaDataSource(@Qualifier("mySqlReplicaHikariConfig") HikariConfig hikariConfig) {
+        return new HikariDataSource(hikariConfig);
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "datasource.mysql-jpa.export")
+    HikariConfig mySqlExportHikariConfig() {
+        return new HikariConfig();
+    }
+
+    /**
+     * 대용량 순차 조회(주문 내보내기 등) 전용 풀. 접속 정보를 따로 주지 않으면 replica, 없으면 main과 같은 DB에 붙는다.
+     *
+     * 서버 커서(useCursorFetch)는 이 풀에만 켠다. 켜면 모든 문장이 서버 prepared statement가 되어
+     * 쿼리마다 prepare/close 왕복이 늘어나므로, 일반 요청이 쓰는 main/replica 풀에는 두지 않는다.
+     * 풀 크기가 곧 동시에 열 수 있는 커서 수다. 사용하는 곳에서만 생성되도록 지연 초기화한다.
+     */
+    @Lazy
+    @Bean
+    HikariDataSource mySqlExportDataSource(
+        @Qualifier("mySqlExportHikariConfig") HikariConfig exportConfig,
+        @Qualifier("mySqlMainHikariConfig") HikariConfig mainConfig,
+        @Qualifier("mySqlReplicaHikariConfig") ObjectProvider<HikariConfig> replicaConfig
+    ) {
+        if (exportConfig.getJdbcUrl() == null) {
+            HikariConfig source = replicaConfig.getIfAvailable(() -> mainConfig);
+            exportConfig.setJdbcUrl(source.getJdbcUrl());
+            exportConfig.setUsername(source.getUsername());
+            exportConfig.setPassword(source.getPassword());
+        }
+        return new HikariDataSource(exportConfig);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션은 replica, 나머지는 main으로 보내는 DataSource.
+     *
+     * 트랜잭션 시작 시점에는 커넥션을 실제로 가져오지 않고, 첫 쿼리 실행 시점에 readOnly 여부를 보고 대상 풀을 고른다.
+     * (JpaTransactionManager가 readOnly 트랜잭션이면 커넥션에 setReadOnly(true)를 호출한 뒤에야 쿼리가 나간다)
+     * replica가 설정되지 않은 환경(local, test 등)에서는 모든 요청이 main으로 간다.
+     *
+     * replica는 지연될 수 있으므로, 결과를 쓰기·캐시 적재·외부 저장소 덮어쓰기에 그대로 사용하는 조회에는
+     * readOnly를 걸지 않는다. (쓰기 트랜잭션 안에서 호출되는 readOnly 조회는 바깥 트랜잭션을 따라 main으로 간다)
+     */
+    @Primary
+    @Bean
+    DataSource mySqlDataSource(
+        @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+        @Qualifier("mySqlReplicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(mainDataSource);
+        replicaDataSource.ifAvailable(dataSource::setReadOnlyDataSource);
+        return dataSource;
+    }
 }
@@ -0,0 +1,53 @@
+package com.loopers.config.redis;
+
+/**
+ * near-cache 무효화 메시지. 포맷: {nodeId}|{cacheName}|{type}|{key}
+ * 전체 clear는 key 값이 아니라 type으로 구분하므로, 어떤 문자열이든 단건 evict 키로 쓸 수 있다.
+ * clear 메시지의 key는 null이다.
+ */
+public record CacheInvalidationMessage(
+        String nodeId,
+        String cacheName,
+        Type type,
+        String key
+) {
+    public static final String CHANNEL = "cache:near:invalidation";
+    private static final String DELIMITER = "|";
+
+    public enum Type {
+        EVICT,
+        CLEAR
+    }
+
+    public static CacheInvalidationMessage evict(String nodeId, String cacheName, String key) {
+        return new CacheInvalidationMessage(nodeId, cacheName, Type.EVICT, key);
+    }
+
+    public static CacheInvalidationMessage clear(String nodeId, String cacheName) {
+        return new CacheInvalidationMessage(nodeId, cacheName, Type.CLEAR, null);
+    }
+
+    public boolean isClear() {
+        return type == Type.CLEAR;
+    }
+
+    public String encode() {
+        return nodeId + DELIMITER + cacheName + DELIMITER + type.name() + DELIMITER + (isClear() ? "" : key);
+    }
+
+    public static CacheInvalidationMessage decode(String raw) {
+        String[] parts = raw.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cache invalidation message: " + raw);
+        }
+        Type type;
+        try {
+            type = Type.valueOf(parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cache invalidation message: " + raw);
+        }
+        return type == Type.CLEAR
+                ? clear(parts[0], parts[1])
+                : evict(parts[0], parts[1], parts[3]);
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.config.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * L1 near-cache 무효화 메시지를 Redis pub/sub 채널로 전파한다.
+ * 발행 실패는 로그만 남긴다 — L1 TTL이 최종 안전망.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId;
+
+    public CacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate, String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        publish(CacheInvalidationMessage.evict(nodeId, cacheName, String.valueOf(key)));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CacheInvalidationMessage.clear(nodeId, cacheName));
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(CacheInvalidationMessage.CHANNEL, message.encode());
+        } catch (RuntimeException e) {
+            log.warn("Near-cache invalidation publish failed - cache: {}, type: {}, key: {}, error: {}",
+                    message.cacheName(), message.type(), message.key(), e.getMessage());
+        }
+    }
+}
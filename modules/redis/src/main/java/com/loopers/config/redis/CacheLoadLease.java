@@ -0,0 +1,48 @@
+package com.loopers.config.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 키 단위 재계산 리스 (SET NX PX). 여러 노드 중 한 곳만 원본을 재계산하게 한다.
+ * 해제는 자기 토큰일 때만 삭제해, 만료 후 다른 노드가 잡은 리스를 지우지 않는다.
+ */
+public class CacheLoadLease {
+
+    private static final String KEY_PREFIX = "cache:lease:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+          return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CacheLoadLease(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @return 획득 시 해제용 토큰, 다른 노드가 보유 중이면 null
+     */
+    public String tryAcquire(String cacheName, String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey(cacheName, key), token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void release(String cacheName, String key, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(cacheName, key)), token);
+    }
+
+    private String leaseKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
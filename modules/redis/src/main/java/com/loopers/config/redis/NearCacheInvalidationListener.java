@@ -0,0 +1,55 @@
+package com.loopers.config.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 다른 노드가 발행한 near-cache 무효화 메시지를 수신해 로컬 L1을 비운다.
+ * 자기 자신이 발행한 메시지는 이미 로컬에서 처리했으므로 무시한다.
+ * TwoTierCacheManager가 관리하지 않는 로컬 캐시는 {@link NearCacheInvalidationTarget}으로 함께 받는다.
+ */
+@Slf4j
+public class NearCacheInvalidationListener implements MessageListener {
+
+    private final TwoTierCacheManager cacheManager;
+    private final List<NearCacheInvalidationTarget> targets;
+    private final String nodeId;
+
+    public NearCacheInvalidationListener(
+            TwoTierCacheManager cacheManager,
+            List<NearCacheInvalidationTarget> targets,
+            String nodeId
+    ) {
+        this.cacheManager = cacheManager;
+        this.targets = targets;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation =
+                    CacheInvalidationMessage.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (nodeId.equals(invalidation.nodeId())) {
+                return;
+            }
+            cacheManager.invalidateLocal(invalidation);
+            for (NearCacheInvalidationTarget target : targets) {
+                if (!target.cacheName().equals(invalidation.cacheName())) {
+                    continue;
+                }
+                if (invalidation.isClear()) {
+                    target.clearLocal();
+                } else {
+                    target.evictLocal(invalidation.key());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Near-cache invalidation handling failed - error: {}", e.getMessage());
+        }
+    }
+}
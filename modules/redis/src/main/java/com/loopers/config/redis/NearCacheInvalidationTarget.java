@@ -0,0 +1,15 @@
+package com.loopers.config.redis;
+
+/**
+ * {@link TwoTierCacheManager} 밖에서 직접 만든 프로세스 로컬 캐시.
+ * Bean으로 등록하면 near-cache 무효화 채널의 메시지 중 {@link #cacheName()}과 일치하는 것을 함께 받는다.
+ * 로컬 무효화와 함께 {@link CacheInvalidationPublisher}로 발행하면 다른 노드의 같은 캐시도 비워진다.
+ */
+public interface NearCacheInvalidationTarget {
+
+    String cacheName();
+
+    void evictLocal(String key);
+
+    void clearLocal();
+}
@@ -0,0 +1,24 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 캐시별 L1(in-process) near-cache 설정.
+ * 여기 등록되지 않은 캐시는 L2(Redis)만 사용한다.
+ */
+@ConfigurationProperties(value = "cache.near")
+public record NearCacheProperties(
+        Map<String, Spec> caches
+) {
+    public NearCacheProperties {
+        caches = caches != null ? Map.copyOf(caches) : Map.of();
+    }
+
+    public record Spec(
+            long maximumSize,
+            Duration ttl
+    ) { }
+}
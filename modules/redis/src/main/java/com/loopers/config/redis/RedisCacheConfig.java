@@ -4,7 +4,9 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.CacheErrorHandler;
@@ -13,19 +15,87 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({NearCacheProperties.class, StampedeProtectionProperties.class})
 public class RedisCacheConfig implements CachingConfigurer {
 
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    // 캐시별 L2 TTL. XFetch가 만료 시각을 계산할 때도 같은 값을 쓴다.
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+            "productDetail", Duration.ofMinutes(10)
+    );
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        return new CacheInvalidationPublisher(redisTemplate, nodeId);
+    }
+
+    @Bean
+    public CacheLoadLease cacheLoadLease(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        return new CacheLoadLease(redisTemplate);
+    }
+
     @Bean
-    public CacheManager cacheManager(LettuceConnectionFactory lettuceConnectionFactory) {
+    public TwoTierCacheManager cacheManager(
+            LettuceConnectionFactory lettuceConnectionFactory,
+            NearCacheProperties nearCacheProperties,
+            StampedeProtectionProperties stampedeProtectionProperties,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            CacheLoadLease cacheLoadLease
+    ) {
+        RedisCacheManager redisCacheManager = redisCacheManager(lettuceConnectionFactory);
+        Map<String, StampedeProtection> stampedeProtections = new HashMap<>();
+        stampedeProtectionProperties.caches().forEach((name, spec) -> stampedeProtections.put(
+                name,
+                new StampedeProtection(name, CACHE_TTLS.getOrDefault(name, DEFAULT_TTL), spec, cacheLoadLease)
+        ));
+        return new TwoTierCacheManager(redisCacheManager, nearCacheProperties, cacheInvalidationPublisher, stampedeProtections);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+            LettuceConnectionFactory lettuceConnectionFactory,
+            TwoTierCacheManager cacheManager,
+            ObjectProvider<NearCacheInvalidationTarget> invalidationTargets
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        container.addMessageListener(
+                new NearCacheInvalidationListener(cacheManager, invalidationTargets.orderedStream().toList(), nodeId),
+                new ChannelTopic(CacheInvalidationMessage.CHANNEL)
+        );
+        return container;
+    }
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CustomCacheErrorHandler();
+    }
+
+    /**
+     * 캐시 값 직렬화기. 벤치마크에서도 운영과 동일한 설정으로 측정할 수 있도록 분리했다.
+     */
+    public static GenericJackson2JsonRedisSerializer cacheValueSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(
@@ -33,27 +103,27 @@ public class RedisCacheConfig implements CachingConfigurer {
                 ObjectMapper.DefaultTyping.EVERYTHING,
                 JsonTypeInfo.As.PROPERTY
         );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    private RedisCacheManager redisCacheManager(LettuceConnectionFactory lettuceConnectionFactory) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = cacheValueSerializer();
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(5))
+                .entryTtl(DEFAULT_TTL)
                 .disableCachingNullValues()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer));
 
-        Map<String, RedisCacheConfiguration> cacheConfigurations = Map.of(
-                "productDetail", defaultConfig.entryTtl(Duration.ofMinutes(10))
-        );
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        CACHE_TTLS.forEach((name, ttl) -> cacheConfigurations.put(name, defaultConfig.entryTtl(ttl)));
 
-        return RedisCacheManager.builder(lettuceConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(lettuceConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
-    }
-
-    @Override
-    public CacheErrorHandler errorHandler() {
-        return new CustomCacheErrorHandler();
+        // Bean으로 등록되지 않으므로 초기 캐시 설정(productDetail TTL 등)을 직접 로드한다.
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
     }
 }
@@ -0,0 +1,13 @@
+package com.loopers.config.redis;
+
+/**
+ * stampede 방지 캐시에 저장되는 값. XFetch 판단을 위해 재계산 소요 시간과 L2 만료 시각을 함께 보관한다.
+ *
+ * @param computeMillis 값을 계산하는 데 걸린 시간(ms). 직접 put한 값은 0.
+ * @param expiresAtMillis L2 만료 시각(epoch ms)
+ */
+public record StampedeCacheEntry(
+        Object value,
+        long computeMillis,
+        long expiresAtMillis
+) { }
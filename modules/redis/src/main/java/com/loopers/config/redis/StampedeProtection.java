@@ -0,0 +1,184 @@
+package com.loopers.config.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 한 개에 대한 stampede 방지.
+ *
+ * - single-flight : 같은 키의 miss는 노드 안에서는 in-flight future 하나로 합치고(로컬 락),
+ *                   노드 간에는 CacheLoadLease(SET NX) 보유 노드만 원본을 재계산한다.
+ *                   리스를 얻지 못한 노드는 leaseWait 동안 캐시가 채워지기를 기다린 뒤, 그래도 없으면 직접 계산한다.
+ * - XFetch        : 히트한 값이 now - computeMillis * beta * ln(rand) >= expiresAt 이면 만료 전에 미리 재계산한다.
+ *                   재계산 비용이 큰 키일수록, 만료가 가까울수록 확률이 높아져 만료 순간 miss가 몰리지 않는다.
+ *
+ * Redis 장애로 리스를 확인할 수 없으면 miss는 로컬 single-flight만으로 계산하고, 조기 갱신은 건너뛴다.
+ */
+@Slf4j
+public class StampedeProtection {
+
+    private static final long POLL_INTERVAL_MILLIS = 20;
+
+    private final String cacheName;
+    private final Duration ttl;
+    private final StampedeProtectionProperties.Spec spec;
+    private final CacheLoadLease lease;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public StampedeProtection(String cacheName, Duration ttl, StampedeProtectionProperties.Spec spec, CacheLoadLease lease) {
+        this.cacheName = cacheName;
+        this.ttl = ttl;
+        this.spec = spec;
+        this.lease = lease;
+    }
+
+    public StampedeCacheEntry entryOf(Object value, long computeMillis) {
+        return new StampedeCacheEntry(value, computeMillis, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    /**
+     * XFetch 조기 갱신 여부. random은 (0, 1] 구간의 균등 난수.
+     */
+    public boolean shouldRefreshEarly(StampedeCacheEntry entry, long nowMillis, double random) {
+        return nowMillis - entry.computeMillis() * spec.beta() * Math.log(random) >= entry.expiresAtMillis();
+    }
+
+    /**
+     * 히트한 값을 반환하기 전에 호출한다. XFetch 조건을 만족하고 리스를 얻은 요청 하나만 동기적으로 재계산한다.
+     * 재계산 실패는 기존 값이 아직 유효하므로 로그만 남긴다.
+     */
+    public void refreshIfDue(String key, StampedeCacheEntry entry, Callable<?> loader, Consumer<StampedeCacheEntry> store) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        if (!shouldRefreshEarly(entry, System.currentTimeMillis(), random) || inFlight.containsKey(key)) {
+            return;
+        }
+        String token;
+        try {
+            token = lease.tryAcquire(cacheName, key, spec.leaseTtl());
+        } catch (RuntimeException e) {
+            return;
+        }
+        if (token == null) {
+            return;
+        }
+        try {
+            compute(loader, store);
+        } catch (Exception e) {
+            log.warn("Cache early refresh failed - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        } finally {
+            releaseQuietly(key, token);
+        }
+    }
+
+    /**
+     * miss 시 값을 한 번만 계산한다.
+     *
+     * @param cached 현재 캐시 값 재조회 (다른 스레드/노드가 채웠는지 확인)
+     */
+    public Object loadOnce(String key, Supplier<StampedeCacheEntry> cached, Callable<?> loader, Consumer<StampedeCacheEntry> store) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(key, loader, running);
+        }
+        try {
+            Object value = loadAcrossNodes(key, cached, loader, store);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Object loadAcrossNodes(String key, Supplier<StampedeCacheEntry> cached, Callable<?> loader, Consumer<StampedeCacheEntry> store) {
+        String token;
+        try {
+            token = lease.tryAcquire(cacheName, key, spec.leaseTtl());
+        } catch (RuntimeException e) {
+            log.warn("Cache lease unavailable, loading locally - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+            return computeOrThrow(key, loader, store);
+        }
+
+        if (token == null) {
+            StampedeCacheEntry loadedElsewhere = waitForOtherNode(cached);
+            return loadedElsewhere != null ? loadedElsewhere.value() : computeOrThrow(key, loader, store);
+        }
+
+        try {
+            StampedeCacheEntry current = cached.get();
+            if (current != null) {
+                return current.value();
+            }
+            return computeOrThrow(key, loader, store);
+        } finally {
+            releaseQuietly(key, token);
+        }
+    }
+
+    private StampedeCacheEntry waitForOtherNode(Supplier<StampedeCacheEntry> cached) {
+        long deadline = System.currentTimeMillis() + spec.leaseWait().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            StampedeCacheEntry entry = cached.get();
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private Object computeOrThrow(String key, Callable<?> loader, Consumer<StampedeCacheEntry> store) {
+        try {
+            return compute(loader, store);
+        } catch (Exception e) {
+            throw new Cache.ValueRetrievalException(key, loader, e);
+        }
+    }
+
+    private Object compute(Callable<?> loader, Consumer<StampedeCacheEntry> store) throws Exception {
+        long start = System.nanoTime();
+        Object value = loader.call();
+        long computeMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        if (value != null) {
+            store.accept(entryOf(value, computeMillis));
+        }
+        return value;
+    }
+
+    private Object await(String key, Callable<?> loader, CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new Cache.ValueRetrievalException(key, loader, e.getCause());
+        }
+    }
+
+    private void releaseQuietly(String key, String token) {
+        try {
+            lease.release(cacheName, key, token);
+        } catch (RuntimeException e) {
+            log.warn("Cache lease release failed - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+}
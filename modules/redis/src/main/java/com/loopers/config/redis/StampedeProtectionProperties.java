@@ -0,0 +1,30 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 캐시별 stampede 방지 설정. near-cache(TwoTierCache)가 설정된 캐시에만 적용된다.
+ * 적용된 캐시는 @Cacheable(sync = true) 로 조회해야 한다.
+ */
+@ConfigurationProperties(value = "cache.stampede")
+public record StampedeProtectionProperties(
+        Map<String, Spec> caches
+) {
+    public StampedeProtectionProperties {
+        caches = caches != null ? Map.copyOf(caches) : Map.of();
+    }
+
+    /**
+     * @param beta      XFetch 조기 갱신 강도. 클수록 만료 전에 일찍 갱신한다. (1.0 권장)
+     * @param leaseTtl  원본 재계산 리스 유지 시간. 재계산 노드가 죽어도 이 시간 뒤에는 다른 노드가 재계산한다.
+     * @param leaseWait 리스를 얻지 못한 노드가 다른 노드의 재계산 결과를 기다리는 최대 시간
+     */
+    public record Spec(
+            double beta,
+            Duration leaseTtl,
+            Duration leaseWait
+    ) { }
+}
@@ -0,0 +1,199 @@
+package com.loopers.config.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * L1(Caffeine) + L2(Redis) 2단 캐시.
+ *
+ * 조회: L1 → L2 → (miss) 원본. L2 히트 시 역직렬화된 값을 L1에 올려 이후 요청은 네트워크/역직렬화 없이 응답한다.
+ * 무효화: L2 삭제 + 로컬 L1 삭제 + pub/sub으로 다른 노드의 L1 삭제.
+ * L1에는 불변 객체(record 등)만 저장한다는 전제 — 같은 인스턴스를 여러 요청이 공유한다.
+ *
+ * StampedeProtection이 주어지면 L1/L2 모두 StampedeCacheEntry로 감싸 저장하고,
+ * get(key, Callable) 경로에서 single-flight 로딩과 XFetch 조기 갱신을 적용한다. (@Cacheable(sync = true))
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher publisher;
+    private final StampedeProtection stampedeProtection;
+
+    public TwoTierCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+            Cache remoteCache,
+            CacheInvalidationPublisher publisher
+    ) {
+        this(name, localCache, remoteCache, publisher, null);
+    }
+
+    public TwoTierCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+            Cache remoteCache,
+            CacheInvalidationPublisher publisher,
+            StampedeProtection stampedeProtection
+    ) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.publisher = publisher;
+        this.stampedeProtection = stampedeProtection;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object stored = getStored(key);
+        return stored != null ? new SimpleValueWrapper(unwrap(stored)) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (stampedeProtection == null) {
+            Object local = localCache.getIfPresent(localKey(key));
+            if (local != null) {
+                return (T) local;
+            }
+            T value = remoteCache.get(key, valueLoader);
+            if (value != null) {
+                localCache.put(localKey(key), value);
+            }
+            return value;
+        }
+
+        // RedisCache.get(key, Callable)은 노드 전체에서 synchronized라 쓰지 않고, 키 단위 single-flight로 대체한다.
+        StampedeCacheEntry entry = getEntrySafely(key);
+        if (entry != null) {
+            stampedeProtection.refreshIfDue(localKey(key), entry, valueLoader, loaded -> storeSafely(key, loaded));
+            return (T) entry.value();
+        }
+        return (T) stampedeProtection.loadOnce(
+                localKey(key),
+                () -> getEntrySafely(key),
+                valueLoader,
+                loaded -> storeSafely(key, loaded)
+        );
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (stampedeProtection != null && value != null) {
+            store(key, stampedeProtection.entryOf(value, 0));
+            return;
+        }
+        remoteCache.put(key, value);
+        if (value != null) {
+            localCache.put(localKey(key), value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        try {
+            remoteCache.evict(key);
+        } finally {
+            evictLocal(localKey(key));
+            publisher.publishEvict(name, localKey(key));
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remoteCache.clear();
+        } finally {
+            clearLocal();
+            publisher.publishClear(name);
+        }
+    }
+
+    /**
+     * L1 → L2 순으로 저장된 원본(보호 적용 시 StampedeCacheEntry)을 조회한다. L2 히트 시 L1에 올린다.
+     */
+    private Object getStored(Object key) {
+        Object local = localCache.getIfPresent(localKey(key));
+        if (local != null) {
+            return local;
+        }
+        ValueWrapper remote = remoteCache.get(key);
+        Object value = remote != null ? remote.get() : null;
+        if (value != null) {
+            localCache.put(localKey(key), value);
+        }
+        return value;
+    }
+
+    private Object unwrap(Object stored) {
+        return stored instanceof StampedeCacheEntry entry ? entry.value() : stored;
+    }
+
+    /**
+     * sync 조회에는 CacheErrorHandler가 적용되지 않으므로, L2 장애는 여기서 miss로 처리해 원본 조회로 넘긴다.
+     */
+    private StampedeCacheEntry getEntrySafely(Object key) {
+        try {
+            return getStored(key) instanceof StampedeCacheEntry entry ? entry : null;
+        } catch (RuntimeException e) {
+            log.warn("Cache get failed - cache: {}, key: {}, error: {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeSafely(Object key, StampedeCacheEntry entry) {
+        try {
+            store(key, entry);
+        } catch (RuntimeException e) {
+            log.warn("Cache put failed - cache: {}, key: {}, error: {}", name, key, e.getMessage());
+        }
+    }
+
+    private void store(Object key, StampedeCacheEntry entry) {
+        remoteCache.put(key, entry);
+        localCache.put(localKey(key), entry);
+    }
+
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * pub/sub 메시지로 전달되는 키와 동일한 형태로 맞추기 위해 문자열로 정규화한다.
+     * (RedisCache 역시 키를 문자열로 변환해 저장한다)
+     */
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
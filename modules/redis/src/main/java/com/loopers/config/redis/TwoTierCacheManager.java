@@ -0,0 +1,81 @@
+package com.loopers.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * L2(Redis) CacheManager 앞에 캐시별 L1 near-cache를 씌우는 CacheManager.
+ * NearCacheProperties에 설정된 캐시만 TwoTierCache로 감싸고, 나머지는 L2를 그대로 반환한다.
+ * 감싼 캐시 중 StampedeProtection이 등록된 캐시는 stampede 방지가 함께 적용된다.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties nearCacheProperties;
+    private final CacheInvalidationPublisher publisher;
+    private final Map<String, StampedeProtection> stampedeProtections;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(
+            CacheManager remoteCacheManager,
+            NearCacheProperties nearCacheProperties,
+            CacheInvalidationPublisher publisher
+    ) {
+        this(remoteCacheManager, nearCacheProperties, publisher, Map.of());
+    }
+
+    public TwoTierCacheManager(
+            CacheManager remoteCacheManager,
+            NearCacheProperties nearCacheProperties,
+            CacheInvalidationPublisher publisher,
+            Map<String, StampedeProtection> stampedeProtections
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.nearCacheProperties = nearCacheProperties;
+        this.publisher = publisher;
+        this.stampedeProtections = stampedeProtections;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드에서 발행된 무효화 메시지를 로컬 L1에만 반영한다. (L2는 발행 노드가 이미 처리)
+     */
+    public void invalidateLocal(CacheInvalidationMessage message) {
+        if (!(caches.get(message.cacheName()) instanceof TwoTierCache cache)) {
+            return;
+        }
+        if (message.isClear()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(message.key());
+        }
+    }
+
+    private Cache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        NearCacheProperties.Spec spec = nearCacheProperties.caches().get(name);
+        if (remote == null || spec == null) {
+            return remote;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.ttl())
+                .build();
+        return new TwoTierCache(name, local, remote, publisher, stampedeProtections.get(name));
+    }
+}
@@ -1,4 +1,10 @@
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("io.micrometer:micrometer-registry-prometheus")
+    // repository / lock-wait 타이머
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    // hibernate statement 카운트 — JPA / Servlet 을 쓰는 앱에서만 활성화된다
+    compileOnly("org.hibernate.orm:hibernate-core")
+    compileOnly("org.springframework:spring-webmvc")
+    compileOnly("jakarta.servlet:jakarta.servlet-api")
 }
@@ -0,0 +1,43 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnClass(name = "org.hibernate.resource.jdbc.spi.StatementInspector")
+class HibernateMetricsConfig {
+
+    @Bean
+    HibernateStatementCounter hibernateStatementCounter() {
+        return new HibernateStatementCounter();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateStatementCounterCustomizer(HibernateStatementCounter counter) {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", counter);
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class WebConfig {
+
+        @Bean
+        FilterRegistrationBean<HibernateStatementMetricsFilter> hibernateStatementMetricsFilter(
+            HibernateStatementCounter counter,
+            MeterRegistry meterRegistry,
+            @Value("${monitoring.hibernate.statement-warn-threshold:30}") long warnThreshold
+        ) {
+            FilterRegistrationBean<HibernateStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new HibernateStatementMetricsFilter(counter, meterRegistry, warnThreshold));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+    }
+}
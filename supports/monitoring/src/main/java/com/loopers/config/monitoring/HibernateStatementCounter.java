@@ -0,0 +1,34 @@
+package com.loopers.config.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드(요청) 단위로 Hibernate가 준비한 SQL 수를 센다.
+ * start()로 시작한 구간에서만 세고, 그 밖(스케줄러 등)의 SQL은 무시한다.
+ */
+public class HibernateStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    public void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * @return 시작 이후 실행된 SQL 수. 시작하지 않았으면 0
+     */
+    public long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,56 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나에서 실행된 SQL 수를 hibernate.request.statements 분포로 기록한다.
+ * uri 태그는 매칭된 경로 패턴(/api/v1/products/{productId})을 써서 카디널리티를 엔드포인트 수로 제한한다.
+ * 임계치를 넘는 요청은 N+1 의심으로 경고 로그를 남긴다.
+ */
+@Slf4j
+public class HibernateStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "hibernate.request.statements";
+
+    private final HibernateStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    public HibernateStatementMetricsFilter(HibernateStatementCounter counter, MeterRegistry meterRegistry, long warnThreshold) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        counter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = counter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder(METRIC_NAME)
+                .description("요청당 실행된 SQL 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+            if (statements > warnThreshold) {
+                log.warn("요청당 SQL 수 임계치 초과 (N+1 의심) - {} {}, statements: {}", request.getMethod(), uri, statements);
+            }
+        }
+    }
+}
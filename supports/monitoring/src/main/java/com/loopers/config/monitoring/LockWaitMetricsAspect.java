@@ -0,0 +1,42 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * @LockWaitTimed 메서드의 실행 시간 = 락 대기 + 조회 시간.
+ * 락 경합이 없으면 단순 조회 시간에 수렴하므로, 분포가 벌어지는 구간이 곧 락 대기다.
+ * 락 타임아웃 / 데드락은 exception 태그로 구분된다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LockWaitMetricsAspect {
+
+    static final String METRIC_NAME = "db.lock.wait";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(lockWaitTimed)")
+    public Object time(ProceedingJoinPoint joinPoint, LockWaitTimed lockWaitTimed) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                .description("비관적 락 획득까지 걸린 시간")
+                .tag("lock", lockWaitTimed.value())
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+}
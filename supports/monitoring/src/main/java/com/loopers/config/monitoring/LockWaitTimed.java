@@ -0,0 +1,19 @@
+package com.loopers.config.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 비관적 락(SELECT ... FOR UPDATE) 획득 구간에 붙여 db.lock.wait 타이머로 대기 시간을 기록한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LockWaitTimed {
+
+    /**
+     * 잠그는 대상 이름. 메트릭 lock 태그로 쓰이므로 고정된 값만 사용한다. (예: stock, coupon_issue)
+     */
+    String value();
+}
@@ -0,0 +1,43 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * infrastructure 계층 저장소 구현체(*RepositoryImpl, *JdbcRepository)의 메서드별 실행 시간.
+ * 태그는 클래스명 / 메서드명 / 예외 클래스명으로만 구성해 카디널리티를 코드 크기로 제한한다. (파라미터 값은 태그로 쓰지 않는다)
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    static final String METRIC_NAME = "repository.invocations";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.loopers.infrastructure..*RepositoryImpl.*(..))"
+        + " || execution(public * com.loopers.infrastructure..*JdbcRepository.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                .description("저장소 메서드 실행 시간")
+                .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+}